@@ -20,6 +20,7 @@ import java.beans.*;
 import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.config.encode.*;
@@ -377,6 +378,16 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	private final ConfigMap configMap;
 	private final BeanSession beanSession;
 	private final List<ConfigEventListener> listeners = Collections.synchronizedList(new LinkedList<ConfigEventListener>());
+	private final ConcurrentHashMap<ValueKey,CachedValue> valueCache = new ConcurrentHashMap<>();
+
+	// Interface classes passed to getSectionAsInterface() compiled into method-to-property tables.
+	private static final ConcurrentHashMap<Class<?>,Map<Method,InterfaceProperty>> INTERFACE_PROPERTIES = new ConcurrentHashMap<>();
+
+	// Parsed values are only cached for these immutable types (and enums) since cached values are shared between callers.
+	private static final Set<Class<?>> CACHEABLE_TYPES = new HashSet<Class<?>>(Arrays.asList(
+		String.class, Boolean.class, Character.class, Byte.class, Short.class, Integer.class, Long.class, Float.class,
+		Double.class, java.math.BigInteger.class, java.math.BigDecimal.class
+	));
 
 
 	/**
@@ -1073,7 +1084,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 */
 	public <T> T getObject(String key, Parser parser, Type type, Type...args) throws ParseException {
 		assertFieldNotNull(type, "type");
-		return parse(getString(key), parser, type, args);
+		return getCachedObject(key, parser, type, args);
 	}
 
 	/**
@@ -1102,6 +1113,11 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 * 	Map m = cf.getObject(<js>"MySection/myMap"</js>, TreeMap.<jk>class</jk>);
 	 * </p>
 	 *
+	 * <p>
+	 * Strings, primitive wrappers, and enums are cached by key and type until the entry is changed.
+	 * <br>Values containing SVL variables and all other types (beans, collections, maps, arrays...) are parsed on every
+	 * call, so each caller gets its own copy that can be safely modified.
+	 *
 	 * @param <T> The class type of the object being created.
 	 * @param key The key.
 	 * @param type The object type to create.
@@ -1130,7 +1146,7 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	 */
 	public <T> T getObject(String key, Parser parser, Class<T> type) throws ParseException {
 		assertFieldNotNull(type, "c");
-		return parse(getString(key), parser, type);
+		return getCachedObject(key, parser, type);
 	}
 
 	/**
@@ -1493,19 +1509,21 @@ public final class Config extends Context implements ConfigEventListener, Writab
 		if (! c.isInterface())
 			throw new IllegalArgumentException("Class '"+c.getName()+"' passed to getSectionAsInterface() is not an interface.");
 
+		final Map<Method,InterfaceProperty> properties = getInterfaceProperties(c);
+		final Map<Method,String> keys = new HashMap<>();
+		for (Map.Entry<Method,InterfaceProperty> e : properties.entrySet())
+			keys.put(e.getKey(), section2 + '/' + e.getValue().name);
+
 		InvocationHandler h = new InvocationHandler() {
 
 			@Override
 			public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-				BeanInfo bi = Introspector.getBeanInfo(c, null);
-				for (PropertyDescriptor pd : bi.getPropertyDescriptors()) {
-					Method rm = pd.getReadMethod(), wm = pd.getWriteMethod();
-					if (method.equals(rm))
-						return Config.this.getObject(section2 + '/' + pd.getName(), rm.getGenericReturnType());
-					if (method.equals(wm))
-						return Config.this.set(section2 + '/' + pd.getName(), args[0]);
-				}
-				throw new UnsupportedOperationException("Unsupported interface method.  method='" + method + "'");
+				InterfaceProperty p = properties.get(method);
+				if (p == null)
+					throw new UnsupportedOperationException("Unsupported interface method.  method='" + method + "'");
+				if (p.type == null)
+					return Config.this.set(keys.get(method), args[0]);
+				return Config.this.getObject(keys.get(method), p.type);
 			}
 		};
 
@@ -1643,6 +1661,20 @@ public final class Config extends Context implements ConfigEventListener, Writab
 		return this;
 	}
 
+	/**
+	 * Returns an object identifying the current contents of this config.
+	 *
+	 * <p>
+	 * The returned object is only equal to objects previously returned by this method if the contents haven't been
+	 * modified in the meantime, whether the modifications were committed or not.
+	 * <br>Can be used as a key for caching values derived from this config.
+	 *
+	 * @return An object identifying the current contents of this config.
+	 */
+	public Object getVersion() {
+		return configMap.getVersion();
+	}
+
 	/**
 	 * Commit the changes in this config to the store.
 	 *
@@ -1801,6 +1833,15 @@ public final class Config extends Context implements ConfigEventListener, Writab
 
 	@Override /* ConfigEventListener */
 	public void onConfigChange(ConfigEvents events) {
+		if (! valueCache.isEmpty()) {
+			for (ConfigEvent ce : events) {
+				ConfigEventType t = ce.getType();
+				boolean isEntry = (t == ConfigEventType.SET_ENTRY || t == ConfigEventType.REMOVE_ENTRY);
+				invalidate(ce.getSection() == null ? "" : ce.getSection(), isEntry ? ce.getKey() : null);
+			}
+		}
+		if (varSession != null)
+			varSession.invalidateCache();
 		for (ConfigEventListener l : listeners)
 			l.onConfigChange(events);
 	}
@@ -1862,6 +1903,58 @@ public final class Config extends Context implements ConfigEventListener, Writab
 		return s;
 	}
 
+	@SuppressWarnings({ "unchecked" })
+	private <T> T getCachedObject(String key, Parser parser, Type type, Type...args) throws ParseException {
+		String s = get(key);
+
+		if (isEmpty(s))
+			return null;
+
+		// Resolved variables can change without the entry changing, so only literal values are cached.
+		if (varSession != null && (s.indexOf('$') != -1 || s.indexOf('\\') != -1))
+			return parse(varSession.resolve(s), parser, type, args);
+
+		// Cached values are validated against the raw entry since uncommitted changes aren't signaled.
+		ValueKey vk = new ValueKey(key, parser, type, args);
+		CachedValue cv = valueCache.get(vk);
+		if (cv != null && cv.raw.equals(s))
+			return (T)cv.value;
+
+		T o = parse(s, parser, type, args);
+		if (o != null && (CACHEABLE_TYPES.contains(o.getClass()) || o instanceof Enum))
+			valueCache.put(vk, new CachedValue(s, o));
+		return o;
+	}
+
+	private void invalidate(String section, String key) {
+		for (Iterator<ValueKey> i = valueCache.keySet().iterator(); i.hasNext();) {
+			String k = i.next().key;
+			if (sname(k).equals(section) && (key == null || skey(k).equals(key)))
+				i.remove();
+		}
+	}
+
+	private static Map<Method,InterfaceProperty> getInterfaceProperties(Class<?> c) {
+		Map<Method,InterfaceProperty> m = INTERFACE_PROPERTIES.get(c);
+		if (m == null) {
+			m = new HashMap<>();
+			try {
+				for (PropertyDescriptor pd : Introspector.getBeanInfo(c, null).getPropertyDescriptors()) {
+					Method rm = pd.getReadMethod(), wm = pd.getWriteMethod();
+					if (rm != null)
+						m.put(rm, new InterfaceProperty(pd.getName(), rm.getGenericReturnType()));
+					if (wm != null)
+						m.put(wm, new InterfaceProperty(pd.getName(), null));
+				}
+			} catch (IntrospectionException e) {
+				throw new RuntimeException(e);
+			}
+			m = Collections.unmodifiableMap(m);
+			INTERFACE_PROPERTIES.putIfAbsent(c, m);
+		}
+		return m;
+	}
+
 	@SuppressWarnings({ "unchecked" })
 	private <T> T parse(String s, Parser parser, Type type, Type...args) throws ParseException {
 
@@ -1954,4 +2047,53 @@ public final class Config extends Context implements ConfigEventListener, Writab
 	protected void finalize() throws Throwable {
 		close();
 	}
+
+	private static final class ValueKey {
+		final String key;
+		final Parser parser;
+		final Type type;
+		final Type[] args;
+		final int hashCode;
+
+		ValueKey(String key, Parser parser, Type type, Type[] args) {
+			this.key = key;
+			this.parser = parser;
+			this.type = type;
+			this.args = args;
+			this.hashCode = Objects.hash(key, parser, type) * 31 + Arrays.hashCode(args);
+		}
+
+		@Override /* Object */
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			if (! (o instanceof ValueKey))
+				return false;
+			ValueKey vk = (ValueKey)o;
+			return key.equals(vk.key) && parser == vk.parser && type.equals(vk.type) && Arrays.equals(args, vk.args);
+		}
+	}
+
+	private static final class CachedValue {
+		final String raw;
+		final Object value;
+
+		CachedValue(String raw, Object value) {
+			this.raw = raw;
+			this.value = value;
+		}
+	}
+
+	private static final class InterfaceProperty {
+		final String name;
+		final Type type;  // null for setters
+
+		InterfaceProperty(String name, Type type) {
+			this.name = name;
+			this.type = type;
+		}
+	}
 }
@@ -29,7 +29,7 @@ import org.apache.juneau.internal.*;
 /**
  * Represents the parsed contents of a configuration.
  */
-public class ConfigMap implements ConfigStoreListener {
+public class ConfigMap implements ConfigStoreDeltaListener {
 
 	private final ConfigStore store;         // The store that created this object.
 	private volatile String contents;        // The original contents of this object.
@@ -43,16 +43,12 @@ public class ConfigMap implements ConfigStoreListener {
 	// Registered listeners listening for changes during saves or reloads.
 	private final Set<ConfigEventListener> listeners = Collections.synchronizedSet(new HashSet<ConfigEventListener>());
 
-	// The parsed entries of this map with all changes applied.
-	final Map<String,ConfigSection> entries = Collections.synchronizedMap(new LinkedHashMap<String,ConfigSection>());
+	// The parsed contents of this map.
+	// Replaced wholesale on every modification so that readers never need to lock.
+	private volatile Snapshot snapshot = Snapshot.EMPTY;
 
-	// The original entries of this map before any changes were applied.
-	final Map<String,ConfigSection> oentries = Collections.synchronizedMap(new LinkedHashMap<String,ConfigSection>());
-
-	// Import statements in this config.
-	final List<Import> imports = new CopyOnWriteArrayList<>();
-
-	private final ReadWriteLock lock = new ReentrantReadWriteLock();
+	// Serializes writers.  Readers only ever dereference the current snapshot.
+	private final ReentrantLock lock = new ReentrantLock();
 
 	/**
 	 * Constructor.
@@ -76,13 +72,9 @@ public class ConfigMap implements ConfigStoreListener {
 	private ConfigMap load(String contents) throws IOException {
 		if (contents == null)
 			contents = "";
-		this.contents = contents;
 
-		entries.clear();
-		oentries.clear();
-		for (Import ir : imports)
+		for (Import ir : snapshot.imports)
 			ir.unregisterAll();
-		imports.clear();
 
 		Map<String,ConfigMap> imports = new LinkedHashMap<>();
 
@@ -122,7 +114,6 @@ public class ConfigMap implements ConfigStoreListener {
 		List<Import> irl = new ArrayList<>(imports.size());
 		for (ConfigMap ic : iterable(imports.values(), true))
 			irl.add(new Import(ic).register(listeners));
-		this.imports.addAll(irl);
 
 		// Add [blank] section.
 		boolean inserted = false;
@@ -190,6 +181,7 @@ public class ConfigMap implements ConfigStoreListener {
 
 		sections.add(new ConfigSection(lines.subList(0, last+1)));
 
+		Map<String,ConfigSection> entries = new LinkedHashMap<>();
 		for (int i = sections.size() - 1; i >= 0; i--) {
 			ConfigSection cs = sections.get(i);
 			if (entries.containsKey(cs.name))
@@ -197,7 +189,8 @@ public class ConfigMap implements ConfigStoreListener {
 			entries.put(cs.name, cs);
 		 }
 
-		oentries.putAll(entries);
+		this.contents = contents;
+		this.snapshot = new Snapshot(entries, entries, Collections.unmodifiableList(irl));
 		return this;
 	}
 
@@ -220,23 +213,19 @@ public class ConfigMap implements ConfigStoreListener {
 	public ConfigEntry getEntry(String section, String key) {
 		checkSectionName(section);
 		checkKeyName(key);
-		readLock();
-		try {
-			ConfigSection cs = entries.get(section);
-			ConfigEntry ce = cs == null ? null : cs.entries.get(key);
+		Snapshot ss = snapshot;
+		ConfigSection cs = ss.entries.get(section);
+		ConfigEntry ce = cs == null ? null : cs.entries.get(key);
 
-			if (ce == null) {
-				for (Import i : imports) {
-					ce = i.getConfigMap().getEntry(section, key);
-					if (ce != null)
-						break;
-				}
+		if (ce == null) {
+			for (Import i : ss.imports) {
+				ce = i.getConfigMap().getEntry(section, key);
+				if (ce != null)
+					break;
 			}
-
-			return ce;
-		} finally {
-			readUnlock();
 		}
+
+		return ce;
 	}
 
 	/**
@@ -254,13 +243,8 @@ public class ConfigMap implements ConfigStoreListener {
 	 */
 	public List<String> getPreLines(String section) {
 		checkSectionName(section);
-		readLock();
-		try {
-			ConfigSection cs = entries.get(section);
-			return cs == null ? null : cs.preLines;
-		} finally {
-			readUnlock();
-		}
+		ConfigSection cs = snapshot.entries.get(section);
+		return cs == null ? null : cs.preLines;
 	}
 
 	/**
@@ -270,14 +254,15 @@ public class ConfigMap implements ConfigStoreListener {
 	 * 	An unmodifiable set of keys.
 	 */
 	public Set<String> getSections() {
+		Snapshot ss = snapshot;
 		Set<String> s = null;
-		if (imports.isEmpty()) {
-			s = entries.keySet();
+		if (ss.imports.isEmpty()) {
+			s = ss.entries.keySet();
 		} else {
 			s = new LinkedHashSet<>();
-			for (Import ir : imports)
+			for (Import ir : ss.imports)
 				s.addAll(ir.getConfigMap().getSections());
-			s.addAll(entries.keySet());
+			s.addAll(ss.entries.keySet());
 		}
 		return Collections.unmodifiableSet(s);
 	}
@@ -294,13 +279,14 @@ public class ConfigMap implements ConfigStoreListener {
 	 */
 	public Set<String> getKeys(String section) {
 		checkSectionName(section);
+		Snapshot ss = snapshot;
 		Set<String> s = null;
-		ConfigSection cs = entries.get(section);
-		if (imports.isEmpty()) {
+		ConfigSection cs = ss.entries.get(section);
+		if (ss.imports.isEmpty()) {
 			s = cs == null ? Collections.<String>emptySet() : cs.entries.keySet();
 		} else {
 			s = new LinkedHashSet<>();
-			for (Import i : imports)
+			for (Import i : ss.imports)
 				s.addAll(i.getConfigMap().getKeys(section));
 			if (cs != null)
 				s.addAll(cs.entries.keySet());
@@ -319,10 +305,11 @@ public class ConfigMap implements ConfigStoreListener {
 	 */
 	public boolean hasSection(String section) {
 		checkSectionName(section);
-		for (Import i : imports)
+		Snapshot ss = snapshot;
+		for (Import i : ss.imports)
 			if (i.getConfigMap().hasSection(section))
 				return true;
-		return entries.get(section) != null;
+		return ss.entries.get(section) != null;
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -444,37 +431,37 @@ public class ConfigMap implements ConfigStoreListener {
 			return this;
 		writeLock();
 		try {
+			Snapshot ss = snapshot;
+			Map<String,ConfigSection> entries = new LinkedHashMap<>(ss.entries);
 			String section = ce.getSection();
 			ConfigSection cs = entries.get(section);
 			if (ce.getType() == SET_ENTRY) {
-				if (cs == null) {
+				if (cs == null)
 					cs = new ConfigSection(section);
-					entries.put(section, cs);
-				}
 				ConfigEntry oe = cs.entries.get(ce.getKey());
 				if (oe == null)
 					oe = ConfigEntry.NULL;
-				cs.addEntry(
+				entries.put(section, cs.withEntry(
 					ce.getKey(),
 					ce.getValue() == null ? oe.value : ce.getValue(),
 					ce.getModifiers() == null ? oe.modifiers : ce.getModifiers(),
 					ce.getComment() == null ? oe.comment : ce.getComment(),
 					ce.getPreLines() == null ? oe.preLines : ce.getPreLines()
-				);
+				));
 			} else if (ce.getType() == SET_SECTION) {
-				if (cs == null) {
+				if (cs == null)
 					cs = new ConfigSection(section);
-					entries.put(section, cs);
-				}
 				if (ce.getPreLines() != null)
-					cs.setPreLines(ce.getPreLines());
+					cs = cs.withPreLines(ce.getPreLines());
+				entries.put(section, cs);
 			} else if (ce.getType() == REMOVE_ENTRY) {
 				if (cs != null)
-					cs.entries.remove(ce.getKey());
+					entries.put(section, cs.withoutEntry(ce.getKey()));
 			} else if (ce.getType() == REMOVE_SECTION) {
 				if (cs != null)
 					entries.remove(section);
 			}
+			snapshot = new Snapshot(entries, ss.oentries, ss.imports);
 			if (addToChangeList)
 				changes.add(ce);
 		} finally {
@@ -565,13 +552,13 @@ public class ConfigMap implements ConfigStoreListener {
 	 */
 	public ConfigMap register(ConfigEventListener listener) {
 		listeners.add(listener);
-		for (Import ir : imports)
+		for (Import ir : snapshot.imports)
 			ir.register(listener);
 		return this;
 	}
 
 	boolean hasEntry(String section, String key) {
-		ConfigSection cs = entries.get(section);
+		ConfigSection cs = snapshot.entries.get(section);
 		ConfigEntry ce = cs == null ? null : cs.entries.get(key);
 		return ce != null;
 	}
@@ -584,7 +571,7 @@ public class ConfigMap implements ConfigStoreListener {
 	 */
 	public ConfigMap unregister(ConfigEventListener listener) {
 		listeners.remove(listener);
-		for (Import ir : imports)
+		for (Import ir : snapshot.imports)
 			ir.register(listener);
 		return this;
 	}
@@ -600,11 +587,16 @@ public class ConfigMap implements ConfigStoreListener {
 
 	@Override /* ConfigStoreListener */
 	public void onChange(String newContents) {
+		onChange(newContents, null);
+	}
+
+	@Override /* ConfigStoreDeltaListener */
+	public void onChange(String newContents, Set<String> changedSections) {
 		ConfigEvents changes = null;
 		writeLock();
 		try {
 			if (! StringUtils.isEquals(contents, newContents)) {
-				changes = findDiffs(newContents);
+				changes = findDiffs(newContents, changedSections);
 				load(newContents);
 
 				// Reapply our changes on top of the modifications.
@@ -622,12 +614,7 @@ public class ConfigMap implements ConfigStoreListener {
 
 	@Override /* Object */
 	public String toString() {
-		readLock();
-		try {
-			return asString();
-		} finally {
-			readUnlock();
-		}
+		return asString();
 	}
 
 	/**
@@ -643,18 +630,14 @@ public class ConfigMap implements ConfigStoreListener {
 	 */
 	public ObjectMap asMap() {
 		ObjectMap m = new ObjectMap();
-		readLock();
-		try {
-			for (Import i : imports)
-				m.putAll(i.getConfigMap().asMap());
-			for (ConfigSection cs : entries.values()) {
-				Map<String,String> m2 = new LinkedHashMap<>();
-				for (ConfigEntry ce : cs.entries.values())
-					m2.put(ce.key, ce.value);
-				m.put(cs.name, m2);
-			}
-		} finally {
-			readUnlock();
+		Snapshot ss = snapshot;
+		for (Import i : ss.imports)
+			m.putAll(i.getConfigMap().asMap());
+		for (ConfigSection cs : ss.entries.values()) {
+			Map<String,String> m2 = new LinkedHashMap<>();
+			for (ConfigEntry ce : cs.entries.values())
+				m2.put(ce.key, ce.value);
+			m.put(cs.name, m2);
 		}
 		return m;
 	}
@@ -667,16 +650,31 @@ public class ConfigMap implements ConfigStoreListener {
 	 * @throws IOException
 	 */
 	public Writer writeTo(Writer w) throws IOException {
-		readLock();
-		try {
-			for (ConfigSection cs : entries.values())
-				cs.writeTo(w);
-		} finally {
-			readUnlock();
-		}
+		for (ConfigSection cs : snapshot.entries.values())
+			cs.writeTo(w);
 		return w;
 	}
 
+	/**
+	 * Returns an object identifying the current contents of this map and its imports.
+	 *
+	 * <p>
+	 * The returned object is only equal to objects previously returned by this method if the contents haven't been
+	 * modified in the meantime, whether the modifications were committed or not.
+	 *
+	 * @return An object identifying the current contents of this map.
+	 */
+	public Object getVersion() {
+		Snapshot ss = snapshot;
+		if (ss.imports.isEmpty())
+			return ss;
+		List<Object> l = new ArrayList<>(ss.imports.size() + 1);
+		l.add(ss);
+		for (Import i : ss.imports)
+			l.add(i.getConfigMap().getVersion());
+		return l;
+	}
+
 	/**
 	 * Does a rollback of any changes on this map currently in memory.
 	 *
@@ -702,20 +700,12 @@ public class ConfigMap implements ConfigStoreListener {
 	// Private methods
 	//-----------------------------------------------------------------------------------------------------------------
 
-	private void readLock() {
-		lock.readLock().lock();
-	}
-
-	private void readUnlock() {
-		lock.readLock().unlock();
-	}
-
 	private void writeLock() {
-		lock.writeLock().lock();
+		lock.lock();
 	}
 
 	private void writeUnlock() {
-		lock.writeLock().unlock();
+		lock.unlock();
 	}
 
 	private void checkSectionName(String s) {
@@ -781,14 +771,16 @@ public class ConfigMap implements ConfigStoreListener {
 				l.onConfigChange(changes);
 	}
 
-	private ConfigEvents findDiffs(String updatedContents) throws IOException {
+	// Only compares the specified sections if changedSections is not null.
+	private ConfigEvents findDiffs(String updatedContents, Set<String> changedSections) throws IOException {
 		ConfigEvents changes = new ConfigEvents();
 		ConfigMap newMap = new ConfigMap(store, name, updatedContents);
+		Snapshot ss = snapshot, nss = newMap.snapshot;
 
 		// Imports added.
-		for (Import i : newMap.imports) {
-			if (! imports.contains(i)) {
-				for (ConfigSection s : i.getConfigMap().entries.values()) {
+		for (Import i : nss.imports) {
+			if (! ss.imports.contains(i)) {
+				for (ConfigSection s : i.getConfigMap().snapshot.entries.values()) {
 					for (ConfigEntry e : s.oentries.values()) {
 						if (! newMap.hasEntry(s.name, e.key)) {
 							changes.add(ConfigEvent.setEntry(name, s.name, e.key, e.value, e.modifiers, e.comment, e.preLines));
@@ -799,9 +791,9 @@ public class ConfigMap implements ConfigStoreListener {
 		}
 
 		// Imports removed.
-		for (Import i : imports) {
-			if (! newMap.imports.contains(i)) {
-				for (ConfigSection s : i.getConfigMap().entries.values()) {
+		for (Import i : ss.imports) {
+			if (! nss.imports.contains(i)) {
+				for (ConfigSection s : i.getConfigMap().snapshot.entries.values()) {
 					for (ConfigEntry e : s.oentries.values()) {
 						if (! newMap.hasEntry(s.name, e.key)) {
 							changes.add(ConfigEvent.removeEntry(name, s.name, e.key));
@@ -811,8 +803,10 @@ public class ConfigMap implements ConfigStoreListener {
 			}
 		}
 
-		for (ConfigSection ns : newMap.oentries.values()) {
-			ConfigSection s = oentries.get(ns.name);
+		for (ConfigSection ns : nss.oentries.values()) {
+			if (changedSections != null && ! changedSections.contains(ns.name))
+				continue;
+			ConfigSection s = ss.oentries.get(ns.name);
 			if (s == null) {
 				//changes.add(ConfigEvent.setSection(ns.name, ns.preLines));
 				for (ConfigEntry ne : ns.entries.values()) {
@@ -834,8 +828,10 @@ public class ConfigMap implements ConfigStoreListener {
 			}
 		}
 
-		for (ConfigSection s : oentries.values()) {
-			ConfigSection ns = newMap.oentries.get(s.name);
+		for (ConfigSection s : ss.oentries.values()) {
+			if (changedSections != null && ! changedSections.contains(s.name))
+				continue;
+			ConfigSection ns = nss.oentries.get(s.name);
 			if (ns == null) {
 				//changes.add(ConfigEvent.removeSection(s.name));
 				for (ConfigEntry e : s.oentries.values())
@@ -846,11 +842,10 @@ public class ConfigMap implements ConfigStoreListener {
 		return changes;
 	}
 
-	// This method should only be called from behind a lock.
 	private String asString() {
 		try {
 			StringWriter sw = new StringWriter();
-			for (ConfigSection cs : entries.values())
+			for (ConfigSection cs : snapshot.entries.values())
 				cs.writeTo(sw);
 			return sw.toString();
 		} catch (IOException e) {
@@ -859,19 +854,46 @@ public class ConfigMap implements ConfigStoreListener {
 	}
 
 
+	//---------------------------------------------------------------------------------------------
+	// Snapshot
+	//---------------------------------------------------------------------------------------------
+
+	/*
+	 * Immutable view of the parsed contents of a config map.
+	 * The maps and lists held here are never modified once the snapshot is published.
+	 */
+	static final class Snapshot {
+
+		static final Snapshot EMPTY = new Snapshot(Collections.<String,ConfigSection>emptyMap(), Collections.<String,ConfigSection>emptyMap(), Collections.<Import>emptyList());
+
+		final Map<String,ConfigSection> entries;   // The parsed entries with all changes applied.
+		final Map<String,ConfigSection> oentries;  // The original entries before any changes were applied.
+		final List<Import> imports;                // Import statements in this config.
+
+		Snapshot(Map<String,ConfigSection> entries, Map<String,ConfigSection> oentries, List<Import> imports) {
+			this.entries = entries;
+			this.oentries = oentries;
+			this.imports = imports;
+		}
+	}
+
+
 	//---------------------------------------------------------------------------------------------
 	// ConfigSection
 	//---------------------------------------------------------------------------------------------
 
+	/*
+	 * Immutable.  Modifications produce copies that share the unchanged state.
+	 */
 	class ConfigSection {
 
 		final String name;   // The config section name, or blank if the default section.  Never null.
 
-		final List<String> preLines = Collections.synchronizedList(new ArrayList<String>());
+		final List<String> preLines;
 		private final String rawLine;
 
-		final Map<String,ConfigEntry> oentries = Collections.synchronizedMap(new LinkedHashMap<String,ConfigEntry>());
-		final Map<String,ConfigEntry> entries = Collections.synchronizedMap(new LinkedHashMap<String,ConfigEntry>());
+		final Map<String,ConfigEntry> oentries;
+		final Map<String,ConfigEntry> entries;
 
 		/**
 		 * Constructor.
@@ -879,6 +901,9 @@ public class ConfigMap implements ConfigStoreListener {
 		ConfigSection(String name) {
 			this.name = name;
 			this.rawLine = "[" + name + "]";
+			this.preLines = Collections.emptyList();
+			this.oentries = Collections.emptyMap();
+			this.entries = Collections.emptyMap();
 		}
 
 		/**
@@ -887,6 +912,8 @@ public class ConfigMap implements ConfigStoreListener {
 		ConfigSection(List<String> lines) {
 
 			String name = null, rawLine = null;
+			List<String> preLines = new ArrayList<>();
+			Map<String,ConfigEntry> entries = new LinkedHashMap<>();
 
 			int S1 = 1; // Looking for section.
 			int S2 = 2; // Found section, looking for end.
@@ -919,19 +946,36 @@ public class ConfigMap implements ConfigStoreListener {
 
 			this.name = name;
 			this.rawLine = rawLine;
-			this.oentries.putAll(entries);
+			this.preLines = Collections.unmodifiableList(preLines);
+			this.oentries = entries;
+			this.entries = entries;
+		}
+
+		private ConfigSection(ConfigSection copyFrom, List<String> preLines, Map<String,ConfigEntry> entries) {
+			this.name = copyFrom.name;
+			this.rawLine = copyFrom.rawLine;
+			this.oentries = copyFrom.oentries;
+			this.preLines = preLines;
+			this.entries = entries;
 		}
 
-		ConfigSection addEntry(String key, String value, String modifiers, String comment, List<String> preLines) {
+		ConfigSection withEntry(String key, String value, String modifiers, String comment, List<String> preLines) {
 			ConfigEntry e = new ConfigEntry(key, value, modifiers, comment, preLines);
-			this.entries.put(e.key, e);
-			return this;
+			Map<String,ConfigEntry> m = new LinkedHashMap<>(entries);
+			m.put(e.key, e);
+			return new ConfigSection(this, this.preLines, m);
 		}
 
-		ConfigSection setPreLines(List<String> preLines) {
-			this.preLines.clear();
-			this.preLines.addAll(preLines);
-			return this;
+		ConfigSection withoutEntry(String key) {
+			if (! entries.containsKey(key))
+				return this;
+			Map<String,ConfigEntry> m = new LinkedHashMap<>(entries);
+			m.remove(key);
+			return new ConfigSection(this, preLines, m);
+		}
+
+		ConfigSection withPreLines(List<String> preLines) {
+			return new ConfigSection(this, Collections.unmodifiableList(new ArrayList<>(preLines)), entries);
 		}
 
 		Writer writeTo(Writer w) throws IOException {
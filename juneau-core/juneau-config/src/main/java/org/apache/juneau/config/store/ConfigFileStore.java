@@ -21,16 +21,24 @@ import java.nio.*;
 import java.nio.channels.*;
 import java.nio.charset.*;
 import java.nio.file.*;
+import java.util.*;
 import java.util.concurrent.*;
+import java.util.concurrent.locks.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
 
 /**
  * Filesystem-based storage location for configuration files.
  *
  * <p>
  * Points to a file system directory containing configuration files.
+ *
+ * <p>
+ * Reads and writes are locked per config name, so operations on different configs don't block each other.
  */
 public class ConfigFileStore extends ConfigStore {
 
@@ -102,7 +110,9 @@ public class ConfigFileStore extends ConfigStore {
 	 *
 	 * <h5 class='section'>Notes:</h5>
 	 * <ul class='spaced-list'>
-	 * 	<li>Calling {@link #close()} on this object closes the watcher.
+	 * 	<li>Stores watching the same directory with the same sensitivity share a single watcher thread.
+	 * 	<li>Calling {@link #close()} on this object unsubscribes from the watcher.
+	 * 		<br>The watcher is closed once no more stores are subscribed to it.
 	 * </ul>
 	 */
 	public static final String FILESTORE_useWatcher = PREFIX + "useWatcher.s";
@@ -177,6 +187,68 @@ public class ConfigFileStore extends ConfigStore {
 	 */
 	public static final String FILESTORE_extensions = PREFIX + "extensions.ls";
 
+	/**
+	 * Configuration property:  Journal compaction threshold.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"ConfigFileStore.journalCompactionThreshold.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>0</code>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link ConfigFileStoreBuilder#journal(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When greater than zero, writes to existing config files append only the changed sections to a
+	 * <js>"[filename].journal"</js> file instead of rewriting the entire config file.
+	 * <br>The journal is compacted into the config file once it contains this many records, and when the store is
+	 * closed.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>Listeners are notified immediately after journaled writes since the config file itself isn't modified.
+	 * 	<li>Journals assume this store is the only writer of the config file.
+	 * 		<br>If the config file is modified externally, the external contents are used and pending journal records
+	 * 		are discarded.
+	 * </ul>
+	 */
+	public static final String FILESTORE_journalCompactionThreshold = PREFIX + "journalCompactionThreshold.i";
+
+	/**
+	 * Configuration property:  Shared.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"ConfigFileStore.shared.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link ConfigFileStoreBuilder#shared()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When enabled, builders with identical settings return the same store instance within this JVM.
+	 * <br>Each config file is then read and parsed once, and all {@link org.apache.juneau.config.Config} objects
+	 * created against the store are notified of changes through the same parsed config map.
+	 * <br>This is intended for hosting multiple microservices in the same JVM that use the same configuration
+	 * directory.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>Shared stores are reference counted.
+	 * 		<br>Calling {@link #close()} only closes the store once it has been called by every builder that returned it.
+	 * 	<li>Stores in other JVMs are notified of changes through their own watchers on the same directory.
+	 * </ul>
+	 */
+	public static final String FILESTORE_shared = PREFIX + "shared.b";
+
 	//-------------------------------------------------------------------------------------------------------------------
 	// Predefined instances
 	//-------------------------------------------------------------------------------------------------------------------
@@ -210,6 +282,40 @@ public class ConfigFileStore extends ConfigStore {
 	private final ConcurrentHashMap<String,String> cache = new ConcurrentHashMap<>();
 	private final ConcurrentHashMap<String,String> nameCache = new ConcurrentHashMap<>();
 	private final String[] extensions;
+	private final int journalCompactionThreshold;
+	private final ConcurrentHashMap<String,ReentrantLock> locks = new ConcurrentHashMap<>();
+	private final ConcurrentHashMap<String,Journal> journals = new ConcurrentHashMap<>();
+
+	private static final String JOURNAL_EXT = ".journal";
+
+	// Shared instances keyed by their settings.
+	private static final Map<PropertyStore,ConfigFileStore> SHARED = new HashMap<>();
+
+	// Watcher threads keyed by real directory path and sensitivity.
+	private static final Map<String,WatcherThread> WATCHERS = new HashMap<>();
+
+	private static final JuneauLogger LOG = JuneauLogger.getLogger(ConfigFileStore.class);
+
+	private final boolean shared;
+	private int sharedCount;  // Guarded by SHARED.
+
+	/**
+	 * Returns the shared store for the specified settings, creating it if necessary.
+	 *
+	 * @param ps The settings for this content store.
+	 * @return The shared store.
+	 */
+	static ConfigFileStore getShared(PropertyStore ps) {
+		synchronized (SHARED) {
+			ConfigFileStore s = SHARED.get(ps);
+			if (s == null) {
+				s = new ConfigFileStore(ps);
+				SHARED.put(ps, s);
+			}
+			s.sharedCount++;
+			return s;
+		}
+	}
 
 	/**
 	 * Constructor.
@@ -224,10 +330,10 @@ public class ConfigFileStore extends ConfigStore {
 			charset = getProperty(FILESTORE_charset, Charset.class, Charset.defaultCharset());
 			updateOnWrite = getBooleanProperty(FILESTORE_updateOnWrite, false);
 			extensions = getArrayProperty(FILESTORE_extensions, String.class, new String[]{"cfg"});
+			journalCompactionThreshold = getIntegerProperty(FILESTORE_journalCompactionThreshold, 0);
+			shared = getBooleanProperty(FILESTORE_shared, false);
 			WatcherSensitivity ws = getProperty(FILESTORE_watcherSensitivity, WatcherSensitivity.class, WatcherSensitivity.MEDIUM);
-			watcher = getBooleanProperty(FILESTORE_useWatcher, false) ? new WatcherThread(dir, ws) : null;
-			if (watcher != null)
-				watcher.start();
+			watcher = getBooleanProperty(FILESTORE_useWatcher, false) ? WatcherThread.subscribe(dir, ws, this) : null;
 
 		} catch (Exception e) {
 			throw new RuntimeException(e);
@@ -235,7 +341,7 @@ public class ConfigFileStore extends ConfigStore {
 	}
 
 	@Override /* ConfigStore */
-	public synchronized String read(String name) throws IOException {
+	public String read(String name) throws IOException {
 		name = resolveName(name);
 
 		Path p = resolveFile(name);
@@ -245,33 +351,30 @@ public class ConfigFileStore extends ConfigStore {
 		if (s != null)
 			return s;
 
-		dir.mkdirs();
+		Lock l = lock(name);
+		try {
+			s = cache.get(name);
+			if (s != null)
+				return s;
 
-		// If file doesn't exist, don't trigger creation.
-		if (! Files.exists(p))
-			return "";
+			dir.mkdirs();
 
-		boolean isWritable = isWritable(p);
-		OpenOption[] oo = isWritable ? new OpenOption[]{READ,WRITE,CREATE} : new OpenOption[]{READ};
+			// If file doesn't exist, don't trigger creation.
+			if (! Files.exists(p))
+				return "";
 
-		try (FileChannel fc = FileChannel.open(p, oo)) {
-			try (FileLock lock = isWritable ? fc.lock() : null) {
-				ByteBuffer buf = ByteBuffer.allocate(1024);
-				StringBuilder sb = new StringBuilder();
-				while (fc.read(buf) != -1) {
-					sb.append(charset.decode((ByteBuffer)(buf.flip())));
-					buf.clear();
-				}
-				s = sb.toString();
-				cache.put(name, s);
-			}
+			s = readFile(p);
+			if (journalCompactionThreshold > 0)
+				s = replayJournal(name, p, s);
+			cache.put(name, s);
+			return s;
+		} finally {
+			l.unlock();
 		}
-
-		return cache.get(name);
 	}
 
 	@Override /* ConfigStore */
-	public synchronized String write(String name, String expectedContents, String newContents) throws IOException {
+	public String write(String name, String expectedContents, String newContents) throws IOException {
 		name = resolveName(name);
 
 		// This is a no-op.
@@ -283,52 +386,70 @@ public class ConfigFileStore extends ConfigStore {
 		Path p = resolveFile(name);
 		name = p.getFileName().toString();
 
-		boolean exists = Files.exists(p);
-
-		// Don't create the file if we're not going to match.
-		if ((!exists) && isNotEmpty(expectedContents))
-			return "";
-
-		if (isWritable(p)) {
-			if (newContents == null)
-				Files.delete(p);
-			else {
-				try (FileChannel fc = FileChannel.open(p, READ, WRITE, CREATE)) {
-					try (FileLock lock = fc.lock()) {
-						String currentContents = "";
-						if (exists) {
-							ByteBuffer buf = ByteBuffer.allocate(1024);
-							StringBuilder sb = new StringBuilder();
-							while (fc.read(buf) != -1) {
-								sb.append(charset.decode((ByteBuffer)(buf.flip())));
-								buf.clear();
+		Set<String> changedSections = null;
+		boolean journaled = false;
+		Lock l = lock(name);
+		try {
+			boolean exists = Files.exists(p);
+
+			// Don't create the file if we're not going to match.
+			if ((!exists) && isNotEmpty(expectedContents))
+				return "";
+
+			if (journalCompactionThreshold > 0 && exists && newContents != null) {
+				String currentContents = read(name);
+				if (expectedContents != null && ! isEquals(currentContents, expectedContents))
+					return currentContents;
+				changedSections = appendJournal(name, p, currentContents, newContents);
+				cache.put(name, newContents);
+				journaled = true;
+			} else if (isWritable(p)) {
+				if (newContents == null) {
+					Files.delete(p);
+					Files.deleteIfExists(journalFile(p));
+					journals.remove(name);
+				} else {
+					try (FileChannel fc = FileChannel.open(p, READ, WRITE, CREATE)) {
+						try (FileLock lock = fc.lock()) {
+							String currentContents = "";
+							if (exists)
+								currentContents = read(fc);
+							if (expectedContents != null && ! isEquals(currentContents, expectedContents)) {
+								if (currentContents == null)
+									cache.remove(name);
+								else
+									cache.put(name, currentContents);
+								return currentContents;
 							}
-							currentContents = sb.toString();
+							write(fc, newContents);
 						}
-						if (expectedContents != null && ! isEquals(currentContents, expectedContents)) {
-							if (currentContents == null)
-								cache.remove(name);
-							else
-								cache.put(name, currentContents);
-							return currentContents;
-						}
-						fc.position(0);
-						fc.write(charset.encode(newContents));
+					}
+					if (journalCompactionThreshold > 0) {
+						Files.deleteIfExists(journalFile(p));
+						journals.put(name, new Journal(newContents));
+						cache.put(name, newContents);
+						journaled = true;
 					}
 				}
 			}
+
+			if (! (journaled || updateOnWrite))
+				cache.remove(name);  // Invalidate the cache.
+		} finally {
+			l.unlock();
 		}
 
-		if (updateOnWrite)
+		// The watcher ignores files written through the journal (including compactions), so notify listeners here.
+		if (journaled)
+			super.update(name, newContents, changedSections);
+		else if (updateOnWrite)
 			update(name, newContents);
-		else
-			cache.remove(name);  // Invalidate the cache.
 
 		return null;
 	}
 
 	@Override /* ConfigStore */
-	public synchronized boolean exists(String name) {
+	public boolean exists(String name) {
 		return Files.exists(resolveFile(name));
 	}
 
@@ -374,7 +495,7 @@ public class ConfigFileStore extends ConfigStore {
 		return nameCache.get(name);
 	}
 
-	private synchronized boolean isWritable(Path p) {
+	private boolean isWritable(Path p) {
 		try {
 			if (! Files.exists(p)) {
 				Files.createDirectories(p.getParent());
@@ -388,16 +509,190 @@ public class ConfigFileStore extends ConfigStore {
 	}
 
 	@Override /* ConfigStore */
-	public synchronized ConfigFileStore update(String name, String newContents) {
-		cache.put(name, newContents);
-		super.update(name, newContents);
+	public ConfigFileStore update(String name, String newContents) {
+		String oldContents;
+		Lock l = lock(name);
+		try {
+			oldContents = (newContents == null ? cache.remove(name) : cache.put(name, newContents));
+		} finally {
+			l.unlock();
+		}
+		super.update(name, newContents, oldContents == null ? null : ConfigSections.diff(oldContents, newContents));
 		return this;
 	}
 
+	/**
+	 * Compacts any pending journal records into their config files and unsubscribes from the watcher.
+	 *
+	 * <p>
+	 * Shared stores are only closed once this method has been called for every time the store was built.
+	 */
 	@Override /* Closeable */
-	public synchronized void close() {
-		if (watcher != null)
-			watcher.interrupt();
+	public void close() {
+		if (shared) {
+			synchronized (SHARED) {
+				if (--sharedCount > 0)
+					return;
+				SHARED.remove(getPropertyStore());
+			}
+		}
+		try {
+			for (String name : journals.keySet()) {
+				Lock l = lock(name);
+				try {
+					Journal j = journals.get(name);
+					String s = cache.get(name);
+					if (j != null && j.records > 0 && s != null)
+						compact(name, resolveFile(name), s);
+				} finally {
+					l.unlock();
+				}
+			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
+		} finally {
+			if (watcher != null)
+				watcher.unsubscribe(this);
+		}
+	}
+
+	//---------------------------------------------------------------------------------------------
+	// Locking and file access
+	//---------------------------------------------------------------------------------------------
+
+	private Lock lock(String name) {
+		ReentrantLock l = locks.get(name);
+		if (l == null) {
+			l = new ReentrantLock();
+			ReentrantLock l2 = locks.putIfAbsent(name, l);
+			if (l2 != null)
+				l = l2;
+		}
+		l.lock();
+		return l;
+	}
+
+	private String readFile(Path p) throws IOException {
+		boolean isWritable = isWritable(p);
+		OpenOption[] oo = isWritable ? new OpenOption[]{READ,WRITE,CREATE} : new OpenOption[]{READ};
+
+		try (FileChannel fc = FileChannel.open(p, oo)) {
+			try (FileLock lock = isWritable ? fc.lock() : null) {
+				return read(fc);
+			}
+		}
+	}
+
+	private void writeFile(Path p, String contents) throws IOException {
+		try (FileChannel fc = FileChannel.open(p, READ, WRITE, CREATE)) {
+			try (FileLock lock = fc.lock()) {
+				write(fc, contents);
+			}
+		}
+	}
+
+	private String read(FileChannel fc) throws IOException {
+		ByteBuffer buf = ByteBuffer.allocate(1024);
+		StringBuilder sb = new StringBuilder();
+		while (fc.read(buf) != -1) {
+			sb.append(charset.decode((ByteBuffer)(buf.flip())));
+			buf.clear();
+		}
+		return sb.toString();
+	}
+
+	private void write(FileChannel fc, String contents) throws IOException {
+		fc.position(0);
+		fc.write(charset.encode(contents));
+		fc.truncate(fc.position());
+	}
+
+	//---------------------------------------------------------------------------------------------
+	// Journal
+	//---------------------------------------------------------------------------------------------
+
+	/*
+	 * The state of the journal of a single config file.
+	 * Each journal record is a single line containing a JSON object with the following entries:
+	 * 	"o" - The names of all the sections in order.
+	 * 	"s" - The raw text of the sections that were added or modified.
+	 */
+	private static final class Journal {
+		final String base;  // The contents of the config file itself.
+		int records;
+
+		Journal(String base) {
+			this.base = base;
+		}
+	}
+
+	private static Path journalFile(Path p) {
+		return p.resolveSibling(p.getFileName().toString() + JOURNAL_EXT);
+	}
+
+	private String replayJournal(String name, Path p, String contents) throws IOException {
+		Journal j = new Journal(contents);
+		journals.put(name, j);
+		Path jp = journalFile(p);
+		LinkedHashMap<String,String> sections = ConfigSections.split(contents);
+		if (sections == null || ! Files.exists(jp))
+			return contents;
+		for (String line : Files.readAllLines(jp, charset)) {
+			ObjectMap m;
+			try {
+				m = JsonParser.DEFAULT.parse(line, ObjectMap.class);
+			} catch (ParseException e) {
+				break;  // Incomplete trailing record.
+			}
+			ObjectMap changed = m.getObjectMap("s");
+			LinkedHashMap<String,String> sections2 = new LinkedHashMap<>();
+			for (String s : m.getObjectList("o").elements(String.class))
+				sections2.put(s, changed.containsKey(s) ? changed.getString(s) : emptyIfNull(sections.get(s)));
+			sections = sections2;
+			j.records++;
+		}
+		return ConfigSections.join(sections);
+	}
+
+	private Set<String> appendJournal(String name, Path p, String oldContents, String newContents) throws IOException {
+		LinkedHashMap<String,String> o = ConfigSections.split(oldContents), n = ConfigSections.split(newContents);
+		Journal j = journals.get(name);
+
+		// Sections can't be identified, so write the entire file.
+		if (o == null || n == null || j == null) {
+			compact(name, p, newContents);
+			return ConfigSections.diff(oldContents, newContents);
+		}
+
+		Set<String> changedSections = new LinkedHashSet<>();
+		ObjectMap changed = new ObjectMap();
+		for (Map.Entry<String,String> e : n.entrySet()) {
+			if (! e.getValue().equals(o.get(e.getKey()))) {
+				changed.put(e.getKey(), e.getValue());
+				changedSections.add(e.getKey());
+			}
+		}
+		for (String s : o.keySet())
+			if (! n.containsKey(s))
+				changedSections.add(s);
+
+		try {
+			String record = SimpleJsonSerializer.DEFAULT.serialize(new ObjectMap().append("o", n.keySet()).append("s", changed));
+			Files.write(journalFile(p), (record + '\n').getBytes(charset), CREATE, WRITE, APPEND);
+		} catch (SerializeException e) {
+			throw new IOException(e);
+		}
+
+		if (++j.records >= journalCompactionThreshold)
+			compact(name, p, newContents);
+
+		return changedSections;
+	}
+
+	private void compact(String name, Path p, String contents) throws IOException {
+		writeFile(p, contents);
+		Files.deleteIfExists(journalFile(p));
+		journals.put(name, new Journal(contents));
 	}
 
 
@@ -405,10 +700,45 @@ public class ConfigFileStore extends ConfigStore {
 	// WatcherThread
 	//---------------------------------------------------------------------------------------------
 
-	final class WatcherThread extends Thread {
+	/*
+	 * Watches a single directory and fans out file events to all the stores subscribed to it.
+	 * A failure in one store doesn't prevent the others from being notified.
+	 * Threads remove themselves from WATCHERS when they stop, so later subscribers start a new thread.
+	 */
+	static final class WatcherThread extends Thread {
+		private final String key;
 		private final WatchService watchService;
+		private final List<ConfigFileStore> stores = new CopyOnWriteArrayList<>();
+		private boolean stopping;  // Guarded by WATCHERS.
+
+		static WatcherThread subscribe(File dir, WatcherSensitivity s, ConfigFileStore store) throws Exception {
+			String key = dir.toPath().toRealPath().toString() + '|' + s;
+			synchronized (WATCHERS) {
+				WatcherThread t = WATCHERS.get(key);
+				// A stopping thread may still be alive, so it must not be reused.
+				if (t == null || t.stopping) {
+					t = new WatcherThread(key, dir, s);
+					t.start();
+					WATCHERS.put(key, t);
+				}
+				t.stores.add(store);
+				return t;
+			}
+		}
 
-		WatcherThread(File dir, WatcherSensitivity s) throws Exception {
+		void unsubscribe(ConfigFileStore store) {
+			synchronized (WATCHERS) {
+				stores.remove(store);
+				if (stores.isEmpty() && ! stopping) {
+					markStopping();
+					interrupt();
+				}
+			}
+		}
+
+		private WatcherThread(String key, File dir, WatcherSensitivity s) throws Exception {
+			super("ConfigFileStore.WatcherThread[" + dir + "]");
+			this.key = key;
 			watchService = FileSystems.getDefault().newWatchService();
 			WatchEvent.Kind<?>[] kinds = new WatchEvent.Kind[]{ENTRY_CREATE, ENTRY_DELETE, ENTRY_MODIFY};
 			WatchEvent.Modifier modifier = lookupModifier(s);
@@ -432,22 +762,41 @@ public class ConfigFileStore extends ConfigStore {
 		@SuppressWarnings("unchecked")
 		@Override /* Thread */
 		public void run() {
-		    try {
-				WatchKey key;
-				while ((key = watchService.take()) != null) {
-				    for (WatchEvent<?> event : key.pollEvents()) {
-				        WatchEvent.Kind<?> kind = event.kind();
-				        if (kind != OVERFLOW)
-				        		ConfigFileStore.this.onFileEvent(((WatchEvent<Path>)event));
-				    }
-				    if (! key.reset())
-				    		break;
+			try {
+				WatchKey wk;
+				while ((wk = watchService.take()) != null) {
+					for (WatchEvent<?> event : wk.pollEvents()) {
+						WatchEvent.Kind<?> kind = event.kind();
+						if (kind != OVERFLOW) {
+							for (ConfigFileStore s : stores) {
+								try {
+									s.onFileEvent(((WatchEvent<Path>)event));
+								} catch (Exception e) {
+									LOG.warning(e, "Error processing file event on ''{0}'' in config store.", event.context());
+								}
+							}
+						}
+					}
+					if (! wk.reset())
+						break;
 				}
+			} catch (InterruptedException | ClosedWatchServiceException e) {
+				// Closed by unsubscribe().
 			} catch (Exception e) {
-				e.printStackTrace();
-				throw new RuntimeException(e);
+				LOG.warning(e, "Config store watcher thread ''{0}'' stopped unexpectedly.", getName());
+			} finally {
+				synchronized (WATCHERS) {
+					markStopping();
+				}
 			}
-		};
+		}
+
+		// Must be called while holding the lock on WATCHERS.
+		private void markStopping() {
+			stopping = true;
+			if (WATCHERS.get(key) == this)
+				WATCHERS.remove(key);
+		}
 
 		@Override /* Thread */
 		public void interrupt() {
@@ -467,14 +816,36 @@ public class ConfigFileStore extends ConfigStore {
 	 * @param e The file system event.
 	 * @throws IOException
 	 */
-	protected synchronized void onFileEvent(WatchEvent<Path> e) throws IOException {
+	protected void onFileEvent(WatchEvent<Path> e) throws IOException {
 		String fn = e.context().getFileName().toString();
+		if (fn.endsWith(JOURNAL_EXT))
+			return;
+
+		String newContents;
+		Set<String> changedSections;
+		Lock l = lock(fn);
+		try {
+			String oldContents = cache.get(fn);
+
+			// Ignore changes made by compacting our own journal, otherwise the external contents win.
+			Path p = resolveFile(fn);
+			Journal j = journals.remove(fn);
+			if (j != null) {
+				if (Files.exists(p) && isEquals(readFile(p), j.base)) {
+					journals.put(fn, j);
+					return;
+				}
+				Files.deleteIfExists(journalFile(p));
+			}
 
-		String oldContents = cache.get(fn);
-		cache.remove(fn);
-		String newContents = read(fn);
-		if (! isEquals(oldContents, newContents)) {
-			update(fn, newContents);
+			cache.remove(fn);
+			newContents = read(fn);
+			if (isEquals(oldContents, newContents))
+				return;
+			changedSections = (oldContents == null ? null : ConfigSections.diff(oldContents, newContents));
+		} finally {
+			l.unlock();
 		}
+		super.update(fn, newContents, changedSections);
 	}
 }
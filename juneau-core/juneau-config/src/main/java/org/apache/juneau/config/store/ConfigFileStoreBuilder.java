@@ -223,8 +223,52 @@ public class ConfigFileStoreBuilder extends ConfigStoreBuilder {
 		return this;
 	}
 
+	/**
+	 * Configuration property:  Journal compaction threshold.
+	 *
+	 * <p>
+	 * Writes only the changed sections to a journal file and compacts it into the config file after the specified
+	 * number of writes.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link ConfigFileStore#FILESTORE_journalCompactionThreshold}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <code>0</code> which disables journaling.
+	 * @return This object (for method chaining).
+	 */
+	public ConfigFileStoreBuilder journal(int value) {
+		super.set(FILESTORE_journalCompactionThreshold, value);
+		return this;
+	}
+
+	/**
+	 * Configuration property:  Shared.
+	 *
+	 * <p>
+	 * Returns the same store instance from builders with identical settings so that config files are only read and
+	 * parsed once per JVM.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link ConfigFileStore#FILESTORE_shared}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public ConfigFileStoreBuilder shared() {
+		super.set(FILESTORE_shared, true);
+		return this;
+	}
+
 	@Override /* ContextBuilder */
 	public ConfigFileStore build() {
-		return new ConfigFileStore(getPropertyStore());
+		PropertyStore ps = getPropertyStore();
+		if (ps.getProperty(FILESTORE_shared, Boolean.class, false))
+			return ConfigFileStore.getShared(ps);
+		return new ConfigFileStore(ps);
 	}
 }
@@ -93,11 +93,8 @@ public class ConfigMemoryStore extends ConfigStore {
 
 	@Override /* ConfigStore */
 	public synchronized ConfigMemoryStore update(String name, String newContents) {
-		if (newContents == null)
-			cache.remove(name);
-		else
-			cache.put(name, newContents);
-		super.update(name, newContents);  // Trigger any listeners.
+		String oldContents = (newContents == null ? cache.remove(name) : cache.put(name, newContents));
+		super.update(name, newContents, oldContents == null ? null : ConfigSections.diff(oldContents, newContents));  // Trigger any listeners.
 		return this;
 	}
 
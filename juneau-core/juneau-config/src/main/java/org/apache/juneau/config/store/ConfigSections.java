@@ -0,0 +1,98 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.config.store;
+
+import java.util.*;
+
+/**
+ * Splits the raw contents of config files into sections.
+ *
+ * <p>
+ * Each section consists of the text starting at its <code>[section]</code> header line up to the next header line.
+ * <br>Text before the first header belongs to the default section with an empty name.
+ * <br>Joining the sections in order reproduces the original contents exactly.
+ */
+final class ConfigSections {
+
+	private ConfigSections() {}
+
+	/**
+	 * Splits the specified contents into sections.
+	 *
+	 * @param contents The config file contents.
+	 * @return
+	 * 	An ordered map of section names to raw section text.
+	 * 	<br><jk>null</jk> if the same section name occurs more than once.
+	 */
+	static LinkedHashMap<String,String> split(String contents) {
+		LinkedHashMap<String,String> m = new LinkedHashMap<>();
+		if (contents == null)
+			return m;
+		String section = "";
+		int start = 0, length = contents.length();
+		for (int i = 0; i < length; i = nextLine(contents, i)) {
+			if (contents.charAt(i) == '[') {
+				if (i > start || ! section.isEmpty())
+					if (m.put(section, contents.substring(start, i)) != null)
+						return null;
+				int j = contents.indexOf('\n', i);
+				section = (j == -1 ? contents.substring(i) : contents.substring(i, j)).trim();
+				section = section.substring(1, section.endsWith("]") ? section.length()-1 : section.length()).trim();
+				start = i;
+			}
+		}
+		if (length > start || ! section.isEmpty())
+			if (m.put(section, contents.substring(start)) != null)
+				return null;
+		return m;
+	}
+
+	/**
+	 * Returns the names of the sections that were added, removed, or modified between two versions of a config.
+	 *
+	 * @param oldContents The previous contents.
+	 * @param newContents The new contents.
+	 * @return The names of the changed sections, or <jk>null</jk> if the contents couldn't be split into sections.
+	 */
+	static Set<String> diff(String oldContents, String newContents) {
+		Map<String,String> o = split(oldContents), n = split(newContents);
+		if (o == null || n == null)
+			return null;
+		Set<String> s = new LinkedHashSet<>();
+		for (Map.Entry<String,String> e : n.entrySet())
+			if (! e.getValue().equals(o.get(e.getKey())))
+				s.add(e.getKey());
+		for (String k : o.keySet())
+			if (! n.containsKey(k))
+				s.add(k);
+		return s;
+	}
+
+	/**
+	 * Joins sections back into config file contents.
+	 *
+	 * @param sections The ordered raw section text.
+	 * @return The config file contents.
+	 */
+	static String join(Map<String,String> sections) {
+		StringBuilder sb = new StringBuilder();
+		for (String s : sections.values())
+			sb.append(s);
+		return sb.toString();
+	}
+
+	private static int nextLine(String s, int i) {
+		int j = s.indexOf('\n', i);
+		return j == -1 ? s.length() : j+1;
+	}
+}
@@ -141,12 +141,36 @@ public abstract class ConfigStore extends Context implements Closeable {
 	 * @param contents The new contents.
 	 * @return This object (for method chaining).
 	 */
-	public synchronized ConfigStore update(String name, String contents) {
+	public ConfigStore update(String name, String contents) {
+		return update(name, contents, null);
+	}
+
+	/**
+	 * Same as {@link #update(String, String)} but also passes the names of the changed sections to
+	 * {@link ConfigStoreDeltaListener ConfigStoreDeltaListeners}.
+	 *
+	 * @param name The config name (e.g. the filename without the extension).
+	 * @param contents The new contents.
+	 * @param changedSections
+	 * 	The names of the sections that were added, removed, or modified.
+	 * 	<br>If <jk>null</jk>, listeners are only notified of the new contents.
+	 * @return This object (for method chaining).
+	 */
+	protected ConfigStore update(String name, String contents, Set<String> changedSections) {
 		name = resolveName(name);
 		Set<ConfigStoreListener> s = listeners.get(name);
-		if (s != null)
-			for (ConfigStoreListener l : listeners.get(name))
-				l.onChange(contents);
+		if (s != null) {
+			List<ConfigStoreListener> l2;
+			synchronized (s) {
+				l2 = new ArrayList<>(s);
+			}
+			for (ConfigStoreListener l : l2) {
+				if (changedSections != null && l instanceof ConfigStoreDeltaListener)
+					((ConfigStoreDeltaListener)l).onChange(contents, changedSections);
+				else
+					l.onChange(contents);
+			}
+		}
 		return this;
 	}
 
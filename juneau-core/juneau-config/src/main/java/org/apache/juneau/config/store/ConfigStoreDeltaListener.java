@@ -0,0 +1,35 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.config.store;
+
+import java.util.*;
+
+/**
+ * Listens for changes to stored config files along with the names of the sections that changed.
+ *
+ * <p>
+ * Stores call {@link #onChange(String, Set)} instead of {@link #onChange(String)} when they know which sections were
+ * added, removed, or modified, so listeners can skip comparing unchanged sections.
+ */
+public interface ConfigStoreDeltaListener extends ConfigStoreListener {
+
+	/**
+	 * Called when the physical contents of a config file have changed.
+	 *
+	 * @param contents The new config contents.
+	 * @param changedSections
+	 * 	The names of the sections that were added, removed, or modified.
+	 * 	<br>The default section is identified by an empty string.
+	 */
+	void onChange(String contents, Set<String> changedSections);
+}
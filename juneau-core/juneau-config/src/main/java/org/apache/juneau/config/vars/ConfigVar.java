@@ -12,6 +12,8 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.config.vars;
 
+import java.util.*;
+
 import org.apache.juneau.config.*;
 import org.apache.juneau.svl.*;
 
@@ -43,6 +45,9 @@ import org.apache.juneau.svl.*;
  * Since this is a {@link SimpleVar}, any variables contained in the result will be recursively resolved.
  * Likewise, if the arguments contain any variables, those will be resolved before they are passed to this var.
  *
+ * <p>
+ * Resolved values are cached until the contents of the config are modified (see {@link Config#getVersion()}).
+ *
  * <h5 class='section'>See Also:</h5>
  * <ul>
  * 	<li class='link'>{@doc juneau-svl.VarResolvers}
@@ -70,4 +75,16 @@ public class ConfigVar extends DefaultingVar {
 	public String resolve(VarResolverSession session, String key) {
 		return session.getSessionObject(Config.class, SESSION_config, true).getString(key);
 	}
+
+	@Override /* Var */
+	protected VarCachePolicy getCachePolicy() {
+		return VarCachePolicy.ON_CHANGE;
+	}
+
+	@Override /* Var */
+	protected Object getCacheScope(VarResolverSession session) {
+		// Uncommitted changes aren't signaled to listeners, so key the values on the current contents of the config.
+		Config c = session.getSessionObject(Config.class, SESSION_config, false);
+		return (c == null ? null : Arrays.asList(c, c.getVersion()));
+	}
 }
@@ -0,0 +1,180 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import static org.junit.Assert.*;
+import static org.apache.juneau.testutils.TestUtils.*;
+
+import java.util.*;
+
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.jena.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.apache.juneau.xml.*;
+import org.apache.juneau.xml.annotation.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link SessionPool} class and the session pooling support on serializers and parsers.
+ */
+public class SessionPoolTest {
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// SessionPool
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_pollAndOffer() throws Exception {
+		SessionPool<BeanSession> p = new SessionPool<>(2);
+		assertNull(p.poll());
+
+		BeanSession s1 = BeanContext.DEFAULT.createSession(), s2 = BeanContext.DEFAULT.createSession(), s3 = BeanContext.DEFAULT.createSession();
+		assertTrue(p.offer(s1));
+		assertTrue(p.offer(s2));
+		assertFalse(p.offer(s3));
+		assertEquals(2, p.getIdleCount());
+
+		Set<BeanSession> s = Collections.newSetFromMap(new IdentityHashMap<BeanSession,Boolean>());
+		s.add(p.poll());
+		s.add(p.poll());
+		assertTrue(s.contains(s1));
+		assertTrue(s.contains(s2));
+		assertNull(p.poll());
+		assertEquals(0, p.getIdleCount());
+	}
+
+	@Test
+	public void a02_resetClearsWarnings() throws Exception {
+		SessionPool<BeanSession> p = new SessionPool<>(1);
+		BeanSession s = BeanContext.DEFAULT.createSession();
+		s.addWarning("foo");
+		assertTrue(s.hasWarnings());
+		p.offer(s);
+		assertFalse(p.poll().hasWarnings());
+	}
+
+	@Test
+	public void a03_nonReusableSessionsDiscarded() throws Exception {
+		SessionPool<SerializerSession> p = new SessionPool<>(1);
+		WriterSerializer ws = JsonSerializer.create().listener(SerializerListener.class).build();
+		assertFalse(p.offer(ws.createSession()));
+		assertNull(p.poll());
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void a04_invalidSize() throws Exception {
+		new SessionPool<BeanSession>(0);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Serializers
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Bean(properties="f1,f2,b")
+	public static class B {
+		public int f1 = 1;
+		public String f2 = "foo";
+		public B b;
+	}
+
+	@Test
+	public void b01_serializeWithPooledSessions() throws Exception {
+		WriterSerializer ws = JsonSerializer.create().ssq().sessionPoolSize(4).build();
+		for (int i = 0; i < 5; i++) {
+			assertEquals("{f1:1,f2:'foo'}", ws.serialize(new B()));
+			assertEquals("{f1:1,f2:'foo'}", ws.serializeToString(new B()));
+			StringBuilder sb = new StringBuilder();
+			ws.serialize(new B(), sb);
+			assertEquals("{f1:1,f2:'foo'}", sb.toString());
+		}
+	}
+
+	@Test
+	public void b02_recursionStateNotLeakedBetweenCalls() throws Exception {
+		WriterSerializer ws = JsonSerializer.create().ssq().detectRecursions().sessionPoolSize(1).build();
+		B b = new B();
+		b.b = b;
+		for (int i = 0; i < 3; i++) {
+			try {
+				ws.serialize(b);
+				fail();
+			} catch (SerializeException e) {
+				assertContains(e, "Recursion occurred");
+			}
+			B b2 = new B();
+			b2.b = new B();
+			assertEquals("{f1:1,f2:'foo',b:{f1:1,f2:'foo'}}", ws.serialize(b2));
+		}
+	}
+
+	@Xml(prefix="foo", namespace="http://foo")
+	public static class C {
+		public int f1 = 1;
+	}
+
+	@Test
+	public void b03_xmlNamespacesNotLeakedBetweenCalls() throws Exception {
+		WriterSerializer ws1 = XmlSerializer.create().sq().ns().build();
+		WriterSerializer ws2 = XmlSerializer.create().sq().ns().sessionPoolSize(1).build();
+		for (int i = 0; i < 3; i++) {
+			assertEquals(ws1.serialize(new C()), ws2.serialize(new C()));
+			assertEquals(ws1.serialize(new B()), ws2.serialize(new B()));
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Parsers
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_parseWithPooledSessions() throws Exception {
+		ReaderParser p = JsonParser.create().sessionPoolSize(4).build();
+		for (int i = 0; i < 5; i++) {
+			B b = p.parse("{f1:2,f2:'bar'}", B.class);
+			assertEquals(2, b.f1);
+			assertEquals("bar", b.f2);
+			assertObjectEquals("{a:1}", p.parseIntoMap("{a:1}", new ObjectMap(), String.class, Object.class));
+			assertObjectEquals("[1,2]", p.parseIntoCollection("[1,2]", new ObjectList(), Integer.class));
+		}
+	}
+
+	@Test
+	public void c02_parseErrorDoesNotPoisonPool() throws Exception {
+		ReaderParser p = JsonParser.create().sessionPoolSize(1).build();
+		for (int i = 0; i < 3; i++) {
+			try {
+				p.parse("{f1:'x'}", B.class);
+				fail();
+			} catch (ParseException e) {
+				// Expected.
+			}
+			assertEquals(3, p.parse("{f1:3}", B.class).f1);
+		}
+	}
+
+	@Test
+	public void c03_rdfModelNotLeakedBetweenCalls() throws Exception {
+		WriterSerializer s = RdfSerializer.create().xml().build();
+		ReaderParser p = RdfParser.create().xml().sessionPoolSize(4).build();
+		for (int i = 0; i < 3; i++) {
+			B b = new B();
+			b.f1 = i;
+			b.f2 = "x" + i;
+			B b2 = p.parse(s.serialize(b), B.class);
+			assertEquals(i, b2.f1);
+			assertEquals("x" + i, b2.f2);
+		}
+	}
+}
@@ -0,0 +1,91 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.config;
+
+import static org.junit.Assert.*;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.config.store.*;
+import org.junit.*;
+
+/**
+ * Measures the throughput of {@link Config#getString(String)} with many concurrent readers and an occasional writer.
+ */
+@Ignore
+@SuppressWarnings({"javadoc"})
+public class ConfigBenchmarkTest {
+
+	private static final int NUM_READERS = 32;
+	private static final int NUM_KEYS = 100;
+	private static final long WARMUP_MS = 2000;
+	private static final long RUN_MS = 5000;
+	private static final long WRITE_INTERVAL_MS = 10;
+
+	@Test
+	public void a01_concurrentGetString() throws Exception {
+		ConfigMemoryStore store = ConfigMemoryStore.create().build();
+		StringBuilder sb = new StringBuilder("[S]\n");
+		for (int i = 0; i < NUM_KEYS; i++)
+			sb.append("k").append(i).append(" = v").append(i).append('\n');
+		store.write("Benchmark.cfg", null, sb.toString());
+
+		final Config c = Config.create().store(store).name("Benchmark.cfg").build();
+		assertEquals("v1", c.getString("S/k1"));
+
+		run(c, WARMUP_MS);
+		long reads = run(c, RUN_MS);
+		System.err.println(String.format("Config.getString throughput with %d readers: %.0f reads/ms", NUM_READERS, (double)reads/RUN_MS)); // NOT DEBUG
+	}
+
+	private static long run(final Config c, long duration) throws Exception {
+		final AtomicBoolean stop = new AtomicBoolean();
+		final LongAdder reads = new LongAdder();
+		ExecutorService es = Executors.newFixedThreadPool(NUM_READERS + 1);
+		try {
+			for (int t = 0; t < NUM_READERS; t++) {
+				es.submit(new Callable<Void>() {
+					@Override /* Callable */
+					public Void call() throws Exception {
+						long count = 0;
+						for (int i = 0; ! stop.get(); i++) {
+							if (c.getString("S/k" + (i % NUM_KEYS)) == null)
+								throw new AssertionError("Missing value");
+							count++;
+						}
+						reads.add(count);
+						return null;
+					}
+				});
+			}
+			es.submit(new Callable<Void>() {
+				@Override /* Callable */
+				public Void call() throws Exception {
+					for (int i = 0; ! stop.get(); i++) {
+						c.set("S/w", i);
+						c.commit();
+						Thread.sleep(WRITE_INTERVAL_MS);
+					}
+					return null;
+				}
+			});
+			Thread.sleep(duration);
+			stop.set(true);
+		} finally {
+			es.shutdown();
+			es.awaitTermination(30, TimeUnit.SECONDS);
+		}
+		return reads.sum();
+	}
+}
@@ -45,6 +45,21 @@ public class ConfigImportsTest {
 		assertEquals("x = 2\n", ms.read("B"));
 	}
 
+	@Test
+	public void importedVars() throws Exception {
+		ConfigMemoryStore ms = ConfigMemoryStore.create().build();
+		ms.write("A", "", "x=1");
+		ms.write("B", "", "<A>\ny=$C{x}");
+		Config a = Config.create("A").store(ms).build();
+		Config b = Config.create("B").store(ms).build();
+		assertEquals("1", b.getString("y"));
+
+		a.set("x", "2");
+		assertEquals("2", b.getString("y"));
+		a.rollback();
+		assertEquals("1", b.getString("y"));
+	}
+
 	@Test
 	public void twoSimpleImports() throws Exception {
 		ConfigMemoryStore ms = ConfigMemoryStore.create().build();
@@ -1735,6 +1735,98 @@ public class ConfigTest {
 		}
 	}
 
+	//====================================================================================================
+	// Cached values
+	//====================================================================================================
+	@Test
+	public void testGetObjectCaching() throws Exception {
+		Config c = init("a={foo:'bar'}", "b=1", "c=[1,2]", "[S]", "a={foo:'baz'}");
+
+		ABean a = c.getObject("a", ABean.class);
+		assertEquals("bar", a.foo);
+		assertEquals("baz", c.getObject("S/a", ABean.class).foo);
+		assertEquals(1, (int)c.getObject("b", Integer.class));
+		assertEquals("1", c.getObject("b", String.class));
+		assertSame(c.getObject("b", Integer.class), c.getObject("b", Integer.class));
+
+		// Mutable values are never cached.
+		a.foo = "xxx";
+		assertNotSame(a, c.getObject("a", ABean.class));
+		assertEquals("bar", c.getObject("a", ABean.class).foo);
+		assertNotSame(c.getObject("c", List.class, Integer.class), c.getObject("c", List.class, Integer.class));
+
+		// Uncommitted changes.
+		c.set("a", "{foo:'qux'}");
+		assertEquals("qux", c.getObject("a", ABean.class).foo);
+		c.remove("b");
+		assertNull(c.getObject("b", Integer.class));
+
+		// Changes made to the underlying store.
+		c.rollback();
+		ConfigMemoryStore.DEFAULT.update("Test.cfg", "a={foo:'quux'}", "b=2");
+		assertEquals("quux", c.getObject("a", ABean.class).foo);
+		assertEquals(2, (int)c.getObject("b", Integer.class));
+		assertNull(c.getObject("S/a", ABean.class));
+	}
+
+	@Test
+	public void testGetObjectCachingWithVars() throws Exception {
+		Config c = init("a=$S{ConfigTest.a}");
+
+		System.setProperty("ConfigTest.a", "1");
+		assertEquals(1, (int)c.getObject("a", Integer.class));
+		System.setProperty("ConfigTest.a", "2");
+		assertEquals(2, (int)c.getObject("a", Integer.class));
+		System.clearProperty("ConfigTest.a");
+	}
+
+	@Test
+	public void testGetSectionAsInterfaceSetters() throws Exception {
+		Config c = init("[S]", "foo=bar");
+		BInterface b = c.getSectionAsInterface("S", BInterface.class);
+
+		assertEquals("bar", b.getFoo());
+		b.setFoo("baz");
+		assertEquals("baz", b.getFoo());
+		assertEquals("baz", c.getString("S/foo"));
+		b.setBar(123);
+		assertEquals(123, b.getBar());
+		assertEquals(123, c.getSectionAsInterface("S", BInterface.class).getBar());
+
+		try {
+			b.baz();
+			fail();
+		} catch (UnsupportedOperationException e) {}
+	}
+
+	public static interface BInterface {
+		String getFoo();
+		void setFoo(String foo);
+		int getBar();
+		void setBar(int bar);
+		void baz();
+	}
+
+	@Test
+	public void testConfigVarCaching() throws Exception {
+		Config cf = init("a=1", "b=$C{a}");
+		assertEquals("1", cf.getString("b"));
+		assertEquals("1", cf.getString("b"));
+
+		cf.set("a", "2");
+		assertEquals("2", cf.getString("b"));
+		cf.commit();
+		assertEquals("2", cf.getString("b"));
+
+		ConfigMemoryStore.DEFAULT.update("Test.cfg", "a=3", "b=$C{a}");
+		assertEquals("3", cf.getString("b"));
+
+		cf.set("a", "4");
+		assertEquals("4", cf.getString("b"));
+		cf.rollback();
+		assertEquals("3", cf.getString("b"));
+	}
+
 	@Test
 	public void testGetCandidateSystemDefaultConfigNames() {
 
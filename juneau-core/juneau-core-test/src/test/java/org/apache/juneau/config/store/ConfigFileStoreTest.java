@@ -15,6 +15,7 @@ package org.apache.juneau.config.store;
 import static org.junit.Assert.*;
 
 import java.io.*;
+import java.util.*;
 import java.util.concurrent.*;
 
 import org.apache.juneau.internal.*;
@@ -238,6 +239,177 @@ public class ConfigFileStoreTest {
 		assertFalse(cs.exists("Foox"));
 	}
 
+	@Test
+	public void testRewriteShorterContents() throws Exception {
+		ConfigFileStore fs = ConfigFileStore.create().directory(DIR).build();
+		assertNull(fs.write("X.cfg", null, "foobarbaz"));
+		assertNull(fs.write("X.cfg", "foobarbaz", "foo"));
+		assertEquals("foo", IOUtils.read(new File(DIR, "X.cfg")));
+	}
+
+	@Test
+	public void testJournal() throws Exception {
+		String c1 = "[A]\na = 1\n[B]\nb = 1\n", c2 = "[A]\na = 1\n[B]\nb = 2\n", c3 = "[B]\nb = 2\n[C]\nc = 3\n";
+		ConfigFileStore fs = ConfigFileStore.create().directory(DIR).journal(3).build();
+
+		assertNull(fs.write("X.cfg", null, c1));
+		assertFileNotExists("X.cfg.journal");
+
+		assertNull(fs.write("X.cfg", c1, c2));
+		assertEquals(c2, fs.read("X.cfg"));
+		assertEquals(c1, IOUtils.read(new File(DIR, "X.cfg")));
+		assertFileExists("X.cfg.journal");
+		assertNotNull(fs.write("X.cfg", c1, c3));
+
+		assertNull(fs.write("X.cfg", c2, c3));
+		assertEquals(c3, fs.read("X.cfg"));
+		assertEquals(c3, ConfigFileStore.create().directory(DIR).journal(3).build().read("X.cfg"));
+
+		// Third record triggers compaction.
+		assertNull(fs.write("X.cfg", c3, c1));
+		assertEquals(c1, IOUtils.read(new File(DIR, "X.cfg")));
+		assertFileNotExists("X.cfg.journal");
+
+		// Closing compacts pending records.
+		assertNull(fs.write("X.cfg", c1, c2));
+		assertFileExists("X.cfg.journal");
+		fs.close();
+		assertEquals(c2, IOUtils.read(new File(DIR, "X.cfg")));
+		assertFileNotExists("X.cfg.journal");
+
+		fs.write("X.cfg", c2, null);
+		assertFileNotExists("X.cfg");
+	}
+
+	@Test
+	public void testDeltaListener() throws Exception {
+		String c1 = "[A]\na = 1\n[B]\nb = 1\n", c2 = "[A]\na = 1\n[B]\nb = 2\n", c3 = "[B]\nb = 2\n[C]\nc = 3\n";
+		ConfigFileStore fs = ConfigFileStore.create().directory(DIR).journal(10).build();
+		final List<Set<String>> l = new ArrayList<>();
+		fs.register("X.cfg", new ConfigStoreDeltaListener() {
+			@Override
+			public void onChange(String contents) {
+				l.add(null);
+			}
+			@Override
+			public void onChange(String contents, Set<String> changedSections) {
+				l.add(changedSections);
+			}
+		});
+
+		fs.write("X.cfg", null, c1);
+		fs.read("X.cfg");
+		fs.write("X.cfg", c1, c2);
+		fs.write("X.cfg", c2, c3);
+		assertEquals("[null, [B], [C, A]]", l.toString());
+	}
+
+	@Test
+	public void testJournalListenerNewFile() throws Exception {
+		ConfigFileStore fs = ConfigFileStore.create().directory(DIR).journal(10).build();
+		final List<String> l = new ArrayList<>();
+		fs.register("X.cfg", new ConfigStoreListener() {
+			@Override
+			public void onChange(String contents) {
+				l.add(contents);
+			}
+		});
+
+		fs.write("X.cfg", null, "[A]\na = 1\n");
+		assertEquals("[[A]\na = 1\n]", l.toString());
+		assertEquals("[A]\na = 1\n", fs.read("X.cfg"));
+	}
+
+	@Test
+	public void testJournalListenerDuplicateSections() throws Exception {
+		String c1 = "[A]\na = 1\n", c2 = "[A]\na = 1\n[A]\na = 2\n", c3 = "[A]\na = 3\n[A]\na = 2\n";
+		ConfigFileStore fs = ConfigFileStore.create().directory(DIR).journal(10).build();
+		final List<String> l = new ArrayList<>();
+		fs.register("X.cfg", new ConfigStoreListener() {
+			@Override
+			public void onChange(String contents) {
+				l.add(contents);
+			}
+		});
+
+		// Sections can't be identified, so each write compacts the journal.
+		fs.write("X.cfg", null, c1);
+		fs.write("X.cfg", c1, c2);
+		fs.write("X.cfg", c2, c3);
+		assertEquals(Arrays.asList(c1, c2, c3), l);
+		assertEquals(c3, IOUtils.read(new File(DIR, "X.cfg")));
+		assertEquals(c3, fs.read("X.cfg"));
+	}
+
+	@Test
+	public void testShared() throws Exception {
+		ConfigFileStore fs1 = ConfigFileStore.create().directory(DIR).shared().build();
+		ConfigFileStore fs2 = ConfigFileStore.create().directory(DIR).shared().build();
+		ConfigFileStore fs3 = ConfigFileStore.create().directory(DIR).build();
+		assertSame(fs1, fs2);
+		assertNotSame(fs1, fs3);
+		assertSame(fs1.getMap("X.cfg"), fs2.getMap("X.cfg"));
+
+		// Only closed once every builder has released it.
+		fs1.close();
+		assertSame(fs2, ConfigFileStore.create().directory(DIR).shared().build());
+		fs2.close();
+		fs2.close();
+		assertNotSame(fs2, ConfigFileStore.create().directory(DIR).shared().build());
+	}
+
+	@Test
+	public void testSharedWatcher_LONGRUNNING() throws Exception {
+		ConfigFileStore fs1 = ConfigFileStore.create().directory(DIR).useWatcher().watcherSensitivity(WatcherSensitivity.HIGH).build();
+		ConfigFileStore fs2 = ConfigFileStore.create().directory(DIR).useWatcher().watcherSensitivity(WatcherSensitivity.HIGH).build();
+
+		final CountDownLatch latch = new CountDownLatch(2);
+		ConfigStoreListener l = new ConfigStoreListener() {
+			@Override
+			public void onChange(String contents) {
+				if ("xxx".equals(contents))
+					latch.countDown();
+			}
+		};
+		fs1.register("X.cfg", l);
+		fs2.register("X.cfg", l);
+		IOUtils.write(new File(DIR, "X.cfg"), new StringReader("xxx"));
+		if (! latch.await(10, TimeUnit.SECONDS))
+			throw new Exception("CountDownLatch never reached zero.");
+		fs1.close();
+		fs2.close();
+	}
+
+	@Test
+	public void testSharedWatcherFailingStore_LONGRUNNING() throws Exception {
+		ConfigFileStore fs1 = ConfigFileStore.create().directory(DIR).useWatcher().watcherSensitivity(WatcherSensitivity.HIGH).build();
+		ConfigFileStore fs2 = ConfigFileStore.create().directory(DIR).useWatcher().watcherSensitivity(WatcherSensitivity.HIGH).build();
+
+		final CountDownLatch latch = new CountDownLatch(2);
+		fs1.register("X.cfg", new ConfigStoreListener() {
+			@Override
+			public void onChange(String contents) {
+				throw new RuntimeException("Failing listener");
+			}
+		});
+		fs2.register("X.cfg", new ConfigStoreListener() {
+			@Override
+			public void onChange(String contents) {
+				if ("xxx".equals(contents) || "yyy".equals(contents))
+					latch.countDown();
+			}
+		});
+
+		// The watcher keeps notifying the other store and stays alive after the failure.
+		IOUtils.write(new File(DIR, "X.cfg"), new StringReader("xxx"));
+		Thread.sleep(2000);
+		IOUtils.write(new File(DIR, "X.cfg"), new StringReader("yyy"));
+		if (! latch.await(10, TimeUnit.SECONDS))
+			throw new Exception("CountDownLatch never reached zero.");
+		fs1.close();
+		fs2.close();
+	}
+
 	private void assertFileExists(String name) {
 		assertTrue(new File(DIR, name).exists());
 	}
@@ -0,0 +1,154 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.zip.*;
+
+import org.apache.juneau.internal.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+@SuppressWarnings({"javadoc"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class DeflaterEncoderTest {
+
+	private static final String TEXT;
+	static {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < 1000; i++)
+			sb.append("line ").append(i).append('\n');
+		TEXT = sb.toString();
+	}
+
+	private static byte[] encode(Encoder e, String s) throws Exception {
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		OutputStream os = e.getOutputStream(baos);
+		os.write(s.getBytes("UTF-8"));
+		((Finishable)os).finish();
+		return baos.toByteArray();
+	}
+
+	private static String decode(InputStream is) throws Exception {
+		return IOUtils.read(is, IOUtils.UTF8);
+	}
+
+	//====================================================================================================
+	// Formats
+	//====================================================================================================
+
+	@Test
+	public void a01_gzipRoundTrip() throws Exception {
+		GzipEncoder e = new GzipEncoder();
+		byte[] b = encode(e, TEXT);
+		assertTrue(b.length < TEXT.length());
+		assertEquals(TEXT, decode(new GZIPInputStream(new ByteArrayInputStream(b))));
+		assertEquals(TEXT, decode(e.getInputStream(new ByteArrayInputStream(b))));
+	}
+
+	@Test
+	public void a02_deflateRoundTrip() throws Exception {
+		DeflateEncoder e = new DeflateEncoder();
+		byte[] b = encode(e, TEXT);
+		assertTrue(b.length < TEXT.length());
+		assertEquals(TEXT, decode(new InflaterInputStream(new ByteArrayInputStream(b))));
+		assertEquals(TEXT, decode(e.getInputStream(new ByteArrayInputStream(b))));
+		assertArrayEquals(new String[]{"deflate"}, e.getCodings());
+	}
+
+	@Test
+	public void a03_levels() throws Exception {
+		byte[] fast = encode(new GzipEncoder(Deflater.BEST_SPEED, 0, 512, 0), TEXT);
+		byte[] none = encode(new GzipEncoder(Deflater.NO_COMPRESSION, 0, 512, 0), TEXT);
+		assertTrue(none.length > fast.length);
+		assertEquals(TEXT, decode(new GZIPInputStream(new ByteArrayInputStream(none))));
+	}
+
+	@Test
+	public void a04_emptyOutput() throws Exception {
+		assertEquals("", decode(new GZIPInputStream(new ByteArrayInputStream(encode(new GzipEncoder(), "")))));
+	}
+
+	@Test(expected=IllegalArgumentException.class)
+	public void a05_invalidLevel() throws Exception {
+		new GzipEncoder(10, 0, 512, 0);
+	}
+
+	//====================================================================================================
+	// Settings
+	//====================================================================================================
+
+	@Test
+	public void b01_settings() throws Exception {
+		GzipEncoder e = new GzipEncoder(3, 100, 1024, 4);
+		assertEquals(3, e.getLevel());
+		assertEquals(100, e.getMinimumSize());
+		assertEquals(1024, e.getBufferSize());
+		assertEquals(0, new GzipEncoder().getMinimumSize());
+		assertEquals(0, IdentityEncoder.INSTANCE.getMinimumSize());
+	}
+
+	//====================================================================================================
+	// Pooling
+	//====================================================================================================
+
+	@Test
+	public void c01_deflatersReused() throws Exception {
+		GzipEncoder e = new GzipEncoder(Deflater.DEFAULT_COMPRESSION, 0, 512, 2);
+		assertEquals(0, e.getIdleDeflaterCount());
+		for (int i = 0; i < 5; i++) {
+			assertEquals(TEXT, decode(new GZIPInputStream(new ByteArrayInputStream(encode(e, TEXT)))));
+			assertEquals(1, e.getIdleDeflaterCount());
+		}
+
+		// Concurrent streams allocate extra deflaters, and only the pool size is kept.
+		ByteArrayOutputStream[] baos = new ByteArrayOutputStream[3];
+		OutputStream[] os = new OutputStream[3];
+		for (int i = 0; i < 3; i++)
+			os[i] = e.getOutputStream(baos[i] = new ByteArrayOutputStream());
+		assertEquals(0, e.getIdleDeflaterCount());
+		for (int i = 0; i < 3; i++) {
+			os[i].write(TEXT.getBytes("UTF-8"));
+			os[i].close();
+			assertEquals(TEXT, decode(new GZIPInputStream(new ByteArrayInputStream(baos[i].toByteArray()))));
+		}
+		assertEquals(2, e.getIdleDeflaterCount());
+	}
+
+	@Test
+	public void c02_finishThenClose() throws Exception {
+		GzipEncoder e = new GzipEncoder(Deflater.DEFAULT_COMPRESSION, 0, 512, 2);
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		OutputStream os = e.getOutputStream(baos);
+		os.write(TEXT.getBytes("UTF-8"));
+		((Finishable)os).finish();
+		os.close();
+		assertEquals(1, e.getIdleDeflaterCount());
+		assertEquals(TEXT, decode(new GZIPInputStream(new ByteArrayInputStream(baos.toByteArray()))));
+		try {
+			os.write(1);
+			fail();
+		} catch (IOException ex) {
+			// Expected.
+		}
+	}
+
+	@Test
+	public void c03_noPool() throws Exception {
+		GzipEncoder e = new GzipEncoder(Deflater.DEFAULT_COMPRESSION, 0, 512, 0);
+		encode(e, TEXT);
+		assertEquals(0, e.getIdleDeflaterCount());
+	}
+}
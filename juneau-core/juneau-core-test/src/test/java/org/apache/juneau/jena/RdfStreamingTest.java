@@ -0,0 +1,123 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.jena;
+
+import static org.junit.Assert.*;
+import static org.apache.juneau.testutils.TestUtils.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.jena.annotation.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+import org.junit.*;
+
+/**
+ * Tests the {@link RdfSerializer#RDF_streaming} setting.
+ */
+public class RdfStreamingTest {
+
+	@Bean(properties="f1,f2,f3,f4,f5,f6,f7,f8")
+	public static class A {
+		public int f1;
+		public String f2;
+		public List<String> f3;
+		@Rdf(collectionFormat=RdfCollectionFormat.BAG) public List<Integer> f4;
+		@Rdf(collectionFormat=RdfCollectionFormat.LIST) public List<String> f5;
+		@Rdf(collectionFormat=RdfCollectionFormat.MULTI_VALUED) public List<String> f6;
+		public Map<String,Object> f7;
+		public A f8;
+
+		public A init() {
+			f1 = 1;
+			f2 = "foo \"bar\" \\ \n\té <baz>";
+			f3 = Arrays.asList("a","b",null,"c");
+			f4 = Arrays.asList(3,1,2);
+			f5 = Arrays.asList("x","y","z");
+			f6 = Arrays.asList("m1");
+			f7 = new ObjectMap().append("k1", "v1").append("k2", 2).append("k3", false);
+			f8 = new A();
+			f8.f1 = 2;
+			f8.f5 = new ArrayList<>();
+			return this;
+		}
+	}
+
+	private static <T> void testRoundTrip(RdfSerializerBuilder sb, Parser p, Object o, Class<T> c) throws Exception {
+		Serializer s1 = sb.build(), s2 = sb.streaming().build();
+		String r1 = s1.serialize(o).toString(), r2 = s2.serialize(o).toString();
+		assertEqualObjects(p.parse(r1, c), p.parse(r2, c));
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// N-Triple
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_ntriple_bean() throws Exception {
+		testRoundTrip(NTripleSerializer.create(), NTripleParser.DEFAULT, new A().init(), A.class);
+	}
+
+	@Test
+	public void a02_ntriple_rootValues() throws Exception {
+		testRoundTrip(NTripleSerializer.create(), NTripleParser.DEFAULT, "foo", String.class);
+		testRoundTrip(NTripleSerializer.create(), NTripleParser.DEFAULT, 123, Integer.class);
+		testRoundTrip(NTripleSerializer.create(), NTripleParser.DEFAULT, new ObjectMap("{a:1,b:'c'}"), ObjectMap.class);
+	}
+
+	@Test
+	public void a03_ntriple_collections() throws Exception {
+		A[] a = {new A().init(), new A().init()};
+		testRoundTrip(NTripleSerializer.create(), NTripleParser.DEFAULT, a, A[].class);
+		testRoundTrip(NTripleSerializer.create().collectionFormat(RdfCollectionFormat.BAG), NTripleParser.DEFAULT, a, A[].class);
+		testRoundTrip(NTripleSerializer.create().collectionFormat(RdfCollectionFormat.LIST), NTripleParser.create().collectionFormat(RdfCollectionFormat.LIST).build(), a, A[].class);
+	}
+
+	@Test
+	public void a04_ntriple_addRootProperty() throws Exception {
+		testRoundTrip(NTripleSerializer.create().addRootProperty(), NTripleParser.DEFAULT, new A().init(), A.class);
+	}
+
+	@Test
+	public void a05_ntriple_outputIsOneTriplePerLine() throws Exception {
+		String r = NTripleSerializer.create().streaming().build().serialize(new ObjectMap("{a:'b'}"));
+		assertEquals("_:b0 <http://www.apache.org/juneaubp/a> \"b\" .\n", r);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Turtle
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_turtle_bean() throws Exception {
+		testRoundTrip(TurtleSerializer.create(), TurtleParser.DEFAULT, new A().init(), A.class);
+	}
+
+	@Test
+	public void b02_turtle_prefixes() throws Exception {
+		String r = TurtleSerializer.create().streaming().build().serialize(new ObjectMap("{a:'b'}"));
+		assertContains(r, "@prefix jp: <http://www.apache.org/juneaubp/> .", "_:b0 jp:a \"b\" .");
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Other languages
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void c01_ignoredForRdfXml() throws Exception {
+		testRoundTrip(RdfSerializer.create().xml(), RdfXmlParser.DEFAULT, new A().init(), A.class);
+		assertContains(RdfSerializer.create().xml().streaming().build().serialize(new A().init()), "<rdf:RDF");
+	}
+}
@@ -21,6 +21,7 @@ import java.util.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.annotation.*;
+import org.apache.juneau.serializer.*;
 import org.apache.juneau.utils.*;
 import org.junit.*;
 
@@ -312,6 +313,43 @@ public class CommonTest {
 		public R1 r1;
 	}
 
+	//====================================================================================================
+	// Recursion in deep branches
+	//====================================================================================================
+	@Test
+	public void testRecursionDeepBranch() throws Exception {
+		WriterSerializer s = JsonSerializer.create().ssq().detectRecursions().maxDepth(1000).build();
+
+		// A long chain with the same leaf object referenced from two different branches is not recursion.
+		R4 leaf = new R4();
+		R4 top = new R4(), r = top;
+		for (int i = 0; i < 100; i++) {
+			r.sibling = leaf;
+			r.child = new R4();
+			r = r.child;
+		}
+		String json = s.serialize(top);
+		assertTrue(json.startsWith("{sibling:{},child:{sibling:{},child:"));
+
+		// Loop back to an object in the middle of a long branch.
+		r.child = top.child.child;
+		try {
+			s.serialize(top);
+			fail("Exception expected!");
+		} catch (Exception e) {
+			assertContains(e.getLocalizedMessage(), "Recursion occurred", "->[2] child:", "->[101] child:");
+		}
+
+		// Session state must not leak between calls.
+		r.child = null;
+		assertEquals(json, s.serialize(top));
+	}
+
+	@Bean(properties="sibling,child")
+	public static class R4 {
+		public R4 sibling, child;
+	}
+
 	//====================================================================================================
 	// Basic bean
 	//====================================================================================================
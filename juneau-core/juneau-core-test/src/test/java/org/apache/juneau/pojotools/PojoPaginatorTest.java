@@ -0,0 +1,68 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.pojotools;
+
+import static org.apache.juneau.testutils.TestUtils.*;
+import static org.junit.Assert.*;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.utils.*;
+import org.junit.*;
+
+/**
+ * Tests the PojoPaginator class.
+ */
+public class PojoPaginatorTest {
+
+	PojoPaginator p = new PojoPaginator();
+	BeanSession bs = BeanContext.DEFAULT.createBeanSession();
+
+	@Test
+	public void nullInput() {
+		assertNull(p.run(bs, null, new PageArgs(1, 1)));
+	}
+
+	@Test
+	public void nonCollection() {
+		assertEquals("foo", p.run(bs, "foo", new PageArgs(1, 1)));
+	}
+
+	@Test
+	public void list() {
+		List<String> in = AList.create("a","b","c","d","e");
+		assertObjectEquals("['b','c']", p.run(bs, in, new PageArgs(1, 2)));
+		assertObjectEquals("['d','e']", p.run(bs, in, new PageArgs(3, 10)));
+		assertObjectEquals("['c','d','e']", p.run(bs, in, new PageArgs(2, 0)));
+		assertObjectEquals("[]", p.run(bs, in, new PageArgs(10, 2)));
+	}
+
+	@Test
+	public void set() {
+		Set<String> in = ASet.create("a","b","c","d","e");
+		assertObjectEquals("['b','c']", p.run(bs, in, new PageArgs(1, 2)));
+	}
+
+	@Test
+	public void objectArray() {
+		Object in = new String[]{"a","b","c","d","e"};
+		assertObjectEquals("['b','c']", p.run(bs, in, new PageArgs(1, 2)));
+	}
+
+	@Test
+	public void primitiveArray() {
+		Object in = new int[]{1,2,3,4,5};
+		assertObjectEquals("[4,5]", p.run(bs, in, new PageArgs(3, 5)));
+	}
+}
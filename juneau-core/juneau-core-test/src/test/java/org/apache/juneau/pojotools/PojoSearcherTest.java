@@ -1012,6 +1012,33 @@ public class PojoSearcherTest {
 	// Other tests
 	//-----------------------------------------------------------------------------------------------------------------
 
+	@Test
+	public void e01_mixedRowTypes() throws Exception {
+		List<Object> in = AList.<Object>create(A.create("foo"), AMap.create("f","foo"), A.create("bar"), AMap.create("f","bar"), A.create("foo"));
+		assertObjectEquals("[{f:'foo'},{f:'foo'},{f:'foo'}]", run(in, "f=foo"));
+		assertObjectEquals("[{f:'bar'},{f:'bar'}]", run(in, "f=bar"));
+	}
+
+	@Test
+	public void e02_cachedPlanReused() throws Exception {
+		for (int i = 0; i < 3; i++) {
+			assertObjectEquals("[{f:'foo'}]", run(A_LIST, "f=foo"));
+			assertObjectEquals("[{f:'bar'},{f:'baz'}]", run(A_LIST, "f=b*"));
+		}
+	}
+
+	@Test
+	public void e03_parallelSearch() throws Exception {
+		List<A> in = new ArrayList<>();
+		for (int i = 0; i < 100; i++)
+			in.add(A.create("foo" + i));
+		PojoSearcher ps2 = new PojoSearcher(8, NumberMatcherFactory.DEFAULT, TimeMatcherFactory.DEFAULT, StringMatcherFactory.DEFAULT);
+		String expected = "[{f:'foo1'},{f:'foo10'},{f:'foo11'},{f:'foo12'},{f:'foo13'},{f:'foo14'},{f:'foo15'},{f:'foo16'},{f:'foo17'},{f:'foo18'},{f:'foo19'}]";
+		assertObjectEquals(expected, ps2.run(bs, in, create("f=foo1*")));
+		assertObjectEquals(expected, ps2.run(bs, in.toArray(new A[in.size()]), create("f=foo1*")));
+		assertObjectEquals(expected, run(in, "f=foo1*"));
+	}
+
 //	@Test
 //	public void noSearchArgs() {
 //		SearchArgs sa = new SearchArgs();
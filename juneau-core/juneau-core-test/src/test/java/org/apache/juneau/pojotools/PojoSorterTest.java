@@ -262,4 +262,30 @@ public class PojoSorterTest {
 		SortArgs sa = new SortArgs("f1-","f2+");
 		assertObjectEquals("[{f1:3,f2:1.0},{f1:3,f2:2.0},{f1:2,f2:1.0},{f1:2,f2:2.0},{f1:1,f2:1.0}]", p.run(bs, in, sa));
 	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Sort with limit.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void sortWithLimit() {
+		Object in = new C[]{C.create(1,1),C.create(3,2),C.create(3,1),C.create(2,1),C.create(2,2)};
+		SortArgs sa = new SortArgs("f1-","f2+");
+		assertObjectEquals("[{f1:3,f2:1.0},{f1:3,f2:2.0},{f1:2,f2:1.0}]", p.run(bs, in, sa, 3));
+		assertObjectEquals("[{f1:3,f2:1.0},{f1:3,f2:2.0},{f1:2,f2:1.0},{f1:2,f2:2.0},{f1:1,f2:1.0}]", p.run(bs, in, sa, 10));
+	}
+
+	@Test
+	public void sortWithLimit_stable() {
+		Object in = new C[]{C.create(2,1),C.create(1,2),C.create(2,3),C.create(1,4),C.create(2,5)};
+		SortArgs sa = new SortArgs("f1");
+		assertObjectEquals("[{f1:1,f2:2.0},{f1:1,f2:4.0},{f1:2,f2:1.0}]", p.run(bs, in, sa, 3));
+	}
+
+	@Test
+	public void sortWithLimit_nulls() {
+		Object in = AList.create(A.create("c"),null,A.create("a"),A.create("b"));
+		SortArgs sa = new SortArgs("f");
+		assertObjectEquals("[null,{f:'a'}]", p.run(bs, in, sa, 2));
+	}
 }
@@ -136,6 +136,19 @@ public class ClassInfoTest {
 		check(null, of((Object)null));
 	}
 
+	@Test
+	public void ofTypeCanonical() throws Exception {
+		assertSame(of(A1.class), of(A1.class));
+		assertSame(of(A1.class), of(aType));
+		assertSame(of(A1.class), of(new A1()));
+		assertSame(of(A1.class), of(A1.class, A1.class));
+		assertNotSame(of(pType), of(pType));
+		assertSame(of(ClassInfoTest.class).getDeclaredMethods().get(0), of(ClassInfoTest.class).getDeclaredMethods().get(0));
+		assertSame(MethodInfo.of(Object.class.getMethod("toString")), MethodInfo.of(Object.class.getMethod("toString")));
+		assertSame(ConstructorInfo.of(A1.class.getConstructor(ClassInfoTest.class)), of(A1.class).getPublicConstructors().get(0));
+		assertSame(FieldInfo.of(ClassInfoTest.class.getField("aType")), FieldInfo.of(ClassInfoTest.class.getField("aType")));
+	}
+
 	@Test
 	public void inner() {
 		assertTrue(of(A1.class).inner() instanceof Class);
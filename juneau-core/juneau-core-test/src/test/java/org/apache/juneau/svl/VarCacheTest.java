@@ -0,0 +1,170 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.svl;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.concurrent.*;
+
+import org.junit.*;
+
+public class VarCacheTest {
+
+	public static class FVar extends SimpleVar {
+		static int count;
+		public FVar() {
+			super("F");
+		}
+		@Override
+		public String resolve(VarResolverSession session, String arg) throws Exception {
+			return "f" + arg + (++count);
+		}
+		@Override
+		protected VarCachePolicy getCachePolicy() {
+			return VarCachePolicy.FOREVER;
+		}
+	}
+
+	public static class TVar extends SimpleVar {
+		static int count;
+		public TVar() {
+			super("T");
+		}
+		@Override
+		public String resolve(VarResolverSession session, String arg) throws Exception {
+			return "t" + arg + (++count);
+		}
+		@Override
+		protected VarCachePolicy getCachePolicy() {
+			return VarCachePolicy.ttl(50, TimeUnit.MILLISECONDS);
+		}
+	}
+
+	public static class CVar extends SimpleVar {
+		static int count;
+		public CVar() {
+			super("C");
+		}
+		@Override
+		public String resolve(VarResolverSession session, String arg) throws Exception {
+			return session.getSessionObject(String.class, "scope", true) + arg + (++count);
+		}
+		@Override
+		protected VarCachePolicy getCachePolicy() {
+			return VarCachePolicy.ON_CHANGE;
+		}
+		@Override
+		protected Object getCacheScope(VarResolverSession session) {
+			return session.getSessionObject(String.class, "scope", false);
+		}
+	}
+
+	public static class WVar extends StreamedVar {
+		static int count;
+		public WVar() {
+			super("W");
+		}
+		@Override
+		public void resolveTo(VarResolverSession session, Writer w, String arg) throws Exception {
+			w.append('[').append(arg).append(String.valueOf(++count)).append(']');
+		}
+		@Override
+		protected VarCachePolicy getCachePolicy() {
+			return VarCachePolicy.FOREVER;
+		}
+	}
+
+	public static class XVar extends SimpleVar {
+		public XVar() {
+			super("X");
+		}
+		@Override
+		public String resolve(VarResolverSession session, String arg) throws Exception {
+			return 'x' + arg + 'x';
+		}
+	}
+
+	@Test
+	public void a01_forever() throws Exception {
+		VarResolver vr = VarResolver.create().vars(FVar.class, WVar.class, XVar.class).build();
+		FVar.count = 0;
+		assertEquals("fa1", vr.resolve("$F{a}"));
+		assertEquals("fa1", vr.resolve("$F{a}"));
+		assertEquals("-fa1-", vr.resolve("-$F{a}-"));
+		assertEquals("fb2", vr.resolve("$F{b}"));
+		assertEquals("fxax3", vr.resolve("$F{$X{a}}"));
+		assertEquals("fxax3", vr.resolve("$F{$X{a}}"));
+
+		WVar.count = 0;
+		assertEquals("[a1]", vr.resolve("$W{a}"));
+		assertEquals("-[a1]-", vr.resolve("-$W{a}-"));
+		StringWriter sw = new StringWriter();
+		vr.resolveTo("-$W{a}-", sw);
+		assertEquals("-[a1]-", sw.toString());
+
+		// Values are cached per resolver.
+		VarResolver vr2 = VarResolver.create().vars(FVar.class).build();
+		assertEquals("fa4", vr2.resolve("$F{a}"));
+		assertEquals("fa1", vr.resolve("$F{a}"));
+	}
+
+	@Test
+	public void a02_ttl() throws Exception {
+		VarResolver vr = VarResolver.create().vars(TVar.class).build();
+		TVar.count = 0;
+		assertEquals("ta1", vr.resolve("$T{a}"));
+		assertEquals("ta1", vr.resolve("$T{a}"));
+		Thread.sleep(100);
+		assertEquals("ta2", vr.resolve("$T{a}"));
+		assertEquals("ta2", vr.resolve("$T{a}"));
+	}
+
+	@Test
+	public void a03_onChange() throws Exception {
+		VarResolver vr = VarResolver.create().vars(CVar.class, FVar.class).build();
+		CVar.count = 0;
+		FVar.count = 0;
+		assertEquals("xa1", vr.createSession().sessionObject("scope", "x").resolve("$C{a}"));
+		assertEquals("xa1", vr.createSession().sessionObject("scope", "x").resolve("$C{a}"));
+		assertEquals("ya2", vr.createSession().sessionObject("scope", "y").resolve("$C{a}"));
+		assertEquals("fa1", vr.resolve("$F{a}"));
+
+		vr.invalidateCache();
+		assertEquals("xa3", vr.createSession().sessionObject("scope", "x").resolve("$C{a}"));
+		assertEquals("fa1", vr.resolve("$F{a}"));
+
+		vr.createSession().invalidateCache();
+		assertEquals("xa4", vr.createSession().sessionObject("scope", "x").resolve("$C{a}"));
+	}
+
+	@Test
+	public void a04_metrics() throws Exception {
+		VarResolver vr = VarResolver.create().vars(FVar.class, XVar.class).build();
+		for (int i = 0; i < 5; i++)
+			vr.resolve("$F{a}$X{b}");
+
+		VarMetrics m = vr.getMetrics().get("F");
+		assertEquals("F", m.getName());
+		assertEquals(1, m.getEvaluations());
+		assertEquals(4, m.getHits());
+
+		m = vr.getMetrics().get("X");
+		assertEquals(5, m.getEvaluations());
+		assertEquals(0, m.getHits());
+		assertTrue(m.getEvaluationTime(TimeUnit.NANOSECONDS) > 0);
+		assertTrue(m.toString().startsWith("$X: evaluations=5, hits=0, time="));
+
+		assertEquals("[F, X]", vr.getMetrics().keySet().toString());
+	}
+}
@@ -0,0 +1,165 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.svl;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+
+import org.junit.*;
+
+public class VarTemplateTest {
+
+	public static class XVar extends SimpleVar {
+		public XVar() {
+			super("X");
+		}
+		@Override
+		public String resolve(VarResolverSession session, String arg) throws Exception {
+			return 'x' + arg + 'x';
+		}
+	}
+
+	public static class YVar extends SimpleVar {
+		public YVar() {
+			super("Y");
+		}
+		@Override
+		public String resolve(VarResolverSession session, String arg) throws Exception {
+			return "$X{" + arg + "}";
+		}
+	}
+
+	public static class WVar extends StreamedVar {
+		public WVar() {
+			super("W");
+		}
+		@Override
+		public void resolveTo(VarResolverSession session, Writer w, String arg) throws Exception {
+			w.append('[').append(arg).append(']');
+		}
+	}
+
+	public static class SVar extends SimpleVar {
+		public SVar() {
+			super("S");
+		}
+		@Override
+		public String resolve(VarResolverSession session, String arg) throws Exception {
+			return session.getSessionObject(String.class, arg, true);
+		}
+	}
+
+	public static class CVar extends SimpleVar {
+		static int count;
+		public CVar() {
+			super("C");
+		}
+		@Override
+		public String resolve(VarResolverSession session, String arg) throws Exception {
+			count++;
+			return 'c' + arg + 'c';
+		}
+		@Override
+		protected boolean isStatic() {
+			return true;
+		}
+	}
+
+	private static VarResolver vr = VarResolver.create().vars(XVar.class, YVar.class, WVar.class, SVar.class).build();
+
+	private void test(String s, String expected) throws Exception {
+		VarTemplate t = vr.compile(s);
+		assertEquals(expected, t.resolve(vr.createSession()));
+		assertEquals(expected, t.resolveTo(vr.createSession(), new StringWriter()).toString());
+		assertEquals(expected, vr.resolve(s));
+	}
+
+	@Test
+	public void a01_resolve() throws Exception {
+		test("foo", "foo");
+		test("$X{foo}", "xfoox");
+		test("a$X{foo}b$X{bar}c", "axfooxbxbarxc");
+		test("$X{$X{foo}}", "xxfooxx");
+		test("$Y{foo}", "xfoox");
+		test("$W{foo}", "[foo]");
+		test("a$W{$X{foo}}b", "a[xfoox]b");
+		test("$Z{foo}", "$Z{foo}");
+		test("a$Z{foo}b", "a$Z{foo}b");
+		test("\\$X{foo}", "$X{foo}");
+		test("$X{a\\,b}", "xa\\,bx");
+		test("$X{foo", "$X{foo");
+		test("$X foo", "$X foo");
+	}
+
+	@Test
+	public void a02_constant() throws Exception {
+		assertTrue(vr.compile("foo").isConstant());
+		assertTrue(vr.compile("a\\$b").isConstant());
+		assertTrue(vr.compile("$Z{foo}").isConstant());
+		assertFalse(vr.compile("$X{foo}").isConstant());
+		assertFalse(vr.compile("a$X{foo}").isConstant());
+		assertEquals("a$X{foo}", vr.compile("a$X{foo}").getSource());
+	}
+
+	@Test
+	public void a03_cached() throws Exception {
+		assertSame(vr.compile("a$X{foo}"), vr.compile("a$X{foo}"));
+		assertNotSame(vr.compile("a$X{foo}"), VarResolver.create().vars(XVar.class).build().compile("a$X{foo}"));
+	}
+
+	@Test
+	public void a04_sessionObjects() throws Exception {
+		VarTemplate t = vr.compile("a$S{foo}b");
+		assertEquals("a1b", t.resolve(vr.createSession().sessionObject("foo", "1")));
+		assertEquals("a2b", t.resolve(vr.createSession().sessionObject("foo", "2")));
+		try {
+			t.resolve(vr.createSession());
+			fail();
+		} catch (VarResolverException e) {
+			assertEquals("Session object 'foo' or context object 'SvlContext.foo' not found.", e.getLocalizedMessage());
+		}
+	}
+
+	@Test
+	public void a05_resolveStatic() throws Exception {
+		VarResolver vr = VarResolver.create().vars(CVar.class, SVar.class, XVar.class).build();
+		VarResolverSession vs = vr.createSession();
+
+		assertEquals("cfooc", vr.compile("$C{foo}").resolveStatic(vs).resolve(null));
+		assertTrue(vr.compile("a$C{$C{foo}}b").resolveStatic(vs).isConstant());
+		assertEquals("accfooccb", vr.compile("a$C{$C{foo}}b").resolveStatic(vs).resolve(null));
+		assertFalse(vr.compile("$C{$S{foo}}").resolveStatic(vs).isConstant());
+		assertFalse(vr.compile("$X{foo}").resolveStatic(vs).isConstant());
+
+		VarTemplate t = vr.compile("a$C{foo}b$S{bar}c").resolveStatic(vs);
+		CVar.count = 0;
+		assertEquals("acfoocb1c", t.resolve(vr.createSession().sessionObject("bar", "1")));
+		assertEquals("acfoocb2c", t.resolve(vr.createSession().sessionObject("bar", "2")));
+		assertEquals(0, CVar.count);
+
+		t = vr.compile("$C{$S{bar}}").resolveStatic(vs);
+		assertEquals("c1c", t.resolve(vr.createSession().sessionObject("bar", "1")));
+		assertEquals(1, CVar.count);
+	}
+
+	@Test
+	public void a06_precompile() throws Exception {
+		VarResolver vr = VarResolver.create().vars(CVar.class, SVar.class).build();
+		VarTemplate t = vr.createSession().precompile("a$C{foo}b$S{bar}c");
+		assertSame(t, vr.compile("a$C{foo}b$S{bar}c"));
+		CVar.count = 0;
+		assertEquals("acfoocb1c", vr.createSession().sessionObject("bar", "1").resolve("a$C{foo}b$S{bar}c"));
+		assertEquals(0, CVar.count);
+	}
+}
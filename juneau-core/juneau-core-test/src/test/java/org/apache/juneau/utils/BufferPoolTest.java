@@ -0,0 +1,79 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.utils;
+
+import static org.junit.Assert.*;
+
+import org.apache.juneau.internal.*;
+import org.junit.*;
+
+public class BufferPoolTest {
+
+	@Test
+	public void a01_stringBuilders() throws Exception {
+		StringBuilder sb1 = BufferPool.getStringBuilder();
+		sb1.append("foo");
+		assertEquals("foo", BufferPool.toStringAndReturn(sb1));
+
+		StringBuilder sb2 = BufferPool.getStringBuilder();
+		assertSame(sb1, sb2);
+		assertEquals(0, sb2.length());
+
+		// Builders returned twice are only pooled once.
+		BufferPool.returnStringBuilder(sb2);
+		BufferPool.returnStringBuilder(sb2);
+		assertSame(sb2, BufferPool.getStringBuilder());
+		assertNotSame(sb2, BufferPool.getStringBuilder());
+
+		// Large builders are discarded.
+		StringBuilder sb3 = BufferPool.getStringBuilder(BufferPool.MAX_BUFFER_SIZE + 1);
+		BufferPool.returnStringBuilder(sb3);
+		assertNotSame(sb3, BufferPool.getStringBuilder());
+	}
+
+	@Test
+	public void a02_charBuffers() throws Exception {
+		char[] c1 = BufferPool.getCharBuffer(10);
+		assertEquals(BufferPool.CHAR_BUFFER_SIZE, c1.length);
+		BufferPool.returnCharBuffer(c1);
+		assertSame(c1, BufferPool.getCharBuffer(10));
+
+		// Pooled buffers that are too small aren't returned.
+		BufferPool.returnCharBuffer(c1);
+		char[] c2 = BufferPool.getCharBuffer(BufferPool.CHAR_BUFFER_SIZE * 2);
+		assertEquals(BufferPool.CHAR_BUFFER_SIZE * 2, c2.length);
+		assertSame(c1, BufferPool.getCharBuffer(10));
+
+		// Large buffers are discarded.
+		char[] c3 = BufferPool.getCharBuffer(BufferPool.MAX_BUFFER_SIZE + 1);
+		BufferPool.returnCharBuffer(c3);
+		assertNotSame(c3, BufferPool.getCharBuffer(BufferPool.MAX_BUFFER_SIZE + 1));
+	}
+
+	@Test
+	public void a03_threadConfined() throws Exception {
+		final StringBuilder sb = BufferPool.getStringBuilder();
+		BufferPool.returnStringBuilder(sb);
+		final StringBuilder[] other = new StringBuilder[1];
+		Thread t = new Thread() {
+			@Override /* Thread */
+			public void run() {
+				other[0] = BufferPool.getStringBuilder();
+			}
+		};
+		t.start();
+		t.join();
+		assertNotSame(sb, other[0]);
+		assertSame(sb, BufferPool.getStringBuilder());
+	}
+}
@@ -68,6 +68,18 @@ public class RdfParserSession extends ReaderParserSession {
 		}
 	}
 
+	@Override /* Session */
+	protected boolean reset() {
+		urisVisited.clear();
+		// Drop the triples and any prefixes read from the previous document.
+		model.removeAll();
+		for (String prefix : new ArrayList<>(model.getNsPrefixMap().keySet()))
+			model.removeNsPrefix(prefix);
+		addModelPrefix(ctx.getJuneauNs());
+		addModelPrefix(ctx.getJuneauBpNs());
+		return super.reset();
+	}
+
 	@Override /* Session */
 	public ObjectMap asMap() {
 		return super.asMap()
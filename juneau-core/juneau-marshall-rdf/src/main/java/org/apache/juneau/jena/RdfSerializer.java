@@ -175,6 +175,45 @@ public class RdfSerializer extends WriterSerializer implements RdfCommon {
 	 */
 	public static final String RDF_namespaces = PREFIX + "namespaces.ls";
 
+	/**
+	 * Configuration property:  Stream triples directly to the output.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RdfSerializer.streaming.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RdfSerializerBuilder#streaming(boolean)}
+	 * 			<li class='jm'>{@link RdfSerializerBuilder#streaming()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When enabled, the N-Triple and Turtle serializers write each triple to the output as soon as it is produced
+	 * instead of first building an in-memory Jena model of the entire graph.
+	 * <br>Memory usage is then bounded by the depth of the POJO being serialized instead of its size, which is useful
+	 * for large exports.
+	 *
+	 * <p>
+	 * Streamed output contains one triple per line in document order.
+	 * <br>In Turtle, namespace prefixes are declared as they are first encountered, up to a fixed limit of 100 prefixes.
+	 * <br>Blank nodes are labeled sequentially.
+	 *
+	 * <p>
+	 * This setting is ignored for the RDF/XML and N3 languages.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	WriterSerializer s = NTripleSerializer.<jsm>create</jsm>().streaming().build();
+	 * 	s.serialize(largeCollectionOfBeans, writer);
+	 * </p>
+	 */
+	public static final String RDF_streaming = PREFIX + "streaming.b";
+
 	//-------------------------------------------------------------------------------------------------------------------
 	// Instance
 	//-------------------------------------------------------------------------------------------------------------------
@@ -185,7 +224,8 @@ public class RdfSerializer extends WriterSerializer implements RdfCommon {
 		useXmlNamespaces,
 		looseCollections,
 		autoDetectNamespaces,
-		addBeanTypes;
+		addBeanTypes,
+		streaming;
 	private final String rdfLanguage;
 	private final Namespace juneauNs;
 	private final Namespace juneauBpNs;
@@ -232,6 +272,7 @@ public class RdfSerializer extends WriterSerializer implements RdfCommon {
 		collectionFormat = getProperty(RDF_collectionFormat, RdfCollectionFormat.class, RdfCollectionFormat.DEFAULT);
 		namespaces = getProperty(RDF_namespaces, Namespace[].class, new Namespace[0]);
 		addBeanTypes = getBooleanProperty(RDF_addBeanTypes, getBooleanProperty(SERIALIZER_addBeanTypes, false));
+		streaming = getBooleanProperty(RDF_streaming, false);
 
 		Map<String,Object> m = new LinkedHashMap<>();
 		for (String k : getPropertyKeys("RdfCommon"))
@@ -352,6 +393,18 @@ public class RdfSerializer extends WriterSerializer implements RdfCommon {
 		return addBeanTypes;
 	}
 
+	/**
+	 * Configuration property:  Stream triples directly to the output.
+	 *
+	 * @see #RDF_streaming
+	 * @return
+	 * 	<jk>true</jk> if N-Triple and Turtle output is written as triples are produced instead of through an in-memory
+	 * 	model.
+	 */
+	protected final boolean isStreaming() {
+		return streaming;
+	}
+
 	/**
 	 * Configuration property:  RDF language.
 	 *
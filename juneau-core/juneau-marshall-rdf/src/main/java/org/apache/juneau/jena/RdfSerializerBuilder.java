@@ -367,6 +367,44 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return language(Constants.LANG_TURTLE);
 	}
 
+	/**
+	 * Configuration property:  Stream triples directly to the output.
+	 *
+	 * <p>
+	 * When enabled, the N-Triple and Turtle serializers write each triple to the output as soon as it is produced
+	 * instead of first building an in-memory model of the entire graph.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RdfSerializer#RDF_streaming}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public RdfSerializerBuilder streaming(boolean value) {
+		return set(RDF_streaming, value);
+	}
+
+	/**
+	 * Configuration property:  Stream triples directly to the output.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>streaming(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RdfSerializer#RDF_streaming}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public RdfSerializerBuilder streaming() {
+		return set(RDF_streaming, true);
+	}
+
 	/**
 	 * Configuration property:  Reuse XML namespaces when RDF namespaces not specified.
 	 *
@@ -518,6 +556,12 @@ public class RdfSerializerBuilder extends WriterSerializerBuilder {
 		return this;
 	}
 
+	@Override /* SerializerBuilder */
+	public RdfSerializerBuilder sessionPoolSize(int value) {
+		super.sessionPoolSize(value);
+		return this;
+	}
+
 	@Override /* SerializerBuilder */
 	public RdfSerializerBuilder maxDepth(int value) {
 		super.maxDepth(value);
@@ -15,9 +15,11 @@ package org.apache.juneau.jena;
 import static org.apache.juneau.jena.Constants.*;
 import static org.apache.juneau.jena.RdfSerializer.*;
 
+import java.io.*;
 import java.util.*;
 
 import org.apache.jena.rdf.model.*;
+import org.apache.jena.vocabulary.*;
 import org.apache.juneau.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.jena.annotation.*;
@@ -41,6 +43,11 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 	private final Model model;
 	private final RDFWriter writer;
 	private final Namespace[] namespaces;
+	private final boolean streaming, turtle;
+
+	// Only set during streaming serialization.
+	private RdfStreamWriter stream;
+	private int blankNodeCount;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -60,13 +67,15 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 
 		namespaces = getInstanceArrayProperty(RDF_namespaces, Namespace.class, ctx.namespaces);
 		model = ModelFactory.createDefaultModel();
-		addModelPrefix(ctx.getJuneauNs());
-		addModelPrefix(ctx.getJuneauBpNs());
+		model.setNsPrefix(ctx.getJuneauNs().getName(), ctx.getJuneauNs().getUri());
+		model.setNsPrefix(ctx.getJuneauBpNs().getName(), ctx.getJuneauBpNs().getUri());
 		for (Namespace ns : this.namespaces)
-			addModelPrefix(ns);
+			model.setNsPrefix(ns.getName(), ns.getUri());
 		pRoot = model.createProperty(ctx.getJuneauNs().getUri(), RDF_juneauNs_ROOT);
 		pValue = model.createProperty(ctx.getJuneauNs().getUri(), RDF_juneauNs_VALUE);
 		writer = model.getWriter(ctx.getRdfLanguage());
+		turtle = LANG_TURTLE.equals(ctx.getRdfLanguage());
+		streaming = ctx.isStreaming() && (turtle || LANG_NTRIPLE.equals(ctx.getRdfLanguage()));
 
 		// Only apply properties with this prefix!
 		String propPrefix = RdfCommon.LANG_PROP_MAP.get(ctx.getRdfLanguage());
@@ -88,6 +97,14 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 				writer.setProperty(k.substring(15 + propPrefix.length()), getProperty(k));
 	}
 
+	@Override /* Session */
+	protected boolean reset() {
+		model.removeAll();
+		stream = null;
+		blankNodeCount = 0;
+		return super.reset();
+	}
+
 	@Override /* Session */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -97,9 +114,33 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 
 	/*
 	 * Adds the specified namespace as a model prefix.
+	 * When streaming, the prefix is written to the output instead of being added to the model.
+	 */
+	private void addModelPrefix(Namespace ns) throws IOException {
+		if (stream != null)
+			stream.prefix(ns.getName(), ns.getUri());
+		else
+			model.setNsPrefix(ns.getName(), ns.getUri());
+	}
+
+	/*
+	 * Creates a resource with the specified URI, or a blank node if the URI is null.
+	 * When streaming, blank nodes are given sequential labels.
+	 */
+	private Resource createResource(String uri) {
+		if (uri == null && stream != null)
+			return model.createResource(AnonId.create("b" + (blankNodeCount++)));
+		return model.createResource(uri);
+	}
+
+	/*
+	 * Adds a statement to the model, or writes it to the output when streaming.
 	 */
-	private void addModelPrefix(Namespace ns) {
-		model.setNsPrefix(ns.getName(), ns.getUri());
+	private void addProperty(Resource r, Property p, RDFNode n) throws Exception {
+		if (stream != null)
+			stream.triple(r, p, n);
+		else
+			r.addProperty(p, n);
 	}
 
 	/*
@@ -124,6 +165,12 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 
 		Resource r = null;
 
+		if (streaming) {
+			stream = new RdfStreamWriter(out.getWriter(), turtle);
+			for (Map.Entry<String,String> e : model.getNsPrefixMap().entrySet())
+				stream.prefix(e.getKey(), e.getValue());
+		}
+
 		ClassMeta<?> cm = getClassMetaForObject(o);
 		if (isLooseCollections() && cm != null && cm.isCollectionOrArray()) {
 			Collection c = sort(cm.isCollection() ? (Collection)o : toList(cm.getInnerClass(), o));
@@ -132,17 +179,20 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 		} else {
 			RDFNode n = serializeAnything(o, false, getExpectedRootType(o), "root", null, null);
 			if (n.isLiteral()) {
-				r = model.createResource();
-				r.addProperty(pValue, n);
+				r = createResource(null);
+				addProperty(r, pValue, n);
 			} else {
 				r = n.asResource();
 			}
 
 			if (isAddRootProp())
-				r.addProperty(pRoot, "true");
+				addProperty(r, pRoot, model.createLiteral("true"));
 		}
 
-		writer.write(model, out.getWriter(), "http://unknown/");
+		if (stream != null)
+			stream.flush();
+		else
+			writer.write(model, out.getWriter(), "http://unknown/");
 	}
 
 	private RDFNode serializeAnything(Object o, boolean isURI, ClassMeta<?> eType,
@@ -195,17 +245,17 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 		if (o == null || sType.isChar() && ((Character)o).charValue() == 0) {
 			if (bpm != null) {
 				if (! isTrimNullProperties()) {
-					n = m.createResource(RDF_NIL);
+					n = createResource(RDF_NIL);
 				}
 			} else {
-				n = m.createResource(RDF_NIL);
+				n = createResource(RDF_NIL);
 			}
 
 		} else if (sType.isUri() || isURI) {
 			// Note that RDF URIs must be absolute to be valid!
 			String uri = getUri(o, null);
 			if (StringUtils.isAbsoluteUri(uri))
-				n = m.createResource(uri);
+				n = createResource(uri);
 			else
 				n = m.createLiteral(encodeTextInvalidChars(uri));
 
@@ -226,11 +276,11 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 				if (rbm.hasBeanUri())
 					uri = rbm.getBeanUriProperty().get(bm, null);
 				String uri2 = getUri(uri, null);
-				n = m.createResource(uri2);
+				n = createResource(uri2);
 				serializeBeanMap(bm, (Resource)n, typeName);
 			} else {
 				Map m2 = (Map)o;
-				n = m.createResource();
+				n = createResource(null);
 				serializeMap(m2, (Resource)n, sType);
 			}
 
@@ -241,7 +291,7 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 			if (rbm.hasBeanUri())
 				uri = rbm.getBeanUriProperty().get(bm, null);
 			String uri2 = getUri(uri, null);
-			n = m.createResource(uri2);
+			n = createResource(uri2);
 			serializeBeanMap(bm, (Resource)n, typeName);
 
 		} else if (sType.isCollectionOrArray() || (wType != null && wType.isCollection())) {
@@ -256,11 +306,20 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 			if (bpRdf.getCollectionFormat() != RdfCollectionFormat.DEFAULT)
 				f = bpRdf.getCollectionFormat();
 
-			switch (f) {
-				case BAG: n = serializeToContainer(c, eType, m.createBag()); break;
-				case LIST: n = serializeToList(c, eType); break;
-				case MULTI_VALUED: serializeToMultiProperties(c, eType, bpm, attrName, parentResource); break;
-				default: n = serializeToContainer(c, eType, m.createSeq());
+			if (stream != null) {
+				switch (f) {
+					case BAG: n = streamContainer(c, eType, RDF.Bag); break;
+					case LIST: n = streamList(c, eType); break;
+					case MULTI_VALUED: serializeToMultiProperties(c, eType, bpm, attrName, parentResource); break;
+					default: n = streamContainer(c, eType, RDF.Seq);
+				}
+			} else {
+				switch (f) {
+					case BAG: n = serializeToContainer(c, eType, m.createBag()); break;
+					case LIST: n = serializeToList(c, eType); break;
+					case MULTI_VALUED: serializeToMultiProperties(c, eType, bpm, attrName, parentResource); break;
+					default: n = serializeToContainer(c, eType, m.createSeq());
+				}
 			}
 
 		} else if (sType.isReader() || sType.isInputStream()) {
@@ -293,7 +352,8 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 		ClassMeta<?> keyType = type.getKeyType(), valueType = type.getValueType();
 
 		ArrayList<Map.Entry<Object,Object>> l = new ArrayList<>(m.entrySet());
-		Collections.reverse(l);
+		if (stream == null)
+			Collections.reverse(l);
 		for (Map.Entry<Object,Object> me : l) {
 			Object value = me.getValue();
 
@@ -303,13 +363,14 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 			Property p = model.createProperty(ns.getUri(), encodeElementName(toString(key)));
 			RDFNode n = serializeAnything(value, false, valueType, toString(key), null, r);
 			if (n != null)
-				r.addProperty(p, n);
+				addProperty(r, p, n);
 		}
 	}
 
 	private void serializeBeanMap(BeanMap<?> m, Resource r, String typeName) throws Exception {
 		List<BeanPropertyValue> l = m.getValues(isTrimNullProperties(), typeName != null ? createBeanTypeNameProperty(m, typeName) : null);
-		Collections.reverse(l);
+		if (stream == null)
+			Collections.reverse(l);
 		for (BeanPropertyValue bpv : l) {
 
 			BeanPropertyMeta bpMeta = bpv.getMeta();
@@ -340,7 +401,7 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 			Property p = model.createProperty(ns.getUri(), encodeElementName(key));
 			RDFNode n = serializeAnything(value, bpMeta.isUri(), cMeta, key, bpMeta, r);
 			if (n != null)
-				r.addProperty(p, n);
+				addProperty(r, p, n);
 		}
 	}
 
@@ -355,6 +416,46 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 		return list;
 	}
 
+	/*
+	 * Streaming equivalent of serializeToContainer().
+	 * Writes the container type and each element as they're serialized.
+	 */
+	private Resource streamContainer(Collection c, ClassMeta<?> type, Resource containerType) throws Exception {
+		ClassMeta<?> elementType = type.getElementType();
+		Resource r = createResource(null);
+		addProperty(r, RDF.type, containerType);
+		int i = 1;
+		for (Object e : c) {
+			RDFNode n = serializeAnything(e, false, elementType, null, null, null);
+			if (n != null)
+				addProperty(r, RDF.li(i++), n);
+		}
+		return r;
+	}
+
+	/*
+	 * Streaming equivalent of serializeToList().
+	 * Writes each list cell as its element is serialized.
+	 */
+	private Resource streamList(Collection c, ClassMeta<?> type) throws Exception {
+		ClassMeta<?> elementType = type.getElementType();
+		Resource head = null, prev = null;
+		for (Object e : c) {
+			RDFNode n = serializeAnything(e, false, elementType, null, null, null);
+			Resource cell = createResource(null);
+			addProperty(cell, RDF.first, n);
+			if (prev == null)
+				head = cell;
+			else
+				addProperty(prev, RDF.rest, cell);
+			prev = cell;
+		}
+		if (prev == null)
+			return RDF.nil;
+		addProperty(prev, RDF.rest, RDF.nil);
+		return head;
+	}
+
 	private RDFList serializeToList(Collection c, ClassMeta<?> type) throws Exception {
 		ClassMeta<?> elementType = type.getElementType();
 		List<RDFNode> l = new ArrayList<>(c.size());
@@ -381,7 +482,7 @@ public final class RdfSerializerSession extends WriterSerializerSession {
 				addModelPrefix(ns);
 			RDFNode n2 = serializeAnything(e, false, elementType, null, null, null);
 			Property p = model.createProperty(ns.getUri(), encodeElementName(attrName));
-			parentResource.addProperty(p, n2);
+			addProperty(parentResource, p, n2);
 		}
 	}
 
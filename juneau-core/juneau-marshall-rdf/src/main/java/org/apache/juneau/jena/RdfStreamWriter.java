@@ -0,0 +1,194 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.jena;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.jena.rdf.model.*;
+import org.apache.jena.vocabulary.*;
+
+/**
+ * Writes triples directly to an output stream in N-Triples or Turtle syntax as they are produced.
+ *
+ * <p>
+ * Used by {@link RdfSerializerSession} when {@link RdfSerializer#RDF_streaming} is enabled so that the serialized
+ * graph never needs to be held in memory.
+ *
+ * <p>
+ * In Turtle mode, namespace prefixes are written as <js>"@prefix"</js> declarations the first time they are registered
+ * and IRIs in those namespaces are abbreviated.
+ * <br>The number of prefixes is bounded by {@link #MAX_PREFIXES}.  Namespaces registered beyond that limit are written
+ * as full IRIs.
+ */
+final class RdfStreamWriter {
+
+	/** The maximum number of namespace prefixes tracked in Turtle mode. */
+	static final int MAX_PREFIXES = 100;
+
+	private static final String XSD_STRING = "http://www.w3.org/2001/XMLSchema#string";
+
+	private final Writer w;
+	private final boolean turtle;
+	private final Map<String,String> prefixes;  // Namespace URI -> prefix.
+	private final Set<String> prefixNames;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param w The writer to write to.
+	 * @param turtle <jk>true</jk> to write Turtle, <jk>false</jk> to write N-Triples.
+	 */
+	RdfStreamWriter(Writer w, boolean turtle) {
+		this.w = w;
+		this.turtle = turtle;
+		this.prefixes = turtle ? new HashMap<String,String>() : null;
+		this.prefixNames = turtle ? new HashSet<String>() : null;
+	}
+
+	/**
+	 * Registers a namespace prefix.
+	 *
+	 * <p>
+	 * No-op in N-Triples mode, if the namespace or prefix is already registered, if the prefix is not a valid Turtle
+	 * prefix name, or if the prefix limit has been reached.
+	 *
+	 * @param prefix The prefix name.
+	 * @param uri The namespace URI.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	void prefix(String prefix, String uri) throws IOException {
+		if (! turtle || prefix == null || uri == null || prefixes.size() >= MAX_PREFIXES)
+			return;
+		if (prefixes.containsKey(uri) || prefixNames.contains(prefix) || ! isName(prefix))
+			return;
+		prefixes.put(uri, prefix);
+		prefixNames.add(prefix);
+		w.append("@prefix ").append(prefix).append(": ");
+		appendIri(uri);
+		w.append(" .\n");
+	}
+
+	/**
+	 * Writes a single triple.
+	 *
+	 * @param s The subject.
+	 * @param p The predicate.
+	 * @param o The object.
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	void triple(Resource s, Property p, RDFNode o) throws IOException {
+		appendNode(s);
+		w.append(' ');
+		appendNode(p);
+		w.append(' ');
+		appendNode(o);
+		w.append(" .\n");
+	}
+
+	/**
+	 * Flushes the underlying writer.
+	 *
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	void flush() throws IOException {
+		w.flush();
+	}
+
+	private void appendNode(RDFNode n) throws IOException {
+		if (n.isAnon()) {
+			w.append("_:").append(n.asResource().getId().getLabelString());
+		} else if (n.isURIResource()) {
+			appendUri(n.asResource().getURI());
+		} else {
+			Literal l = n.asLiteral();
+			appendString(l.getLexicalForm());
+			String lang = l.getLanguage();
+			String dt = l.getDatatypeURI();
+			if (lang != null && ! lang.isEmpty())
+				w.append('@').append(lang);
+			else if (dt != null && ! dt.equals(XSD_STRING) && ! dt.equals(RDF.langString.getURI()))
+				w.append("^^").append('<').append(dt).append('>');
+		}
+	}
+
+	private void appendUri(String uri) throws IOException {
+		if (turtle && ! prefixes.isEmpty()) {
+			int i = Math.max(uri.lastIndexOf('/'), uri.lastIndexOf('#')) + 1;
+			if (i > 0) {
+				String prefix = prefixes.get(uri.substring(0, i));
+				String local = uri.substring(i);
+				if (prefix != null && isName(local)) {
+					w.append(prefix).append(':').append(local);
+					return;
+				}
+			}
+		}
+		appendIri(uri);
+	}
+
+	private void appendIri(String uri) throws IOException {
+		w.append('<');
+		for (int i = 0; i < uri.length(); i++) {
+			char c = uri.charAt(i);
+			if (c <= 0x20 || c == '<' || c == '>' || c == '"' || c == '{' || c == '}' || c == '|' || c == '^' || c == '`' || c == '\\')
+				appendUnicodeEscape(c);
+			else
+				w.append(c);
+		}
+		w.append('>');
+	}
+
+	private void appendString(String s) throws IOException {
+		w.append('"');
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			switch (c) {
+				case '"': w.append("\\\""); break;
+				case '\\': w.append("\\\\"); break;
+				case '\n': w.append("\\n"); break;
+				case '\r': w.append("\\r"); break;
+				case '\t': w.append("\\t"); break;
+				default:
+					if (c < 0x20)
+						appendUnicodeEscape(c);
+					else
+						w.append(c);
+			}
+		}
+		w.append('"');
+	}
+
+	private void appendUnicodeEscape(char c) throws IOException {
+		String h = Integer.toHexString(c).toUpperCase();
+		w.append("\\u");
+		for (int i = h.length(); i < 4; i++)
+			w.append('0');
+		w.append(h);
+	}
+
+	/*
+	 * Conservative check for names that can be used as Turtle prefixes and local names without escaping.
+	 */
+	private static boolean isName(String s) {
+		if (s.isEmpty())
+			return false;
+		for (int i = 0; i < s.length(); i++) {
+			char c = s.charAt(i);
+			boolean ok = (c >= 'a' && c <= 'z') || (c >= 'A' && c <= 'Z') || c == '_' || (i > 0 && ((c >= '0' && c <= '9') || c == '-'));
+			if (! ok)
+				return false;
+		}
+		return true;
+	}
+}
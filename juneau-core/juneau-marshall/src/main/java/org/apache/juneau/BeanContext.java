@@ -2273,7 +2273,8 @@ public class BeanContext extends Context {
 		ClassMeta<T> cm = cmCache.get(type);
 		if (cm == null) {
 
-			synchronized (this) {
+			// Lock on the cache since it's shared between bean contexts with the same settings.
+			synchronized (cmCache) {
 				// Make sure someone didn't already set it while this thread was blocked.
 				cm = cmCache.get(type);
 				if (cm == null)
@@ -585,6 +585,55 @@ public final class BeanPropertyMeta {
 		}
 	}
 
+	/**
+	 * Same as {@link #getRaw(BeanMap, String)}, but reads the property directly from the bean without wrapping it in a
+	 * {@link BeanMap}.
+	 *
+	 * <p>
+	 * Useful when the same property is read from many beans of the same type, since the property metadata can be
+	 * looked up once and reused.
+	 *
+	 * @param bean The bean to get the property value from.  Must be an instance of the bean class.
+	 * @param pName The property name.
+	 * @return The raw property value.
+	 */
+	public Object getRawFromBean(Object bean, String pName) {
+		try {
+			return invokeGetter(bean, pName);
+		} catch (Throwable e) {
+			if (beanContext.isIgnoreInvocationExceptionsOnGetters()) {
+				if (rawTypeMeta.isPrimitive())
+					return rawTypeMeta.getPrimitiveDefault();
+				return null;
+			}
+			throw new BeanRuntimeException(e, beanMeta.c, "Exception occurred while getting property ''{0}''", name);
+		}
+	}
+
+	/**
+	 * Same as {@link #get(BeanMap, String)}, but reads the property directly from the bean without wrapping it in a
+	 * {@link BeanMap}.
+	 *
+	 * @param session The bean session used to apply swaps to the property value.
+	 * @param bean The bean to get the property value from.  Must be an instance of the bean class.
+	 * @param pName The property name.
+	 * @return The property value.
+	 */
+	public Object getFromBean(BeanSession session, Object bean, String pName) {
+		try {
+			if (overrideValue != null)
+				return overrideValue;
+			return toSerializedForm(session, invokeGetter(bean, pName));
+		} catch (Throwable e) {
+			if (beanContext.isIgnoreInvocationExceptionsOnGetters()) {
+				if (rawTypeMeta.isPrimitive())
+					return rawTypeMeta.getPrimitiveDefault();
+				return null;
+			}
+			throw new BeanRuntimeException(e, beanMeta.c, "Exception occurred while getting property ''{0}''", name);
+		}
+	}
+
 	/**
 	 * Converts a raw bean property value to serialized form.
 	 * Applies transforms and child property filters.
@@ -45,7 +45,6 @@ public class BeanSession extends Session {
 	private final MediaType mediaType;
 	private final boolean debug;
 	private final HttpPartSchema schema;
-	private Stack<StringBuilder> sbStack = new Stack<>();
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -66,6 +65,19 @@ public class BeanSession extends Session {
 		mediaType = ObjectUtils.firstNonNull(args.mediaType, ctx.getMediaType());
 	}
 
+	/**
+	 * Creates a new bean session with the same context and session arguments as this session.
+	 *
+	 * <p>
+	 * Sessions are not thread safe.
+	 * <br>This method can be used to give each worker thread its own session when processing data in parallel.
+	 *
+	 * @return A new bean session.
+	 */
+	public BeanSession createBeanSession() {
+		return ctx.createBeanSession(new BeanSessionArgs(getProperties(), locale, timeZone, mediaType, schema, debug));
+	}
+
 	@Override /* Session */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -1057,13 +1069,12 @@ public class BeanSession extends Session {
 	 *
 	 * <p>
 	 * String builders are returned to the pool by calling {@link #returnStringBuilder(StringBuilder)}.
+	 * <br>The pool is shared by all sessions on the current thread (see {@link BufferPool}).
 	 *
 	 * @return A new or previously returned string builder.
 	 */
 	protected final StringBuilder getStringBuilder() {
-		if (sbStack.isEmpty())
-			return new StringBuilder();
-		return sbStack.pop();
+		return BufferPool.getStringBuilder();
 	}
 
 	/**
@@ -1072,10 +1083,7 @@ public class BeanSession extends Session {
 	 * @param sb The string builder to return to the pool.  No-op if <jk>null</jk>.
 	 */
 	protected final void returnStringBuilder(StringBuilder sb) {
-		if (sb == null)
-			return;
-		sb.setLength(0);
-		sbStack.push(sb);
+		BufferPool.returnStringBuilder(sb);
 	}
 
 	/**
@@ -37,9 +37,19 @@ import java.util.*;
  */
 public class BeanTraverseSession extends BeanSession {
 
+	private static final int INITIAL_STACK_SIZE = 16;                              // Initial capacity of the branch stack arrays.
+	private static final int SET_THRESHOLD = 32;                                    // Branch depth at which recursion checks switch from linear scans to an identity set.
+
 	private final BeanTraverseContext ctx;
-	private final Map<Object,Object> set;                                           // Contains the current objects in the current branch of the model.
-	private final LinkedList<StackElement> stack = new LinkedList<>();              // Contains the current objects in the current branch of the model.
+	private final boolean trackBranch;                                              // True if detectRecursions or debug is enabled.
+
+	// The objects in the current branch of the model, stored as parallel arrays indexed by depth.
+	// StackElement objects are only materialized when the stack needs to be reported.
+	private Object[] stackObjects;
+	private String[] stackNames;
+	private ClassMeta<?>[] stackTypes;
+	private int stackSize;
+	private Map<Object,Object> set;                                                 // Identity set of stackObjects, only created for deep branches.
 
 	// Writable properties
 	private boolean isBottom;                                                       // If 'true', then we're at a leaf in the model (i.e. a String, Number, Boolean, or null).
@@ -68,11 +78,23 @@ public class BeanTraverseSession extends BeanSession {
 		args = args == null ? BeanSessionArgs.DEFAULT : args;
 		this.ctx = ctx;
 		this.indent = getInitialDepth();
-		if (isDetectRecursions() || isDebug()) {
-			set = new IdentityHashMap<>();
-		} else {
-			set = Collections.emptyMap();
+		this.trackBranch = isDetectRecursions() || isDebug();
+	}
+
+	@Override /* Session */
+	protected boolean reset() {
+		indent = getInitialDepth();
+		isBottom = false;
+		currentProperty = null;
+		currentClass = null;
+		if (stackSize > 0) {
+			Arrays.fill(stackObjects, 0, stackSize, null);
+			Arrays.fill(stackNames, 0, stackSize, null);
+			Arrays.fill(stackTypes, 0, stackSize, null);
+			stackSize = 0;
 		}
+		set = null;
+		return super.reset();
 	}
 
 	/**
@@ -113,20 +135,59 @@ public class BeanTraverseSession extends BeanSession {
 		ClassMeta<?> cm = (eType != null && c == eType.getInnerClass()) ? eType : ((o instanceof ClassMeta) ? (ClassMeta<?>)o : getClassMeta(c));
 		if (cm.isCharSequence() || cm.isNumber() || cm.isBoolean())
 			return cm;
-		if (isDetectRecursions() || isDebug()) {
-			if (stack.size() > getMaxDepth())
+		if (trackBranch) {
+			if (stackSize > getMaxDepth())
 				return null;
 			if (willRecurse(attrName, o, cm))
 				return null;
 			isBottom = false;
-			stack.add(new StackElement(stack.size(), attrName, o, cm));
+			pushBranch(attrName, o, cm);
 			if (isDebug())
 				getLogger().info(getStack(false));
-			set.put(o, o);
 		}
 		return cm;
 	}
 
+	/*
+	 * Adds the specified object to the end of the current branch.
+	 */
+	private void pushBranch(String attrName, Object o, ClassMeta<?> cm) {
+		if (stackObjects == null) {
+			stackObjects = new Object[INITIAL_STACK_SIZE];
+			stackNames = new String[INITIAL_STACK_SIZE];
+			stackTypes = new ClassMeta<?>[INITIAL_STACK_SIZE];
+		} else if (stackSize == stackObjects.length) {
+			int newSize = stackSize * 2;
+			stackObjects = Arrays.copyOf(stackObjects, newSize);
+			stackNames = Arrays.copyOf(stackNames, newSize);
+			stackTypes = Arrays.copyOf(stackTypes, newSize);
+		}
+		stackObjects[stackSize] = o;
+		stackNames[stackSize] = attrName;
+		stackTypes[stackSize] = cm;
+		stackSize++;
+		if (set != null) {
+			set.put(o, o);
+		} else if (stackSize > SET_THRESHOLD) {
+			set = new IdentityHashMap<>();
+			for (int i = 0; i < stackSize; i++)
+				set.put(stackObjects[i], stackObjects[i]);
+		}
+	}
+
+	/*
+	 * Returns true if the specified object is already in the current branch.
+	 * Shallow branches are scanned directly since that's cheaper than maintaining a hash set.
+	 */
+	private boolean inBranch(Object o) {
+		if (set != null)
+			return set.containsKey(o);
+		for (int i = 0; i < stackSize; i++)
+			if (stackObjects[i] == o)
+				return true;
+		return false;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if {@link BeanTraverseContext#BEANTRAVERSE_detectRecursions} is enabled, and the specified
 	 * object is already higher up in the traversal chain.
@@ -138,14 +199,14 @@ public class BeanTraverseSession extends BeanSession {
 	 * @throws BeanRecursionException If recursion occurred.
 	 */
 	protected final boolean willRecurse(String attrName, Object o, ClassMeta<?> cm) throws BeanRecursionException {
-		if (! (isDetectRecursions() || isDebug()))
+		if (! trackBranch)
 			return false;
-		if (! set.containsKey(o))
+		if (! inBranch(o))
 			return false;
 		if (isIgnoreRecursions() && ! isDebug())
 			return true;
 
-		stack.add(new StackElement(stack.size(), attrName, o, cm));
+		pushBranch(attrName, o, cm);
 		throw new BeanRecursionException("Recursion occurred, stack={0}", getStack(true));
 	}
 
@@ -154,12 +215,19 @@ public class BeanTraverseSession extends BeanSession {
 	 */
 	protected final void pop() {
 		indent--;
-		if ((isDetectRecursions() || isDebug()) && ! isBottom)  {
-			Object o = stack.removeLast().o;
-			Object o2 = set.remove(o);
-			if (o2 == null)
-				onError(null, "Couldn't remove object of type ''{0}'' on attribute ''{1}'' from object stack.",
-					o.getClass().getName(), stack);
+		if (trackBranch && ! isBottom)  {
+			if (stackSize == 0) {
+				onError(null, "Couldn't remove object from object stack.  Stack is empty.");
+			} else {
+				stackSize--;
+				Object o = stackObjects[stackSize];
+				stackObjects[stackSize] = null;
+				stackNames[stackSize] = null;
+				stackTypes[stackSize] = null;
+				if (set != null && set.remove(o) == null)
+					onError(null, "Couldn't remove object of type ''{0}'' on attribute ''{1}'' from object stack.",
+						o.getClass().getName(), getStack(false));
+			}
 		}
 		isBottom = false;
 	}
@@ -207,7 +275,7 @@ public class BeanTraverseSession extends BeanSession {
 	 */
 	protected String getStack(boolean full) {
 		StringBuilder sb = new StringBuilder();
-		for (StackElement e : stack) {
+		for (StackElement e : getStackElements()) {
 			if (full) {
 				sb.append("\n\t");
 				for (int i = 1; i < e.depth; i++)
@@ -233,11 +301,22 @@ public class BeanTraverseSession extends BeanSession {
 			m.put("currentClass", currentClass);
 		if (currentProperty != null)
 			m.put("currentProperty", currentProperty);
-		if (stack != null && ! stack.isEmpty())
-			m.put("stack", stack);
+		if (stackSize > 0)
+			m.put("stack", getStackElements());
 		return m;
 	}
 
+	/*
+	 * Materializes the current branch as a list of stack elements.
+	 * Only used for error and debug reporting.
+	 */
+	private List<StackElement> getStackElements() {
+		List<StackElement> l = new ArrayList<>(stackSize);
+		for (int i = 0; i < stackSize; i++)
+			l.add(new StackElement(i, stackNames[i], stackObjects[i], stackTypes[i]));
+		return l;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Properties
 	//-----------------------------------------------------------------------------------------------------------------
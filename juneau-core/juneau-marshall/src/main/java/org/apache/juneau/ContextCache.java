@@ -116,7 +116,10 @@ public class ContextCache {
 			} catch (Exception e) {
 				throw new ContextRuntimeException(e, "Could not create instance of class ''{0}''", c);
 			}
-			m.putIfAbsent(hashCode, ce);
+			// Another thread may have created an equivalent context in the meantime.
+			CacheEntry ce2 = m.putIfAbsent(hashCode, ce);
+			if (ce2 != null)
+				ce = ce2;
 		}
 
 		return (T)ce.context;
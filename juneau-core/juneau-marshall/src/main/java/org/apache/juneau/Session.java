@@ -293,6 +293,29 @@ public abstract class Session {
 		return logger;
 	}
 
+	/**
+	 * Resets the mutable state of this session so that it can be reused for another operation.
+	 *
+	 * <p>
+	 * Called by {@link SessionPool} when a session is returned to a pool.
+	 * <br>After this method is called, the session must behave identically to a newly-constructed session created with
+	 * the same arguments.
+	 * <br>Internal scratch buffers can be retained, but any state that could affect subsequent output (warnings,
+	 * traversal stacks, parser positions...) must be cleared.
+	 *
+	 * <p>
+	 * Subclasses that maintain their own state must override this method and call <code><jk>super</jk>.reset()</code>.
+	 * <br>Subclasses that hold state that cannot be cleared (e.g. user-supplied listeners) should return
+	 * <jk>false</jk> so that the session is discarded instead of pooled.
+	 *
+	 * @return <jk>true</jk> if this session was reset and can be reused, <jk>false</jk> if it should be discarded.
+	 */
+	protected boolean reset() {
+		warnings = null;
+		cache = null;
+		return true;
+	}
+
 	/**
 	 * Returns the properties defined on this bean context as a simple map for debugging purposes.
 	 *
@@ -0,0 +1,116 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau;
+
+import java.util.concurrent.atomic.*;
+
+/**
+ * A bounded, lock-free pool of reusable session objects belonging to a single context.
+ *
+ * <p>
+ * Sessions are stored in a fixed number of slots.
+ * <br>Threads start probing at a slot derived from their thread ID so that concurrent threads tend to hit different
+ * slots.
+ * <br>If no pooled session is available, {@link #poll()} returns <jk>null</jk> and the caller is expected to create a
+ * new session.
+ * <br>If all slots are occupied when a session is returned, the session is simply discarded.
+ *
+ * <p>
+ * Sessions are reset through {@link Session#reset()} before being placed back in the pool.
+ * <br>Sessions whose <code>reset()</code> method returns <jk>false</jk> are discarded.
+ *
+ * <p>
+ * Only sessions created with default session arguments should be placed in a pool, since session arguments
+ * (locale, media type, session properties...) are fixed at construction time.
+ *
+ * <p>
+ * This class is thread safe.
+ *
+ * @param <S> The session type.
+ */
+public final class SessionPool<S extends Session> {
+
+	private final AtomicReferenceArray<S> slots;
+	private final int size;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param size The maximum number of idle sessions to retain.  Must be greater than zero.
+	 */
+	public SessionPool(int size) {
+		if (size <= 0)
+			throw new FormattedIllegalArgumentException("Invalid session pool size ''{0}''.  Must be greater than zero.", size);
+		this.size = size;
+		this.slots = new AtomicReferenceArray<>(size);
+	}
+
+	/**
+	 * Removes an idle session from this pool.
+	 *
+	 * @return An idle session, or <jk>null</jk> if the pool is empty.
+	 */
+	public S poll() {
+		int start = start();
+		for (int i = 0; i < size; i++) {
+			int j = (start + i) % size;
+			S s = slots.get(j);
+			if (s != null && slots.compareAndSet(j, s, null))
+				return s;
+		}
+		return null;
+	}
+
+	/**
+	 * Resets the specified session and returns it to this pool.
+	 *
+	 * @param session The session to return.  No-op if <jk>null</jk>.
+	 * @return <jk>true</jk> if the session was added to the pool, <jk>false</jk> if it was discarded.
+	 */
+	public boolean offer(S session) {
+		if (session == null || ! session.reset())
+			return false;
+		int start = start();
+		for (int i = 0; i < size; i++) {
+			int j = (start + i) % size;
+			if (slots.get(j) == null && slots.compareAndSet(j, null, session))
+				return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Returns the number of idle sessions currently in this pool.
+	 *
+	 * @return The number of idle sessions currently in this pool.
+	 */
+	public int getIdleCount() {
+		int c = 0;
+		for (int i = 0; i < size; i++)
+			if (slots.get(i) != null)
+				c++;
+		return c;
+	}
+
+	/**
+	 * Discards all idle sessions in this pool.
+	 */
+	public void clear() {
+		for (int i = 0; i < size; i++)
+			slots.set(i, null);
+	}
+
+	private int start() {
+		return (int)((Thread.currentThread().getId() & Integer.MAX_VALUE) % size);
+	}
+}
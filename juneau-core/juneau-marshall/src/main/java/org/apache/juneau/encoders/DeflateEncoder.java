@@ -0,0 +1,65 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import java.io.*;
+import java.util.zip.*;
+
+/**
+ * Encoder for handling <js>"deflate"</js> encoding and decoding.
+ *
+ * <p>
+ * Uses the ZLIB format defined by the <js>"deflate"</js> HTTP content coding.
+ * <br>Subclasses can use {@link #DeflateEncoder(int, int, int, int)} to change the compression settings.
+ */
+public class DeflateEncoder extends DeflaterEncoder {
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Uses the default compression level and always compresses.
+	 */
+	public DeflateEncoder() {
+		this(Deflater.DEFAULT_COMPRESSION, 0, DEFAULT_BUFFER_SIZE, DEFAULT_POOL_SIZE);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param level
+	 * 	The compression level (<code>0-9</code>), or {@link Deflater#DEFAULT_COMPRESSION}.
+	 * @param minimumSize
+	 * 	The minimum size of the response in bytes before it's compressed.
+	 * @param bufferSize
+	 * 	The size in bytes of the output buffer used by the compressing stream.
+	 * @param poolSize
+	 * 	The maximum number of idle deflaters kept for reuse.
+	 */
+	public DeflateEncoder(int level, int minimumSize, int bufferSize, int poolSize) {
+		super(false, level, minimumSize, bufferSize, poolSize);
+	}
+
+	@Override /* Encoder */
+	public InputStream getInputStream(InputStream is) throws IOException {
+		return new InflaterInputStream(is);
+	}
+
+	/**
+	 * Returns <code>[<js>"deflate"</js>]</code>.
+	 */
+	@Override /* Encoder */
+	public String[] getCodings() {
+		return new String[]{"deflate"};
+	}
+}
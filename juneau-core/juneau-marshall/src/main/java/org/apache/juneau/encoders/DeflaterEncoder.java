@@ -0,0 +1,173 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import java.io.*;
+import java.util.zip.*;
+
+/**
+ * Base class for encoders that compress using a {@link Deflater}.
+ *
+ * <p>
+ * Deflaters are pooled and reused across output streams to avoid allocating native zlib memory for every response.
+ * <br>A deflater is returned to the pool when its output stream is finished or closed.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Fast compression of responses of at least 1KB.</jc>
+ * 	<jk>public class</jk> MyGzipEncoder <jk>extends</jk> GzipEncoder {
+ * 		<jk>public</jk> MyGzipEncoder() {
+ * 			<jk>super</jk>(Deflater.<jsf>BEST_SPEED</jsf>, 1024, 8192, 16);
+ * 		}
+ * 	}
+ *
+ * 	<ja>@RestResource</ja>(encoders=MyGzipEncoder.<jk>class</jk>)
+ * 	<jk>public class</jk> MyResource {...}
+ * </p>
+ */
+public abstract class DeflaterEncoder extends Encoder {
+
+	/** Default output buffer size in bytes. */
+	public static final int DEFAULT_BUFFER_SIZE = 512;
+
+	/** Default maximum number of idle deflaters kept for reuse. */
+	public static final int DEFAULT_POOL_SIZE = 8;
+
+	private final int level, minimumSize, bufferSize;
+	private final boolean gzip;
+	private final DeflaterPool pool;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param gzip
+	 * 	If <jk>true</jk>, writes the GZIP format.
+	 * 	<br>Otherwise writes the ZLIB format used by the <js>"deflate"</js> coding.
+	 * @param level
+	 * 	The compression level (<code>0-9</code>), or {@link Deflater#DEFAULT_COMPRESSION}.
+	 * @param minimumSize
+	 * 	The minimum size of the response in bytes before it's compressed.
+	 * 	<br>See {@link Encoder#getMinimumSize()}.
+	 * @param bufferSize
+	 * 	The size in bytes of the output buffer used by the compressing stream.
+	 * @param poolSize
+	 * 	The maximum number of idle deflaters kept for reuse.
+	 * 	<br>If <code>0</code>, a new deflater is created for every output stream.
+	 */
+	protected DeflaterEncoder(boolean gzip, int level, int minimumSize, int bufferSize, int poolSize) {
+		if (level != Deflater.DEFAULT_COMPRESSION && (level < 0 || level > 9))
+			throw new IllegalArgumentException("Invalid compression level: " + level);
+		if (bufferSize <= 0)
+			throw new IllegalArgumentException("Buffer size must be greater than zero.");
+		this.gzip = gzip;
+		this.level = level;
+		this.minimumSize = minimumSize;
+		this.bufferSize = bufferSize;
+		this.pool = new DeflaterPool(level, gzip, poolSize);
+	}
+
+	@Override /* Encoder */
+	public OutputStream getOutputStream(OutputStream os) throws IOException {
+		return new PooledDeflaterOutputStream(os, pool.acquire());
+	}
+
+	@Override /* Encoder */
+	public int getMinimumSize() {
+		return minimumSize;
+	}
+
+	/**
+	 * Returns the compression level.
+	 *
+	 * @return The compression level, or {@link Deflater#DEFAULT_COMPRESSION}.
+	 */
+	public int getLevel() {
+		return level;
+	}
+
+	/**
+	 * Returns the size of the output buffer used by the compressing stream.
+	 *
+	 * @return The buffer size in bytes.
+	 */
+	public int getBufferSize() {
+		return bufferSize;
+	}
+
+	/**
+	 * Returns the number of idle deflaters currently available for reuse.
+	 *
+	 * @return The number of idle deflaters in the pool.
+	 */
+	public int getIdleDeflaterCount() {
+		return pool.getIdleCount();
+	}
+
+	private static final byte[] GZIP_HEADER = {
+		(byte)0x1f, (byte)0x8b,  // Magic number.
+		Deflater.DEFLATED,       // Compression method.
+		0,                       // Flags.
+		0, 0, 0, 0,              // Modification time.
+		0,                       // Extra flags.
+		0                        // Operating system.
+	};
+
+	private final class PooledDeflaterOutputStream extends DeflaterOutputStream implements Finishable {
+		private final CRC32 crc;
+		private boolean finished;
+
+		PooledDeflaterOutputStream(OutputStream out, Deflater d) throws IOException {
+			super(out, d, bufferSize);
+			if (gzip) {
+				crc = new CRC32();
+				out.write(GZIP_HEADER);
+			} else {
+				crc = null;
+			}
+		}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (finished)
+				throw new IOException("Write beyond end of stream.");
+			super.write(b, off, len);
+			if (crc != null)
+				crc.update(b, off, len);
+		}
+
+		@Override /* Finishable */
+		public void finish() throws IOException {
+			if (finished)
+				return;
+			finished = true;
+			try {
+				super.finish();
+				if (crc != null) {
+					writeInt(crc.getValue());
+					writeInt(def.getBytesRead());
+				}
+			} catch (IOException | RuntimeException e) {
+				pool.discard(def);
+				throw e;
+			}
+			pool.release(def);
+		}
+
+		private void writeInt(long i) throws IOException {
+			out.write((int)(i & 0xff));
+			out.write((int)((i >> 8) & 0xff));
+			out.write((int)((i >> 16) & 0xff));
+			out.write((int)((i >> 24) & 0xff));
+		}
+	}
+}
@@ -0,0 +1,64 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.encoders;
+
+import java.util.concurrent.*;
+import java.util.zip.*;
+
+/**
+ * A bounded pool of {@link Deflater} instances with the same compression level and format.
+ *
+ * <p>
+ * Each <code>Deflater</code> allocates native zlib memory when it's created, so reusing them avoids that cost on every
+ * compressed response.
+ */
+final class DeflaterPool {
+
+	private final int level;
+	private final boolean nowrap;
+	private final BlockingQueue<Deflater> pool;
+
+	DeflaterPool(int level, boolean nowrap, int maxSize) {
+		this.level = level;
+		this.nowrap = nowrap;
+		this.pool = maxSize > 0 ? new ArrayBlockingQueue<Deflater>(maxSize) : null;
+	}
+
+	/*
+	 * Returns an idle deflater from the pool, or a new one if the pool is empty.
+	 */
+	Deflater acquire() {
+		Deflater d = pool == null ? null : pool.poll();
+		return d != null ? d : new Deflater(level, nowrap);
+	}
+
+	/*
+	 * Returns a deflater to the pool, or releases its native memory if the pool is full.
+	 */
+	void release(Deflater d) {
+		d.reset();
+		if (pool == null || ! pool.offer(d))
+			d.end();
+	}
+
+	/*
+	 * Releases a deflater that may be in an inconsistent state.
+	 */
+	void discard(Deflater d) {
+		d.end();
+	}
+
+	int getIdleCount() {
+		return pool == null ? 0 : pool.size();
+	}
+}
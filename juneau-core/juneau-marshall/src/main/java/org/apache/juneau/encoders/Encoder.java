@@ -51,4 +51,18 @@ public abstract class Encoder {
 	 * @return The codings that this encoder handles.
 	 */
 	public abstract String[] getCodings();
+
+	/**
+	 * Returns the minimum size of a response in bytes before this encoder is applied to it.
+	 *
+	 * <p>
+	 * Compressing small responses usually costs more CPU than it saves in bandwidth.
+	 * <br>When a minimum size is specified, REST servlets buffer the response until it reaches this size, and send
+	 * smaller responses without any encoding.
+	 *
+	 * @return The minimum size in bytes.  The default implementation returns <code>0</code>.
+	 */
+	public int getMinimumSize() {
+		return 0;
+	}
 }
@@ -17,12 +17,36 @@ import java.util.zip.*;
 
 /**
  * Encoder for handling <js>"gzip"</js> encoding and decoding.
+ *
+ * <p>
+ * Subclasses can use {@link #GzipEncoder(int, int, int, int)} to change the compression settings.
  */
-public class GzipEncoder extends Encoder {
+public class GzipEncoder extends DeflaterEncoder {
 
-	@Override /* Encoder */
-	public OutputStream getOutputStream(OutputStream os) throws IOException {
-		return new FinishableGZIPOutputStream(os);
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * Uses the default compression level and always compresses.
+	 */
+	public GzipEncoder() {
+		this(Deflater.DEFAULT_COMPRESSION, 0, DEFAULT_BUFFER_SIZE, DEFAULT_POOL_SIZE);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param level
+	 * 	The compression level (<code>0-9</code>), or {@link Deflater#DEFAULT_COMPRESSION}.
+	 * @param minimumSize
+	 * 	The minimum size of the response in bytes before it's compressed.
+	 * @param bufferSize
+	 * 	The size in bytes of the output buffer used by the compressing stream.
+	 * @param poolSize
+	 * 	The maximum number of idle deflaters kept for reuse.
+	 */
+	public GzipEncoder(int level, int minimumSize, int bufferSize, int poolSize) {
+		super(true, level, minimumSize, bufferSize, poolSize);
 	}
 
 	@Override /* Encoder */
@@ -37,10 +61,4 @@ public class GzipEncoder extends Encoder {
 	public String[] getCodings() {
 		return new String[]{"gzip"};
 	}
-
-	private static class FinishableGZIPOutputStream extends GZIPOutputStream implements Finishable {
-		FinishableGZIPOutputStream(OutputStream out) throws IOException {
-			super(out);
-		}
-	}
 }
@@ -0,0 +1,152 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+/**
+ * Thread-confined pool of reusable {@link StringBuilder} and <code><jk>char</jk>[]</code> buffers.
+ *
+ * <p>
+ * Each thread has its own small pool, so getting and returning buffers doesn't require synchronization.
+ * <br>Buffers that have grown larger than {@link #MAX_BUFFER_SIZE} are not pooled so that large documents don't pin
+ * memory after they've been processed.
+ *
+ * <p>
+ * Buffers must not be used after they've been returned to the pool.
+ * <br>Buffers that are never returned are simply garbage collected.
+ */
+public final class BufferPool {
+
+	/** The maximum capacity of buffers kept in the pool. */
+	public static final int MAX_BUFFER_SIZE = 16384;
+
+	/** The size of character buffers returned by {@link #getCharBuffer(int)} when the pool is empty. */
+	public static final int CHAR_BUFFER_SIZE = 1024;
+
+	private static final int MAX_POOLED = 8;  // Per thread and buffer type.
+
+	private static final ThreadLocal<BufferPool> POOL = new ThreadLocal<BufferPool>() {
+		@Override /* ThreadLocal */
+		protected BufferPool initialValue() {
+			return new BufferPool();
+		}
+	};
+
+	private final StringBuilder[] builders = new StringBuilder[MAX_POOLED];
+	private final char[][] chars = new char[MAX_POOLED][];
+	private int builderCount, charCount;
+
+	private BufferPool() {}
+
+	/**
+	 * Returns an empty string builder from the pool of the current thread, or a new one if the pool is empty.
+	 *
+	 * @return An empty string builder.  Never <jk>null</jk>.
+	 */
+	public static StringBuilder getStringBuilder() {
+		BufferPool p = POOL.get();
+		if (p.builderCount == 0)
+			return new StringBuilder();
+		StringBuilder sb = p.builders[--p.builderCount];
+		p.builders[p.builderCount] = null;
+		return sb;
+	}
+
+	/**
+	 * Same as {@link #getStringBuilder()} but ensures the builder can hold the specified number of characters without
+	 * being resized.
+	 *
+	 * @param capacity The minimum capacity of the builder.
+	 * @return An empty string builder.  Never <jk>null</jk>.
+	 */
+	public static StringBuilder getStringBuilder(int capacity) {
+		StringBuilder sb = getStringBuilder();
+		sb.ensureCapacity(capacity);
+		return sb;
+	}
+
+	/**
+	 * Returns a string builder to the pool of the current thread.
+	 *
+	 * <p>
+	 * The builder is discarded if it's too large or if the pool is full.
+	 *
+	 * @param sb The string builder to return.  No-op if <jk>null</jk>.
+	 */
+	public static void returnStringBuilder(StringBuilder sb) {
+		if (sb == null || sb.capacity() > MAX_BUFFER_SIZE)
+			return;
+		BufferPool p = POOL.get();
+		if (p.builderCount == MAX_POOLED)
+			return;
+		for (int i = 0; i < p.builderCount; i++)
+			if (p.builders[i] == sb)
+				return;
+		sb.setLength(0);
+		p.builders[p.builderCount++] = sb;
+	}
+
+	/**
+	 * Returns the contents of the specified string builder and returns the builder to the pool.
+	 *
+	 * @param sb The string builder.
+	 * @return The contents of the builder.
+	 */
+	public static String toStringAndReturn(StringBuilder sb) {
+		String s = sb.toString();
+		returnStringBuilder(sb);
+		return s;
+	}
+
+	/**
+	 * Returns a character buffer from the pool of the current thread, or a new one if the pool has no buffer of at
+	 * least the specified size.
+	 *
+	 * <p>
+	 * The contents of the returned buffer are undefined.
+	 *
+	 * @param minSize The minimum length of the buffer.
+	 * @return A character buffer.  Never <jk>null</jk>.
+	 */
+	public static char[] getCharBuffer(int minSize) {
+		BufferPool p = POOL.get();
+		for (int i = p.charCount - 1; i >= 0; i--) {
+			char[] c = p.chars[i];
+			if (c.length >= minSize) {
+				p.chars[i] = p.chars[--p.charCount];
+				p.chars[p.charCount] = null;
+				return c;
+			}
+		}
+		return new char[Math.max(minSize, CHAR_BUFFER_SIZE)];
+	}
+
+	/**
+	 * Returns a character buffer to the pool of the current thread.
+	 *
+	 * <p>
+	 * The buffer is discarded if it's too large or if the pool is full.
+	 *
+	 * @param c The buffer to return.  No-op if <jk>null</jk>.
+	 */
+	public static void returnCharBuffer(char[] c) {
+		if (c == null || c.length > MAX_BUFFER_SIZE)
+			return;
+		BufferPool p = POOL.get();
+		if (p.charCount == MAX_POOLED)
+			return;
+		for (int i = 0; i < p.charCount; i++)
+			if (p.chars[i] == c)
+				return;
+		p.chars[p.charCount++] = c;
+	}
+}
@@ -402,4 +402,51 @@ public final class CollectionUtils {
 		m.put(key, value);
 		return m;
 	}
+
+	/**
+	 * Sorts the specified list, optionally keeping only the first <code>limit</code> entries.
+	 *
+	 * <p>
+	 * When a limit smaller than the list size is specified, a bounded heap is used to select the top entries instead
+	 * of sorting the entire list, and the list is truncated to <code>limit</code> entries.
+	 * <br>The result is the same as a full stable sort followed by truncation.
+	 *
+	 * @param l The list to sort.  Must support {@link List#set(int, Object)} and removal of ranges.
+	 * @param comparator The comparator.
+	 * @param limit The maximum number of entries to keep.  <code>0</code> or less means no limit.
+	 * @return The same list.
+	 */
+	@SuppressWarnings("unchecked")
+	public static <T> List<T> sort(List<T> l, final Comparator<? super T> comparator, int limit) {
+		int size = l.size();
+		if (limit <= 0 || limit >= size) {
+			Collections.sort(l, comparator);
+			return l;
+		}
+
+		// Max-heap on (value, original position) so that the worst of the current top entries is evicted first.
+		PriorityQueue<Object[]> heap = new PriorityQueue<>(limit + 1, new Comparator<Object[]>() {
+			@Override /* Comparator */
+			public int compare(Object[] o1, Object[] o2) {
+				int c = comparator.compare((T)o2[0], (T)o1[0]);
+				return c != 0 ? c : ((Integer)o2[1]).compareTo((Integer)o1[1]);
+			}
+		});
+
+		int i = 0;
+		for (T t : l) {
+			heap.add(new Object[]{t, i++});
+			if (heap.size() > limit)
+				heap.poll();
+		}
+
+		Object[] top = new Object[heap.size()];
+		for (int j = top.length-1; j >= 0; j--)
+			top[j] = heap.poll()[0];
+
+		l.subList(limit, size).clear();
+		for (int j = 0; j < top.length; j++)
+			l.set(j, (T)top[j]);
+		return l;
+	}
 }
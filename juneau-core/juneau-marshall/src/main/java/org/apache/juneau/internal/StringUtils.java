@@ -356,13 +356,13 @@ public final class StringUtils {
 	public static String join(Object[] tokens, String separator) {
 		if (tokens == null)
 			return null;
-		StringBuilder sb = new StringBuilder();
+		StringBuilder sb = BufferPool.getStringBuilder();
 		for (int i = 0; i < tokens.length; i++) {
 			if (i > 0)
 				sb.append(separator);
 			sb.append(tokens[i]);
 		}
-		return sb.toString();
+		return BufferPool.toStringAndReturn(sb);
 	}
 
 	/**
@@ -375,13 +375,13 @@ public final class StringUtils {
 	public static String join(int[] tokens, String d) {
 		if (tokens == null)
 			return null;
-		StringBuilder sb = new StringBuilder();
+		StringBuilder sb = BufferPool.getStringBuilder();
 		for (int i = 0; i < tokens.length; i++) {
 			if (i > 0)
 				sb.append(d);
 			sb.append(tokens[i]);
 		}
-		return sb.toString();
+		return BufferPool.toStringAndReturn(sb);
 	}
 
 	/**
@@ -394,7 +394,7 @@ public final class StringUtils {
 	public static String join(Collection<?> tokens, String d) {
 		if (tokens == null)
 			return null;
-		return join(tokens, d, new StringBuilder()).toString();
+		return BufferPool.toStringAndReturn(join(tokens, d, BufferPool.getStringBuilder()));
 	}
 
 	/**
@@ -426,7 +426,7 @@ public final class StringUtils {
 	public static String join(Object[] tokens, char d) {
 		if (tokens == null)
 			return null;
-		return join(tokens, d, new StringBuilder()).toString();
+		return BufferPool.toStringAndReturn(join(tokens, d, BufferPool.getStringBuilder()));
 	}
 
 	/**
@@ -439,7 +439,7 @@ public final class StringUtils {
 	public static String joine(Object[] tokens, char d) {
 		if (tokens == null)
 			return null;
-		return joine(tokens, d, new StringBuilder()).toString();
+		return BufferPool.toStringAndReturn(joine(tokens, d, BufferPool.getStringBuilder()));
 	}
 
 	private static AsciiSet getEscapeSet(char c) {
@@ -501,13 +501,13 @@ public final class StringUtils {
 	public static String join(int[] tokens, char d) {
 		if (tokens == null)
 			return null;
-		StringBuilder sb = new StringBuilder();
+		StringBuilder sb = BufferPool.getStringBuilder();
 		for (int i = 0; i < tokens.length; i++) {
 			if (i > 0)
 				sb.append(d);
 			sb.append(tokens[i]);
 		}
-		return sb.toString();
+		return BufferPool.toStringAndReturn(sb);
 	}
 
 	/**
@@ -520,13 +520,13 @@ public final class StringUtils {
 	public static String join(Collection<?> tokens, char d) {
 		if (tokens == null)
 			return null;
-		StringBuilder sb = new StringBuilder();
+		StringBuilder sb = BufferPool.getStringBuilder();
 		for (Iterator<?> iter = tokens.iterator(); iter.hasNext();) {
 			sb.append(iter.next());
 			if (iter.hasNext())
 				sb.append(d);
 		}
-		return sb.toString();
+		return BufferPool.toStringAndReturn(sb);
 	}
 
 	/**
@@ -540,13 +540,13 @@ public final class StringUtils {
 		if (tokens == null)
 			return null;
 		AsciiSet as = getEscapeSet(d);
-		StringBuilder sb = new StringBuilder();
+		StringBuilder sb = BufferPool.getStringBuilder();
 		for (Iterator<?> iter = tokens.iterator(); iter.hasNext();) {
 			sb.append(escapeChars(stringify(iter.next()), as));
 			if (iter.hasNext())
 				sb.append(d);
 		}
-		return sb.toString();
+		return BufferPool.toStringAndReturn(sb);
 	}
 
 	/**
@@ -953,7 +953,7 @@ public final class StringUtils {
 				count++;
 		if (count == 0)
 			return s;
-		StringBuffer sb = new StringBuffer(s.length()-count);
+		StringBuilder sb = BufferPool.getStringBuilder(s.length()-count);
 		for (int i = 0; i < s.length(); i++) {
 			char c = s.charAt(i);
 
@@ -970,7 +970,7 @@ public final class StringUtils {
 			}
 			sb.append(s.charAt(i));
 		}
-		return sb.toString();
+		return BufferPool.toStringAndReturn(sb);
 	}
 
 	/**
@@ -991,14 +991,14 @@ public final class StringUtils {
 		if (count == 0)
 			return s;
 
-		StringBuffer sb = new StringBuffer(s.length() + count);
+		StringBuilder sb = BufferPool.getStringBuilder(s.length() + count);
 		for (int i = 0; i < s.length(); i++) {
 			char c = s.charAt(i);
 			if (escaped.contains(c))
 				sb.append('\\');
 			sb.append(c);
 		}
-		return sb.toString();
+		return BufferPool.toStringAndReturn(sb);
 	}
 
 	/**
@@ -1409,7 +1409,7 @@ public final class StringUtils {
 		int x = 0;
 		int depth = 0;
 		int length = s.length();
-		StringBuilder out = new StringBuilder();
+		StringBuilder out = BufferPool.getStringBuilder();
 		for (int i = 0; i < length; i++) {
 			char c = s.charAt(i);
 			if (state == S1) {
@@ -1447,7 +1447,7 @@ public final class StringUtils {
 				}
 			}
 		}
-		return out.toString();
+		return BufferPool.toStringAndReturn(out);
 	}
 
 	/**
@@ -1931,7 +1931,7 @@ public final class StringUtils {
 		for (int i = 0; i < s.length() && ! needsEncode; i++)
 			needsEncode |= (! unencodedCharsLax.contains(s.charAt(i)));
 		if (needsEncode) {
-			StringBuilder sb = new StringBuilder(s.length()*2);
+			StringBuilder sb = BufferPool.getStringBuilder(s.length()*2);
 			for (int i = 0; i < s.length(); i++) {
 				char c = s.charAt(i);
 				if (unencodedCharsLax.contains(c))
@@ -1947,7 +1947,7 @@ public final class StringUtils {
 						// Not possible.
 					}
 			}
-			s = sb.toString();
+			s = BufferPool.toStringAndReturn(sb);
 		}
 		return s;
 	}
@@ -0,0 +1,86 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+
+/**
+ * Input stream that copies everything read from an underlying stream to an output stream.
+ *
+ * <p>
+ * Closing this stream reads any remaining input through to the output stream before closing the underlying stream, so
+ * the output stream always receives the complete input.
+ * <br>The output stream is flushed (but not closed) when the end of the input is reached.
+ */
+public class TeeInputStream extends InputStream {
+	private final InputStream in;
+	private final OutputStream out;
+	private boolean eof, closed;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param in The stream to read from.
+	 * @param out The stream to copy the input to.
+	 */
+	public TeeInputStream(InputStream in, OutputStream out) {
+		this.in = in;
+		this.out = out;
+	}
+
+	@Override /* InputStream */
+	public int read() throws IOException {
+		if (eof)
+			return -1;
+		int b = in.read();
+		if (b == -1) {
+			eof = true;
+			out.flush();
+		} else {
+			out.write(b);
+		}
+		return b;
+	}
+
+	@Override /* InputStream */
+	public int read(byte[] b, int off, int len) throws IOException {
+		if (eof)
+			return -1;
+		int n = in.read(b, off, len);
+		if (n == -1) {
+			eof = true;
+			out.flush();
+		} else if (n > 0) {
+			out.write(b, off, n);
+		}
+		return n;
+	}
+
+	@Override /* InputStream */
+	public int available() throws IOException {
+		return eof ? 0 : in.available();
+	}
+
+	@Override /* InputStream */
+	public void close() throws IOException {
+		if (closed)
+			return;
+		closed = true;
+		try {
+			byte[] buf = new byte[4096];
+			while (read(buf, 0, buf.length) != -1) {}
+		} finally {
+			in.close();
+		}
+	}
+}
@@ -0,0 +1,87 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.internal;
+
+import java.io.*;
+
+/**
+ * Reader that copies everything read from an underlying reader to a writer.
+ *
+ * <p>
+ * Closing this reader reads any remaining input through to the writer before closing the underlying reader, so the
+ * writer always receives the complete input.
+ * <br>The writer is flushed (but not closed) when the end of the input is reached.
+ */
+public class TeeReader extends Reader {
+	private final Reader in;
+	private final Writer out;
+	private final boolean flushOnNewline;
+	private boolean eof, closed;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param in The reader to read from.
+	 * @param out The writer to copy the input to.
+	 * @param flushOnNewline Flush the writer whenever a newline character is copied.
+	 */
+	public TeeReader(Reader in, Writer out, boolean flushOnNewline) {
+		this.in = in;
+		this.out = out;
+		this.flushOnNewline = flushOnNewline;
+	}
+
+	@Override /* Reader */
+	public int read(char[] cbuf, int off, int len) throws IOException {
+		if (eof)
+			return -1;
+		int n = in.read(cbuf, off, len);
+		if (n == -1) {
+			eof = true;
+			out.flush();
+			onEof();
+		} else if (n > 0) {
+			out.write(cbuf, off, n);
+			if (flushOnNewline)
+				for (int i = off; i < off + n; i++)
+					if (cbuf[i] == '\n') {
+						out.flush();
+						break;
+					}
+		}
+		return n;
+	}
+
+	@Override /* Reader */
+	public void close() throws IOException {
+		if (closed)
+			return;
+		closed = true;
+		try {
+			char[] buf = new char[1024];
+			while (read(buf, 0, buf.length) != -1) {}
+		} finally {
+			in.close();
+		}
+	}
+
+	/**
+	 * Called once after the last character of the input has been copied to the writer.
+	 *
+	 * <p>
+	 * The default implementation does nothing.
+	 *
+	 * @throws IOException Thrown by subclasses.
+	 */
+	protected void onEof() throws IOException {}
+}
@@ -111,6 +111,75 @@ public final class JsonParserSession extends ReaderParserSession {
 		}
 	}
 
+	@Override /* ParserSession */
+	protected <E> Iterator<E> doParseIterator(final ParserPipe pipe, final ClassMeta<E> elementType) throws Exception {
+		final ParserReader r = pipe.getParserReader();
+		if (r == null) {
+			pipe.close();
+			return Collections.emptyIterator();
+		}
+		skipCommentsAndSpace(r);
+		if (r.read() != '[')
+			throw new ParseException(this, "Expected '[' at beginning of JSON array.");
+
+		return new Iterator<E>() {
+			private int state = 0;  // 0 = Looking for entry, 1 = Entry available, 2 = Done.
+			private boolean first = true;
+
+			@Override /* Iterator */
+			public boolean hasNext() {
+				if (state == 0) {
+					try {
+						skipCommentsAndSpace(r);
+						int c = r.read();
+						if (c == ']') {
+							validateEnd(r);
+							state = 2;
+							pipe.close();
+						} else if (first && c != ',' && c != -1) {
+							r.unread();
+							state = 1;
+						} else if (! first && c == ',') {
+							skipCommentsAndSpace(r);
+							if (r.peek() == ']')
+								throw new ParseException(JsonParserSession.this, "Unexpected trailing comma in array.");
+							state = 1;
+						} else {
+							throw new ParseException(JsonParserSession.this, first ? "Expected one of the following characters: {,[,',\",LITERAL." : "Expected ',' or ']'.");
+						}
+					} catch (Exception e) {
+						throw fail(e);
+					}
+				}
+				return state == 1;
+			}
+
+			@Override /* Iterator */
+			public E next() {
+				if (! hasNext())
+					throw new NoSuchElementException();
+				try {
+					E o = parseAnything(elementType, r, getOuter(), null);
+					first = false;
+					state = 0;
+					return o;
+				} catch (Exception e) {
+					throw fail(e);
+				}
+			}
+
+			private RuntimeException fail(Exception e) {
+				state = 2;
+				pipe.close();
+				if (e instanceof RuntimeException)
+					return (RuntimeException)e;
+				if (! (e instanceof ParseException))
+					e = new ParseException(JsonParserSession.this, e);
+				return new RuntimeException(e);
+			}
+		};
+	}
+
 	private <T> T parseAnything(ClassMeta<?> eType, ParserReader r, Object outer, BeanPropertyMeta pMeta) throws Exception {
 
 		if (eType == null)
@@ -275,6 +275,50 @@ public abstract class Parser extends BeanContext {
 	 */
 	public static final String PARSER_listener = PREFIX + "listener.c";
 
+	/**
+	 * Configuration property:  Session pool size.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"Parser.sessionPoolSize.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>0</code>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link ParserBuilder#sessionPoolSize(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The maximum number of idle sessions to keep for reuse by the convenience parse methods on this parser
+	 * (e.g. {@link #parse(Object,Class)}, {@link #parseIntoMap(Object,Map,Type,Type)}).
+	 *
+	 * <p>
+	 * When greater than zero, sessions created with default session arguments are reset and returned to a
+	 * {@link SessionPool} after each call instead of being discarded, so that repeated small parses reuse session
+	 * objects and their internal buffers.
+	 * <br>Sessions created through {@link #createSession(ParserSessionArgs)} are never pooled.
+	 * <br>Sessions with a {@link #PARSER_listener listener} are never pooled since listeners are created per-session.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a parser that keeps up to 16 idle sessions for reuse.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.sessionPoolSize(16)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	ReaderParser p = JsonParser
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>PARSER_sessionPoolSize</jsf>, 16)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String PARSER_sessionPoolSize = PREFIX + "sessionPoolSize.i";
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -474,6 +518,7 @@ public abstract class Parser extends BeanContext {
 	private final boolean trimStrings, strict, autoCloseStreams, unbuffered;
 	private final int debugOutputLines;
 	private final Class<? extends ParserListener> listener;
+	private final SessionPool<ParserSession> sessionPool;
 
 	/** General parser properties currently set on this parser. */
 	private final MediaType[] consumes;
@@ -493,6 +538,8 @@ public abstract class Parser extends BeanContext {
 		debugOutputLines = getIntegerProperty(PARSER_debugOutputLines, 5);
 		unbuffered = getBooleanProperty(PARSER_unbuffered, false);
 		listener = getClassProperty(PARSER_listener, ParserListener.class, null);
+		int sessionPoolSize = getIntegerProperty(PARSER_sessionPoolSize, 0);
+		sessionPool = sessionPoolSize > 0 ? new SessionPool<ParserSession>(sessionPoolSize) : null;
 		this.consumes = new MediaType[consumes.length];
 		for (int i = 0; i < consumes.length; i++) {
 			this.consumes[i] = MediaType.forString(consumes[i]);
@@ -629,7 +676,12 @@ public abstract class Parser extends BeanContext {
 	 * @see BeanSession#getClassMeta(Type,Type...) for argument syntax for maps and collections.
 	 */
 	public final <T> T parse(Object input, Type type, Type...args) throws ParseException {
-		return createSession().parse(input, type, args);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type, args);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -668,7 +720,12 @@ public abstract class Parser extends BeanContext {
 	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type.
 	 */
 	public final <T> T parse(Object input, Class<T> type) throws ParseException {
-		return createSession().parse(input, type);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -688,7 +745,12 @@ public abstract class Parser extends BeanContext {
 	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type.
 	 */
 	public final <T> T parse(Object input, ClassMeta<T> type) throws ParseException {
-		return createSession().parse(input, type);
+		ParserSession s = acquireSession();
+		try {
+			return s.parse(input, type);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	@Override /* Context */
@@ -701,6 +763,39 @@ public abstract class Parser extends BeanContext {
 		return new ParserSessionArgs().mediaType(getPrimaryMediaType());
 	}
 
+	/**
+	 * Returns a session created with default session arguments for use by the convenience parse methods.
+	 *
+	 * <p>
+	 * If {@link #PARSER_sessionPoolSize} is enabled, an idle session is taken from the session pool if one is
+	 * available.
+	 * <br>Sessions retrieved through this method must be returned through {@link #releaseSession(ParserSession)}
+	 * once the operation completes, and must not be used afterwards.
+	 *
+	 * @return A session created with default session arguments.
+	 */
+	protected final ParserSession acquireSession() {
+		if (sessionPool != null) {
+			ParserSession s = sessionPool.poll();
+			if (s != null)
+				return s;
+		}
+		return createSession();
+	}
+
+	/**
+	 * Returns a session retrieved through {@link #acquireSession()} back to the session pool.
+	 *
+	 * <p>
+	 * No-op if {@link #PARSER_sessionPoolSize} is not enabled.
+	 *
+	 * @param s The session to release.
+	 */
+	protected final void releaseSession(ParserSession s) {
+		if (sessionPool != null)
+			sessionPool.offer(s);
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// Optional methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -730,7 +825,12 @@ public abstract class Parser extends BeanContext {
 	 * @throws UnsupportedOperationException If not implemented.
 	 */
 	public final <K,V> Map<K,V> parseIntoMap(Object input, Map<K,V> m, Type keyType, Type valueType) throws ParseException {
-		return createSession().parseIntoMap(input, m, keyType, valueType);
+		ParserSession s = acquireSession();
+		try {
+			return s.parseIntoMap(input, m, keyType, valueType);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -754,7 +854,12 @@ public abstract class Parser extends BeanContext {
 	 * @throws UnsupportedOperationException If not implemented.
 	 */
 	public final <E> Collection<E> parseIntoCollection(Object input, Collection<E> c, Type elementType) throws ParseException {
-		return createSession().parseIntoCollection(input, c, elementType);
+		ParserSession s = acquireSession();
+		try {
+			return s.parseIntoCollection(input, c, elementType);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -781,7 +886,12 @@ public abstract class Parser extends BeanContext {
 	public final Object[] parseArgs(Object input, Type[] argTypes) throws ParseException {
 		if (argTypes == null || argTypes.length == 0)
 			return new Object[0];
-		return createSession().parseArgs(input, argTypes);
+		ParserSession s = acquireSession();
+		try {
+			return s.parseArgs(input, argTypes);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 
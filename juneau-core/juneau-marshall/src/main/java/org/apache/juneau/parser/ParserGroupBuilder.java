@@ -207,6 +207,26 @@ public class ParserGroupBuilder extends BeanContextBuilder {
 		return set(PARSER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Session pool size.
+	 *
+	 * <p>
+	 * The maximum number of idle sessions to keep for reuse by the convenience parse methods.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Parser#PARSER_sessionPoolSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <code>0</code> (session pooling disabled).
+	 * @return This object (for method chaining).
+	 */
+	public ParserGroupBuilder sessionPoolSize(int value) {
+		return set(PARSER_sessionPoolSize, value);
+	}
+
 	/**
 	 * Configuration property:  Strict mode.
 	 *
@@ -347,6 +347,11 @@ public final class ParserPipe implements Closeable {
 	@Override /* Closeable */
 	public void close() {
 		try {
+			// Return the buffers of the readers created by this pipe to the pool.
+			if (reader instanceof ParserReader && reader != input)
+				((ParserReader)reader).release();
+			if (positionable instanceof ParserReader && positionable != input)
+				((ParserReader)positionable).release();
 			if (doClose)
 				IOUtils.close(reader, inputStream);
 		} catch (IOException e) {
@@ -54,14 +54,14 @@ public class ParserReader extends Reader implements Positionable {
 		if (pipe.isString()) {
 			String in = pipe.getInputAsString();
 			this.r = new CharSequenceReader(in);
-			this.buff = new char[in.length() < 1024 ? in.length() : 1024];
+			this.buff = BufferPool.getCharBuffer(in.length() < 1024 ? in.length() : 1024);
 		} else {
 			Reader _r = pipe.getReader();
 			if (_r instanceof ParserReader)
 				this.r = ((ParserReader)_r).r;
 			else
 				this.r = _r;
-			this.buff = new char[1024];
+			this.buff = BufferPool.getCharBuffer(1024);
 		}
 		pipe.setPositionable(this);
 	}
@@ -150,6 +150,7 @@ public class ParserReader extends Reader implements Positionable {
 					if (iMark == 0) {
 						char[] buff2 = new char[buff.length<<1];
 						System.arraycopy(buff, 0, buff2, 0, buff.length);
+						BufferPool.returnCharBuffer(buff);
 						buff = buff2;
 
 					// Otherwise, we copy what's currently marked to the beginning of the buffer.
@@ -280,6 +281,18 @@ public class ParserReader extends Reader implements Positionable {
 		// No-op
 	}
 
+	/**
+	 * Returns the internal character buffers of this reader to the {@link BufferPool}.
+	 *
+	 * <p>
+	 * Called by {@link ParserPipe#close()} on the reader created from the pipe.
+	 * <br>This reader must not be read from afterwards.
+	 */
+	protected void release() {
+		BufferPool.returnCharBuffer(buff);
+		buff = null;
+	}
+
 	/**
 	 * Returns the contents of the reusable character buffer as a string, and resets the buffer for next usage.
 	 *
@@ -74,6 +74,18 @@ public abstract class ParserSession extends BeanSession {
 		this(Parser.DEFAULT, args);
 	}
 
+	@Override /* Session */
+	protected boolean reset() {
+		// Listeners are instantiated per-session and may accumulate state, so those sessions are not reusable.
+		if (listener != null)
+			return false;
+		currentProperty = null;
+		currentClass = null;
+		mark = new Position(-1);
+		pipe = null;
+		return super.reset();
+	}
+
 	@Override /* Session */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -611,6 +623,66 @@ public abstract class ParserSession extends BeanSession {
 		throw new UnsupportedOperationException("Parser '"+getClass().getName()+"' does not support this method.");
 	}
 
+	/**
+	 * Parses the contents of the specified input as an array and returns an iterator over its entries.
+	 *
+	 * <p>
+	 * Parsers that support it (e.g. {@link org.apache.juneau.json.JsonParser}) parse each entry as the iterator is
+	 * advanced, so the whole array is never held in memory.
+	 * <br>Other parsers parse the entire array before returning.
+	 *
+	 * <p>
+	 * The input is closed once the last entry has been read.
+	 * <br>Parsing errors encountered while iterating are thrown as {@link RuntimeException RuntimeExceptions} wrapping
+	 * the {@link ParseException}.
+	 *
+	 * @param <E> The element class type.
+	 * @param input The input.  See {@link #parse(Object, ClassMeta)} for supported input types.
+	 * @param elementType The class type of the elements.
+	 * @return An iterator over the parsed entries.  Never <jk>null</jk>.
+	 * @throws ParseException
+	 * 	If the input contains a syntax error or is malformed, or is not valid for the specified type.
+	 */
+	public final <E> Iterator<E> parseIterator(Object input, ClassMeta<E> elementType) throws ParseException {
+		ParserPipe pipe = createPipe(input);
+		try {
+			return doParseIterator(pipe, elementType);
+		} catch (ParseException e) {
+			pipe.close();
+			throw e;
+		} catch (StackOverflowError e) {
+			pipe.close();
+			throw new ParseException(this, "Depth too deep.  Stack overflow occurred.");
+		} catch (Exception e) {
+			pipe.close();
+			throw new ParseException(this, e, "Exception occurred.  exception={0}, message={1}.",
+				e.getClass().getSimpleName(), e.getLocalizedMessage());
+		} finally {
+			checkForWarnings();
+		}
+	}
+
+	/**
+	 * Implementation method.
+	 *
+	 * <p>
+	 * Default implementation parses the entire input into a list and returns an iterator over it.
+	 * <br>Implementations that parse lazily are responsible for closing the pipe when the last entry is read.
+	 *
+	 * @param pipe The parser input.
+	 * @param elementType The class type of the elements.
+	 * @return An iterator over the parsed entries.
+	 * @throws Exception If thrown from underlying stream, or if the input contains a syntax error or is malformed.
+	 */
+	protected <E> Iterator<E> doParseIterator(ParserPipe pipe, ClassMeta<E> elementType) throws Exception {
+		try {
+			List<E> l = doParse(pipe, getClassMeta(List.class, elementType));
+			return l == null ? Collections.<E>emptyIterator() : l.iterator();
+		} finally {
+			pipe.close();
+		}
+	}
+
 	/**
 	 * Parses the specified array input with each entry in the object defined by the {@code argTypes}
 	 * argument.
@@ -34,4 +34,19 @@ public abstract class MatcherFactory {
 	 * @return A matcher for the specified pattern.
 	 */
 	public abstract Matcher create(String pattern);
+
+	/**
+	 * Instantiates a matcher for the specified pattern using optional case-insensitive matching.
+	 *
+	 * <p>
+	 * The default implementation ignores the <code>ignoreCase</code> flag and calls {@link #create(String)}.
+	 * <br>Factories that match against character data should override this method.
+	 *
+	 * @param pattern The pattern string.
+	 * @param ignoreCase If <jk>true</jk>, the matcher should match case-insensitively.
+	 * @return A matcher for the specified pattern.
+	 */
+	public Matcher create(String pattern, boolean ignoreCase) {
+		return create(pattern);
+	}
 }
@@ -0,0 +1,50 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.pojotools;
+
+/**
+ * Encapsulates arguments for the {@link PojoPaginator} class.
+ */
+public class PageArgs {
+
+	private final int position, limit;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param position The zero-indexed position of the first entry to return.
+	 * @param limit The maximum number of entries to return.  <code>0</code> means no limit.
+	 */
+	public PageArgs(int position, int limit) {
+		this.position = Math.max(position, 0);
+		this.limit = Math.max(limit, 0);
+	}
+
+	/**
+	 * The zero-indexed position of the first entry to return.
+	 *
+	 * @return The zero-indexed position of the first entry to return.
+	 */
+	public int getPosition() {
+		return position;
+	}
+
+	/**
+	 * The maximum number of entries to return.
+	 *
+	 * @return The maximum number of entries to return, or <code>0</code> if there is no limit.
+	 */
+	public int getLimit() {
+		return limit;
+	}
+}
@@ -12,6 +12,9 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.pojotools;
 
+import java.lang.reflect.*;
+import java.util.*;
+
 import org.apache.juneau.*;
 
 /**
@@ -20,52 +23,47 @@ import org.apache.juneau.*;
  * <p>
  * Allows you to quickly return subsets of arrays and collections based on position/limit arguments.
  */
-public final class PojoPaginator implements PojoTool<Object> {
+@SuppressWarnings({"rawtypes"})
+public final class PojoPaginator implements PojoTool<PageArgs> {
 
 	@Override /* PojoTool */
-	public Object run(BeanSession session, Object input, Object args) {
+	public Object run(BeanSession session, Object input, PageArgs args) {
+
+		if (input == null)
+			return null;
+
+		ClassMeta type = session.getClassMetaForObject(input);
+
+		if (! type.isCollectionOrArray())
+			return input;
+
+		int pos = args.getPosition();
+		int limit = args.getLimit();
+
+		if (type.isArray()) {
+			int size = Array.getLength(input);
+			int end = (limit == 0 || limit+pos >= size) ? size : limit + pos;
+			pos = Math.min(pos, size);
+			Object a = Array.newInstance(type.getInnerClass().getComponentType(), end - pos);
+			System.arraycopy(input, pos, a, 0, end - pos);
+			return a;
+		}
 
-//		if (input == null)
-//			return null;
-//
-//		ClassMeta type = session.getClassMetaForObject(input);
-//
-//		if (! type.isCollectionOrArray())
-//			return input;
-//
-//		int pos = args.getPosition();
-//		int limit = args.getLimit();
-//
-//		if (type.isArray()) {
-//			int size = Array.getLength(input);
-//			int end = (limit+pos >= size) ? size : limit + pos;
-//			pos = Math.min(pos, size);
-//			ClassMeta<?> et = type.getElementType();
-// 			if (! et.isPrimitive())
-//				return copyOfRange((Object[])input, pos, end);
-//			if (et.isType(boolean.class))
-//				return copyOfRange((boolean[])input, pos, end);
-//			if (et.isType(byte.class))
-//				return copyOfRange((byte[])input, pos, end);
-//			if (et.isType(char.class))
-//				return copyOfRange((char[])input, pos, end);
-//			if (et.isType(double.class))
-//				return copyOfRange((double[])input, pos, end);
-//			if (et.isType(float.class))
-//				return copyOfRange((float[])input, pos, end);
-//			if (et.isType(int.class))
-//				return copyOfRange((int[])input, pos, end);
-//			if (et.isType(long.class))
-//				return copyOfRange((long[])input, pos, end);
-//			if (et.isType(short.class))
-//				return copyOfRange((short[])input, pos, end);
-//			return null;
-//		}
-//
-//		List l = type.isList() ? (List)input : new ArrayList((Collection)input);
-//		int end = (limit+pos >= l.size()) ? l.size() : limit + pos;
-//		pos = Math.min(pos, l.size());
-//		return l.subList(pos, end);
-		return null;
+		Collection c = (Collection)input;
+		int size = c.size();
+		int end = (limit == 0 || limit+pos >= size) ? size : limit + pos;
+		pos = Math.min(pos, size);
+		List<Object> l = new ArrayList<>(end - pos);
+		if (c instanceof List) {
+			l.addAll(((List)c).subList(pos, end));
+		} else {
+			int i = 0;
+			for (Iterator it = c.iterator(); it.hasNext() && i < end; i++) {
+				Object o = it.next();
+				if (i >= pos)
+					l.add(o);
+			}
+		}
+		return l;
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,71 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.pojotools;
+
+import org.apache.juneau.*;
+
+/**
+ * A {@link QueryableSource} that performs queries in memory on an array or collection of POJOs.
+ *
+ * <p>
+ * Searches are performed first, followed by sorting, paging, and finally the view.
+ * <br>When a limit is specified, only the rows up to <code>position+limit</code> are sorted.
+ * <br>When {@link QueryArgs#isIgnoreCase()} is set, all string search terms are matched case-insensitively.
+ */
+public class PojoQueryableSource implements QueryableSource {
+
+	private static final PojoSorter SORTER = new PojoSorter();
+	private static final PojoPaginator PAGINATOR = new PojoPaginator();
+	private static final PojoViewer VIEWER = new PojoViewer();
+
+	private final Object input;
+	private final PojoSearcher searcher;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param input The array or collection to query.
+	 */
+	public PojoQueryableSource(Object input) {
+		this(input, PojoSearcher.DEFAULT);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param input The array or collection to query.
+	 * @param searcher The searcher to use for searches.
+	 */
+	public PojoQueryableSource(Object input, PojoSearcher searcher) {
+		this.input = input;
+		this.searcher = searcher;
+	}
+
+	@Override /* QueryableSource */
+	public Object query(BeanSession session, QueryArgs args) {
+		Object o = searcher.run(session, input, args.getSearchArgs(), args.isIgnoreCase());
+
+		PageArgs pa = args.getPageArgs();
+		int pos = pa.getPosition(), limit = pa.getLimit();
+
+		o = SORTER.run(session, o, args.getSortArgs(), limit == 0 ? 0 : pos + limit);
+
+		if (pos != 0 || limit != 0)
+			o = PAGINATOR.run(session, o, pa);
+
+		if (! args.getViewArgs().getView().isEmpty())
+			o = VIEWER.run(session, o, args.getViewArgs());
+
+		return o;
+	}
+}
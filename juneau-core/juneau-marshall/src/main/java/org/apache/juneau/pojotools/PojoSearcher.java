@@ -12,18 +12,24 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.pojotools;
 
-import static org.apache.juneau.internal.StringUtils.*;
-
 import java.lang.reflect.*;
 import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
 
 import org.apache.juneau.*;
 
 /**
- * Designed to provide paging on POJOs consisting of arrays and collections.
+ * Designed to provide searches on POJOs consisting of arrays and collections of maps and beans.
+ *
+ * <p>
+ * Search arguments are compiled into a reusable search plan the first time they're seen, so repeated searches with the
+ * same arguments don't have to re-parse the search patterns.
+ * <br>Bean property accessors are resolved once per row class instead of once per row.
  *
  * <p>
- * Allows you to quickly return subsets of arrays and collections based on position/limit arguments.
+ * Searches on large collections can optionally be split across the common fork/join pool by specifying a parallel
+ * threshold.
  */
 @SuppressWarnings({"rawtypes"})
 public final class PojoSearcher implements PojoTool<SearchArgs> {
@@ -33,20 +39,41 @@ public final class PojoSearcher implements PojoTool<SearchArgs> {
 	 */
 	public static final PojoSearcher DEFAULT = new PojoSearcher();
 
+	private static final int MAX_PLANS = 1000;
+
 	final MatcherFactory[] factories;
+	final int parallelThreshold;
+	private final ConcurrentHashMap<Map<String,String>,SearchPlan>
+		plans = new ConcurrentHashMap<>(),
+		ignoreCasePlans = new ConcurrentHashMap<>();
 
 	/**
-	 * TODO
+	 * Constructor.
 	 *
-	 * @param factories
+	 * @param factories The matcher factories to use for matching column values.
 	 */
 	public PojoSearcher(MatcherFactory...factories) {
+		this(0, factories);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param parallelThreshold
+	 * 	The minimum number of rows before the search is split across the common fork/join pool.
+	 * 	<br><code>0</code> or less means searches are always performed on the calling thread.
+	 * @param factories The matcher factories to use for matching column values.
+	 */
+	public PojoSearcher(int parallelThreshold, MatcherFactory...factories) {
+		this.parallelThreshold = parallelThreshold;
 		this.factories = factories;
 	}
 
 	/**
-	 * TODO
+	 * Constructor.
 	 *
+	 * <p>
+	 * Uses the number, time, and string matcher factories.
 	 */
 	public PojoSearcher() {
 		this(NumberMatcherFactory.DEFAULT, TimeMatcherFactory.DEFAULT, StringMatcherFactory.DEFAULT);
@@ -54,6 +81,21 @@ public final class PojoSearcher implements PojoTool<SearchArgs> {
 
 	@Override /* PojoTool */
 	public Object run(BeanSession session, Object input, SearchArgs args) {
+		return run(session, input, args, false);
+	}
+
+	/**
+	 * Same as {@link #run(BeanSession, Object, SearchArgs)} but optionally matches search terms case-insensitively.
+	 *
+	 * @param session The current bean session.
+	 * @param input The input POJO.
+	 * @param args The search arguments.
+	 * @param ignoreCase
+	 * 	If <jk>true</jk>, all string search terms are matched case-insensitively.
+	 * 	<br>Otherwise only single-quoted terms are matched case-insensitively.
+	 * @return The matching rows, or the input if it is not an array or collection or no search columns were specified.
+	 */
+	public Object run(BeanSession session, Object input, SearchArgs args, boolean ignoreCase) {
 
 		ClassMeta<?> type = session.getClassMetaForObject(input);
 		Map<String,String> search = args.getSearch();
@@ -61,62 +103,158 @@ public final class PojoSearcher implements PojoTool<SearchArgs> {
 		if (search.isEmpty() || type == null || ! type.isCollectionOrArray())
 			return input;
 
-		List<Object> l = null;
-		RowMatcher rowMatcher = new RowMatcher(session, search);
+		SearchPlan plan = getPlan(search, ignoreCase);
 
-		if (type.isCollection()) {
-			Collection c = (Collection)input;
-			l = new ArrayList<>(c.size());
-			for (Object o : c) {
-				if (rowMatcher.matches(o))
-					l.add(o);
-			}
+		Object[] rows = type.isCollection() ? ((Collection)input).toArray() : null;
+		int size = rows != null ? rows.length : Array.getLength(input);
 
-		} else /* isArray */ {
-			int size = Array.getLength(input);
-			l = new ArrayList<>(size);
-			for (int i = 0; i < size; i++) {
-				Object o = Array.get(input, i);
-				if (rowMatcher.matches(o))
-					l.add(o);
-			}
+		if (parallelThreshold > 0 && size >= parallelThreshold)
+			return ForkJoinPool.commonPool().invoke(new SearchTask(session, plan, input, rows, 0, size));
+
+		return search(new RowMatcher(session, plan), input, rows, 0, size);
+	}
+
+	/**
+	 * Returns the compiled search plan for the specified search arguments.
+	 *
+	 * <p>
+	 * Plans are cached by search arguments.
+	 */
+	SearchPlan getPlan(Map<String,String> search, boolean ignoreCase) {
+		ConcurrentHashMap<Map<String,String>,SearchPlan> plans = ignoreCase ? ignoreCasePlans : this.plans;
+		SearchPlan p = plans.get(search);
+		if (p == null) {
+			if (plans.size() >= MAX_PLANS)
+				plans.clear();
+			Map<String,String> key = new LinkedHashMap<>(search);
+			p = new SearchPlan(key, ignoreCase);
+			SearchPlan p2 = plans.putIfAbsent(key, p);
+			if (p2 != null)
+				p = p2;
 		}
+		return p;
+	}
 
+	static List<Object> search(RowMatcher rowMatcher, Object input, Object[] rows, int start, int end) {
+		List<Object> l = new ArrayList<>(end - start);
+		for (int i = start; i < end; i++) {
+			Object o = rows != null ? rows[i] : Array.get(input, i);
+			if (rowMatcher.matches(o))
+				l.add(o);
+		}
 		return l;
 	}
 
 	//====================================================================================================
-	// MapMatcher
+	// SearchTask
+	//====================================================================================================
+	/*
+	 * Searches a range of rows, splitting the range in half until it falls below the parallel threshold.
+	 * Results are concatenated in row order.
+	 * Bean sessions aren't thread safe, so each leaf task searches using its own copy of the session.
+	 */
+	private class SearchTask extends RecursiveTask<List<Object>> {
+		private static final long serialVersionUID = 1L;
+
+		final BeanSession bs;
+		final SearchPlan plan;
+		final Object input;
+		final Object[] rows;
+		final int start, end;
+
+		SearchTask(BeanSession bs, SearchPlan plan, Object input, Object[] rows, int start, int end) {
+			this.bs = bs;
+			this.plan = plan;
+			this.input = input;
+			this.rows = rows;
+			this.start = start;
+			this.end = end;
+		}
+
+		@Override /* RecursiveTask */
+		protected List<Object> compute() {
+			if (end - start <= Math.max(parallelThreshold / 2, 1))
+				return search(new RowMatcher(bs.createBeanSession(), plan), input, rows, start, end);
+			int mid = (start + end) >>> 1;
+			SearchTask left = new SearchTask(bs, plan, input, rows, start, mid);
+			left.fork();
+			List<Object> r = new SearchTask(bs, plan, input, rows, mid, end).compute();
+			List<Object> l = left.join();
+			l.addAll(r);
+			return l;
+		}
+	}
+
+	//====================================================================================================
+	// SearchPlan
 	//====================================================================================================
 	/*
-	 * Matches on a Map only if all specified entry matchers match.
+	 * The compiled form of a set of search arguments.
+	 * Immutable and shared across threads.
 	 */
-	private class RowMatcher {
+	final class SearchPlan {
+		final String[] columns;
+		final ColumnMatcher[] matchers;
 
-		Map<String,ColumnMatcher> entryMatchers = new HashMap<>();
-		BeanSession bs;
+		SearchPlan(Map<String,String> search, boolean ignoreCase) {
+			columns = new String[search.size()];
+			matchers = new ColumnMatcher[search.size()];
+			int i = 0;
+			for (Map.Entry<String,String> e : search.entrySet()) {
+				columns[i] = e.getKey();
+				matchers[i++] = new ColumnMatcher(e.getValue(), ignoreCase);
+			}
+		}
+	}
+
+	//====================================================================================================
+	// RowMatcher
+	//====================================================================================================
+	/*
+	 * Matches on a Map or bean only if all specified column matchers match.
+	 * Not thread safe.  One instance is created per search (or per parallel search task).
+	 */
+	private final class RowMatcher {
 
-		RowMatcher(BeanSession bs, Map query) {
+		final BeanSession bs;
+		final SearchPlan plan;
+
+		// Last row class seen and its metadata.
+		Class<?> lastClass;
+		ClassMeta<?> lastMeta;
+		BeanPropertyMeta[] lastProperties;
+
+		RowMatcher(BeanSession bs, SearchPlan plan) {
 			this.bs = bs;
-			for (Map.Entry e : (Set<Map.Entry>)query.entrySet())
-				entryMatchers.put(stringify(e.getKey()), new ColumnMatcher(bs, stringify(e.getValue())));
+			this.plan = plan;
 		}
 
 		boolean matches(Object o) {
 			if (o == null)
 				return false;
-			ClassMeta<?> cm = bs.getClassMetaForObject(o);
+			ClassMeta<?> cm = getClassMeta(o);
+			if (cm.isBean() && lastProperties != null) {
+				String[] columns = plan.columns;
+				for (int i = 0; i < columns.length; i++) {
+					BeanPropertyMeta bpm = lastProperties[i];
+					Object val = bpm == null ? null : bpm.getRawFromBean(o, columns[i]);
+					if (! plan.matchers[i].matches(bs, val))
+						return false;
+				}
+				return true;
+			}
 			if (cm.isMapOrBean()) {
 				Map m = cm.isMap() ? (Map)o : bs.toBeanMap(o);
-				for (Map.Entry<String,ColumnMatcher> e : entryMatchers.entrySet()) {
-					String key = e.getKey();
+				String[] columns = plan.columns;
+				for (int i = 0; i < columns.length; i++) {
+					String key = columns[i];
 					Object val = null;
 					if (m instanceof BeanMap) {
 						val = ((BeanMap)m).getRaw(key);
 					} else {
 						val = m.get(key);
 					}
-					if (! e.getValue().matches(val))
+					if (! plan.matchers[i].matches(bs, val))
 						return false;
 				}
 				return true;
@@ -135,51 +273,72 @@ public final class PojoSearcher implements PojoTool<SearchArgs> {
 			}
 			return false;
 		}
+
+		private ClassMeta<?> getClassMeta(Object o) {
+			Class<?> c = o.getClass();
+			if (c != lastClass) {
+				lastClass = c;
+				lastMeta = bs.getClassMetaForObject(o);
+				lastProperties = null;
+				if (lastMeta.isBean() && ! lastMeta.isBeanMap()) {
+					BeanMeta<?> bm = lastMeta.getBeanMeta();
+					lastProperties = new BeanPropertyMeta[plan.columns.length];
+					for (int i = 0; i < plan.columns.length; i++)
+						lastProperties[i] = bm.getPropertyMeta(plan.columns[i]);
+				}
+			}
+			return lastMeta;
+		}
 	}
 
 	//====================================================================================================
-	// ObjectMatcher
+	// ColumnMatcher
 	//====================================================================================================
 	/*
 	 * Matcher that uses the correct matcher based on object type.
 	 * Used for objects when we can't determine the object type beforehand.
+	 * Matchers are created lazily per factory since a pattern may only be valid for some value types.
 	 */
-	private class ColumnMatcher {
+	private final class ColumnMatcher {
 
-		String searchPattern;
-		Matcher[] matchers;
-		BeanSession bs;
+		final String searchPattern;
+		final boolean ignoreCase;
+		final AtomicReferenceArray<Matcher> matchers;
 
-		ColumnMatcher(BeanSession bs, String searchPattern) {
-			this.bs = bs;
+		ColumnMatcher(String searchPattern, boolean ignoreCase) {
 			this.searchPattern = searchPattern;
-			this.matchers = new Matcher[factories.length];
+			this.ignoreCase = ignoreCase;
+			this.matchers = new AtomicReferenceArray<>(factories.length);
 		}
 
-		boolean matches(Object o) {
+		boolean matches(BeanSession bs, Object o) {
 			ClassMeta<?> cm = bs.getClassMetaForObject(o);
 			if (cm == null)
 				return false;
 			if (cm.isCollection()) {
 				for (Object o2 : (Collection)o)
-					if (matches(o2))
+					if (matches(bs, o2))
 						return true;
 				return false;
 			}
 			if (cm.isArray()) {
 				for (int i = 0; i < Array.getLength(o); i++)
-					if (matches(Array.get(o, i)))
+					if (matches(bs, Array.get(o, i)))
 						return true;
 				return false;
 			}
 			for (int i = 0; i < factories.length; i++) {
 				if (factories[i].canMatch(cm)) {
-					if (matchers[i] == null)
-						matchers[i] = factories[i].create(searchPattern);
-					return matchers[i].matches(cm, o);
+					Matcher m = matchers.get(i);
+					if (m == null) {
+						m = factories[i].create(searchPattern, ignoreCase);
+						if (! matchers.compareAndSet(i, null, m))
+							m = matchers.get(i);
+					}
+					return m.matches(cm, o);
 				}
 			}
 			return false;
 		}
 	}
-}
\ No newline at end of file
+}
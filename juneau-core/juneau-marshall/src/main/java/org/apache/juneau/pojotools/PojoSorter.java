@@ -20,12 +20,34 @@ import org.apache.juneau.internal.*;
 
 /**
  * Sorts arrays and collections of maps and beans.
+ *
+ * <p>
+ * Sort values are extracted once per row and compared using a single multi-column comparator.
+ * <br>When a limit is specified, only the top entries are selected instead of sorting the entire collection.
  */
 @SuppressWarnings({"unchecked","rawtypes"})
 public final class PojoSorter implements PojoTool<SortArgs> {
 
 	@Override /* PojoTool */
 	public Object run(BeanSession session, Object input, SortArgs args) {
+		return run(session, input, args, 0);
+	}
+
+	/**
+	 * Same as {@link #run(BeanSession, Object, SortArgs)} but only returns the first <code>limit</code> entries of the
+	 * sorted output.
+	 *
+	 * <p>
+	 * The result is identical to sorting the entire input and then truncating it, but uses a bounded heap to avoid a
+	 * full sort when the limit is smaller than the input.
+	 *
+	 * @param session The current bean session.
+	 * @param input The input POJO.
+	 * @param args The sort arguments.
+	 * @param limit The maximum number of entries to return.  <code>0</code> or less means no limit.
+	 * @return The sorted output, or the input if it is not an array or collection or no sort columns were specified.
+	 */
+	public Object run(BeanSession session, Object input, SortArgs args, int limit) {
 		if (input == null)
 			return null;
 
@@ -41,30 +63,27 @@ public final class PojoSorter implements PojoTool<SortArgs> {
 		if (! type.isCollectionOrArray())
 			return input;
 
+		String[] columns = sort.keySet().toArray(new String[sort.size()]);
+		boolean[] desc = new boolean[columns.length];
+		for (int i = 0; i < columns.length; i++)
+			desc[i] = sort.get(columns[i]);
+
+		SortValueExtractor x = new SortValueExtractor(session, columns);
 		ArrayList<SortEntry> l = null;
 
 		if (type.isArray()) {
 			int size = Array.getLength(input);
 			l = new ArrayList<>(size);
 			for (int i = 0; i < size; i++)
-				l.add(new SortEntry(session, Array.get(input, i)));
+				l.add(x.extract(Array.get(input, i)));
 		} else /* isCollection() */ {
 			Collection c = (Collection)input;
 			l = new ArrayList<>(c.size());
 			for (Object o : c)
-				l.add(new SortEntry(session, o));
+				l.add(x.extract(o));
 		}
 
-		// We reverse the list and sort last to first.
-		List<String> columns = new ArrayList<>(sort.keySet());
-		Collections.reverse(columns);
-
-		for (final String c : columns) {
-			final boolean isDesc = sort.get(c);
-			for (SortEntry se : l)
-				se.setSort(c, isDesc);
-			Collections.sort(l);
-		}
+		CollectionUtils.sort(l, new SortEntryComparator(desc), limit);
 
 		ArrayList<Object> l2 = new ArrayList<>(l.size());
 		for (SortEntry se : l)
@@ -73,38 +92,88 @@ public final class PojoSorter implements PojoTool<SortArgs> {
 		return l2;
 	}
 
-	private static class SortEntry implements Comparable {
-		Object o;
-		ClassMeta<?> cm;
-		BeanSession bs;
+	/*
+	 * Extracts sort values from rows once so that they're not re-read on every comparison.
+	 */
+	private static class SortValueExtractor {
+		final BeanSession bs;
+		final String[] columns;
 
-		Object sortVal;
-		boolean isDesc;
+		Class<?> lastClass;
+		ClassMeta<?> lastMeta;
+		BeanPropertyMeta[] lastProperties;
 
-		SortEntry(BeanSession bs, Object o) {
-			this.o = o;
+		SortValueExtractor(BeanSession bs, String[] columns) {
 			this.bs = bs;
-			this.cm = bs.getClassMetaForObject(o);
+			this.columns = columns;
+		}
+
+		SortEntry extract(Object o) {
+			Object[] vals = new Object[columns.length];
+			ClassMeta<?> cm = getClassMeta(o);
+			if (cm == null) {
+				// No values.
+			} else if (cm.isMap()) {
+				Map m = (Map)o;
+				for (int i = 0; i < columns.length; i++)
+					vals[i] = m.get(columns[i]);
+			} else if (cm.isBean() && lastProperties != null) {
+				for (int i = 0; i < columns.length; i++) {
+					BeanPropertyMeta bpm = lastProperties[i];
+					vals[i] = bpm == null ? null : bpm.getFromBean(bs, o, columns[i]);
+				}
+			} else if (cm.isBean()) {
+				BeanMap bm = bs.toBeanMap(o);
+				for (int i = 0; i < columns.length; i++)
+					vals[i] = bm.get(columns[i]);
+			}
+			return new SortEntry(o, vals);
 		}
 
-		void setSort(String sortCol, boolean isDesc) {
-			this.isDesc = isDesc;
-
-			if (cm == null)
-				sortVal = null;
-			else if (cm.isMap())
-				sortVal = ((Map)o).get(sortCol);
-			else if (cm.isBean())
-				sortVal = bs.toBeanMap(o).get(sortCol);
-			else
-				sortVal = null;
+		private ClassMeta<?> getClassMeta(Object o) {
+			if (o == null)
+				return null;
+			Class<?> c = o.getClass();
+			if (c != lastClass) {
+				lastClass = c;
+				lastMeta = bs.getClassMetaForObject(o);
+				lastProperties = null;
+				if (lastMeta.isBean() && ! lastMeta.isBeanMap()) {
+					BeanMeta<?> bm = lastMeta.getBeanMeta();
+					lastProperties = new BeanPropertyMeta[columns.length];
+					for (int i = 0; i < columns.length; i++)
+						lastProperties[i] = bm.getPropertyMeta(columns[i]);
+				}
+			}
+			return lastMeta;
+		}
+	}
+
+	private static class SortEntry {
+		final Object o;
+		final Object[] sortVals;
+
+		SortEntry(Object o, Object[] sortVals) {
+			this.o = o;
+			this.sortVals = sortVals;
+		}
+	}
+
+	private static class SortEntryComparator implements Comparator<SortEntry> {
+		final boolean[] desc;
+
+		SortEntryComparator(boolean[] desc) {
+			this.desc = desc;
 		}
 
-		@Override
-		public int compareTo(Object o) {
-			if (isDesc)
-				return ObjectUtils.compare(((SortEntry)o).sortVal, this.sortVal);
-			return ObjectUtils.compare(this.sortVal, ((SortEntry)o).sortVal);
+		@Override /* Comparator */
+		public int compare(SortEntry e1, SortEntry e2) {
+			for (int i = 0; i < desc.length; i++) {
+				int c = desc[i] ? ObjectUtils.compare(e2.sortVals[i], e1.sortVals[i]) : ObjectUtils.compare(e1.sortVals[i], e2.sortVals[i]);
+				if (c != 0)
+					return c;
+			}
+			return 0;
 		}
 	}
-}
\ No newline at end of file
+}
@@ -0,0 +1,273 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.pojotools;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.util.*;
+
+/**
+ * Encapsulates the search, sort, view, and paging arguments of a query against a collection of POJOs.
+ *
+ * <p>
+ * This is the structured form of a query that gets passed to {@link QueryableSource#query(org.apache.juneau.BeanSession, QueryArgs)}
+ * so that data sources can translate it into their own native queries.
+ *
+ * <p>
+ * Arguments are validated when this object is built:
+ * <ul>
+ * 	<li>Column names in search, sort, and view arguments cannot be empty.
+ * 	<li>Position and limit cannot be negative.
+ * </ul>
+ * Data sources can additionally restrict the set of allowed columns using {@link #validateColumns(Collection)}.
+ * <br>Validation failures are reported as {@link PatternException PatternExceptions}.
+ */
+public final class QueryArgs {
+
+	/**
+	 * Reusable query arguments with no search, sort, view, or paging.
+	 */
+	public static final QueryArgs DEFAULT = create().build();
+
+	private final SearchArgs searchArgs;
+	private final SortArgs sortArgs;
+	private final ViewArgs viewArgs;
+	private final PageArgs pageArgs;
+	private final boolean ignoreCase;
+
+	/**
+	 * Creates a new builder for this class.
+	 *
+	 * @return A new builder.
+	 */
+	public static Builder create() {
+		return new Builder();
+	}
+
+	QueryArgs(Builder b) {
+		this.searchArgs = b.searchArgs != null ? b.searchArgs : new SearchArgs(Collections.<String>emptyList());
+		this.sortArgs = b.sortArgs != null ? b.sortArgs : new SortArgs(Collections.<String>emptyList());
+		this.viewArgs = b.viewArgs != null ? b.viewArgs : new ViewArgs(Collections.<String>emptyList());
+
+		if (b.position < 0)
+			throw new PatternException("Invalid position ''{0}''.  Position cannot be negative.", b.position);
+		if (b.limit < 0)
+			throw new PatternException("Invalid limit ''{0}''.  Limit cannot be negative.", b.limit);
+		this.pageArgs = new PageArgs(b.position, b.limit);
+		this.ignoreCase = b.ignoreCase;
+
+		for (String c : getColumns())
+			if (isEmpty(c))
+				throw new PatternException("Empty column name specified in query.");
+	}
+
+	/**
+	 * Builder class.
+	 */
+	public static final class Builder {
+		SearchArgs searchArgs;
+		SortArgs sortArgs;
+		ViewArgs viewArgs;
+		int position, limit;
+		boolean ignoreCase;
+
+		/**
+		 * Specifies the search arguments.
+		 *
+		 * @param value
+		 * 	The search arguments as a comma-delimited list of key/value pairs (e.g. <js>"foo=bar,baz&gt;1"</js>).
+		 * 	<br>Can be <jk>null</jk>.
+		 * @return This object (for method chaining).
+		 */
+		public Builder search(String value) {
+			if (value != null)
+				searchArgs = new SearchArgs(value);
+			return this;
+		}
+
+		/**
+		 * Specifies the search arguments.
+		 *
+		 * @param value The search arguments.  Can be <jk>null</jk>.
+		 * @return This object (for method chaining).
+		 */
+		public Builder search(SearchArgs value) {
+			searchArgs = value;
+			return this;
+		}
+
+		/**
+		 * Specifies the sort arguments.
+		 *
+		 * @param value
+		 * 	The sort arguments as a comma-delimited list of column names optionally suffixed with <js>'+'</js> or
+		 * 	<js>'-'</js> (e.g. <js>"foo,bar-"</js>).
+		 * 	<br>Can be <jk>null</jk>.
+		 * @return This object (for method chaining).
+		 */
+		public Builder sort(String value) {
+			if (value != null)
+				sortArgs = new SortArgs(split(value));
+			return this;
+		}
+
+		/**
+		 * Specifies the sort arguments.
+		 *
+		 * @param value The sort arguments.  Can be <jk>null</jk>.
+		 * @return This object (for method chaining).
+		 */
+		public Builder sort(SortArgs value) {
+			sortArgs = value;
+			return this;
+		}
+
+		/**
+		 * Specifies the view arguments.
+		 *
+		 * @param value The view arguments as a comma-delimited list of column names.  Can be <jk>null</jk>.
+		 * @return This object (for method chaining).
+		 */
+		public Builder view(String value) {
+			if (value != null)
+				viewArgs = new ViewArgs(split(value));
+			return this;
+		}
+
+		/**
+		 * Specifies the view arguments.
+		 *
+		 * @param value The view arguments.  Can be <jk>null</jk>.
+		 * @return This object (for method chaining).
+		 */
+		public Builder view(ViewArgs value) {
+			viewArgs = value;
+			return this;
+		}
+
+		/**
+		 * Specifies the zero-indexed position of the first row to return.
+		 *
+		 * @param value The new value for this property.
+		 * @return This object (for method chaining).
+		 */
+		public Builder position(int value) {
+			position = value;
+			return this;
+		}
+
+		/**
+		 * Specifies the maximum number of rows to return.
+		 *
+		 * @param value The new value for this property.  <code>0</code> means return all rows.
+		 * @return This object (for method chaining).
+		 */
+		public Builder limit(int value) {
+			limit = value;
+			return this;
+		}
+
+		/**
+		 * Specifies whether search terms should be matched case-insensitively.
+		 *
+		 * @param value The new value for this property.
+		 * @return This object (for method chaining).
+		 */
+		public Builder ignoreCase(boolean value) {
+			ignoreCase = value;
+			return this;
+		}
+
+		/**
+		 * Instantiates and validates the query arguments.
+		 *
+		 * @return A new {@link QueryArgs} object.
+		 * @throws PatternException If the arguments are invalid.
+		 */
+		public QueryArgs build() throws PatternException {
+			return new QueryArgs(this);
+		}
+	}
+
+	/**
+	 * Verifies that all columns referenced by this query are in the specified set of columns.
+	 *
+	 * @param allowed The allowed column names.
+	 * @return This object (for method chaining).
+	 * @throws PatternException If this query references a column not in the allowed set.
+	 */
+	public QueryArgs validateColumns(Collection<String> allowed) throws PatternException {
+		for (String c : getColumns())
+			if (! allowed.contains(c))
+				throw new PatternException("Invalid column name ''{0}'' specified in query.", c);
+		return this;
+	}
+
+	/**
+	 * Returns the names of all columns referenced by this query.
+	 *
+	 * @return An ordered set of all column names in the search, sort, and view arguments.
+	 */
+	public Set<String> getColumns() {
+		Set<String> s = new LinkedHashSet<>();
+		s.addAll(searchArgs.getSearch().keySet());
+		s.addAll(sortArgs.getSort().keySet());
+		s.addAll(viewArgs.getView());
+		return s;
+	}
+
+	/**
+	 * Returns the search arguments.
+	 *
+	 * @return The search arguments.  Never <jk>null</jk>.
+	 */
+	public SearchArgs getSearchArgs() {
+		return searchArgs;
+	}
+
+	/**
+	 * Returns the sort arguments.
+	 *
+	 * @return The sort arguments.  Never <jk>null</jk>.
+	 */
+	public SortArgs getSortArgs() {
+		return sortArgs;
+	}
+
+	/**
+	 * Returns the view arguments.
+	 *
+	 * @return The view arguments.  Never <jk>null</jk>.
+	 */
+	public ViewArgs getViewArgs() {
+		return viewArgs;
+	}
+
+	/**
+	 * Returns the paging arguments.
+	 *
+	 * @return The paging arguments.  Never <jk>null</jk>.
+	 */
+	public PageArgs getPageArgs() {
+		return pageArgs;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if search terms should be matched case-insensitively.
+	 *
+	 * @return <jk>true</jk> if search terms should be matched case-insensitively.
+	 */
+	public boolean isIgnoreCase() {
+		return ignoreCase;
+	}
+}
@@ -0,0 +1,42 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.pojotools;
+
+import org.apache.juneau.*;
+
+/**
+ * A data source that can perform searching, sorting, and paging itself.
+ *
+ * <p>
+ * Allows queries to be pushed down to the underlying data store instead of materializing the entire collection in
+ * memory and then filtering it.
+ * <br>For example, a database-backed implementation can translate {@link QueryArgs} into a SQL <code>WHERE</code>,
+ * <code>ORDER BY</code>, and <code>LIMIT</code> clause.
+ *
+ * <p>
+ * {@link PojoQueryableSource} is the default in-memory implementation that performs the query on an existing array or
+ * collection using {@link PojoSearcher}, {@link PojoSorter}, {@link PojoPaginator}, and {@link PojoViewer}.
+ */
+public interface QueryableSource {
+
+	/**
+	 * Performs the specified query against this data source.
+	 *
+	 * @param session The current bean session.
+	 * @param args The validated query arguments.
+	 * @return The query results, typically a collection of maps or beans.
+	 * @throws PatternException If the query arguments are not supported by this source.
+	 * @throws Exception Any other exception thrown by the underlying data source.
+	 */
+	public Object query(BeanSession session, QueryArgs args) throws Exception;
+}
@@ -38,7 +38,12 @@ public class StringMatcherFactory extends MatcherFactory {
 
 	@Override
 	public Matcher create(String pattern) {
-		return new StringMatcher(pattern);
+		return new StringMatcher(pattern, false);
+	}
+
+	@Override
+	public Matcher create(String pattern, boolean ignoreCase) {
+		return new StringMatcher(pattern, ignoreCase);
 	}
 
 	/**
@@ -53,7 +58,7 @@ public class StringMatcherFactory extends MatcherFactory {
 
 		Pattern[] orPatterns, andPatterns, notPatterns;
 
-		public StringMatcher(String searchPattern) {
+		public StringMatcher(String searchPattern, boolean ignoreCaseAll) {
 
 			List<Pattern> ors = new LinkedList<>();
 			List<Pattern> ands = new LinkedList<>();
@@ -63,10 +68,10 @@ public class StringMatcherFactory extends MatcherFactory {
 				char c0 = s.charAt(0), c9 = s.charAt(s.length()-1);
 
 				if (c0 == '/' && c9 == '/' && s.length() > 1) {
-					ands.add(Pattern.compile(strip(s)));
+					ands.add(Pattern.compile(strip(s), ignoreCaseAll ? Pattern.CASE_INSENSITIVE : 0));
 				} else {
 					char prefix = '^';
-					boolean ignoreCase = false;
+					boolean ignoreCase = ignoreCaseAll;
 					if (s.length() > 1 && (c0 == '^' || c0 == '+' || c0 == '-')) {
 						prefix = c0;
 						s = s.substring(1);
@@ -35,6 +35,8 @@ import org.apache.juneau.utils.*;
  *
  * <p>
  * Objects are designed to be lightweight to create and threadsafe.
+ * <br>Instances for non-parameterized classes are canonical and are shared for the lifetime of the class, so reflective
+ * metadata and annotation lookups are only computed once per class.
  *
  * <h5 class='figure'>
  * <p class='bpcode w800'>
@@ -55,16 +57,26 @@ import org.apache.juneau.utils.*;
 @BeanIgnore
 public final class ClassInfo {
 
+	private static final ClassValue<ClassInfo> CACHE = new ClassValue<ClassInfo>() {
+		@Override /* ClassValue */
+		protected ClassInfo computeValue(Class<?> c) {
+			return new ClassInfo(c, c);
+		}
+	};
+
 	private final Type t;
 	private final Class<?> c;
 	private final boolean isParameterizedType;
-	private List<ClassInfo> interfaces, declaredInterfaces, parents, allParents;
-	private List<MethodInfo> publicMethods, declaredMethods, allMethods, allMethodsParentFirst;
-	private List<ConstructorInfo> publicConstructors, declaredConstructors;
-	private List<FieldInfo> publicFields, declaredFields, allFields, allFieldsParentFirst;
-	private Map<Class<?>,Optional<Annotation>> annotationMap, declaredAnnotationMap;
-	private int dim = -1;
-	private ClassInfo componentType;
+	// Lazily-computed and shared between threads since instances are canonical per class.
+	// Values are fully built before being assigned, so a thread may at worst compute the same value twice.
+	private volatile List<ClassInfo> interfaces, declaredInterfaces, parents, allParents;
+	private volatile List<MethodInfo> publicMethods, declaredMethods, allMethods, allMethodsParentFirst;
+	private volatile List<ConstructorInfo> publicConstructors, declaredConstructors;
+	private volatile List<FieldInfo> publicFields, declaredFields, allFields, allFieldsParentFirst;
+	private volatile Map<Class<?>,Optional<Annotation>> annotationMap, declaredAnnotationMap;
+	private volatile int dim = -1;
+	private volatile ClassInfo componentType;
+	private volatile Map<Member,Object> memberInfos;
 
 	//-----------------------------------------------------------------------------------------------------------------
 	// Instantiation.
@@ -91,6 +103,8 @@ public final class ClassInfo {
 	public static ClassInfo of(Type t) {
 		if (t == null)
 			return null;
+		if (t instanceof Class)
+			return CACHE.get((Class<?>)t);
 		return new ClassInfo(ClassUtils.toClass(t), t);
 	}
 
@@ -103,7 +117,7 @@ public final class ClassInfo {
 	public static ClassInfo of(Class<?> c) {
 		if (c == null)
 			return null;
-		return new ClassInfo(c, c);
+		return CACHE.get(c);
 	}
 
 	/**
@@ -114,6 +128,8 @@ public final class ClassInfo {
 	 * @return The constructed class info, or <jk>null</jk> if the type was <jk>null</jk>.
 	 */
 	public static ClassInfo of(Class<?> c, Type t) {
+		if (c != null && c == t)
+			return CACHE.get(c);
 		return new ClassInfo(c, t);
 	}
 
@@ -126,7 +142,7 @@ public final class ClassInfo {
 	public static ClassInfo of(Object o) {
 		if (o == null)
 			return null;
-		return new ClassInfo(o.getClass(), o.getClass());
+		return CACHE.get(o.getClass());
 	}
 
 	/**
@@ -304,7 +320,7 @@ public final class ClassInfo {
 			List<MethodInfo> l = new ArrayList<>(mm.length);
 			for (Method m : mm)
 				if (m.getDeclaringClass() != Object.class)
-					l.add(MethodInfo.of(this, m));
+					l.add(getMethodInfo(m));
 			l.sort(null);
 			publicMethods = Collections.unmodifiableList(l);
 		}
@@ -339,7 +355,7 @@ public final class ClassInfo {
 			List<MethodInfo> l = new ArrayList<>(mm.length);
 			for (Method m : mm)
 				if (! "$jacocoInit".equals(m.getName())) // Jacoco adds its own simulated methods.
-					l.add(MethodInfo.of(this, m));
+					l.add(getMethodInfo(m));
 			l.sort(null);
 			declaredMethods = Collections.unmodifiableList(l);
 		}
@@ -484,7 +500,7 @@ public final class ClassInfo {
 			Constructor<?>[] cc = c == null ? new Constructor[0] : c.getConstructors();
 			List<ConstructorInfo> l = new ArrayList<>(cc.length);
 			for (Constructor<?> ccc : cc)
-				l.add(ConstructorInfo.of(this, ccc));
+				l.add(getConstructorInfo(ccc));
 			l.sort(null);
 			publicConstructors = Collections.unmodifiableList(l);
 		}
@@ -529,7 +545,7 @@ public final class ClassInfo {
 			Constructor<?>[] cc = c == null ? new Constructor[0] : c.getDeclaredConstructors();
 			List<ConstructorInfo> l = new ArrayList<>(cc.length);
 			for (Constructor<?> ccc : cc)
-				l.add(ConstructorInfo.of(this, ccc));
+				l.add(getConstructorInfo(ccc));
 			l.sort(null);
 			declaredConstructors = Collections.unmodifiableList(l);
 		}
@@ -665,7 +681,7 @@ public final class ClassInfo {
 			List<FieldInfo> l = new ArrayList<>(ff.length);
 			for (Field f : ff)
 				if (! "$jacocoData".equals(f.getName()))
-					l.add(FieldInfo.of(this, f));
+					l.add(getFieldInfo(f));
 			l.sort(null);
 			declaredFields = Collections.unmodifiableList(l);
 		}
@@ -1002,16 +1018,98 @@ public final class ClassInfo {
 		return null;
 	}
 
-	private synchronized Map<Class<?>,Optional<Annotation>> annotationMap() {
-		if (annotationMap == null)
-			annotationMap = new ConcurrentHashMap<>();
-		return annotationMap;
+	private Map<Class<?>,Optional<Annotation>> annotationMap() {
+		Map<Class<?>,Optional<Annotation>> m = annotationMap;
+		if (m == null) {
+			synchronized(this) {
+				if (annotationMap == null)
+					annotationMap = new ConcurrentHashMap<>();
+				m = annotationMap;
+			}
+		}
+		return m;
 	}
 
-	private synchronized Map<Class<?>,Optional<Annotation>> declaredAnnotationMap() {
-		if (declaredAnnotationMap == null)
-			declaredAnnotationMap = new ConcurrentHashMap<>();
-		return declaredAnnotationMap;
+	private Map<Class<?>,Optional<Annotation>> declaredAnnotationMap() {
+		Map<Class<?>,Optional<Annotation>> m = declaredAnnotationMap;
+		if (m == null) {
+			synchronized(this) {
+				if (declaredAnnotationMap == null)
+					declaredAnnotationMap = new ConcurrentHashMap<>();
+				m = declaredAnnotationMap;
+			}
+		}
+		return m;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Member info cache
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns the cached {@link MethodInfo} for the specified method with this class as its declaring class.
+	 *
+	 * @param m The method.
+	 * @return The method info.  Never <jk>null</jk>.
+	 */
+	MethodInfo getMethodInfo(Method m) {
+		Map<Member,Object> mi = memberInfos();
+		MethodInfo i = (MethodInfo)mi.get(m);
+		if (i == null) {
+			i = new MethodInfo(this, m);
+			MethodInfo i2 = (MethodInfo)mi.putIfAbsent(m, i);
+			if (i2 != null)
+				i = i2;
+		}
+		return i;
+	}
+
+	/**
+	 * Returns the cached {@link ConstructorInfo} for the specified constructor with this class as its declaring class.
+	 *
+	 * @param c The constructor.
+	 * @return The constructor info.  Never <jk>null</jk>.
+	 */
+	ConstructorInfo getConstructorInfo(Constructor<?> c) {
+		Map<Member,Object> mi = memberInfos();
+		ConstructorInfo i = (ConstructorInfo)mi.get(c);
+		if (i == null) {
+			i = new ConstructorInfo(this, c);
+			ConstructorInfo i2 = (ConstructorInfo)mi.putIfAbsent(c, i);
+			if (i2 != null)
+				i = i2;
+		}
+		return i;
+	}
+
+	/**
+	 * Returns the cached {@link FieldInfo} for the specified field with this class as its declaring class.
+	 *
+	 * @param f The field.
+	 * @return The field info.  Never <jk>null</jk>.
+	 */
+	FieldInfo getFieldInfo(Field f) {
+		Map<Member,Object> mi = memberInfos();
+		FieldInfo i = (FieldInfo)mi.get(f);
+		if (i == null) {
+			i = new FieldInfo(this, f);
+			FieldInfo i2 = (FieldInfo)mi.putIfAbsent(f, i);
+			if (i2 != null)
+				i = i2;
+		}
+		return i;
+	}
+
+	private Map<Member,Object> memberInfos() {
+		Map<Member,Object> m = memberInfos;
+		if (m == null) {
+			synchronized (this) {
+				m = memberInfos;
+				if (m == null)
+					memberInfos = m = new ConcurrentHashMap<>();
+			}
+		}
+		return m;
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -1701,8 +1799,9 @@ public final class ClassInfo {
 				d++;
 				ct = ct.getComponentType();
 			}
-			this.dim = d;
+			// Assigned before dim so that any thread that sees dim also sees the component type.
 			this.componentType = ct == c ? this : of(ct);
+			this.dim = d;
 		}
 		return dim;
 	}
@@ -1713,13 +1812,12 @@ public final class ClassInfo {
 	 * @return The base component type of this class if it's an array, or this object if it's not.
 	 */
 	public ClassInfo getComponentType() {
-		if (componentType == null) {
-			if (c == null)
-				componentType = this;
-			else
-				getDimensions();
+		ClassInfo ct = componentType;
+		if (ct == null) {
+			getDimensions();
+			ct = componentType;
 		}
-		return componentType;
+		return ct;
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -45,24 +45,26 @@ public final class ConstructorInfo extends ExecutableInfo implements Comparable<
 	 *
 	 * @param declaringClass The class that declares this method.
 	 * @param c The constructor being wrapped.
-	 * @return A new {@link ConstructorInfo} object, or <jk>null</jk> if the method was null;
+	 * @return The cached {@link ConstructorInfo} object, or <jk>null</jk> if the method was null;
 	 */
 	public static ConstructorInfo of(ClassInfo declaringClass, Constructor<?> c) {
 		if (c == null)
 			return null;
-		return new ConstructorInfo(declaringClass, c);
+		if (declaringClass == null)
+			return of(c);
+		return declaringClass.getConstructorInfo(c);
 	}
 
 	/**
 	 * Convenience method for instantiating a {@link ConstructorInfo};
 	 *
 	 * @param c The constructor being wrapped.
-	 * @return A new {@link ConstructorInfo} object, or <jk>null</jk> if the method was null;
+	 * @return The cached {@link ConstructorInfo} object, or <jk>null</jk> if the method was null;
 	 */
 	public static ConstructorInfo of(Constructor<?> c) {
 		if (c == null)
 			return null;
-		return new ConstructorInfo(ClassInfo.of(c.getDeclaringClass()), c);
+		return ClassInfo.of(c.getDeclaringClass()).getConstructorInfo(c);
 	}
 
 	/**
@@ -29,12 +29,13 @@ public abstract class ExecutableInfo {
 	final Executable e;
 	final boolean isConstructor;
 
-	private List<ParamInfo> params;
-	private List<ClassInfo> paramTypes, exceptionInfos;
-	private Class<?>[] rawParamTypes, rawExceptionTypes;
-	private Type[] rawGenericParamTypes;
-	private Parameter[] rawParameters;
-	private Map<Class<?>,Optional<Annotation>> annotationMap;
+	// Lazily-computed and shared between threads since instances are canonical per declaring class.
+	private volatile List<ParamInfo> params;
+	private volatile List<ClassInfo> paramTypes, exceptionInfos;
+	private volatile Class<?>[] rawParamTypes, rawExceptionTypes;
+	private volatile Type[] rawGenericParamTypes;
+	private volatile Parameter[] rawParameters;
+	private volatile Map<Class<?>,Optional<Annotation>> annotationMap;
 
 	/**
 	 * Constructor.
@@ -329,10 +330,16 @@ public abstract class ExecutableInfo {
 		return e.getAnnotation(a);
 	}
 
-	private synchronized Map<Class<?>,Optional<Annotation>> annotationMap() {
-		if (annotationMap == null)
-			annotationMap = new ConcurrentHashMap<>();
-		return annotationMap;
+	private Map<Class<?>,Optional<Annotation>> annotationMap() {
+		Map<Class<?>,Optional<Annotation>> m = annotationMap;
+		if (m == null) {
+			synchronized(this) {
+				if (annotationMap == null)
+					annotationMap = new ConcurrentHashMap<>();
+				m = annotationMap;
+			}
+		}
+		return m;
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
@@ -25,7 +25,7 @@ import org.apache.juneau.annotation.*;
 public final class FieldInfo implements Comparable<FieldInfo> {
 
 	private final Field f;
-	private ClassInfo declaringClass, type;
+	private volatile ClassInfo declaringClass, type;
 
 	//-----------------------------------------------------------------------------------------------------------------
 	// Instantiation.
@@ -47,24 +47,26 @@ public final class FieldInfo implements Comparable<FieldInfo> {
 	 *
 	 * @param declaringClass The class that declares this method.
 	 * @param f The field being wrapped.
-	 * @return A new {@link FieldInfo} object, or <jk>null</jk> if the field was null.
+	 * @return The cached {@link FieldInfo} object, or <jk>null</jk> if the field was null.
 	 */
 	public static FieldInfo of(ClassInfo declaringClass, Field f) {
 		if (f == null)
 			return null;
-		return new FieldInfo(declaringClass, f);
+		if (declaringClass == null)
+			return of(f);
+		return declaringClass.getFieldInfo(f);
 	}
 
 	/**
 	 * Convenience method for instantiating a {@link FieldInfo};
 	 *
 	 * @param f The field being wrapped.
-	 * @return A new {@link FieldInfo} object, or <jk>null</jk> if the field was null.
+	 * @return The cached {@link FieldInfo} object, or <jk>null</jk> if the field was null.
 	 */
 	public static FieldInfo of(Field f) {
 		if (f == null)
 			return null;
-		return new FieldInfo(null, f);
+		return ClassInfo.of(f.getDeclaringClass()).getFieldInfo(f);
 	}
 
 	/**
@@ -30,7 +30,7 @@ public final class MethodInfo extends ExecutableInfo implements Comparable<Metho
 
 	private ClassInfo returnType;
 	private final Method m;
-	private List<Method> matching;
+	private volatile List<Method> matching;
 
 	//-----------------------------------------------------------------------------------------------------------------
 	// Instantiation.
@@ -52,24 +52,26 @@ public final class MethodInfo extends ExecutableInfo implements Comparable<Metho
 	 *
 	 * @param declaringClass The class that declares this method.
 	 * @param m The method being wrapped.
-	 * @return A new {@link MethodInfo} object, or <jk>null</jk> if the method was null;
+	 * @return The cached {@link MethodInfo} object, or <jk>null</jk> if the method was null;
 	 */
 	public static MethodInfo of(ClassInfo declaringClass, Method m) {
 		if (m == null)
 			return null;
-		return new MethodInfo(declaringClass, m);
+		if (declaringClass == null)
+			return of(m);
+		return declaringClass.getMethodInfo(m);
 	}
 
 	/**
 	 * Convenience method for instantiating a {@link MethodInfo};
 	 *
 	 * @param m The method being wrapped.
-	 * @return A new {@link MethodInfo} object, or <jk>null</jk> if the method was null;
+	 * @return The cached {@link MethodInfo} object, or <jk>null</jk> if the method was null;
 	 */
 	public static MethodInfo of(Method m) {
 		if (m == null)
 			return null;
-		return new MethodInfo(ClassInfo.of(m.getDeclaringClass()), m);
+		return ClassInfo.of(m.getDeclaringClass()).getMethodInfo(m);
 	}
 
 	/**
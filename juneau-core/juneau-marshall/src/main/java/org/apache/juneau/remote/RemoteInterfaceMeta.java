@@ -34,6 +34,21 @@ import org.apache.juneau.reflect.*;
  */
 public class RemoteInterfaceMeta {
 
+	/**
+	 * The path relative to the interface URL that batches of method invocations are posted to.
+	 *
+	 * <p>
+	 * The request body is an array of objects with a <js>"method"</js> entry containing the method path and an
+	 * <js>"args"</js> entry containing the array of arguments.
+	 * <br>The response body is an array of objects in the same order with either a <js>"result"</js> entry containing
+	 * the return value, or <js>"exceptionName"</js> and <js>"exceptionMessage"</js> entries if the method threw an
+	 * exception.
+	 *
+	 * <p>
+	 * Method paths always contain a <js>'/'</js> character, so this path never clashes with them.
+	 */
+	public static final String BATCH_PATH = "_batch";
+
 	private final Map<Method,RemoteInterfaceMethod> methods;
 	private final Map<String,RemoteInterfaceMethod> methodsByPath;
 	private final String path;
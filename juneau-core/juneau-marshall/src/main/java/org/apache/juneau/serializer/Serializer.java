@@ -225,6 +225,50 @@ public abstract class Serializer extends BeanTraverseContext {
 	 */
 	public static final String SERIALIZER_listener = PREFIX + "listener.c";
 
+	/**
+	 * Configuration property:  Session pool size.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"Serializer.sessionPoolSize.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>0</code>
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link SerializerBuilder#sessionPoolSize(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The maximum number of idle sessions to keep for reuse by the convenience serialize methods on this serializer
+	 * (e.g. {@link #serialize(Object)}, {@link #serialize(Object,Object)}, {@link #serializeToString(Object)}).
+	 *
+	 * <p>
+	 * When greater than zero, sessions created with default session arguments are reset and returned to a
+	 * {@link SessionPool} after each call instead of being discarded, so that repeated small serializations
+	 * reuse session objects and their internal buffers.
+	 * <br>Sessions created through {@link #createSession(SerializerSessionArgs)} are never pooled.
+	 * <br>Sessions with a {@link #SERIALIZER_listener listener} are never pooled since listeners are created per-session.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Create a serializer that keeps up to 16 idle sessions for reuse.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.sessionPoolSize(16)
+	 * 		.build();
+	 *
+	 * 	<jc>// Same, but use property.</jc>
+	 * 	WriterSerializer s = JsonSerializer
+	 * 		.<jsm>create</jsm>()
+	 * 		.set(<jsf>SERIALIZER_sessionPoolSize</jsf>, 16)
+	 * 		.build();
+	 * </p>
+	 */
+	public static final String SERIALIZER_sessionPoolSize = PREFIX + "sessionPoolSize.i";
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
@@ -716,6 +760,7 @@ public abstract class Serializer extends BeanTraverseContext {
 	private final UriResolution uriResolution;
 	private final UriRelativity uriRelativity;
 	private final Class<? extends SerializerListener> listener;
+	private final SessionPool<SerializerSession> sessionPool;
 
 	private final MediaTypeRange[] accept;
 	private final MediaType[] accepts;
@@ -763,6 +808,8 @@ public abstract class Serializer extends BeanTraverseContext {
 		uriRelativity = getProperty(SERIALIZER_uriRelativity, UriRelativity.class, UriRelativity.RESOURCE);
 		useWhitespace = getBooleanProperty(SERIALIZER_useWhitespace, false);
 		listener = getClassProperty(SERIALIZER_listener, SerializerListener.class, null);
+		int sessionPoolSize = getIntegerProperty(SERIALIZER_sessionPoolSize, 0);
+		sessionPool = sessionPoolSize > 0 ? new SessionPool<SerializerSession>(sessionPoolSize) : null;
 
 		this.produces = MediaType.forString(produces);
 		this.accept = accept == null ? MediaTypeRange.parse(produces) : MediaTypeRange.parse(accept);
@@ -839,7 +886,12 @@ public abstract class Serializer extends BeanTraverseContext {
 	 * @throws SerializeException If a problem occurred trying to convert the output.
 	 */
 	public final void serialize(Object o, Object output) throws SerializeException {
-		createSession().serialize(o, output);
+		SerializerSession s = acquireSession();
+		try {
+			s.serialize(o, output);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -854,7 +906,12 @@ public abstract class Serializer extends BeanTraverseContext {
 	 * @throws SerializeException If a problem occurred trying to convert the output.
 	 */
 	public Object serialize(Object o) throws SerializeException {
-		return createSession().serialize(o);
+		SerializerSession s = acquireSession();
+		try {
+			return s.serialize(o);
+		} finally {
+			releaseSession(s);
+		}
 	}
 
 	/**
@@ -870,7 +927,45 @@ public abstract class Serializer extends BeanTraverseContext {
 	 * @throws SerializeException If a problem occurred trying to convert the output.
 	 */
 	public final String serializeToString(Object o) throws SerializeException {
-		return createSession().serializeToString(o);
+		SerializerSession s = acquireSession();
+		try {
+			return s.serializeToString(o);
+		} finally {
+			releaseSession(s);
+		}
+	}
+
+	/**
+	 * Returns a session created with default session arguments for use by the convenience serialize methods.
+	 *
+	 * <p>
+	 * If {@link #SERIALIZER_sessionPoolSize} is enabled, an idle session is taken from the session pool if one is
+	 * available.
+	 * <br>Sessions retrieved through this method must be returned through {@link #releaseSession(SerializerSession)}
+	 * once the operation completes, and must not be used afterwards.
+	 *
+	 * @return A session created with default session arguments.
+	 */
+	protected final SerializerSession acquireSession() {
+		if (sessionPool != null) {
+			SerializerSession s = sessionPool.poll();
+			if (s != null)
+				return s;
+		}
+		return createSession(createDefaultSessionArgs());
+	}
+
+	/**
+	 * Returns a session retrieved through {@link #acquireSession()} back to the session pool.
+	 *
+	 * <p>
+	 * No-op if {@link #SERIALIZER_sessionPoolSize} is not enabled.
+	 *
+	 * @param s The session to release.
+	 */
+	protected final void releaseSession(SerializerSession s) {
+		if (sessionPool != null)
+			sessionPool.offer(s);
 	}
 
 	//-----------------------------------------------------------------------------------------------------------------
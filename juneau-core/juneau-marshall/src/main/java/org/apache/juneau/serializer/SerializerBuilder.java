@@ -140,6 +140,26 @@ public class SerializerBuilder extends BeanTraverseBuilder {
 		return set(SERIALIZER_listener, value);
 	}
 
+	/**
+	 * Configuration property:  Session pool size.
+	 *
+	 * <p>
+	 * The maximum number of idle sessions to keep for reuse by the convenience serialize methods.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link Serializer#SERIALIZER_sessionPoolSize}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <code>0</code> (session pooling disabled).
+	 * @return This object (for method chaining).
+	 */
+	public SerializerBuilder sessionPoolSize(int value) {
+		return set(SERIALIZER_sessionPoolSize, value);
+	}
+
 	/**
 	 * Configuration property:  Sort arrays and collections alphabetically.
 	 *
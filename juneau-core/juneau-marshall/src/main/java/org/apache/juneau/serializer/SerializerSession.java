@@ -93,6 +93,12 @@ public abstract class SerializerSession extends BeanTraverseSession {
 		this(Serializer.DEFAULT, args);
 	}
 
+	@Override /* Session */
+	protected boolean reset() {
+		// Listeners are instantiated per-session and may accumulate state, so those sessions are not reusable.
+		return listener == null && super.reset();
+	}
+
 	@Override /* Session */
 	public ObjectMap asMap() {
 		return super.asMap()
@@ -14,6 +14,7 @@ package org.apache.juneau.uon;
 
 import java.io.*;
 
+import org.apache.juneau.internal.*;
 import org.apache.juneau.parser.*;
 
 /**
@@ -32,7 +33,7 @@ import org.apache.juneau.parser.*;
 public final class UonReader extends ParserReader {
 
 	private final boolean decodeChars;
-	private final char[] buff;
+	private char[] buff;
 
 	// Writable properties.
 	private int iCurrent, iEnd;
@@ -48,14 +49,23 @@ public final class UonReader extends ParserReader {
 	public UonReader(ParserPipe pipe, boolean decodeChars) throws Exception {
 		super(pipe);
 		this.decodeChars = decodeChars;
-		if (pipe.isString()) {
+		if (! decodeChars)
+			this.buff = null;
+		else if (pipe.isString()) {
 			String in = pipe.getInputAsString();
-			this.buff = new char[in.length() < 1024 ? in.length() : 1024];
+			this.buff = BufferPool.getCharBuffer(in.length() < 1024 ? in.length() : 1024);
 		} else {
-			this.buff = new char[1024];
+			this.buff = BufferPool.getCharBuffer(1024);
 		}
 	}
 
+	@Override /* ParserReader */
+	protected void release() {
+		super.release();
+		BufferPool.returnCharBuffer(buff);
+		buff = null;
+	}
+
 	@Override /* Reader */
 	public final int read(char[] cbuf, int off, int len) throws IOException {
 
@@ -18,6 +18,7 @@ import static org.apache.juneau.internal.StringUtils.*;
 import java.lang.reflect.*;
 import java.text.*;
 import java.util.*;
+import java.util.concurrent.*;
 import java.util.regex.*;
 
 import org.apache.juneau.*;
@@ -195,6 +196,11 @@ import org.apache.juneau.internal.*;
  * <h5 class='topic'>Paging</h5>
  *
  * Use the <tt>position</tt> and <tt>limit</tt> parameters to specify a subset of rows to return.
+ * <br>When combined with a sort, only the rows up to <tt>position+limit</tt> are sorted.
+ *
+ * <h5 class='topic'>Performance</h5>
+ *
+ * Search patterns are compiled once per distinct set of search arguments and cached across instances of this class.
  */
 @SuppressWarnings({"unchecked","rawtypes"})
 public final class PojoQuery {
@@ -234,7 +240,7 @@ public final class PojoQuery {
 		ObjectList l = (ObjectList)replaceWithMutables(input);
 
 		// Do the search
-		CollectionFilter filter = new CollectionFilter(args.getSearch(), args.isIgnoreCase());
+		CollectionFilter filter = new CollectionFilter(getMatcher(args.getSearch(), args.isIgnoreCase()));
 		filter.doQuery(l);
 
 		// If sort or view isn't empty, then we need to make sure that all entries in the
@@ -242,16 +248,17 @@ public final class PojoQuery {
 		Map<String,Boolean> sort = args.getSort();
 		List<String> view = args.getView();
 
+		int pos = args.getPosition();
+		int limit = args.getLimit();
+
 		if ((! sort.isEmpty()) || (! view.isEmpty())) {
 			if (! sort.isEmpty())
-				doSort(l, sort);
+				doSort(l, sort, limit == 0 ? 0 : pos + limit);
 			if (! view.isEmpty())
 				doView(l, view);
 		}
 
 		// Do the paging.
-		int pos = args.getPosition();
-		int limit = args.getLimit();
 		if (pos != 0 || limit != 0) {
 			int end = (limit == 0 || limit+pos >= l.size()) ? l.size() : limit + pos;
 			pos = Math.min(pos, l.size());
@@ -305,31 +312,37 @@ public final class PojoQuery {
 
 	/*
 	 * Sorts the specified list by the sort list.
+	 * If a limit is specified, only the top entries are kept in the list.
 	 */
-	private static void doSort(List list, Map<String,Boolean> sortList) {
-
-		// We reverse the list and sort last to first.
-		List<String> columns = new ArrayList<>(sortList.keySet());
-		Collections.reverse(columns);
-
-		for (final String c : columns) {
-			final boolean isDesc = sortList.get(c);
-
-			Comparator comp = new Comparator<Map>() {
-				@Override /* Comparator */
-				public int compare(Map m1, Map m2) {
-					Comparable v1 = toComparable(m1.get(c)), v2 = toComparable(m2.get(c));
-					if (v1 == null && v2 == null)
-						return 0;
-					if (v1 == null)
-						return (isDesc ? -1 : 1);
-					if (v2 == null)
-						return (isDesc ? 1 : -1);
-					return (isDesc ? v2.compareTo(v1) : v1.compareTo(v2));
+	private static void doSort(List list, Map<String,Boolean> sortList, int limit) {
+
+		final String[] columns = sortList.keySet().toArray(new String[sortList.size()]);
+		final boolean[] desc = new boolean[columns.length];
+		for (int i = 0; i < columns.length; i++)
+			desc[i] = sortList.get(columns[i]);
+
+		Comparator comp = new Comparator<Map>() {
+			@Override /* Comparator */
+			public int compare(Map m1, Map m2) {
+				for (int i = 0; i < columns.length; i++) {
+					int c = compare(toComparable(m1.get(columns[i])), toComparable(m2.get(columns[i])), desc[i]);
+					if (c != 0)
+						return c;
 				}
-			};
-			Collections.sort(list, comp);
-		}
+				return 0;
+			}
+
+			private int compare(Comparable v1, Comparable v2, boolean isDesc) {
+				if (v1 == null && v2 == null)
+					return 0;
+				if (v1 == null)
+					return (isDesc ? -1 : 1);
+				if (v2 == null)
+					return (isDesc ? 1 : -1);
+				return (isDesc ? v2.compareTo(v1) : v1.compareTo(v2));
+			}
+		};
+		CollectionUtils.sort(list, comp, limit);
 	}
 
 	static final Comparable toComparable(Object o) {
@@ -367,15 +380,37 @@ public final class PojoQuery {
 	}
 
 
+	/*
+	 * Returns the compiled matcher for the specified search arguments, or null if there are no search arguments.
+	 * Matchers are immutable once created and are cached by search arguments.
+	 */
+	private IMatcher getMatcher(Map<String,String> query, boolean ignoreCase) {
+		if (query == null || query.isEmpty())
+			return null;
+		List<Object> key = Arrays.<Object>asList(query, ignoreCase, validTimestampFormats);
+		MapMatcher m = MATCHER_CACHE.get(key);
+		if (m == null) {
+			if (MATCHER_CACHE.size() >= MAX_CACHED_MATCHERS)
+				MATCHER_CACHE.clear();
+			m = new MapMatcher(query, ignoreCase, validTimestampFormats);
+			MapMatcher m2 = MATCHER_CACHE.putIfAbsent(Arrays.<Object>asList(new LinkedHashMap<>(query), ignoreCase, validTimestampFormats), m);
+			if (m2 != null)
+				m = m2;
+		}
+		return m;
+	}
+
+	private static final int MAX_CACHED_MATCHERS = 1000;
+	private static final ConcurrentHashMap<List<Object>,MapMatcher> MATCHER_CACHE = new ConcurrentHashMap<>();
+
 	//====================================================================================================
 	// CollectionFilter
 	//====================================================================================================
-	private class CollectionFilter {
+	private static class CollectionFilter {
 		IMatcher entryMatcher;
 
-		public CollectionFilter(Map query, boolean ignoreCase) {
-			if (query != null && ! query.isEmpty())
-				entryMatcher = new MapMatcher(query, ignoreCase);
+		public CollectionFilter(IMatcher entryMatcher) {
+			this.entryMatcher = entryMatcher;
 		}
 
 		public void doQuery(List in) {
@@ -402,14 +437,14 @@ public final class PojoQuery {
 	/*
 	 * Matches on a Map only if all specified entry matchers match.
 	 */
-	private class MapMatcher implements IMatcher<Map> {
+	private static class MapMatcher implements IMatcher<Map> {
 
 		Map<String,IMatcher> entryMatchers = new HashMap<>();
 
-		public MapMatcher(Map query, boolean ignoreCase) {
+		public MapMatcher(Map query, boolean ignoreCase, List<String> timestampFormats) {
 			for (Map.Entry e : (Set<Map.Entry>)query.entrySet())
 				if (e.getKey() != null && e.getValue() != null)
-					entryMatchers.put(e.getKey().toString(), new ObjectMatcher(e.getValue().toString(), ignoreCase));
+					entryMatchers.put(e.getKey().toString(), new ObjectMatcher(e.getValue().toString(), ignoreCase, timestampFormats));
 		}
 
 		@Override /* IMatcher */
@@ -438,17 +473,22 @@ public final class PojoQuery {
 	 * Matcher that uses the correct matcher based on object type.
 	 * Used for objects when we can't determine the object type beforehand.
 	 */
-	private class ObjectMatcher implements IMatcher<Object> {
+	private static class ObjectMatcher implements IMatcher<Object> {
 
-		String searchPattern;
-		boolean ignoreCase;
-		DateMatcher dateMatcher;
-		NumberMatcher numberMatcher;
-		StringMatcher stringMatcher;
+		final String searchPattern;
+		final boolean ignoreCase;
+		final List<String> timestampFormats;
 
-		ObjectMatcher(String searchPattern, boolean ignoreCase) {
+		// Created lazily since a pattern may only be valid for some value types.
+		// Volatile since instances are shared through the matcher cache.
+		volatile DateMatcher dateMatcher;
+		volatile NumberMatcher numberMatcher;
+		volatile StringMatcher stringMatcher;
+
+		ObjectMatcher(String searchPattern, boolean ignoreCase, List<String> timestampFormats) {
 			this.searchPattern = searchPattern;
 			this.ignoreCase = ignoreCase;
+			this.timestampFormats = timestampFormats;
 		}
 
 		@Override /* IMatcher */
@@ -492,7 +532,7 @@ public final class PojoQuery {
 
 		private IMatcher getDateMatcher() {
 			if (dateMatcher == null)
-				dateMatcher = new DateMatcher(searchPattern);
+				dateMatcher = new DateMatcher(searchPattern, timestampFormats);
 			return dateMatcher;
 		}
 	}
@@ -645,10 +685,7 @@ public final class PojoQuery {
 	// DateMatcher
 	//====================================================================================================
 	/** The list of all valid timestamp formats */
-	private SimpleDateFormat[] validTimestampFormats = new SimpleDateFormat[0];
-	{
-		setValidTimestampFormats("yyyy.MM.dd.HH.mm.ss","yyyy.MM.dd.HH.mm","yyyy.MM.dd.HH","yyyy.MM.dd","yyyy.MM","yyyy");
-	}
+	private List<String> validTimestampFormats = Arrays.asList("yyyy.MM.dd.HH.mm.ss","yyyy.MM.dd.HH.mm","yyyy.MM.dd.HH","yyyy.MM.dd","yyyy.MM","yyyy");
 
 	/**
 	 * Use this method to override the allowed search patterns when used in locales where time formats are different.
@@ -656,12 +693,10 @@ public final class PojoQuery {
 	 * @param s A comma-delimited list of valid time formats.
 	 */
 	public void setValidTimestampFormats(String...s) {
-		validTimestampFormats = new SimpleDateFormat[s.length];
-		for (int i = 0; i < s.length; i++)
-			validTimestampFormats[i] = new SimpleDateFormat(s[i]);
+		validTimestampFormats = Arrays.asList(s.clone());
 	}
 
-	private class DateMatcher implements IMatcher<Object> {
+	private static class DateMatcher implements IMatcher<Object> {
 
 		private TimestampPattern[] patterns;
 
@@ -670,9 +705,9 @@ public final class PojoQuery {
 		 *
 		 * @param searchPattern The search pattern.
 		 */
-		DateMatcher(String searchPattern) {
+		DateMatcher(String searchPattern, List<String> timestampFormats) {
 			patterns = new TimestampPattern[1];
-			patterns[0] = new TimestampPattern(searchPattern);
+			patterns[0] = new TimestampPattern(searchPattern, timestampFormats);
 
 		}
 
@@ -707,11 +742,11 @@ public final class PojoQuery {
 	/**
 	 * A construct representing a single search pattern.
 	 */
-	private class TimestampPattern {
+	private static class TimestampPattern {
 		TimestampRange[] ranges;
 		List<TimestampRange> l = new LinkedList<>();
 
-		public TimestampPattern(String s) {
+		public TimestampPattern(String s, List<String> timestampFormats) {
 
 			// Handle special case where timestamp is enclosed in quotes.
 			// This can occur on hyperlinks created by group-by queries.
@@ -750,13 +785,13 @@ public final class PojoQuery {
 						state = 3;
 					}
 				} else if (state == 2) {
-					l.add(new TimestampRange(op, parseDate(seg, pp)));
+					l.add(new TimestampRange(op, parseDate(seg, pp, timestampFormats)));
 					//tokens.add("^"+op + parseTimestamp(seg, pp));
 					seg = seg.substring(pp.getIndex()).trim();
 					pp.setIndex(0);
 					state = 1;
 				} else if (state == 3) {
-					startDate = parseDate(seg, pp);
+					startDate = parseDate(seg, pp, timestampFormats);
 					seg = seg.substring(pp.getIndex()).trim();
 					pp.setIndex(0);
 					state = 4;
@@ -772,7 +807,7 @@ public final class PojoQuery {
 						state = 1;
 					}
 				} else if (state == 5) {
-					l.add(new TimestampRange(startDate, parseDate(seg, pp)));
+					l.add(new TimestampRange(startDate, parseDate(seg, pp, timestampFormats)));
 					seg = seg.substring(pp.getIndex()).trim();
 					pp.setIndex(0);
 					state = 1;
@@ -855,15 +890,16 @@ public final class PojoQuery {
 	 *
 	 * @param seg The string segment being parsed.
 	 * @param pp Where parsing last left off.
+	 * @param timestampFormats The valid timestamp formats.
 	 * @return An object representing a timestamp.
 	 */
-	CalendarP parseDate(String seg, ParsePosition pp) {
+	static CalendarP parseDate(String seg, ParsePosition pp, List<String> timestampFormats) {
 
 		CalendarP cal = null;
 
-		for (int i = 0; i < validTimestampFormats.length && cal == null; i++) {
+		for (int i = 0; i < timestampFormats.size() && cal == null; i++) {
 			pp.setIndex(0);
-			SimpleDateFormat f = validTimestampFormats[i];
+			SimpleDateFormat f = new SimpleDateFormat(timestampFormats.get(i));
 			Date d = f.parse(seg, pp);
 			int idx = pp.getIndex();
 			if (idx != 0) {
@@ -41,6 +41,8 @@ public class XmlSerializerSession extends WriterSerializerSession {
 	private Namespace
 		defaultNamespace;
 	private Namespace[] namespaces = new Namespace[0];
+	private final Namespace initialDefaultNamespace;
+	private final Namespace[] initialNamespaces;
 
 	/**
 	 * Create a new session using properties specified in the context.
@@ -59,6 +61,15 @@ public class XmlSerializerSession extends WriterSerializerSession {
 		this.ctx = ctx;
 		namespaces = getInstanceArrayProperty(XML_namespaces, Namespace.class, ctx.getNamespaces());
 		defaultNamespace = findDefaultNamespace(getInstanceProperty(XML_defaultNamespace, Namespace.class, ctx.getDefaultNamespace()));
+		initialNamespaces = namespaces;
+		initialDefaultNamespace = defaultNamespace;
+	}
+
+	@Override /* Session */
+	protected boolean reset() {
+		namespaces = initialNamespaces;
+		defaultNamespace = initialDefaultNamespace;
+		return super.reset();
 	}
 
 	private Namespace findDefaultNamespace(Namespace n) {
@@ -127,6 +127,67 @@ public abstract class Var {
 		return true;
 	}
 
+	/**
+	 * Returns whether the value of this variable depends only on its argument and on objects that never change during
+	 * the lifetime of the variable resolver.
+	 *
+	 * <p>
+	 * For example, environment variables and manifest file entries are static, whereas config values and system
+	 * properties (which can be changed at runtime) and request headers are not.
+	 * <br>Static values are resolved once and never re-evaluated, so only return <jk>true</jk> if the value can never
+	 * change.
+	 * <br>Static variables can be resolved ahead of time by {@link VarTemplate#resolveStatic(VarResolverSession)} so
+	 * that only the remaining variables are resolved on every call.
+	 *
+	 * <p>
+	 * The default implementation of this method always returns <jk>false</jk>.
+	 * <br>Subclasses can override this method to override the default behavior.
+	 *
+	 * @return <jk>true</jk> if the value of this variable can be resolved ahead of time.
+	 */
+	protected boolean isStatic() {
+		return false;
+	}
+
+	/**
+	 * Returns the policy for caching the resolved values of this variable.
+	 *
+	 * <p>
+	 * Cached values are shared by all sessions of the same {@link VarResolver} and are keyed by the variable argument
+	 * and the scope returned by {@link #getCacheScope(VarResolverSession)}.
+	 * <br>Vars that perform expensive lookups (e.g. reading files or environment variables) can override this method
+	 * so that they're only evaluated once.
+	 *
+	 * <p>
+	 * The default implementation of this method always returns {@link VarCachePolicy#NONE}.
+	 * <br>Subclasses can override this method to override the default behavior.
+	 *
+	 * @return The cache policy of this variable.  Never <jk>null</jk>.
+	 */
+	protected VarCachePolicy getCachePolicy() {
+		return VarCachePolicy.NONE;
+	}
+
+	/**
+	 * Returns the scope of the cached values of this variable for the specified session.
+	 *
+	 * <p>
+	 * Values resolved in sessions with equal scopes are shared.
+	 * <br>For example, a var that reads localized resources would return the locale of the session so that each
+	 * locale gets its own cached values.
+	 * <br>Returning <jk>null</jk> bypasses the cache for the current resolution.
+	 *
+	 * <p>
+	 * The default implementation of this method always returns this var (i.e. all sessions share the same values).
+	 * <br>Subclasses can override this method to override the default behavior.
+	 *
+	 * @param session The session object used for a single instance of a var resolution.
+	 * @return The cache scope, or <jk>null</jk> if the value should not be cached.
+	 */
+	protected Object getCacheScope(VarResolverSession session) {
+		return this;
+	}
+
 	/**
 	 * The method called from {@link VarResolver}.
 	 *
@@ -0,0 +1,77 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.svl;
+
+import java.util.concurrent.*;
+
+/**
+ * Determines whether and for how long the resolved values of a {@link Var} are cached.
+ *
+ * <p>
+ * Values are cached on the {@link VarResolverContext} by variable argument and are shared by all sessions created from
+ * the same {@link VarResolver}.
+ *
+ * <p>
+ * Vars declare their policy by overriding {@link Var#getCachePolicy()}.
+ *
+ * <h5 class='section'>See Also:</h5>
+ * <ul>
+ * 	<li class='jm'>{@link Var#getCachePolicy()}
+ * 	<li class='jm'>{@link Var#getCacheScope(VarResolverSession)}
+ * 	<li class='jm'>{@link VarResolver#invalidateCache()}
+ * </ul>
+ */
+public final class VarCachePolicy {
+
+	/** Values are never cached. */
+	public static final VarCachePolicy NONE = new VarCachePolicy(-1, false);
+
+	/** Values are cached for the lifetime of the resolver. */
+	public static final VarCachePolicy FOREVER = new VarCachePolicy(0, false);
+
+	/** Values are cached until {@link VarResolver#invalidateCache()} is called (e.g. when a config file changes). */
+	public static final VarCachePolicy ON_CHANGE = new VarCachePolicy(0, true);
+
+	/**
+	 * Values are cached for the specified amount of time.
+	 *
+	 * @param ttl The time-to-live of cached values.
+	 * @param unit The time unit of the <code>ttl</code> argument.
+	 * @return A new cache policy.
+	 */
+	public static VarCachePolicy ttl(long ttl, TimeUnit unit) {
+		return new VarCachePolicy(Math.max(1, unit.toNanos(ttl)), false);
+	}
+
+	final long ttl;               // Nanoseconds, 0 if never expires, -1 if not cached.
+	final boolean invalidatable;  // Cleared by VarResolver.invalidateCache().
+
+	private VarCachePolicy(long ttl, boolean invalidatable) {
+		this.ttl = ttl;
+		this.invalidatable = invalidatable;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if values are cached under this policy.
+	 *
+	 * @return <jk>true</jk> if values are cached under this policy.
+	 */
+	public boolean isCached() {
+		return ttl >= 0;
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return ttl < 0 ? "NONE" : invalidatable ? "ON_CHANGE" : ttl == 0 ? "FOREVER" : "TTL(" + TimeUnit.NANOSECONDS.toMillis(ttl) + "ms)";
+	}
+}
@@ -0,0 +1,93 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.svl;
+
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+/**
+ * Resolution statistics for a single {@link Var} on a {@link VarResolver}.
+ *
+ * <p>
+ * Evaluations are calls made to the var itself, and hits are resolutions served from the var cache.
+ * <br>Comparing the evaluation times of vars identifies the ones that dominate template resolution and that are good
+ * candidates for a {@link VarCachePolicy}.
+ *
+ * <p>
+ * Instances of this class are thread safe.
+ *
+ * <h5 class='section'>See Also:</h5>
+ * <ul>
+ * 	<li class='jm'>{@link VarResolver#getMetrics()}
+ * </ul>
+ */
+public final class VarMetrics {
+
+	private final String name;
+	private final LongAdder evaluations = new LongAdder(), hits = new LongAdder(), time = new LongAdder();
+
+	VarMetrics(String name) {
+		this.name = name;
+	}
+
+	void onEvaluation(long nanos) {
+		evaluations.increment();
+		time.add(nanos);
+	}
+
+	void onHit() {
+		hits.increment();
+	}
+
+	/**
+	 * Returns the name of the var these metrics are for.
+	 *
+	 * @return The name of the var (e.g. <js>"C"</js>).
+	 */
+	public String getName() {
+		return name;
+	}
+
+	/**
+	 * Returns the number of times the var was evaluated.
+	 *
+	 * @return The number of times the var was evaluated.
+	 */
+	public long getEvaluations() {
+		return evaluations.sum();
+	}
+
+	/**
+	 * Returns the number of resolutions served from the var cache.
+	 *
+	 * @return The number of resolutions served from the var cache.
+	 */
+	public long getHits() {
+		return hits.sum();
+	}
+
+	/**
+	 * Returns the total time spent evaluating the var.
+	 *
+	 * @param unit The time unit to return.
+	 * @return The total time spent evaluating the var.
+	 */
+	public long getEvaluationTime(TimeUnit unit) {
+		return unit.convert(time.sum(), TimeUnit.NANOSECONDS);
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return "$" + name + ": evaluations=" + getEvaluations() + ", hits=" + getHits() + ", time=" + getEvaluationTime(TimeUnit.MICROSECONDS) + "us";
+	}
+}
@@ -148,6 +148,26 @@ public class VarResolver {
 		return new VarResolverSession(ctx, sessionObjects);
 	}
 
+	/**
+	 * Compiles the specified string into a template that can be resolved repeatedly without being reparsed.
+	 *
+	 * <p>
+	 * Templates are cached on this resolver, so calling this method multiple times with the same string returns the
+	 * same template.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	VarTemplate t = VarResolver.<jsf>DEFAULT</jsf>.compile(<js>"java.home is set to $S{java.home}"</js>);
+	 * 	String s = t.resolve(VarResolver.<jsf>DEFAULT</jsf>.createSession());
+	 * </p>
+	 *
+	 * @param s The string to compile.
+	 * @return The compiled template.  Never <jk>null</jk>.
+	 */
+	public VarTemplate compile(String s) {
+		return ctx.getTemplate(s);
+	}
+
 	/**
 	 * Resolve variables in the specified string.
 	 *
@@ -178,4 +198,32 @@ public class VarResolver {
 	public void resolveTo(String s, Writer w) throws IOException {
 		createSession(null).resolveTo(s, w);
 	}
+
+	/**
+	 * Returns the resolution statistics of the vars on this resolver.
+	 *
+	 * <p>
+	 * Useful for identifying the vars that dominate the time spent resolving strings.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jk>for</jk> (VarMetrics m : varResolver.getMetrics().values())
+	 * 		System.<jsf>out</jsf>.println(m);  <jc>// e.g. "$E: evaluations=1, hits=99, time=42us"</jc>
+	 * </p>
+	 *
+	 * @return An unmodifiable map whose keys are var names (e.g. <js>"S"</js>) and values are the metrics of the vars.
+	 */
+	public Map<String,VarMetrics> getMetrics() {
+		return ctx.getMetrics();
+	}
+
+	/**
+	 * Discards the cached values of vars whose cache policy is {@link VarCachePolicy#ON_CHANGE}.
+	 *
+	 * <p>
+	 * Should be called when the objects the vars read from (e.g. config files) have changed.
+	 */
+	public void invalidateCache() {
+		ctx.invalidateCache();
+	}
 }
\ No newline at end of file
@@ -18,6 +18,7 @@ import static org.apache.juneau.internal.CollectionUtils.*;
 import java.util.*;
 import java.util.concurrent.*;
 
+import org.apache.juneau.internal.*;
 import org.apache.juneau.reflect.*;
 
 /**
@@ -36,6 +37,11 @@ public class VarResolverContext {
 	private final Class<?>[] vars;
 	private final Map<String,Var> varMap;
 	private final Map<String,Object> contextObjects;
+	private final Cache<String,VarTemplate> templates = new Cache<>(false, 1000);
+	private final ConcurrentHashMap<String,VarTemplate> precompiled = new ConcurrentHashMap<>();
+	private final Map<String,VarMetrics> metrics;
+	private final ConcurrentHashMap<ValueKey,CachedValue> values = new ConcurrentHashMap<>();
+	private static final int MAX_CACHED_VALUES = 1000;
 
 	/**
 	 * Constructor.
@@ -48,15 +54,18 @@ public class VarResolverContext {
 		this.vars = Arrays.copyOf(vars, vars.length);
 
 		Map<String,Var> m = new ConcurrentSkipListMap<>();
+		Map<String,VarMetrics> m2 = new TreeMap<>();
 		for (Class<?> c : vars) {
 			ClassInfo ci = getClassInfo(c);
 			if (! ci.isChildOf(Var.class))
 				throw new VarResolverException("Invalid variable class.  Must extend from Var");
 			Var v = castOrCreate(Var.class, c);
 			m.put(v.getName(), v);
+			m2.put(v.getName(), new VarMetrics(v.getName()));
 		}
 
 		this.varMap = unmodifiableMap(m);
+		this.metrics = unmodifiableMap(m2);
 		this.contextObjects = immutableMap(contextObjects);
 	}
 
@@ -69,6 +78,129 @@ public class VarResolverContext {
 		return varMap;
 	}
 
+	/**
+	 * Returns the compiled template for the specified string.
+	 *
+	 * <p>
+	 * Templates are cached, so the same string is only compiled once.
+	 *
+	 * @param s The string to compile.
+	 * @return The compiled template.  Never <jk>null</jk>.
+	 */
+	protected VarTemplate getTemplate(String s) {
+		VarTemplate t = precompiled.get(s);
+		if (t == null)
+			t = templates.get(s);
+		if (t == null)
+			t = templates.put(s, new VarTemplate(this, s));
+		return t;
+	}
+
+	/**
+	 * Compiles the specified string and pre-resolves its static variables.
+	 *
+	 * <p>
+	 * The resulting template is returned by {@link #getTemplate(String)} from then on.
+	 * <br>Unlike compiled templates, precompiled templates are never evicted.
+	 *
+	 * @param s The string to compile.
+	 * @param session The session used to resolve the static variables.
+	 * @return The partially-resolved template.  Never <jk>null</jk>.
+	 */
+	protected VarTemplate precompile(String s, VarResolverSession session) {
+		VarTemplate t = precompiled.get(s);
+		if (t == null) {
+			t = getTemplate(s).resolveStatic(session);
+			VarTemplate t2 = precompiled.putIfAbsent(s, t);
+			if (t2 != null)
+				t = t2;
+		}
+		return t;
+	}
+
+	/**
+	 * Returns the resolution statistics of the {@link Var Vars} associated with this context.
+	 *
+	 * @return An unmodifiable map whose keys are var names and values are the metrics of the vars.
+	 */
+	protected Map<String,VarMetrics> getMetrics() {
+		return metrics;
+	}
+
+	/**
+	 * Discards all cached var values whose policy is {@link VarCachePolicy#ON_CHANGE}.
+	 */
+	protected void invalidateCache() {
+		for (Iterator<CachedValue> i = values.values().iterator(); i.hasNext();)
+			if (i.next().policy.invalidatable)
+				i.remove();
+	}
+
+	/*
+	 * Returns the cached value of the specified var, or null if not cached or expired.
+	 */
+	String getCachedValue(Var var, Object scope, String arg) {
+		ValueKey k = new ValueKey(var, scope, arg);
+		CachedValue v = values.get(k);
+		if (v == null)
+			return null;
+		if (v.expires != 0 && System.nanoTime() - v.expires > 0) {
+			values.remove(k, v);
+			return null;
+		}
+		return v.value;
+	}
+
+	void putCachedValue(Var var, Object scope, String arg, String value, VarCachePolicy policy) {
+		if (values.size() > MAX_CACHED_VALUES)
+			values.clear();
+		values.put(new ValueKey(var, scope, arg), new CachedValue(value, policy));
+	}
+
+	VarMetrics getMetrics(Var var) {
+		return metrics.get(var.getName());
+	}
+
+	private static final class ValueKey {
+		private final Var var;
+		private final Object scope;
+		private final String arg;
+		private final int hashCode;
+
+		ValueKey(Var var, Object scope, String arg) {
+			this.var = var;
+			this.scope = scope;
+			this.arg = arg;
+			this.hashCode = (System.identityHashCode(var) * 31 + scope.hashCode()) * 31 + arg.hashCode();
+		}
+
+		@Override /* Object */
+		public int hashCode() {
+			return hashCode;
+		}
+
+		@Override /* Object */
+		public boolean equals(Object o) {
+			if (! (o instanceof ValueKey))
+				return false;
+			ValueKey k = (ValueKey)o;
+			return var == k.var && arg.equals(k.arg) && scope.equals(k.scope);
+		}
+	}
+
+	private static final class CachedValue {
+		private final String value;
+		private final VarCachePolicy policy;
+		private final long expires;  // System.nanoTime() after which the value is stale, or 0 if it never expires.
+
+		CachedValue(String value, VarCachePolicy policy) {
+			this.value = value;
+			this.policy = policy;
+			long e = (policy.ttl == 0 ? 0 : System.nanoTime() + policy.ttl);
+			this.expires = (policy.ttl != 0 && e == 0 ? 1 : e);
+		}
+	}
+
 	/**
 	 * Returns an array of variables define in this variable resolver context.
 	 *
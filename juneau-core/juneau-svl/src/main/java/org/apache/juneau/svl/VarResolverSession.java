@@ -12,8 +12,6 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.svl;
 
-import static org.apache.juneau.internal.StringUtils.*;
-
 import java.io.*;
 import java.lang.reflect.*;
 import java.util.*;
@@ -27,7 +25,7 @@ import org.apache.juneau.internal.*;
  * Instances of this class are considered light-weight and fast to construct, use, and discard.
  *
  * <p>
- * This class contains the workhorse code for var resolution.
+ * Strings are resolved through {@link VarTemplate VarTemplates} compiled and cached by the {@link VarResolverContext}.
  *
  * <p>
  * Instances of this class are created through the {@link VarResolver#createSession()} and
@@ -92,37 +90,7 @@ public class VarResolverSession {
 		if (s.indexOf('$') == -1 && s.indexOf('\\') == -1)
 			return s;
 
-		// Special case where value consists of a single variable with no embedded variables (e.g. "$X{...}").
-		// This is a common case, so we want an optimized solution that doesn't involve string builders.
-		if (isSimpleVar(s)) {
-			String var = s.substring(1, s.indexOf('{'));
-			String val = s.substring(s.indexOf('{')+1, s.length()-1);
-			Var v = getVar(var);
-			if (v != null) {
-				try {
-					if (v.streamed) {
-						StringWriter sw = new StringWriter();
-						v.resolveTo(this, sw, val);
-						return sw.toString();
-					}
-					s = v.doResolve(this, val);
-					if (s == null)
-						s = "";
-					return (v.allowRecurse() ? resolve(s) : s);
-				} catch (VarResolverException e) {
-					throw e;
-				} catch (Exception e) {
-					throw new VarResolverException(e, "Problem occurred resolving variable ''{0}'' in string ''{1}''", var, s);
-				}
-			}
-			return s;
-		}
-
-		try {
-			return resolveTo(s, new StringWriter()).toString();
-		} catch (IOException e) {
-			throw new RuntimeException(e); // Never happens.
-		}
+		return context.getTemplate(s).resolve(this);
 	}
 
 	/**
@@ -215,44 +183,6 @@ public class VarResolverSession {
 		return false;
 	}
 
-	/*
-	 * Checks to see if string is of the simple form "$X{...}" with no embedded variables.
-	 * This is a common case, and we can avoid using StringWriters.
-	 */
-	private static boolean isSimpleVar(String s) {
-		int S1 = 1;	   // Not in variable, looking for $
-		int S2 = 2;    // Found $, Looking for {
-		int S3 = 3;    // Found {, Looking for }
-		int S4 = 4;    // Found }
-
-		int length = s.length();
-		int state = S1;
-		for (int i = 0; i < length; i++) {
-			char c = s.charAt(i);
-			if (state == S1) {
-				if (c == '$') {
-					state = S2;
-				} else {
-					return false;
-				}
-			} else if (state == S2) {
-				if (c == '{') {
-					state = S3;
-				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {   // False trigger "$X "
-					return false;
-				}
-			} else if (state == S3) {
-				if (c == '}')
-					state = S4;
-				else if (c == '{' || c == '$')
-					return false;
-			} else if (state == S4) {
-				return false;
-			}
-		}
-		return state == S4;
-	}
-
 	/**
 	 * Resolves variables in the specified string and sends the output to the specified writer.
 	 *
@@ -266,119 +196,90 @@ public class VarResolverSession {
 	 * @throws IOException
 	 */
 	public Writer resolveTo(String s, Writer out) throws IOException {
+		return context.getTemplate(s).resolveTo(this, out);
+	}
 
-		int S1 = 1;	   // Not in variable, looking for $
-		int S2 = 2;    // Found $, Looking for {
-		int S3 = 3;    // Found {, Looking for }
+	/**
+	 * Compiles the specified string and resolves the static variables in it using this session.
+	 *
+	 * <p>
+	 * Subsequent calls to {@link #resolve(String)} with the same string on any session created by the same
+	 * {@link VarResolver} only need to resolve the remaining variables.
+	 * <br>Intended to be called during initialization on strings that get resolved on every request, such as the
+	 * values of annotations.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jm'>{@link Var#isStatic()}
+	 * </ul>
+	 *
+	 * @param s The string to compile.
+	 * @return The partially-resolved template.  Never <jk>null</jk>.
+	 */
+	public VarTemplate precompile(String s) {
+		return context.precompile(s, this);
+	}
 
-		int state = S1;
-		boolean isInEscape = false;
-		boolean hasInternalVar = false;
-		boolean hasInnerEscapes = false;
-		String varType = null;
-		String varVal = null;
-		int x = 0, x2 = 0;
-		int depth = 0;
-		int length = s.length();
-		for (int i = 0; i < length; i++) {
-			char c = s.charAt(i);
-			if (state == S1) {
-				if (isInEscape) {
-					if (c == '\\' || c == '$') {
-						out.append(c);
-					} else {
-						out.append('\\').append(c);
-					}
-					isInEscape = false;
-				} else if (c == '\\') {
-					isInEscape = true;
-				} else if (c == '$') {
-					x = i;
-					x2 = i;
-					state = S2;
-				} else {
-					out.append(c);
-				}
-			} else if (state == S2) {
-				if (isInEscape) {
-					isInEscape = false;
-				} else if (c == '\\') {
-					hasInnerEscapes = true;
-					isInEscape = true;
-				} else if (c == '{') {
-					varType = s.substring(x+1, i);
-					x = i;
-					state = S3;
-				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {  // False trigger "$X "
-					if (hasInnerEscapes)
-						out.append(unEscapeChars(s.substring(x, i+1), AS1));
-					else
-						out.append(s, x, i+1);
-					x = i + 1;
-					state = S1;
-					hasInnerEscapes = false;
-				}
-			} else if (state == S3) {
-				if (isInEscape) {
-					isInEscape = false;
-				} else if (c == '\\') {
-					isInEscape = true;
-					hasInnerEscapes = true;
-				} else if (c == '{') {
-					depth++;
-					hasInternalVar = true;
-				} else if (c == '}') {
-					if (depth > 0) {
-						depth--;
-					} else {
-						varVal = s.substring(x+1, i);
-						Var r = getVar(varType);
-						if (r == null) {
-							if (hasInnerEscapes)
-								out.append(unEscapeChars(s.substring(x2, i+1), AS2));
-							else
-								out.append(s, x2, i+1);
-							x = i+1;
-						} else {
-							varVal = (hasInternalVar && r.allowNested() ? resolve(varVal) : varVal);
-							try {
-								if (r.streamed)
-									r.resolveTo(this, out, varVal);
-								else {
-									String replacement = r.doResolve(this, varVal);
-									if (replacement == null)
-										replacement = "";
-									// If the replacement also contains variables, replace them now.
-									if (replacement.indexOf('$') != -1 && r.allowRecurse())
-										replacement = resolve(replacement);
-									out.append(replacement);
-								}
-							} catch (VarResolverException e) {
-								throw e;
-							} catch (Exception e) {
-								throw new VarResolverException(e, "Problem occurred resolving variable ''{0}'' in string ''{1}''", varType, s);
-							}
-							x = i+1;
-						}
-						state = 1;
-						hasInnerEscapes = false;
-					}
-				}
-			}
+	/**
+	 * Discards the cached values of vars whose cache policy is {@link VarCachePolicy#ON_CHANGE} on the
+	 * {@link VarResolver} that created this session.
+	 *
+	 * <p>
+	 * Typically called when the objects the vars read from (e.g. config files) have changed.
+	 */
+	public void invalidateCache() {
+		context.invalidateCache();
+	}
+
+	/*
+	 * Resolves the specified var, using the cache if the var has a cache policy.
+	 */
+	String resolveVar(Var var, String arg) throws Exception {
+		VarCachePolicy p = var.getCachePolicy();
+		Object scope = (p.isCached() ? var.getCacheScope(this) : null);
+		if (scope == null)
+			return evaluate(var, arg);
+		String s = context.getCachedValue(var, scope, arg);
+		if (s != null) {
+			context.getMetrics(var).onHit();
+			return s;
 		}
-		if (isInEscape)
-			out.append('\\');
-		else if (state == S2)
-			out.append('$').append(unEscapeChars(s.substring(x+1), AS1));
-		else if (state == S3)
-			out.append('$').append(varType).append('{').append(unEscapeChars(s.substring(x+1), AS2));
-		return out;
+		s = evaluate(var, arg);
+		if (s == null)
+			s = "";
+		context.putCachedValue(var, scope, arg, s, p);
+		return s;
 	}
 
-	private static final AsciiSet
-		AS1 = AsciiSet.create("\\{"),
-		AS2 = AsciiSet.create("\\${}")
-	;
+	/*
+	 * Same as resolveVar(Var,String) but streams uncached values directly to the writer.
+	 */
+	void resolveVarTo(Var var, Writer w, String arg) throws Exception {
+		if (var.getCachePolicy().isCached()) {
+			w.append(resolveVar(var, arg));
+			return;
+		}
+		long t = System.nanoTime();
+		try {
+			var.resolveTo(this, w, arg);
+		} finally {
+			context.getMetrics(var).onEvaluation(System.nanoTime() - t);
+		}
+	}
+
+	private String evaluate(Var var, String arg) throws Exception {
+		long t = System.nanoTime();
+		try {
+			if (var.streamed) {
+				StringBuilder sb = BufferPool.getStringBuilder();
+				var.resolveTo(this, new StringBuilderWriter(sb), arg);
+				return BufferPool.toStringAndReturn(sb);
+			}
+			return var.doResolve(this, arg);
+		} finally {
+			context.getMetrics(var).onEvaluation(System.nanoTime() - t);
+		}
+	}
 
 	/**
 	 * Returns the session object with the specified name.
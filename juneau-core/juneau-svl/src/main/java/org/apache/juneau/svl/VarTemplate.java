@@ -0,0 +1,462 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.svl;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.io.*;
+import java.util.*;
+
+import org.apache.juneau.internal.*;
+
+/**
+ * A string containing SVL variables compiled into literal segments and pre-bound {@link Var Vars}.
+ *
+ * <p>
+ * Templates are created through {@link VarResolver#compile(String)} and are cached on the {@link VarResolverContext},
+ * so strings that are resolved repeatedly only need to be parsed once.
+ * <br>Segments that don't contain variables (including escape sequences) are resolved at compile time, as are the
+ * arguments of variables that don't contain nested variables.
+ *
+ * <p>
+ * Resolving a template produces the same output as {@link VarResolverSession#resolve(String)} and
+ * {@link VarResolverSession#resolveTo(String,Writer)} on the original string.
+ *
+ * <p>
+ * Instances of this class are immutable and thread safe.
+ *
+ * <h5 class='section'>See Also:</h5>
+ * <ul>
+ * 	<li class='link'>{@doc juneau-svl.VarResolvers}
+ * </ul>
+ */
+public final class VarTemplate {
+
+	private final String source;
+	private final Node[] nodes;
+	private final String constant;
+	private final VarNode simple;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ctx The context containing the vars to bind to.
+	 * @param s The string to compile.
+	 */
+	VarTemplate(VarResolverContext ctx, String s) {
+		this.source = s;
+
+		if (s.isEmpty() || (s.indexOf('$') == -1 && s.indexOf('\\') == -1)) {
+			this.nodes = new Node[]{ new Literal(s) };
+			this.constant = s;
+			this.simple = null;
+			return;
+		}
+
+		this.nodes = compile(ctx, s);
+
+		if (isSimpleVar(s)) {
+			String var = s.substring(1, s.indexOf('{'));
+			String val = s.substring(s.indexOf('{')+1, s.length()-1);
+			Var v = ctx.getVarMap().get(var);
+			this.simple = v == null ? null : new VarNode(v, var, val, null);
+			this.constant = v == null ? s : null;
+		} else {
+			this.simple = null;
+			this.constant = (nodes.length == 0 ? "" : nodes.length == 1 && nodes[0] instanceof Literal ? ((Literal)nodes[0]).text : null);
+		}
+	}
+
+	private VarTemplate(String source, Node[] nodes) {
+		this.source = source;
+		this.nodes = nodes;
+		this.simple = null;
+		this.constant = (nodes.length == 0 ? "" : nodes.length == 1 && nodes[0] instanceof Literal ? ((Literal)nodes[0]).text : null);
+	}
+
+	/**
+	 * Returns the string this template was compiled from.
+	 *
+	 * @return The string this template was compiled from.
+	 */
+	public String getSource() {
+		return source;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if this template doesn't contain any resolvable variables.
+	 *
+	 * <p>
+	 * Constant templates always resolve to the same value regardless of the session.
+	 *
+	 * @return <jk>true</jk> if this template doesn't contain any resolvable variables.
+	 */
+	public boolean isConstant() {
+		return constant != null;
+	}
+
+	/**
+	 * Resolves this template using the specified session.
+	 *
+	 * @param session The session providing the session objects used by the variables.
+	 * @return The resolved string.
+	 */
+	public String resolve(VarResolverSession session) {
+
+		if (constant != null)
+			return constant;
+
+		// Special case where value consists of a single variable with no embedded variables (e.g. "$X{...}").
+		if (simple != null)
+			return simple.resolveSimple(session, source);
+
+		if (nodes.length == 1 && ! ((VarNode)nodes[0]).var.streamed)
+			return ((VarNode)nodes[0]).resolve(session, source);
+
+		StringBuilder sb = BufferPool.getStringBuilder();
+		try {
+			resolveTo(session, new StringBuilderWriter(sb));
+			return sb.toString();
+		} catch (IOException e) {
+			throw new RuntimeException(e); // Never happens.
+		} finally {
+			BufferPool.returnStringBuilder(sb);
+		}
+	}
+
+	/**
+	 * Returns a copy of this template with its static variables already resolved.
+	 *
+	 * <p>
+	 * A variable is resolved if {@link Var#isStatic()} returns <jk>true</jk> and its argument doesn't contain any
+	 * non-static variables.
+	 * <br>Variables whose values contain other variables, or that fail to resolve, are left to be resolved later.
+	 *
+	 * @param session The session providing the session objects used by the static variables.
+	 * @return A partially-resolved template, or this template if none of its variables are static.
+	 */
+	public VarTemplate resolveStatic(VarResolverSession session) {
+
+		if (constant != null)
+			return this;
+
+		if (simple != null) {
+			String s = simple.resolveStatic(session, simple.arg);
+			return s == null ? this : new VarTemplate(source, new Node[]{ new Literal(s) });
+		}
+
+		List<Node> l = new ArrayList<>(nodes.length);
+		boolean changed = false;
+		for (Node n : nodes) {
+			Node n2 = (n instanceof VarNode ? ((VarNode)n).resolveStatic(session) : n);
+			changed |= (n2 != n);
+			Node last = (l.isEmpty() ? null : l.get(l.size()-1));
+			if (n2 instanceof Literal && last instanceof Literal)
+				l.set(l.size()-1, new Literal(((Literal)last).text + ((Literal)n2).text));
+			else
+				l.add(n2);
+		}
+		return changed ? new VarTemplate(source, l.toArray(new Node[l.size()])) : this;
+	}
+
+	/**
+	 * Resolves this template using the specified session and sends the output to the specified writer.
+	 *
+	 * @param session The session providing the session objects used by the variables.
+	 * @param out The writer to write to.
+	 * @return The same writer.
+	 * @throws IOException
+	 */
+	public Writer resolveTo(VarResolverSession session, Writer out) throws IOException {
+		for (Node n : nodes)
+			n.resolveTo(session, out, source);
+		return out;
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return source;
+	}
+
+	/*
+	 * Same state machine as VarResolverSession.resolveTo(String,Writer), but collects the literal segments and
+	 * variables instead of writing them.
+	 */
+	private static Node[] compile(VarResolverContext ctx, String s) {
+
+		int S1 = 1;	   // Not in variable, looking for $
+		int S2 = 2;    // Found $, Looking for {
+		int S3 = 3;    // Found {, Looking for }
+
+		List<Node> l = new ArrayList<>();
+		StringBuilder out = new StringBuilder();
+		int state = S1;
+		boolean isInEscape = false;
+		boolean hasInternalVar = false;
+		boolean hasInnerEscapes = false;
+		String varType = null;
+		String varVal = null;
+		int x = 0, x2 = 0;
+		int depth = 0;
+		int length = s.length();
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (state == S1) {
+				if (isInEscape) {
+					if (c == '\\' || c == '$') {
+						out.append(c);
+					} else {
+						out.append('\\').append(c);
+					}
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+				} else if (c == '$') {
+					x = i;
+					x2 = i;
+					state = S2;
+				} else {
+					out.append(c);
+				}
+			} else if (state == S2) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					hasInnerEscapes = true;
+					isInEscape = true;
+				} else if (c == '{') {
+					varType = s.substring(x+1, i);
+					x = i;
+					state = S3;
+				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {  // False trigger "$X "
+					if (hasInnerEscapes)
+						out.append(unEscapeChars(s.substring(x, i+1), AS1));
+					else
+						out.append(s, x, i+1);
+					x = i + 1;
+					state = S1;
+					hasInnerEscapes = false;
+				}
+			} else if (state == S3) {
+				if (isInEscape) {
+					isInEscape = false;
+				} else if (c == '\\') {
+					isInEscape = true;
+					hasInnerEscapes = true;
+				} else if (c == '{') {
+					depth++;
+					hasInternalVar = true;
+				} else if (c == '}') {
+					if (depth > 0) {
+						depth--;
+					} else {
+						varVal = s.substring(x+1, i);
+						Var r = ctx.getVarMap().get(varType);
+						if (r == null) {
+							if (hasInnerEscapes)
+								out.append(unEscapeChars(s.substring(x2, i+1), AS2));
+							else
+								out.append(s, x2, i+1);
+							x = i+1;
+						} else {
+							VarTemplate arg = null;
+							if (hasInternalVar && r.allowNested()) {
+								arg = ctx.getTemplate(varVal);
+								if (arg.isConstant()) {
+									varVal = arg.constant;
+									arg = null;
+								}
+							}
+							if (out.length() > 0) {
+								l.add(new Literal(out.toString()));
+								out.setLength(0);
+							}
+							l.add(new VarNode(r, varType, varVal, arg));
+							x = i+1;
+						}
+						state = 1;
+						hasInnerEscapes = false;
+					}
+				}
+			}
+		}
+		if (isInEscape)
+			out.append('\\');
+		else if (state == S2)
+			out.append('$').append(unEscapeChars(s.substring(x+1), AS1));
+		else if (state == S3)
+			out.append('$').append(varType).append('{').append(unEscapeChars(s.substring(x+1), AS2));
+		if (out.length() > 0)
+			l.add(new Literal(out.toString()));
+		return l.toArray(new Node[l.size()]);
+	}
+
+	private static final AsciiSet
+		AS1 = AsciiSet.create("\\{"),
+		AS2 = AsciiSet.create("\\${}")
+	;
+
+	/*
+	 * Checks to see if string is of the simple form "$X{...}" with no embedded variables.
+	 */
+	private static boolean isSimpleVar(String s) {
+		int S1 = 1;	   // Not in variable, looking for $
+		int S2 = 2;    // Found $, Looking for {
+		int S3 = 3;    // Found {, Looking for }
+		int S4 = 4;    // Found }
+
+		int length = s.length();
+		int state = S1;
+		for (int i = 0; i < length; i++) {
+			char c = s.charAt(i);
+			if (state == S1) {
+				if (c == '$') {
+					state = S2;
+				} else {
+					return false;
+				}
+			} else if (state == S2) {
+				if (c == '{') {
+					state = S3;
+				} else if (c < 'A' || c > 'z' || (c > 'Z' && c < 'a')) {   // False trigger "$X "
+					return false;
+				}
+			} else if (state == S3) {
+				if (c == '}')
+					state = S4;
+				else if (c == '{' || c == '$')
+					return false;
+			} else if (state == S4) {
+				return false;
+			}
+		}
+		return state == S4;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Nodes
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private abstract static class Node {
+		abstract void resolveTo(VarResolverSession session, Writer out, String source) throws IOException;
+	}
+
+	private static final class Literal extends Node {
+		final String text;
+
+		Literal(String text) {
+			this.text = text;
+		}
+
+		@Override /* Node */
+		void resolveTo(VarResolverSession session, Writer out, String source) throws IOException {
+			out.append(text);
+		}
+	}
+
+	private static final class VarNode extends Node {
+		final Var var;
+		final String name, arg;
+		final VarTemplate argTemplate;
+
+		VarNode(Var var, String name, String arg, VarTemplate argTemplate) {
+			this.var = var;
+			this.name = name;
+			this.arg = arg;
+			this.argTemplate = argTemplate;
+		}
+
+		// Returns this node with its static parts resolved.
+		Node resolveStatic(VarResolverSession session) {
+			VarTemplate at = (argTemplate == null ? null : argTemplate.resolveStatic(session));
+			String varVal = (at == null ? arg : at.constant);
+			if (varVal != null) {
+				String s = resolveStatic(session, varVal);
+				if (s != null)
+					return new Literal(s);
+			}
+			if (at == argTemplate)
+				return this;
+			return new VarNode(var, name, varVal == null ? arg : varVal, varVal == null ? at : null);
+		}
+
+		// Returns the value of this variable if it can be resolved ahead of time, or null if not.
+		String resolveStatic(VarResolverSession session, String varVal) {
+			if (! var.isStatic())
+				return null;
+			try {
+				String s;
+				if (var.streamed) {
+					StringBuilder sb = BufferPool.getStringBuilder();
+					var.resolveTo(session, new StringBuilderWriter(sb), varVal);
+					s = BufferPool.toStringAndReturn(sb);
+				} else {
+					s = var.doResolve(session, varVal);
+					if (s == null)
+						s = "";
+					if (var.allowRecurse() && (s.indexOf('$') != -1 || s.indexOf('\\') != -1))
+						return null;
+				}
+				return s;
+			} catch (Exception e) {
+				return null;
+			}
+		}
+
+		String resolveSimple(VarResolverSession session, String source) {
+			try {
+				String s = session.resolveVar(var, arg);
+				if (s == null)
+					s = "";
+				return (! var.streamed && var.allowRecurse() ? session.resolve(s) : s);
+			} catch (VarResolverException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new VarResolverException(e, "Problem occurred resolving variable ''{0}'' in string ''{1}''", name, source);
+			}
+		}
+
+		String resolve(VarResolverSession session, String source) {
+			String varVal = (argTemplate == null ? arg : argTemplate.resolve(session));
+			try {
+				String replacement = session.resolveVar(var, varVal);
+				if (replacement == null)
+					replacement = "";
+				// If the replacement also contains variables, replace them now.
+				if (replacement.indexOf('$') != -1 && var.allowRecurse())
+					replacement = session.resolve(replacement);
+				return replacement;
+			} catch (VarResolverException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new VarResolverException(e, "Problem occurred resolving variable ''{0}'' in string ''{1}''", name, source);
+			}
+		}
+
+		@Override /* Node */
+		void resolveTo(VarResolverSession session, Writer out, String source) throws IOException {
+			if (! var.streamed) {
+				out.append(resolve(session, source));
+				return;
+			}
+			String varVal = (argTemplate == null ? arg : argTemplate.resolve(session));
+			try {
+				session.resolveVarTo(var, out, varVal);
+			} catch (VarResolverException e) {
+				throw e;
+			} catch (Exception e) {
+				throw new VarResolverException(e, "Problem occurred resolving variable ''{0}'' in string ''{1}''", name, source);
+			}
+		}
+	}
+}
@@ -92,4 +92,14 @@ public class ArgsVar extends DefaultingVar {
 	public String resolve(VarResolverSession session, String key) {
 		return args.getArg(key);
 	}
+
+	@Override /* Var */
+	protected boolean isStatic() {
+		return true;
+	}
+
+	@Override /* Var */
+	protected VarCachePolicy getCachePolicy() {
+		return VarCachePolicy.FOREVER;
+	}
 }
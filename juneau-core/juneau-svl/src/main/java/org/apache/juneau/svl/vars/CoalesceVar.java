@@ -42,4 +42,9 @@ public class CoalesceVar extends MultipartResolvingVar {
 	public String resolve(VarResolverSession session, String arg) throws Exception {
 		return arg;
 	}
+
+	@Override /* Var */
+	protected boolean isStatic() {
+		return true;
+	}
 }
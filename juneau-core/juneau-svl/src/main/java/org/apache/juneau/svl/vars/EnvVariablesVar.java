@@ -55,4 +55,14 @@ public class EnvVariablesVar extends DefaultingVar {
 		// Note that lookup is case-insensitive on windows.
 		return System.getenv(varVal);
 	}
+
+	@Override /* Var */
+	protected boolean isStatic() {
+		return true;
+	}
+
+	@Override /* Var */
+	protected VarCachePolicy getCachePolicy() {
+		return VarCachePolicy.FOREVER;
+	}
 }
\ No newline at end of file
@@ -77,4 +77,9 @@ public class LenVar extends MultipartVar {
 		}
 		return String.valueOf(len);
 	}
+
+	@Override /* Var */
+	protected boolean isStatic() {
+		return true;
+	}
 }
@@ -76,4 +76,14 @@ public class ManifestFileVar extends DefaultingVar {
 	public String resolve(VarResolverSession session, String key) {
 		return manifestFile == null ? "" : manifestFile.getString(key);
 	}
+
+	@Override /* Var */
+	protected boolean isStatic() {
+		return true;
+	}
+
+	@Override /* Var */
+	protected VarCachePolicy getCachePolicy() {
+		return VarCachePolicy.FOREVER;
+	}
 }
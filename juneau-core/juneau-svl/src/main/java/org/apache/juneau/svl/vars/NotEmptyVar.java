@@ -48,4 +48,9 @@ public class NotEmptyVar extends SimpleVar {
 	public String resolve(VarResolverSession session, String key) {
 		return String.valueOf(! key.trim().isEmpty());
 	}
+
+	@Override /* Var */
+	protected boolean isStatic() {
+		return true;
+	}
 }
\ No newline at end of file
@@ -80,4 +80,9 @@ public class PatternExtractVar extends MultipartVar {
 		
 		return result;
 	}
+
+	@Override /* Var */
+	protected boolean isStatic() {
+		return true;
+	}
 }
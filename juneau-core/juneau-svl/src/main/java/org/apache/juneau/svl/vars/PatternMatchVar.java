@@ -72,4 +72,9 @@ public class PatternMatchVar extends MultipartVar {
 		Pattern p = Pattern.compile(pattern.replace("*", ".*").replace("?", "."));
 		return String.valueOf(p.matcher(stringArg).matches());
 	}
+
+	@Override /* Var */
+	protected boolean isStatic() {
+		return true;
+	}
 }
@@ -73,4 +73,9 @@ public class PatternReplaceVar extends MultipartVar {
 		pattern = pattern.replace("*", ".*").replace("?", ".");
 		return stringArg.replaceAll(pattern, replace);
 	}
+
+	@Override /* Var */
+	protected boolean isStatic() {
+		return true;
+	}
 }
\ No newline at end of file
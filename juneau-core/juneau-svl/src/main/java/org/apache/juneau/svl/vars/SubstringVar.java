@@ -82,4 +82,9 @@ public class SubstringVar extends MultipartVar {
 		}
 		return result;
 	}
+
+	@Override /* Var */
+	protected boolean isStatic() {
+		return true;
+	}
 }
@@ -84,4 +84,9 @@ public class SwitchVar extends MultipartVar {
 		// Nothing matched and no else clause.
 		return "";
 	}
+
+	@Override /* Var */
+	protected boolean isStatic() {
+		return true;
+	}
 }
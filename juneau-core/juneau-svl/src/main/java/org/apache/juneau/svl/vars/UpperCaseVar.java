@@ -48,4 +48,9 @@ public class UpperCaseVar extends SimpleVar {
 	public String resolve(VarResolverSession session, String key) {
 		return key.toUpperCase();
 	}
+
+	@Override /* Var */
+	protected boolean isStatic() {
+		return true;
+	}
 }
\ No newline at end of file
@@ -35,6 +35,7 @@ import org.eclipse.jetty.server.*;
 import org.eclipse.jetty.server.Handler;
 import org.eclipse.jetty.server.handler.*;
 import org.eclipse.jetty.servlet.*;
+import org.eclipse.jetty.util.thread.*;
 
 /**
  * Entry point for Juneau microservice that implements a REST interface using Jetty on a single port.
@@ -307,6 +308,9 @@ public class JettyMicroservice extends Microservice {
 	 * 	<ck>port</ck> = 10000,0,0,0
 	 * </p>
 	 *
+	 * <p>
+	 * The server created from the <code>jetty.xml</code> file is then tuned by {@link #configureServer()}.
+	 *
 	 * @return The newly-created server.
 	 * @throws Exception
 	 */
@@ -336,6 +340,7 @@ public class JettyMicroservice extends Microservice {
 		getLogger().info(jettyXml);
 
 		server = factory.create(jettyXml);
+		configureServer();
 
 		for (String s : cf.getStringArray("Jetty/servlets", new String[0])) {
 			ClassInfo c = getClassInfo(Class.forName(s));
@@ -371,6 +376,152 @@ public class JettyMicroservice extends Microservice {
 		return server;
 	}
 
+	/**
+	 * Applies the connector and thread pool settings in the config file to the server created from the
+	 * <code>jetty.xml</code> file.
+	 *
+	 * <p>
+	 * Settings that are not specified leave the values defined in the <code>jetty.xml</code> file unchanged:
+	 * <p class='bcode w800'>
+	 * 	<cs>[Jetty]</cs>
+	 *
+	 * 	<cc># Enable HTTP/2 over cleartext (h2c) on non-TLS connectors.
+	 * 	# Requires org.eclipse.jetty.http2:http2-server on the classpath.</cc>
+	 * 	<ck>h2c</ck> = false
+	 *
+	 * 	<cc># Enable HTTP/2 (h2) negotiated through ALPN on TLS connectors.
+	 * 	# Also requires org.eclipse.jetty:jetty-alpn-server and an ALPN implementation for your JDK.</cc>
+	 * 	<ck>h2</ck> = false
+	 *
+	 * 	<cc># Maximum number of concurrent HTTP/2 streams per connection.</cc>
+	 * 	<ck>http2MaxConcurrentStreams</ck> = 128
+	 *
+	 * 	<cc># Number of acceptor and selector threads per connector.</cc>
+	 * 	<ck>acceptors</ck> = 1
+	 * 	<ck>selectors</ck> = 4
+	 *
+	 * 	<cc># Connection idle timeout and accept queue size for all connectors.</cc>
+	 * 	<ck>idleTimeout</ck> = 30000
+	 * 	<ck>acceptQueueSize</ck> = 0
+	 *
+	 * 	<cc># Sizing of the server thread pool.</cc>
+	 * 	<ck>minThreads</ck> = 10
+	 * 	<ck>maxThreads</ck> = 200
+	 * 	<ck>threadIdleTimeout</ck> = 60000
+	 * </p>
+	 *
+	 * <p>
+	 * Since acceptor and selector counts can only be set when a connector is constructed, connectors whose counts or
+	 * protocols change are replaced with equivalent connectors.
+	 *
+	 * <p>
+	 * Subclasses can override this method to apply additional customizations.
+	 *
+	 * @throws Exception
+	 */
+	protected void configureServer() throws Exception {
+		Config cf = getConfig();
+		Server server = getServer();
+
+		ThreadPool tp = server.getThreadPool();
+		if (tp instanceof QueuedThreadPool) {
+			QueuedThreadPool qtp = (QueuedThreadPool)tp;
+			int maxThreads = cf.getInt("Jetty/maxThreads", -1), minThreads = cf.getInt("Jetty/minThreads", -1), threadIdleTimeout = cf.getInt("Jetty/threadIdleTimeout", -1);
+			if (maxThreads > 0)
+				qtp.setMaxThreads(maxThreads);
+			if (minThreads > 0)
+				qtp.setMinThreads(minThreads);
+			if (threadIdleTimeout > 0)
+				qtp.setIdleTimeout(threadIdleTimeout);
+		}
+
+		boolean h2c = cf.getBoolean("Jetty/h2c", false), h2 = cf.getBoolean("Jetty/h2", false);
+		int maxStreams = cf.getInt("Jetty/http2MaxConcurrentStreams", -1);
+		int acceptors = cf.getInt("Jetty/acceptors", -1), selectors = cf.getInt("Jetty/selectors", -1);
+		long idleTimeout = cf.getLong("Jetty/idleTimeout", -1);
+		int acceptQueueSize = cf.getInt("Jetty/acceptQueueSize", -1);
+
+		Connector[] connectors = server.getConnectors();
+		boolean replaced = false;
+		for (int i = 0; i < connectors.length; i++) {
+			if (! (connectors[i] instanceof ServerConnector))
+				continue;
+			ServerConnector sc = (ServerConnector)connectors[i];
+			List<ConnectionFactory> factories = new ArrayList<>(sc.getConnectionFactories());
+			HttpConnectionFactory http = sc.getConnectionFactory(HttpConnectionFactory.class);
+			SslConnectionFactory ssl = sc.getConnectionFactory(SslConnectionFactory.class);
+			boolean changed = false;
+
+			if (http != null && ssl == null && h2c && sc.getConnectionFactory("h2c") == null) {
+				factories.add(createHttp2ConnectionFactory("Jetty/h2c", "org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory", http.getHttpConfiguration(), maxStreams));
+				changed = true;
+			}
+
+			if (http != null && ssl != null && h2 && sc.getConnectionFactory("h2") == null) {
+				ConnectionFactory alpn = (ConnectionFactory)newInstance("Jetty/h2", "org.eclipse.jetty.alpn.server.ALPNServerConnectionFactory", "org.eclipse.jetty:jetty-alpn-server", new Class<?>[]{String[].class}, new Object[]{new String[]{"h2", http.getProtocol()}});
+				alpn.getClass().getMethod("setDefaultProtocol", String.class).invoke(alpn, http.getProtocol());
+				factories.remove(ssl);
+				factories.add(0, new SslConnectionFactory(ssl.getSslContextFactory(), alpn.getProtocol()));
+				factories.add(1, alpn);
+				factories.add(2, createHttp2ConnectionFactory("Jetty/h2", "org.eclipse.jetty.http2.server.HTTP2ServerConnectionFactory", http.getHttpConfiguration(), maxStreams));
+				changed = true;
+			}
+
+			if (changed || acceptors >= 0 || selectors > 0) {
+				ServerConnector sc2 = new ServerConnector(
+					server,
+					sc.getExecutor(),
+					sc.getScheduler(),
+					sc.getByteBufferPool(),
+					acceptors >= 0 ? acceptors : sc.getAcceptors(),
+					selectors > 0 ? selectors : sc.getSelectorManager().getSelectorCount(),
+					factories.toArray(new ConnectionFactory[factories.size()])
+				);
+				sc2.setName(sc.getName());
+				sc2.setHost(sc.getHost());
+				sc2.setPort(sc.getPort());
+				sc2.setIdleTimeout(sc.getIdleTimeout());
+				sc2.setAcceptQueueSize(sc.getAcceptQueueSize());
+				sc2.setReuseAddress(sc.getReuseAddress());
+				sc2.setInheritChannel(sc.isInheritChannel());
+				connectors[i] = sc = sc2;
+				replaced = true;
+			}
+
+			if (idleTimeout > 0)
+				sc.setIdleTimeout(idleTimeout);
+			if (acceptQueueSize >= 0)
+				sc.setAcceptQueueSize(acceptQueueSize);
+		}
+
+		if (replaced)
+			server.setConnectors(connectors);
+	}
+
+	/*
+	 * HTTP/2 support is an optional dependency, so the connection factories are created reflectively.
+	 * Classes are loaded through the context class loader so that they can be provided by the application.
+	 */
+	private static ConnectionFactory createHttp2ConnectionFactory(String setting, String className, HttpConfiguration hc, int maxStreams) throws Exception {
+		ConnectionFactory cf = (ConnectionFactory)newInstance(setting, className, "org.eclipse.jetty.http2:http2-server", new Class<?>[]{HttpConfiguration.class}, new Object[]{hc});
+		if (maxStreams > 0)
+			cf.getClass().getMethod("setMaxConcurrentStreams", int.class).invoke(cf, maxStreams);
+		return cf;
+	}
+
+	private static Object newInstance(String setting, String className, String artifact, Class<?>[] argTypes, Object[] args) throws Exception {
+		ClassLoader cl = Thread.currentThread().getContextClassLoader();
+		if (cl == null)
+			cl = JettyMicroservice.class.getClassLoader();
+		Class<?> c;
+		try {
+			c = Class.forName(className, true, cl);
+		} catch (ClassNotFoundException e) {
+			throw new FormattedRuntimeException("HTTP/2 is enabled by setting ''{0}'' but class ''{1}'' was not found.  Artifact ''{2}'' must be on the classpath.", setting, className, artifact);
+		}
+		return c.getConstructor(argTypes).newInstance(args);
+	}
+
 	/**
 	 * Calls {@link Server#destroy()} on the underlying Jetty server if it exists.
 	 *
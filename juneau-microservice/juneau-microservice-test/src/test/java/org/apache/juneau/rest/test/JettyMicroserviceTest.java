@@ -0,0 +1,185 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.test;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.logging.*;
+
+import org.apache.juneau.config.*;
+import org.apache.juneau.config.store.*;
+import org.apache.juneau.microservice.jetty.*;
+import org.eclipse.jetty.http2.server.*;
+import org.eclipse.jetty.server.*;
+import org.eclipse.jetty.util.thread.*;
+import org.junit.*;
+
+/**
+ * Validates the connector and thread pool settings applied by {@link JettyMicroservice#configureServer()}.
+ */
+public class JettyMicroserviceTest {
+
+	private static final Logger LOG = Logger.getLogger(JettyMicroserviceTest.class.getName());
+
+	private static final String JETTY_XML = ""
+		+ "<Configure id='Server' class='org.eclipse.jetty.server.Server'>"
+		+ "<Set name='connectors'><Array type='org.eclipse.jetty.server.Connector'><Item>"
+		+ "<New class='org.eclipse.jetty.server.ServerConnector'>"
+		+ "<Arg><Ref refid='Server'/></Arg>"
+		+ "<Set name='port'>$S{availablePort,8080}</Set>"
+		+ "</New>"
+		+ "</Item></Array></Set>"
+		+ "<Get name='ThreadPool'><Set name='minThreads' type='int'>10</Set><Set name='maxThreads' type='int'>100</Set></Get>"
+		+ "</Configure>";
+
+	private static final String JETTY_XML_TLS = ""
+		+ "<Configure id='Server' class='org.eclipse.jetty.server.Server'>"
+		+ "<Set name='connectors'><Array type='org.eclipse.jetty.server.Connector'><Item>"
+		+ "<New class='org.eclipse.jetty.server.ServerConnector'>"
+		+ "<Arg><Ref refid='Server'/></Arg>"
+		+ "<Arg><Array type='org.eclipse.jetty.server.ConnectionFactory'>"
+		+ "<Item><New class='org.eclipse.jetty.server.SslConnectionFactory'><Arg><New class='org.eclipse.jetty.util.ssl.SslContextFactory'/></Arg><Arg>http/1.1</Arg></New></Item>"
+		+ "<Item><New class='org.eclipse.jetty.server.HttpConnectionFactory'/></Item>"
+		+ "</Array></Arg>"
+		+ "<Set name='port'>$S{availablePort,8443}</Set>"
+		+ "</New>"
+		+ "</Item></Array></Set>"
+		+ "</Configure>";
+
+	private static JettyMicroservice create(String jettyXml, String...jettySettings) throws Exception {
+		StringBuilder sb = new StringBuilder("[Jetty]\nport = 0\n");
+		for (String s : jettySettings)
+			sb.append(s).append('\n');
+		Config cf = Config.create().store(ConfigMemoryStore.create().build()).name("JettyMicroserviceTest.cfg").build().load(sb.toString(), true);
+		return JettyMicroservice.create().config(cf).logger(LOG).jettyXml(new StringReader(jettyXml), true).build();
+	}
+
+	private static ServerConnector getConnector(JettyMicroservice ms) {
+		Connector[] c = ms.getServer().getConnectors();
+		assertEquals(1, c.length);
+		return (ServerConnector)c[0];
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Connector and thread pool settings.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void a01_threadPool() throws Exception {
+		JettyMicroservice ms = create(JETTY_XML, "minThreads = 3", "maxThreads = 17", "threadIdleTimeout = 1234").start();
+		try {
+			QueuedThreadPool tp = (QueuedThreadPool)ms.getServer().getThreadPool();
+			assertTrue(tp.isStarted());
+			assertEquals(3, tp.getMinThreads());
+			assertEquals(17, tp.getMaxThreads());
+			assertEquals(1234, tp.getIdleTimeout());
+		} finally {
+			ms.stop();
+		}
+	}
+
+	@Test
+	public void a02_threadPoolDefaults() throws Exception {
+		JettyMicroservice ms = create(JETTY_XML).start();
+		try {
+			QueuedThreadPool tp = (QueuedThreadPool)ms.getServer().getThreadPool();
+			assertEquals(10, tp.getMinThreads());
+			assertEquals(100, tp.getMaxThreads());
+		} finally {
+			ms.stop();
+		}
+	}
+
+	@Test
+	public void a03_connector() throws Exception {
+		JettyMicroservice ms = create(JETTY_XML, "acceptors = 2", "selectors = 3", "idleTimeout = 4567", "acceptQueueSize = 5").start();
+		try {
+			ServerConnector sc = getConnector(ms);
+			assertTrue(sc.isStarted());
+			assertTrue(sc.getLocalPort() > 0);
+			assertEquals(2, sc.getAcceptors());
+			assertEquals(3, sc.getSelectorManager().getSelectorCount());
+			assertEquals(4567, sc.getIdleTimeout());
+			assertEquals(5, sc.getAcceptQueueSize());
+			assertEquals(Arrays.asList("http/1.1"), sc.getProtocols());
+		} finally {
+			ms.stop();
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// HTTP/2 settings.
+	//-----------------------------------------------------------------------------------------------------------------
+
+	@Test
+	public void b01_h2c() throws Exception {
+		JettyMicroservice ms = create(JETTY_XML, "h2c = true", "http2MaxConcurrentStreams = 50", "acceptors = 1").start();
+		try {
+			ServerConnector sc = getConnector(ms);
+			assertTrue(sc.isStarted());
+			assertEquals(Arrays.asList("http/1.1", "h2c"), sc.getProtocols());
+			assertEquals("HTTP/1.1", sc.getDefaultProtocol());
+			assertEquals(1, sc.getAcceptors());
+			assertEquals(50, ((HTTP2CServerConnectionFactory)sc.getConnectionFactory("h2c")).getMaxConcurrentStreams());
+		} finally {
+			ms.stop();
+		}
+	}
+
+	@Test
+	public void b02_h2() throws Exception {
+		// The ALPN processor in jetty-alpn-java-server requires Java 9+.
+		Assume.assumeTrue(Double.parseDouble(System.getProperty("java.specification.version")) >= 9);
+
+		// Not started since the SSL context factory has no keystore.
+		JettyMicroservice ms = create(JETTY_XML_TLS, "h2 = true", "http2MaxConcurrentStreams = 50");
+		ms.createServer();
+		ServerConnector sc = getConnector(ms);
+		assertEquals(Arrays.asList("ssl", "alpn", "h2", "http/1.1"), sc.getProtocols());
+		assertEquals("alpn", ((SslConnectionFactory)sc.getConnectionFactory("ssl")).getNextProtocol());
+		assertEquals(50, ((HTTP2ServerConnectionFactory)sc.getConnectionFactory("h2")).getMaxConcurrentStreams());
+	}
+
+	@Test
+	public void b03_h2NotAppliedToPlainConnectors() throws Exception {
+		JettyMicroservice ms = create(JETTY_XML, "h2 = true");
+		ms.createServer();
+		assertEquals(Arrays.asList("http/1.1"), getConnector(ms).getProtocols());
+	}
+
+	@Test
+	public void b04_h2cMissingClasses() throws Exception {
+		Thread t = Thread.currentThread();
+		ClassLoader cl = t.getContextClassLoader();
+		t.setContextClassLoader(
+			new ClassLoader(JettyMicroserviceTest.class.getClassLoader()) {
+				@Override /* ClassLoader */
+				protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+					if (name.startsWith("org.eclipse.jetty.http2."))
+						throw new ClassNotFoundException(name);
+					return super.loadClass(name, resolve);
+				}
+			}
+		);
+		try {
+			create(JETTY_XML, "h2c = true").createServer();
+			fail();
+		} catch (RuntimeException e) {
+			assertEquals("HTTP/2 is enabled by setting 'Jetty/h2c' but class 'org.eclipse.jetty.http2.server.HTTP2CServerConnectionFactory' was not found.  Artifact 'org.eclipse.jetty.http2:http2-server' must be on the classpath.", e.getMessage());
+		} finally {
+			t.setContextClassLoader(cl);
+		}
+	}
+}
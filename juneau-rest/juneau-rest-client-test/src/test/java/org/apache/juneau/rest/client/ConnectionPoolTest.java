@@ -0,0 +1,163 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.net.*;
+import java.util.concurrent.*;
+
+import org.apache.http.*;
+import org.apache.http.client.config.*;
+import org.apache.http.conn.routing.*;
+import org.apache.http.impl.conn.*;
+import org.apache.http.pool.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+import com.sun.net.httpserver.*;
+
+/**
+ * Tests connection pool settings and metrics.
+ */
+@SuppressWarnings({"javadoc","restriction"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ConnectionPoolTest {
+
+	private static HttpServer server;
+	private static String url;
+
+	@BeforeClass
+	public static void startServer() throws Exception {
+		server = HttpServer.create(new InetSocketAddress(InetAddress.getLoopbackAddress(), 0), 0);
+		server.createContext("/", new HttpHandler() {
+			@Override /* HttpHandler */
+			public void handle(HttpExchange x) throws IOException {
+				byte[] b = "ok".getBytes("UTF-8");
+				x.getResponseHeaders().set("Content-Type", "text/plain");
+				x.sendResponseHeaders(200, b.length);
+				try (OutputStream os = x.getResponseBody()) {
+					os.write(b);
+				}
+			}
+		});
+		server.setExecutor(Executors.newFixedThreadPool(4));
+		server.start();
+		url = "http://localhost:" + server.getAddress().getPort();
+	}
+
+	@AfterClass
+	public static void stopServer() {
+		server.stop(0);
+	}
+
+	//=================================================================================================================
+	// Pool settings
+	//=================================================================================================================
+
+	@Test
+	public void a01_notPooled() throws Exception {
+		try (RestClient rc = RestClient.create().build()) {
+			assertNull(rc.getConnectionPoolMetrics());
+		}
+	}
+
+	@Test
+	public void a02_limitsApplied() throws Exception {
+		HttpHost h = new HttpHost("localhost", server.getAddress().getPort());
+		try (RestClient rc = RestClient.create().pooled().maxConnTotal(7).maxConnPerRoute(3).maxConnPerRoute(h, 5).build()) {
+			ConnectionPoolMetrics m = rc.getConnectionPoolMetrics();
+			assertNotNull(m);
+			PoolStats s = m.getTotalStats();
+			assertEquals(7, s.getMax());
+			rc.doGet(url + "/foo").run();
+			assertEquals(5, m.getRouteStats().get(new HttpRoute(h)).getMax());
+		}
+	}
+
+	@Test
+	public void a03_defaultPortNormalized() throws Exception {
+		try (RestClient rc = RestClient.create().pooled().maxConnPerRoute(new HttpHost("example.org"), 4).build()) {
+			assertNotNull(rc.getConnectionPoolMetrics());
+		}
+	}
+
+	@Test
+	public void a04_validateAfterInactivity() throws Exception {
+		assertEquals(2000, ((PoolingHttpClientConnectionManager)RestClient.create().pooled().createConnectionManager()).getValidateAfterInactivity());
+		assertEquals(500, ((PoolingHttpClientConnectionManager)RestClient.create().pooled().validateAfterInactivity(500).createConnectionManager()).getValidateAfterInactivity());
+		assertEquals(-1, ((PoolingHttpClientConnectionManager)RestClient.create().pooled().validateAfterInactivity(-1).createConnectionManager()).getValidateAfterInactivity());
+	}
+
+	//=================================================================================================================
+	// Metrics
+	//=================================================================================================================
+
+	@Test
+	public void b01_leasesCounted() throws Exception {
+		try (RestClient rc = RestClient.create().pooled().build()) {
+			ConnectionPoolMetrics m = rc.getConnectionPoolMetrics();
+			for (int i = 0; i < 5; i++)
+				assertEquals("ok", rc.doGet(url + "/foo").getResponseAsString());
+			assertEquals(5, m.getLeaseCount());
+			assertEquals(0, m.getLeaseTimeoutCount());
+			long sum = 0;
+			for (long l : m.getLeaseWaitHistogram())
+				sum += l;
+			assertEquals(5, sum);
+			assertEquals(m.getLeaseWaitBuckets().length + 1, m.getLeaseWaitHistogram().length);
+			assertTrue(m.getMaxLeaseWait() >= m.getAverageLeaseWait());
+
+			// Connections are returned to the pool.
+			assertEquals(0, m.getTotalStats().getLeased());
+			assertTrue(m.getTotalStats().getAvailable() >= 1);
+			assertEquals(0d, m.getUtilization(), 0d);
+
+			m.reset();
+			assertEquals(0, m.getLeaseCount());
+		}
+	}
+
+	@Test
+	public void b02_histogramBounds() throws Exception {
+		ConnectionPoolMetrics m = new ConnectionPoolMetrics(null);
+		m.onLease(0);
+		m.onLease(1000000);  // Exactly 1ms is counted in the first bucket.
+		m.onLease(1000001);
+		m.onLease(5000000);
+		m.onLease(6000000000L);
+		long[] h = m.getLeaseWaitHistogram();
+		assertEquals(2, h[0]);
+		assertEquals(2, h[1]);
+		assertEquals(1, h[h.length-1]);
+	}
+
+	@Test
+	public void b03_leaseTimeout() throws Exception {
+		try (RestClient rc = RestClient.create().pooled().maxConnTotal(1).maxConnPerRoute(1).defaultRequestConfig(RequestConfig.custom().setConnectionRequestTimeout(50).build()).build()) {
+			ConnectionPoolMetrics m = rc.getConnectionPoolMetrics();
+			RestCall c = rc.doGet(url + "/foo");
+			c.getResponse();  // Holds the only connection until consumed.
+			try {
+				rc.doGet(url + "/foo").run();
+				fail();
+			} catch (Exception e) {
+				// Expected.
+			}
+			assertEquals(1, m.getLeaseTimeoutCount());
+			assertEquals(1d, m.getUtilization(), 0d);
+			c.close();
+		}
+	}
+}
@@ -0,0 +1,189 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+import java.util.logging.*;
+
+import org.apache.juneau.http.annotation.*;
+import org.apache.juneau.internal.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.marshall.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.mock2.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Tests streaming request bodies.
+ */
+@SuppressWarnings({"javadoc"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RequestBodyStreamingTest {
+
+	public static class A {
+		public int f1;
+		public String f2;
+
+		public A init(int i) {
+			f1 = i;
+			f2 = "foo" + i;
+			return this;
+		}
+	}
+
+	private static List<A> list(int size) {
+		List<A> l = new ArrayList<>();
+		for (int i = 0; i < size; i++)
+			l.add(new A().init(i));
+		return l;
+	}
+
+	//=================================================================================================================
+	// RestRequestEntity
+	//=================================================================================================================
+
+	@Test
+	public void a01_streamingEntity() throws Exception {
+		List<A> l = list(3);
+		RestRequestEntity e = new RestRequestEntity(l, SimpleJsonSerializer.DEFAULT, null, true);
+		assertFalse(e.isRepeatable());
+		assertTrue(e.isChunked());
+		assertEquals(-1, e.getContentLength());
+		ByteArrayOutputStream baos = new ByteArrayOutputStream();
+		e.writeTo(baos);
+		assertEquals(SimpleJsonSerializer.DEFAULT.serialize(l), new String(baos.toByteArray(), IOUtils.UTF8));
+	}
+
+	@Test
+	public void a02_bufferedEntity() throws Exception {
+		RestRequestEntity e = new RestRequestEntity(list(3), SimpleJsonSerializer.DEFAULT, null);
+		assertTrue(e.isRepeatable());
+		assertFalse(e.isChunked());
+		assertEquals(IOUtils.read(e.getContent()), IOUtils.read(e.getContent()));
+	}
+
+	@Test
+	public void a03_spoolInMemory() throws Exception {
+		List<A> l = list(3);
+		String expected = SimpleJsonSerializer.DEFAULT.serialize(l);
+		RestRequestEntity e = new RestRequestEntity(l, SimpleJsonSerializer.DEFAULT, null, true).spool(1000000);
+		assertTrue(e.isRepeatable());
+		assertFalse(e.isChunked());
+		assertEquals(expected.length(), e.getContentLength());
+		assertEquals(expected, IOUtils.read(e.getContent()));
+		assertEquals(expected, IOUtils.read(e.getContent()));
+		e.release();
+	}
+
+	@Test
+	public void a04_spoolToFile() throws Exception {
+		List<A> l = list(1000);
+		String expected = SimpleJsonSerializer.DEFAULT.serialize(l);
+		RestRequestEntity e = new RestRequestEntity(l, SimpleJsonSerializer.DEFAULT, null, true).spool(100);
+		assertTrue(e.isRepeatable());
+		assertEquals(expected.length(), e.getContentLength());
+		for (int i = 0; i < 2; i++) {
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			e.writeTo(baos);
+			assertEquals(expected, new String(baos.toByteArray(), IOUtils.UTF8));
+		}
+		e.release();
+	}
+
+	@Test
+	public void a05_readAfterRelease() throws Exception {
+		RestRequestEntity e = new RestRequestEntity(list(1000), SimpleJsonSerializer.DEFAULT, null, true).spool(100);
+		e.release();
+		assertFalse(e.isRepeatable());
+		try {
+			e.getContent();
+			fail();
+		} catch (IllegalStateException x) {
+			assertEquals("Spooled request body has already been released.", x.getMessage());
+		}
+	}
+
+	//=================================================================================================================
+	// RestClient
+	//=================================================================================================================
+
+	@RestResource(serializers=SimpleJsonSerializer.class, parsers=JsonParser.class)
+	public static class B {
+		static final AtomicInteger COUNT = new AtomicInteger();
+
+		@RestMethod(name="POST", path="/echo")
+		public List<A> b01(@Body A[] body) {
+			return Arrays.asList(body);
+		}
+
+		@RestMethod(name="POST", path="/fail")
+		public int b02(@Body A[] body) throws Exception {
+			COUNT.incrementAndGet();
+			if (body.length != 100)
+				throw new RuntimeException("Wrong size");
+			throw new org.apache.juneau.rest.exception.ServiceUnavailable("Try again");
+		}
+	}
+
+	@Test
+	public void b01_streamingRoundTrip() throws Exception {
+		try (RestClient rc = MockRestClient.create(B.class, Json.DEFAULT).requestBodyStreaming().build()) {
+			List<A> l = list(100);
+			A[] r = rc.doPost("/echo", l).getResponse(A[].class);
+			assertEquals(100, r.length);
+			assertEquals("foo99", r[99].f2);
+		}
+	}
+
+	@Test
+	public void b02_streamingDisablesRetries() throws Exception {
+		try (RestClient rc = MockRestClient.create(B.class, Json.DEFAULT).requestBodyStreaming().retryable(3, 1, null).build()) {
+			B.COUNT.set(0);
+			try {
+				rc.doPost("/fail", list(100)).run();
+				fail();
+			} catch (RestCallException e) {
+				assertEquals(503, e.getResponseCode());
+			}
+			assertEquals(1, B.COUNT.get());
+		}
+	}
+
+	@Test
+	public void b03_streamingWithSpool() throws Exception {
+		try (RestClient rc = MockRestClient.create(B.class, Json.DEFAULT).requestBodyStreaming().requestBodySpoolThreshold(100).retryable(3, 1, null).build()) {
+			B.COUNT.set(0);
+			try {
+				rc.doPost("/fail", list(100)).run();
+				fail();
+			} catch (RestCallException e) {
+				assertEquals(503, e.getResponseCode());
+			}
+			assertEquals(3, B.COUNT.get());
+		}
+	}
+
+	@Test
+	public void b04_streamingWithSpoolAndLogging() throws Exception {
+		Logger log = Logger.getLogger(RequestBodyStreamingTest.class.getName());
+		try (RestClient rc = MockRestClient.create(B.class, Json.DEFAULT).requestBodyStreaming().requestBodySpoolThreshold(100).retryable(3, 1, null).logTo(Level.SEVERE, log).build()) {
+			A[] r = rc.doPost("/echo", list(100)).getResponse(A[].class);
+			assertEquals(100, r.length);
+		}
+	}
+}
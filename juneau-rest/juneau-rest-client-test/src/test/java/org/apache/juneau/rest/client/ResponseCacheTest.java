@@ -0,0 +1,210 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.nio.file.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.http.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.marshall.*;
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.mock2.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Tests the client-side response cache.
+ */
+@SuppressWarnings({"javadoc"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ResponseCacheTest {
+
+	@RestResource(serializers=SimpleJsonSerializer.class, parsers=JsonParser.class)
+	public static class A {
+		static final AtomicInteger COUNT = new AtomicInteger();
+
+		@RestMethod(name="GET", path="/maxAge")
+		public String a01(RestResponse res) {
+			res.setHeader("Cache-Control", "max-age=60");
+			return "foo" + COUNT.incrementAndGet();
+		}
+
+		@RestMethod(name="GET", path="/etag")
+		public void a02(RestRequest req, RestResponse res) {
+			COUNT.incrementAndGet();
+			res.setHeader("ETag", "\"v1\"");
+			res.setHeader("Cache-Control", "no-cache");
+			if ("\"v1\"".equals(req.getHeader("If-None-Match")))
+				res.setStatus(304);
+			else
+				res.setOutput("bar");
+		}
+
+		@RestMethod(name="GET", path="/noStore")
+		public String a03(RestResponse res) {
+			res.setHeader("Cache-Control", "no-store, max-age=60");
+			return "baz" + COUNT.incrementAndGet();
+		}
+
+		@RestMethod(name="GET", path="/vary")
+		public String a04(RestRequest req, RestResponse res) {
+			res.setHeader("Cache-Control", "max-age=60");
+			res.setHeader("Vary", "X-Foo");
+			return req.getHeader("X-Foo") + COUNT.incrementAndGet();
+		}
+	}
+
+	public static class Counter extends RestCallInterceptor {
+		int hits, misses, revalidations;
+
+		@Override /* RestCallInterceptor */
+		public void onCacheHit(RestCall restCall, HttpRequest req, HttpResponse res) {
+			hits++;
+		}
+
+		@Override /* RestCallInterceptor */
+		public void onCacheMiss(RestCall restCall, HttpRequest req) {
+			misses++;
+		}
+
+		@Override /* RestCallInterceptor */
+		public void onCacheRevalidated(RestCall restCall, HttpRequest req, HttpResponse res) {
+			revalidations++;
+		}
+	}
+
+	private static RestClient client(ResponseCache cache, Counter counter) {
+		A.COUNT.set(0);
+		return MockRestClient.create(A.class, Json.DEFAULT).responseCache(cache).interceptors(counter).build();
+	}
+
+	@Test
+	public void a01_maxAge() throws Exception {
+		ResponseCache cache = new ResponseCache(10000);
+		Counter counter = new Counter();
+		try (RestClient rc = client(cache, counter)) {
+			String r1 = rc.doGet("/maxAge").getResponseAsString();
+			String r2 = rc.doGet("/maxAge").getResponseAsString();
+			assertEquals(r1, r2);
+			assertEquals(1, A.COUNT.get());
+			assertEquals(1, cache.getHitCount());
+			assertEquals(1, cache.getMissCount());
+			assertEquals(1, counter.hits);
+			assertEquals(1, counter.misses);
+		}
+	}
+
+	@Test
+	public void a02_etagRevalidation() throws Exception {
+		ResponseCache cache = new ResponseCache(10000);
+		Counter counter = new Counter();
+		try (RestClient rc = client(cache, counter)) {
+			String r1 = rc.doGet("/etag").getResponseAsString();
+			String r2 = rc.doGet("/etag").getResponseAsString();
+			String r3 = rc.doGet("/etag").getResponseAsString();
+			assertEquals(r1, r2);
+			assertEquals(r1, r3);
+			assertEquals(3, A.COUNT.get());
+			assertEquals(0, cache.getHitCount());
+			assertEquals(1, cache.getMissCount());
+			assertEquals(2, cache.getRevalidationCount());
+			assertEquals(2, counter.revalidations);
+		}
+	}
+
+	@Test
+	public void a03_noStore() throws Exception {
+		ResponseCache cache = new ResponseCache(10000);
+		try (RestClient rc = client(cache, new Counter())) {
+			assertFalse(rc.doGet("/noStore").getResponseAsString().equals(rc.doGet("/noStore").getResponseAsString()));
+			assertEquals(2, A.COUNT.get());
+			assertEquals(0, cache.size());
+		}
+	}
+
+	@Test
+	public void a04_requestNoCache() throws Exception {
+		ResponseCache cache = new ResponseCache(10000);
+		try (RestClient rc = client(cache, new Counter())) {
+			rc.doGet("/maxAge").run();
+			rc.doGet("/maxAge").header("Cache-Control", "no-store").run();
+			assertEquals(2, A.COUNT.get());
+			assertEquals(0, cache.getHitCount());
+		}
+	}
+
+	@Test
+	public void a05_vary() throws Exception {
+		ResponseCache cache = new ResponseCache(10000);
+		try (RestClient rc = client(cache, new Counter())) {
+			String r1 = rc.doGet("/vary").header("X-Foo", "a").getResponseAsString();
+			assertEquals(r1, rc.doGet("/vary").header("X-Foo", "a").getResponseAsString());
+			String r2 = rc.doGet("/vary").header("X-Foo", "b").getResponseAsString();
+			assertFalse(r1.equals(r2));
+			assertEquals(2, A.COUNT.get());
+		}
+	}
+
+	@Test
+	public void a06_postsNotCached() throws Exception {
+		ResponseCache cache = new ResponseCache(10000);
+		try (RestClient rc = client(cache, new Counter())) {
+			rc.doGet("/maxAge").run();
+			try {
+				rc.doPost("/maxAge", "x").run();
+			} catch (RestCallException e) {
+				// 405 expected.
+			}
+			assertEquals(0, cache.getHitCount());
+			assertEquals(1, cache.getMissCount());
+		}
+	}
+
+	@Test
+	public void a07_memoryEviction() throws Exception {
+		ResponseCache cache = new ResponseCache(1);
+		try (RestClient rc = client(cache, new Counter())) {
+			rc.doGet("/maxAge").run();
+			rc.doGet("/maxAge").run();
+			assertEquals(2, A.COUNT.get());
+			assertEquals(0, cache.size());
+		}
+	}
+
+	@Test
+	public void a08_diskTier() throws Exception {
+		File dir = Files.createTempDirectory("juneau-cache").toFile();
+		try {
+			ResponseCache cache = new ResponseCache(0, dir, 100000);
+			try (RestClient rc = client(cache, new Counter())) {
+				String r1 = rc.doGet("/maxAge").getResponseAsString();
+				assertEquals(1, dir.listFiles().length);
+				assertEquals(r1, rc.doGet("/maxAge").getResponseAsString());
+				assertEquals(1, A.COUNT.get());
+				assertEquals(1, cache.getHitCount());
+				assertEquals(1, dir.listFiles().length);
+				cache.clear();
+				assertEquals(0, dir.listFiles().length);
+			}
+		} finally {
+			for (File f : dir.listFiles())
+				f.delete();
+			dir.delete();
+		}
+	}
+}
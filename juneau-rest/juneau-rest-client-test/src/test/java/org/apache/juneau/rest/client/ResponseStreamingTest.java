@@ -0,0 +1,254 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.junit.Assert.*;
+
+import java.io.*;
+import java.util.*;
+import java.util.regex.*;
+
+import org.apache.juneau.http.annotation.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.marshall.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.mock2.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Tests reading response bodies as streams.
+ */
+@SuppressWarnings({"javadoc"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class ResponseStreamingTest {
+
+	public static class A {
+		public int f1;
+		public String f2;
+
+		public A init(int i) {
+			f1 = i;
+			f2 = "foo" + i;
+			return this;
+		}
+	}
+
+	@RestResource(serializers=SimpleJsonSerializer.class, parsers=JsonParser.class)
+	public static class B {
+
+		@RestMethod(name="GET", path="/list")
+		public List<A> b01(@Query("n") int n) {
+			List<A> l = new ArrayList<>();
+			for (int i = 0; i < n; i++)
+				l.add(new A().init(i));
+			return l;
+		}
+
+		@RestMethod(name="GET", path="/text")
+		public Reader b02(@Query("n") int n) {
+			return new StringReader(text(n));
+		}
+
+		@RestMethod(name="GET", path="/bad")
+		public Reader b03() {
+			return new StringReader("[{f1:1},{f1:2},xxx");
+		}
+	}
+
+	static String text(int n) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < n; i++)
+			sb.append("x=").append(i).append(";..........................................\n");
+		return sb.toString();
+	}
+
+	private static RestClient client() {
+		return MockRestClient.create(B.class, Json.DEFAULT).build();
+	}
+
+	//=================================================================================================================
+	// Pipes
+	//=================================================================================================================
+
+	@Test
+	public void a01_pipeToWriterWhileParsing() throws Exception {
+		try (RestClient rc = client()) {
+			StringWriter sw = new StringWriter();
+			A[] r = rc.doGet("/list?n=100").pipeTo(sw).getResponse(A[].class);
+			assertEquals(100, r.length);
+			assertEquals(SimpleJsonSerializer.DEFAULT.serialize(r), sw.toString());
+		}
+	}
+
+	@Test
+	public void a02_pipeToOutputStreamWhileParsing() throws Exception {
+		try (RestClient rc = client()) {
+			ByteArrayOutputStream baos = new ByteArrayOutputStream();
+			A[] r = rc.doGet("/list?n=100").pipeTo(baos).getResponse(A[].class);
+			assertEquals(100, r.length);
+			assertEquals(SimpleJsonSerializer.DEFAULT.serialize(r), new String(baos.toByteArray(), "UTF-8"));
+		}
+	}
+
+	@Test
+	public void a03_pipeOnRun() throws Exception {
+		try (RestClient rc = client()) {
+			StringWriter sw = new StringWriter();
+			RestCall c = rc.doGet("/text?n=10").pipeTo(sw).captureResponse();
+			assertEquals(200, c.run());
+			assertEquals(text(10), sw.toString());
+			assertEquals(text(10), c.getCapturedResponse());
+		}
+	}
+
+	//=================================================================================================================
+	// Windowed response patterns
+	//=================================================================================================================
+
+	static class Counter extends ResponsePattern {
+		final List<Integer> values = new ArrayList<>();
+		boolean noMatch;
+
+		Counter(int windowSize) {
+			super("x=(\\d+);", windowSize);
+		}
+
+		@Override /* ResponsePattern */
+		public void onMatch(RestCall rc, Matcher m) throws RestCallException {
+			values.add(Integer.parseInt(m.group(1)));
+		}
+
+		@Override /* ResponsePattern */
+		public void onNoMatch(RestCall rc) throws RestCallException {
+			noMatch = true;
+		}
+	}
+
+	@Test
+	public void b01_windowFindsAllMatches() throws Exception {
+		try (RestClient rc = client()) {
+			for (int w : new int[]{10, 64, 1000, 1000000}) {
+				Counter p = new Counter(w);
+				rc.doGet("/text?n=1000").responsePattern(p).run();
+				assertEquals(1000, p.values.size());
+				for (int i = 0; i < 1000; i++)
+					assertEquals(i, p.values.get(i).intValue());
+				assertFalse(p.noMatch);
+			}
+		}
+	}
+
+	@Test
+	public void b02_windowSameAsCaptured() throws Exception {
+		try (RestClient rc = client()) {
+			Counter p1 = new Counter(0), p2 = new Counter(20);
+			String s = rc.doGet("/text?n=500").responsePattern(p1).responsePattern(p2).getResponseAsString();
+			assertEquals(text(500), s);
+			assertEquals(p1.values, p2.values);
+		}
+	}
+
+	@Test
+	public void b03_windowNoMatch() throws Exception {
+		try (RestClient rc = client()) {
+			Counter p = new Counter(10);
+			rc.doGet("/text?n=0").responsePattern(p).run();
+			assertTrue(p.noMatch);
+			assertTrue(p.values.isEmpty());
+		}
+	}
+
+	@Test
+	public void b04_windowExceptionRethrown() throws Exception {
+		try (RestClient rc = client()) {
+			ResponsePattern p = new ResponsePattern("x=5;", 10) {
+				@Override /* ResponsePattern */
+				public void onMatch(RestCall rc2, Matcher m) throws RestCallException {
+					throw new RestCallException("Found 5");
+				}
+			};
+			try {
+				rc.doGet("/text?n=100").responsePattern(p).run();
+				fail();
+			} catch (RestCallException e) {
+				assertEquals("Found 5", e.getLocalizedMessage());
+			}
+		}
+	}
+
+	//=================================================================================================================
+	// getResponseIterator()
+	//=================================================================================================================
+
+	@Test
+	public void c01_iterator() throws Exception {
+		try (RestClient rc = client()) {
+			Iterator<A> i = rc.doGet("/list?n=1000").getResponseIterator(A.class);
+			int n = 0;
+			while (i.hasNext()) {
+				A a = i.next();
+				assertEquals(n, a.f1);
+				assertEquals("foo" + n, a.f2);
+				n++;
+			}
+			assertEquals(1000, n);
+			assertFalse(i.hasNext());
+		}
+	}
+
+	@Test
+	public void c02_iteratorEmpty() throws Exception {
+		try (RestClient rc = client()) {
+			Iterator<A> i = rc.doGet("/list?n=0").getResponseIterator(A.class);
+			assertFalse(i.hasNext());
+			try {
+				i.next();
+				fail();
+			} catch (NoSuchElementException e) {
+				// Expected.
+			}
+		}
+	}
+
+	@Test
+	public void c03_iteratorParseError() throws Exception {
+		try (RestClient rc = client()) {
+			Iterator<A> i = rc.doGet("/bad").header("Accept", "application/json").getResponseIterator(A.class);
+			assertEquals(1, i.next().f1);
+			assertEquals(2, i.next().f1);
+			try {
+				i.next();
+				fail();
+			} catch (RuntimeException e) {
+				assertTrue(e.getCause() instanceof org.apache.juneau.parser.ParseException);
+			}
+		}
+	}
+
+	@Test
+	public void c04_parserSessionIterator() throws Exception {
+		Iterator<Integer> i = JsonParser.DEFAULT.createSession().parseIterator("[1, 2 , /*x*/ 3]", JsonParser.DEFAULT.getClassMeta(Integer.class));
+		List<Integer> l = new ArrayList<>();
+		while (i.hasNext())
+			l.add(i.next());
+		assertEquals(Arrays.asList(1, 2, 3), l);
+
+		try {
+			JsonParser.DEFAULT.createSession().parseIterator("{}", JsonParser.DEFAULT.getClassMeta(Integer.class));
+			fail();
+		} catch (org.apache.juneau.parser.ParseException e) {
+			// Expected.
+		}
+	}
+}
@@ -0,0 +1,234 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.http.*;
+import org.apache.http.message.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.marshall.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.exception.*;
+import org.apache.juneau.rest.mock2.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Tests retry policies, retry budgets and circuit breakers.
+ */
+@SuppressWarnings({"javadoc"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RetryPolicyTest {
+
+	private static HttpResponse response(String retryAfter) {
+		BasicHttpResponse r = new BasicHttpResponse(HttpVersion.HTTP_1_1, 503, "Service Unavailable");
+		if (retryAfter != null)
+			r.setHeader("Retry-After", retryAfter);
+		return r;
+	}
+
+	//=================================================================================================================
+	// ExponentialBackoff
+	//=================================================================================================================
+
+	@Test
+	public void a01_exponential() throws Exception {
+		ExponentialBackoff p = new ExponentialBackoff(100, 1000, 2, 0);
+		assertEquals(100, p.getDelay(1, null));
+		assertEquals(200, p.getDelay(2, null));
+		assertEquals(400, p.getDelay(3, null));
+		assertEquals(800, p.getDelay(4, null));
+		assertEquals(1000, p.getDelay(5, null));
+		assertEquals(1000, p.getDelay(50, null));
+	}
+
+	@Test
+	public void a02_jitter() throws Exception {
+		ExponentialBackoff p = new ExponentialBackoff(100, 1000, 2, 1);
+		for (int i = 0; i < 100; i++) {
+			long d = p.getDelay(3, null);
+			assertTrue(d >= 0 && d <= 400);
+		}
+		p = new ExponentialBackoff(100, 1000, 2, 0.5);
+		for (int i = 0; i < 100; i++) {
+			long d = p.getDelay(3, null);
+			assertTrue(d >= 200 && d <= 400);
+		}
+	}
+
+	@Test
+	public void a03_retryAfter() throws Exception {
+		ExponentialBackoff p = new ExponentialBackoff(100, 5000, 2, 0);
+		assertEquals(2000, p.getDelay(1, response("2")));
+		assertEquals(5000, p.getDelay(1, response("60")));
+		assertEquals(100, p.getDelay(1, response("Wed, 21 Oct 2015 07:28:00 GMT")));
+		assertEquals(100, p.getDelay(1, response(null)));
+	}
+
+	//=================================================================================================================
+	// RetryBudget
+	//=================================================================================================================
+
+	@Test
+	public void b01_budget() throws Exception {
+		RetryBudget b = new RetryBudget(0.5, 0);
+		assertEquals(10, b.getAvailable());
+		for (int i = 0; i < 10; i++)
+			assertTrue(b.tryRetry());
+		assertFalse(b.tryRetry());
+		assertEquals(1, b.getRejectedCount());
+		b.onRequest();
+		assertFalse(b.tryRetry());
+		b.onRequest();
+		assertTrue(b.tryRetry());
+		assertFalse(b.tryRetry());
+		assertEquals(3, b.getRejectedCount());
+	}
+
+	@Test
+	public void b02_budgetRefill() throws Exception {
+		RetryBudget b = new RetryBudget(0, 1000);
+		while (b.tryRetry()) {}
+		Thread.sleep(20);
+		assertTrue(b.tryRetry());
+	}
+
+	//=================================================================================================================
+	// CircuitBreaker
+	//=================================================================================================================
+
+	@Test
+	public void c01_circuitBreaker() throws Exception {
+		CircuitBreaker cb = new CircuitBreaker(2, 20);
+		String h = "http://foo:80";
+		assertEquals(CircuitBreaker.State.CLOSED, cb.getState(h));
+		assertEquals(CircuitBreaker.State.CLOSED, cb.tryAcquire(h));
+		assertNull(cb.onResult(h, 503));
+		assertNull(cb.onResult(h, 200));
+		assertNull(cb.onResult(h, 404));
+		assertNull(cb.onResult(h, -1));
+		assertEquals(CircuitBreaker.State.OPEN, cb.onResult(h, 500));
+		assertEquals(CircuitBreaker.State.OPEN, cb.getState(h));
+		assertNull(cb.tryAcquire(h));
+		Thread.sleep(30);
+		assertEquals(CircuitBreaker.State.HALF_OPEN, cb.tryAcquire(h));
+		assertNull(cb.tryAcquire(h));
+		assertEquals(CircuitBreaker.State.OPEN, cb.onResult(h, 503));
+		assertNull(cb.tryAcquire(h));
+		Thread.sleep(30);
+		assertEquals(CircuitBreaker.State.HALF_OPEN, cb.tryAcquire(h));
+		assertEquals(CircuitBreaker.State.CLOSED, cb.onResult(h, 200));
+		assertEquals(CircuitBreaker.State.CLOSED, cb.tryAcquire(h));
+		assertEquals(CircuitBreaker.State.CLOSED, cb.getState("http://bar:80"));
+	}
+
+	@Test
+	public void c02_getHost() throws Exception {
+		assertEquals("http://foo:80", CircuitBreaker.getHost(java.net.URI.create("http://foo/bar")));
+		assertEquals("https://foo:443", CircuitBreaker.getHost(java.net.URI.create("https://foo/bar")));
+		assertEquals("http://foo:8080", CircuitBreaker.getHost(java.net.URI.create("http://foo:8080/bar")));
+	}
+
+	//=================================================================================================================
+	// RestClient
+	//=================================================================================================================
+
+	@RestResource(serializers=SimpleJsonSerializer.class, parsers=JsonParser.class)
+	public static class D {
+		static final AtomicInteger COUNT = new AtomicInteger();
+
+		@RestMethod(name="GET", path="/fail")
+		public String d01() throws Exception {
+			COUNT.incrementAndGet();
+			throw new ServiceUnavailable("Try again");
+		}
+
+		@RestMethod(name="GET", path="/ok")
+		public String d02() throws Exception {
+			COUNT.incrementAndGet();
+			return "ok";
+		}
+	}
+
+	public static class StateListener extends RestCallInterceptor {
+		List<String> events = new ArrayList<>();
+
+		@Override /* RestCallInterceptor */
+		public void onCircuitBreakerStateChange(RestCall restCall, String host, CircuitBreaker.State state) {
+			events.add(host + "=" + state);
+		}
+	}
+
+	private static int run(RestClient rc, String path) {
+		try {
+			return rc.doGet(path).run();
+		} catch (RestCallException e) {
+			return e.getResponseCode();
+		}
+	}
+
+	@Test
+	public void d01_retryPolicy() throws Exception {
+		try (RestClient rc = MockRestClient.create(D.class, Json.DEFAULT).retryable(3, 10000, null).retryPolicy(new ExponentialBackoff(1, 1, 2, 0)).build()) {
+			D.COUNT.set(0);
+			long t = System.currentTimeMillis();
+			assertEquals(503, run(rc, "/fail"));
+			assertEquals(3, D.COUNT.get());
+			assertTrue(System.currentTimeMillis() - t < 10000);
+		}
+	}
+
+	@Test
+	public void d02_retryBudget() throws Exception {
+		RetryBudget b = new RetryBudget(0, 0);
+		try (RestClient rc = MockRestClient.create(D.class, Json.DEFAULT).retryable(20, 1, null).retryBudget(b).build()) {
+			D.COUNT.set(0);
+			assertEquals(503, run(rc, "/fail"));
+			assertEquals(11, D.COUNT.get());
+			assertEquals(503, run(rc, "/fail"));
+			assertEquals(12, D.COUNT.get());
+			assertEquals(2, b.getRejectedCount());
+		}
+	}
+
+	@Test
+	public void d03_circuitBreaker() throws Exception {
+		CircuitBreaker cb = new CircuitBreaker(3, 60000);
+		StateListener l = new StateListener();
+		try (RestClient rc = MockRestClient.create(D.class, Json.DEFAULT).retryable(5, 1, null).circuitBreaker(cb).interceptors(l).build()) {
+			D.COUNT.set(0);
+			assertEquals(503, run(rc, "/fail"));
+			assertEquals(3, D.COUNT.get());
+			assertEquals(CircuitBreaker.State.OPEN, cb.getState("http://localhost:80"));
+			assertEquals(0, run(rc, "/ok"));
+			assertEquals(3, D.COUNT.get());
+			assertEquals("[http://localhost:80=OPEN]", l.events.toString());
+		}
+	}
+
+	@Test
+	public void d04_circuitBreakerHalfOpen() throws Exception {
+		CircuitBreaker cb = new CircuitBreaker(1, 10);
+		StateListener l = new StateListener();
+		try (RestClient rc = MockRestClient.create(D.class, Json.DEFAULT).circuitBreaker(cb).interceptors(l).build()) {
+			assertEquals(503, run(rc, "/fail"));
+			Thread.sleep(20);
+			assertEquals(200, run(rc, "/ok"));
+			assertEquals("[http://localhost:80=OPEN, http://localhost:80=HALF_OPEN, http://localhost:80=CLOSED]", l.events.toString());
+		}
+	}
+}
@@ -0,0 +1,286 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.junit.Assert.*;
+
+import java.util.*;
+import java.util.concurrent.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.juneau.json.*;
+import org.apache.juneau.marshall.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.mock2.*;
+import org.apache.juneau.rest.remote.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Tests batched RRPC calls.
+ */
+@SuppressWarnings({"javadoc","serial"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RrpcBatchTest {
+
+	public static class ABean {
+		public int f1;
+		public String f2;
+
+		public ABean init(int f1, String f2) {
+			this.f1 = f1;
+			this.f2 = f2;
+			return this;
+		}
+	}
+
+	public static class AException extends Exception {
+		public AException(String msg) {
+			super(msg);
+		}
+	}
+
+	public interface IA {
+		String echo(String s);
+		int add(int a, int b);
+		ABean bean(ABean b);
+		List<ABean> beans(int count);
+		void fail(String msg) throws AException;
+	}
+
+	public static class AImpl implements IA {
+		@Override
+		public String echo(String s) {
+			return s;
+		}
+		@Override
+		public int add(int a, int b) {
+			return a + b;
+		}
+		@Override
+		public ABean bean(ABean b) {
+			b.f1++;
+			return b;
+		}
+		@Override
+		public List<ABean> beans(int count) {
+			List<ABean> l = new ArrayList<>();
+			for (int i = 0; i < count; i++)
+				l.add(new ABean().init(i, "x" + i));
+			return l;
+		}
+		@Override
+		public void fail(String msg) throws AException {
+			throw new AException(msg);
+		}
+	}
+
+	@RestResource(serializers=SimpleJsonSerializer.class, parsers=JsonParser.class)
+	public static class A {
+		static final AtomicInteger COUNT = new AtomicInteger();
+
+		@RestMethod(name="RRPC", path="/proxy/*")
+		public IA getProxy() {
+			COUNT.incrementAndGet();
+			return new AImpl();
+		}
+	}
+
+	@RestResource(serializers=SimpleJsonSerializer.class, parsers=JsonParser.class)
+	public static class B extends RrpcServlet {
+		@Override
+		protected Map<Class<?>,Object> getServiceMap() throws Exception {
+			Map<Class<?>,Object> m = new LinkedHashMap<>();
+			m.put(IA.class, new AImpl());
+			return m;
+		}
+
+		@Override
+		protected ExecutorService getBatchExecutorService() throws Exception {
+			return ForkJoinPool.commonPool();
+		}
+	}
+
+	private static void assertBatch(RestClient rc, String url) throws Exception {
+		RrpcBatch<IA> b = rc.createRrpcBatch(IA.class, url);
+		IA p = b.getProxy();
+		assertNull(p.echo("foo"));
+		CompletableFuture<String> f1 = b.future(null);
+		CompletableFuture<Integer> f2 = b.future(p.add(1, 2));
+		CompletableFuture<ABean> f3 = b.future(p.bean(new ABean().init(1, "a")));
+		CompletableFuture<List<ABean>> f4 = b.future(p.beans(2));
+		p.fail("bad");
+		CompletableFuture<Object> f5 = b.future(null);
+		assertEquals(5, b.size());
+		assertFalse(f1.isDone());
+
+		b.send();
+		assertEquals(0, b.size());
+		assertEquals("foo", f1.get());
+		assertEquals(3, f2.get().intValue());
+		assertEquals(2, f3.get().f1);
+		assertEquals("x1", f4.get().get(1).f2);
+		try {
+			f5.get();
+			fail();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof AException);
+			assertEquals("bad", e.getCause().getMessage());
+		}
+	}
+
+	//=================================================================================================================
+	// Explicit batches
+	//=================================================================================================================
+
+	@Test
+	public void a01_rrpcMethod() throws Exception {
+		try (RestClient rc = MockRestClient.create(A.class, Json.DEFAULT).build()) {
+			A.COUNT.set(0);
+			assertBatch(rc, "/proxy");
+			assertEquals(1, A.COUNT.get());
+		}
+	}
+
+	@Test
+	public void a02_rrpcServlet() throws Exception {
+		try (RestClient rc = MockRestClient.create(B.class, Json.DEFAULT).build()) {
+			assertBatch(rc, "/" + IA.class.getName());
+		}
+	}
+
+	@Test
+	public void a03_emptyBatch() throws Exception {
+		try (RestClient rc = MockRestClient.create(A.class, Json.DEFAULT).build()) {
+			A.COUNT.set(0);
+			rc.createRrpcBatch(IA.class, "/proxy").send();
+			assertEquals(0, A.COUNT.get());
+		}
+	}
+
+	@Test(expected=IllegalStateException.class)
+	public void a04_noCalls() throws Exception {
+		try (RestClient rc = MockRestClient.create(A.class, Json.DEFAULT).build()) {
+			rc.createRrpcBatch(IA.class, "/proxy").future(null);
+		}
+	}
+
+	@Test
+	public void a05_unknownUrl() throws Exception {
+		try (RestClient rc = MockRestClient.create(A.class, Json.DEFAULT).build()) {
+			RrpcBatch<IA> b = rc.createRrpcBatch(IA.class, "/bad");
+			CompletableFuture<String> f = b.future(b.getProxy().echo("foo"));
+			try {
+				b.send();
+				fail();
+			} catch (RestCallException e) {
+				assertEquals(404, e.getResponseCode());
+			}
+			assertTrue(f.isCompletedExceptionally());
+		}
+	}
+
+	//=================================================================================================================
+	// Time-window batching
+	//=================================================================================================================
+
+	@Test
+	public void b01_window() throws Exception {
+		try (RestClient rc = MockRestClient.create(A.class, Json.DEFAULT).rrpcBatching(200, 100).build()) {
+			final IA p = rc.getRrpcInterface(IA.class, "/proxy");
+			A.COUNT.set(0);
+			ExecutorService es = Executors.newFixedThreadPool(10);
+			try {
+				List<Future<Integer>> l = new ArrayList<>();
+				for (int i = 0; i < 10; i++) {
+					final int i2 = i;
+					l.add(es.submit(
+						new Callable<Integer>() {
+							@Override /* Callable */
+							public Integer call() throws Exception {
+								return p.add(i2, 1);
+							}
+						}
+					));
+				}
+				for (int i = 0; i < 10; i++)
+					assertEquals(i + 1, l.get(i).get().intValue());
+			} finally {
+				es.shutdown();
+			}
+			assertTrue(A.COUNT.get() < 10);
+		}
+	}
+
+	@Test
+	public void b02_windowMaxSize() throws Exception {
+		try (RestClient rc = MockRestClient.create(A.class, Json.DEFAULT).rrpcBatching(10, 1).build()) {
+			IA p = rc.getRrpcInterface(IA.class, "/proxy");
+			A.COUNT.set(0);
+			assertEquals("foo", p.echo("foo"));
+			assertEquals(5, p.add(2, 3));
+			assertEquals(2, A.COUNT.get());
+		}
+	}
+
+	@Test
+	public void b03_windowException() throws Exception {
+		try (RestClient rc = MockRestClient.create(A.class, Json.DEFAULT).rrpcBatching(1, 100).build()) {
+			IA p = rc.getRrpcInterface(IA.class, "/proxy");
+			try {
+				p.fail("bad");
+				fail();
+			} catch (AException e) {
+				assertEquals("bad", e.getMessage());
+			}
+		}
+	}
+
+	@Test
+	public void b04_windowLeaderInterrupted() throws Exception {
+		try (RestClient rc = MockRestClient.create(A.class, Json.DEFAULT).rrpcBatching(60000, 100).build()) {
+			final IA p = rc.getRrpcInterface(IA.class, "/proxy");
+			final AtomicReference<String> leaderResult = new AtomicReference<>();
+			final AtomicBoolean leaderInterrupted = new AtomicBoolean();
+			Thread leader = new Thread() {
+				@Override /* Thread */
+				public void run() {
+					leaderResult.set(p.echo("foo"));
+					leaderInterrupted.set(isInterrupted());
+				}
+			};
+			leader.start();
+			Thread.sleep(200);
+			ExecutorService es = Executors.newSingleThreadExecutor();
+			try {
+				Future<Integer> f = es.submit(
+					new Callable<Integer>() {
+						@Override /* Callable */
+						public Integer call() throws Exception {
+							return p.add(2, 3);
+						}
+					}
+				);
+				Thread.sleep(200);
+				leader.interrupt();
+				assertEquals(5, f.get(10, TimeUnit.SECONDS).intValue());
+				leader.join(10000);
+				assertFalse(leader.isAlive());
+				assertEquals("foo", leaderResult.get());
+				assertTrue(leaderInterrupted.get());
+			} finally {
+				es.shutdownNow();
+			}
+		}
+	}
+}
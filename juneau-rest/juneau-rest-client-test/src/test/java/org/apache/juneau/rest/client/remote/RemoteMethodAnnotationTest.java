@@ -15,6 +15,8 @@ package org.apache.juneau.rest.client.remote;
 import static org.junit.Assert.*;
 
 import java.io.*;
+import java.util.*;
+import java.util.concurrent.*;
 
 import org.apache.http.*;
 import org.apache.juneau.http.annotation.Body;
@@ -24,6 +26,8 @@ import org.apache.juneau.json.*;
 import org.apache.juneau.marshall.*;
 import org.apache.juneau.oapi.*;
 import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.client.*;
+import org.apache.juneau.rest.exception.*;
 import org.apache.juneau.rest.mock2.*;
 import org.junit.*;
 import org.junit.runners.*;
@@ -206,4 +210,83 @@ public class RemoteMethodAnnotationTest {
 		assertEquals("foo", IOUtils.read(t.d01c("foo")));
 		assertEquals("foo", IOUtils.read(t.d01d("foo")));
 	}
+
+	//=================================================================================================================
+	// Return types, futures
+	//=================================================================================================================
+
+	@RestResource(serializers=SimpleJsonSerializer.class, parsers=JsonParser.class)
+	public static class E {
+
+		@RestMethod
+		public void e01() {
+		}
+
+		@RestMethod
+		public String e02() {
+			return "foo";
+		}
+
+		@RestMethod
+		public List<Integer> e03() {
+			return Arrays.asList(1,2,3);
+		}
+
+		@RestMethod
+		public String e04() throws Exception {
+			throw new BadRequest("bad");
+		}
+	}
+
+	@RemoteResource
+	public static interface E01 {
+		public Future<Void> e01();
+		public CompletableFuture<String> e02();
+		public CompletableFuture<List<Integer>> e03();
+		@RemoteMethod(path="e02", returns=RemoteReturn.STATUS)
+		public Future<Integer> e02a();
+		public CompletableFuture<String> e04();
+	}
+
+	@Test
+	public void e01_returnTypes_futures() throws Exception {
+		E01 t = MockRemoteResource.build(E01.class, E.class, Json.DEFAULT);
+		assertNull(t.e01().get());
+		assertEquals("foo", t.e02().get());
+		assertEquals(Integer.valueOf(6), t.e03().thenApply(new java.util.function.Function<List<Integer>,Integer>() {
+			@Override
+			public Integer apply(List<Integer> l) {
+				int sum = 0;
+				for (Integer i : l)
+					sum += i;
+				return sum;
+			}
+		}).get());
+		assertEquals(Integer.valueOf(200), t.e02a().get());
+	}
+
+	@Test
+	public void e02_returnTypes_futures_error() throws Exception {
+		E01 t = MockRemoteResource.build(E01.class, E.class, Json.DEFAULT);
+		try {
+			t.e04().get();
+			fail();
+		} catch (ExecutionException e) {
+			assertTrue(e.getCause() instanceof BadRequest);
+			assertEquals("bad", e.getCause().getMessage());
+		}
+	}
+
+	@Test
+	public void e03_restCallAsync() throws Exception {
+		try (RestClient rc = MockRestClient.create(E.class, Json.DEFAULT).build()) {
+			List<CompletableFuture<String>> l = new ArrayList<>();
+			for (int i = 0; i < 40; i++)
+				l.add(rc.doGet("/e02").getResponseAsync(String.class));
+			for (CompletableFuture<String> f : l)
+				assertEquals("foo", f.get());
+			assertEquals(Integer.valueOf(200), rc.doGet("/e01").runAsync().get());
+			assertEquals("'foo'", rc.doGet("/e02").getResponseAsStringAsync().get());
+		}
+	}
 }
@@ -0,0 +1,91 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client.remote;
+
+import static org.junit.Assert.*;
+
+import org.apache.juneau.http.annotation.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.marshall.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.client.*;
+import org.apache.juneau.rest.mock2.*;
+import org.junit.*;
+
+/**
+ * Measures the per-call overhead of remote resource proxies against a mock REST interface.
+ */
+@Ignore
+@SuppressWarnings({"javadoc"})
+public class RemoteResourceBenchmarkTest {
+
+	private static final int NUM_WARMUP = 5000;
+	private static final int NUM_RUNS = 20000;
+
+	@RestResource(serializers=SimpleJsonSerializer.class, parsers=JsonParser.class)
+	public static class A {
+
+		@RestMethod(path="/a01/{foo}/{bar}")
+		public String a01(@Path("foo") String foo, @Path("bar") int bar, @Query("baz") String baz, @Header("qux") String qux) {
+			return foo + bar + baz + qux;
+		}
+
+		@RestMethod(name="POST", path="/a02/{foo}")
+		public A02 a02(@Path("foo") String foo, @Body A02 body) {
+			body.f1 = foo;
+			return body;
+		}
+	}
+
+	public static class A02 {
+		public String f1;
+		public int f2;
+	}
+
+	@RemoteResource
+	public static interface A01 {
+
+		@RemoteMethod(path="/a01/{foo}/{bar}")
+		public String a01(@Path("foo") String foo, @Path("bar") int bar, @Query("baz") String baz, @Header("qux") String qux);
+
+		@RemoteMethod(method="POST", path="/a02/{foo}")
+		public A02 a02(@Path("foo") String foo, @Body A02 body);
+	}
+
+	@Test
+	public void a01_proxyCallOverhead() throws Exception {
+		try (RestClient rc = MockRestClient.create(A.class, Json.DEFAULT).build()) {
+			A01 t = rc.getRemoteResource(A01.class);
+			A02 a = new A02();
+			a.f2 = 2;
+
+			assertEquals("foo1barqux", t.a01("foo", 1, "bar", "qux"));
+			assertEquals("foo", t.a02("foo", a).f1);
+
+			for (int i = 0; i < NUM_WARMUP; i++) {
+				t.a01("foo", i, "bar", "qux");
+				t.a02("foo", a);
+			}
+
+			long startTime = System.nanoTime();
+			for (int i = 0; i < NUM_RUNS; i++)
+				t.a01("foo", i, "bar", "qux");
+			System.err.println(String.format("Average GET proxy call time: %.2fus", (System.nanoTime()-startTime)/1000.0/NUM_RUNS)); // NOT DEBUG
+
+			startTime = System.nanoTime();
+			for (int i = 0; i < NUM_RUNS; i++)
+				t.a02("foo", a);
+			System.err.println(String.format("Average POST proxy call time: %.2fus", (System.nanoTime()-startTime)/1000.0/NUM_RUNS)); // NOT DEBUG
+		}
+	}
+}
@@ -0,0 +1,183 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.net.*;
+import java.util.concurrent.*;
+
+/**
+ * Stops sending requests to hosts that are failing.
+ *
+ * <p>
+ * Tracks a separate circuit for each host (scheme, host name and port).
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		{@link State#CLOSED CLOSED} - Requests are sent normally.
+ * 		<br>After <code>failureThreshold</code> consecutive failures, the circuit opens.
+ * 	<li>
+ * 		{@link State#OPEN OPEN} - Requests fail immediately with a {@link RestCallException} without contacting the
+ * 		host, and retries stop.
+ * 		<br>After <code>openTime</code> milliseconds, the circuit becomes half-open.
+ * 	<li>
+ * 		{@link State#HALF_OPEN HALF_OPEN} - A single probe request is sent while other requests continue to fail
+ * 		immediately.
+ * 		<br>If the probe succeeds, the circuit closes.  If it fails, the circuit opens again.
+ * </ul>
+ *
+ * <p>
+ * By default, connection failures and <code>5xx</code> responses count as failures.
+ * <br>Subclasses can override {@link #isFailure(int)} to change this.
+ *
+ * <p>
+ * State changes are reported through {@link RestCallInterceptor#onCircuitBreakerStateChange(RestCall, String, State)}.
+ *
+ * <p>
+ * Circuit breakers are thread-safe and can be shared between clients.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Stop calling a host for 30 seconds after 5 consecutive failures.</jc>
+ * 	RestClient c = RestClient.<jsm>create</jsm>()
+ * 		.json()
+ * 		.circuitBreaker(<jk>new</jk> CircuitBreaker(5, 30000))
+ * 		.build();
+ * </p>
+ */
+public class CircuitBreaker {
+
+	/**
+	 * The state of a circuit.
+	 */
+	public static enum State {
+
+		/** Requests are sent normally. */
+		CLOSED,
+
+		/** Requests fail without contacting the host. */
+		OPEN,
+
+		/** A single probe request is being sent to determine whether the host has recovered. */
+		HALF_OPEN
+	}
+
+	private final int failureThreshold;
+	private final long openTime;
+	private final ConcurrentHashMap<String,Circuit> circuits = new ConcurrentHashMap<>();
+
+	/**
+	 * Constructor.
+	 *
+	 * @param failureThreshold The number of consecutive failures that opens the circuit.
+	 * @param openTime The time in milliseconds to wait before sending a probe request to a failing host.
+	 */
+	public CircuitBreaker(int failureThreshold, long openTime) {
+		this.failureThreshold = failureThreshold;
+		this.openTime = openTime;
+	}
+
+	/**
+	 * Returns the current state of the circuit for the specified host.
+	 *
+	 * @param host The host key as returned by {@link #getHost(URI)}.
+	 * @return The current state of the circuit.  {@link State#CLOSED} if no requests have been made to the host.
+	 */
+	public State getState(String host) {
+		Circuit c = circuits.get(host);
+		return c == null ? State.CLOSED : c.getState();
+	}
+
+	/**
+	 * Returns the key used to identify the host of the specified URI.
+	 *
+	 * @param uri The request URI.
+	 * @return The key in the form <js>"scheme://host:port"</js>.
+	 */
+	public static String getHost(URI uri) {
+		int port = uri.getPort();
+		if (port == -1)
+			port = "https".equalsIgnoreCase(uri.getScheme()) ? 443 : 80;
+		return uri.getScheme() + "://" + uri.getHost() + ':' + port;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified response code counts as a failure.
+	 *
+	 * @param statusCode The HTTP response code, or <code>-1</code> if a connection could not be made.
+	 * @return <jk>true</jk> if the specified response code counts as a failure.
+	 */
+	protected boolean isFailure(int statusCode) {
+		return statusCode <= 0 || statusCode >= 500;
+	}
+
+	/**
+	 * Called before a request is sent.
+	 *
+	 * @return
+	 * 	The state of the circuit the request was allowed under, or <jk>null</jk> if the request is not allowed.
+	 * 	<br>{@link State#HALF_OPEN} means this request is the probe and the circuit just left the open state.
+	 */
+	State tryAcquire(String host) {
+		Circuit c = circuits.get(host);
+		if (c == null) {
+			circuits.putIfAbsent(host, new Circuit());
+			c = circuits.get(host);
+		}
+		return c.tryAcquire();
+	}
+
+	/**
+	 * Called after a response is received.
+	 *
+	 * @return The new state of the circuit, or <jk>null</jk> if it didn't change.
+	 */
+	State onResult(String host, int statusCode) {
+		return circuits.get(host).onResult(isFailure(statusCode));
+	}
+
+	private final class Circuit {
+		private State state = State.CLOSED;
+		private int failures;
+		private long openedAt;
+
+		synchronized State getState() {
+			return state;
+		}
+
+		synchronized State tryAcquire() {
+			if (state == State.CLOSED)
+				return state;
+			if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openTime) {
+				state = State.HALF_OPEN;
+				return state;
+			}
+			return null;
+		}
+
+		synchronized State onResult(boolean failed) {
+			if (! failed) {
+				failures = 0;
+				if (state == State.CLOSED)
+					return null;
+				state = State.CLOSED;
+				return state;
+			}
+			failures++;
+			if (state == State.HALF_OPEN || (state == State.CLOSED && failures >= failureThreshold)) {
+				state = State.OPEN;
+				openedAt = System.currentTimeMillis();
+				return state;
+			}
+			return null;
+		}
+	}
+}
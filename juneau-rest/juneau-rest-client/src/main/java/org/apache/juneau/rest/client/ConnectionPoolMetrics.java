@@ -0,0 +1,197 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.http.conn.routing.*;
+import org.apache.http.impl.conn.*;
+import org.apache.http.pool.*;
+
+/**
+ * Statistics about the connection pool of a {@link RestClient}.
+ *
+ * <p>
+ * Available through {@link RestClient#getConnectionPoolMetrics()} when the client was created with
+ * {@link RestClientBuilder#pooled()}.
+ *
+ * <p>
+ * Provides a live view of the leased, available and pending connections for the whole pool and for each route,
+ * plus a histogram of the time spent waiting to lease a connection from the pool.
+ * <br>A high utilization combined with long lease waits means the pool is too small for the number of concurrent
+ * requests.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	RestClient c = RestClient.<jsm>create</jsm>().json().pooled().maxConnTotal(200).maxConnPerRoute(50).build();
+ * 	...
+ * 	ConnectionPoolMetrics m = c.getConnectionPoolMetrics();
+ * 	<jk>for</jk> (Map.Entry&lt;HttpRoute,PoolStats&gt; e : m.getRouteStats().entrySet())
+ * 		System.<jsf>out</jsf>.println(e.getKey() + <js>": "</js> + m.getUtilization(e.getKey()));
+ * </p>
+ */
+public class ConnectionPoolMetrics {
+
+	// Upper bounds in milliseconds of the lease wait histogram buckets.
+	private static final long[] BUCKETS = {1, 5, 10, 50, 100, 500, 1000, 5000};
+
+	private final PoolingHttpClientConnectionManager cm;
+	private final AtomicLongArray histogram = new AtomicLongArray(BUCKETS.length + 1);
+	private final AtomicLong leases = new AtomicLong(), timeouts = new AtomicLong(), totalWait = new AtomicLong(), maxWait = new AtomicLong();
+
+	ConnectionPoolMetrics(PoolingHttpClientConnectionManager cm) {
+		this.cm = cm;
+	}
+
+	/**
+	 * Returns the statistics for the whole pool.
+	 *
+	 * @return The number of leased, pending and available connections, and the maximum pool size.
+	 */
+	public PoolStats getTotalStats() {
+		return cm.getTotalStats();
+	}
+
+	/**
+	 * Returns the statistics for each route that has connections in the pool.
+	 *
+	 * @return A map of routes to their statistics.
+	 */
+	public Map<HttpRoute,PoolStats> getRouteStats() {
+		Map<HttpRoute,PoolStats> m = new LinkedHashMap<>();
+		for (HttpRoute r : cm.getRoutes())
+			m.put(r, cm.getStats(r));
+		return m;
+	}
+
+	/**
+	 * Returns the fraction of the maximum pool size that's currently leased.
+	 *
+	 * @return A number between <code>0</code> and <code>1</code>.
+	 */
+	public double getUtilization() {
+		return utilization(cm.getTotalStats());
+	}
+
+	/**
+	 * Returns the fraction of the maximum connections for a route that are currently leased.
+	 *
+	 * @param route The route.
+	 * @return A number between <code>0</code> and <code>1</code>.
+	 */
+	public double getUtilization(HttpRoute route) {
+		return utilization(cm.getStats(route));
+	}
+
+	/**
+	 * Returns the number of connections leased from the pool.
+	 *
+	 * @return The number of connections leased from the pool.
+	 */
+	public long getLeaseCount() {
+		return leases.get();
+	}
+
+	/**
+	 * Returns the number of lease requests that timed out waiting for a connection.
+	 *
+	 * @return The number of lease requests that timed out.
+	 */
+	public long getLeaseTimeoutCount() {
+		return timeouts.get();
+	}
+
+	/**
+	 * Returns the average time spent waiting to lease a connection.
+	 *
+	 * @return The average wait time in milliseconds.
+	 */
+	public double getAverageLeaseWait() {
+		long l = leases.get();
+		return l == 0 ? 0 : totalWait.get() / 1e6 / l;
+	}
+
+	/**
+	 * Returns the longest time spent waiting to lease a connection.
+	 *
+	 * @return The longest wait time in milliseconds.
+	 */
+	public double getMaxLeaseWait() {
+		return maxWait.get() / 1e6;
+	}
+
+	/**
+	 * Returns the upper bounds of the buckets of the lease wait histogram.
+	 *
+	 * @return The upper bounds in milliseconds.
+	 */
+	public long[] getLeaseWaitBuckets() {
+		return BUCKETS.clone();
+	}
+
+	/**
+	 * Returns the lease wait histogram.
+	 *
+	 * @return
+	 * 	The number of leases whose wait time fell into each bucket.
+	 * 	<br>Entry <code>i</code> counts waits no longer than {@link #getLeaseWaitBuckets()}<code>[i]</code> milliseconds
+	 * 	and longer than the previous bound.
+	 * 	<br>The last entry counts waits longer than the last bound.
+	 */
+	public long[] getLeaseWaitHistogram() {
+		long[] l = new long[histogram.length()];
+		for (int i = 0; i < l.length; i++)
+			l[i] = histogram.get(i);
+		return l;
+	}
+
+	/**
+	 * Resets the lease counters and histogram.
+	 */
+	public void reset() {
+		for (int i = 0; i < histogram.length(); i++)
+			histogram.set(i, 0);
+		leases.set(0);
+		timeouts.set(0);
+		totalWait.set(0);
+		maxWait.set(0);
+	}
+
+	void onLease(long nanos) {
+		leases.incrementAndGet();
+		totalWait.addAndGet(nanos);
+		long m = maxWait.get();
+		while (nanos > m && ! maxWait.compareAndSet(m, nanos))
+			m = maxWait.get();
+		int i = 0;
+		while (i < BUCKETS.length && nanos > BUCKETS[i] * 1000000)
+			i++;
+		histogram.incrementAndGet(i);
+	}
+
+	void onLeaseTimeout() {
+		timeouts.incrementAndGet();
+	}
+
+	private static double utilization(PoolStats s) {
+		return s.getMax() == 0 ? 0 : (double)s.getLeased() / s.getMax();
+	}
+
+	@Override /* Object */
+	public String toString() {
+		return "total=" + getTotalStats() + ", leases=" + getLeaseCount() + ", timeouts=" + getLeaseTimeoutCount()
+			+ ", avgWait=" + getAverageLeaseWait() + "ms, maxWait=" + getMaxLeaseWait() + "ms, histogram="
+			+ Arrays.toString(getLeaseWaitHistogram());
+	}
+}
@@ -0,0 +1,87 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.util.concurrent.*;
+
+import org.apache.http.*;
+
+/**
+ * Retry policy that doubles (or multiplies by some other factor) the wait time after each failed attempt.
+ *
+ * <p>
+ * The delay before retry <code>n</code> is <code>initialDelay * multiplier<sup>n-1</sup></code>, capped at
+ * <code>maxDelay</code>.
+ * <br>A random portion of the delay controlled by the <code>jitter</code> factor is then subtracted so that clients
+ * that failed at the same time don't all retry at the same time.
+ * <br>If the response contains a <code>Retry-After</code> header with a number of seconds, the delay is at least that
+ * long (but still capped at <code>maxDelay</code>).
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Retry up to 5 times, waiting 100ms, 200ms, 400ms... up to 5s, with full jitter.</jc>
+ * 	RestClient c = RestClient.<jsm>create</jsm>()
+ * 		.json()
+ * 		.retryable(5, 0, RetryOn.<jsf>DEFAULT</jsf>)
+ * 		.retryPolicy(<jk>new</jk> ExponentialBackoff(100, 5000, 2, 1))
+ * 		.build();
+ * </p>
+ */
+public class ExponentialBackoff extends RetryPolicy {
+
+	private final long initialDelay, maxDelay;
+	private final double multiplier, jitter;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param initialDelay The time in milliseconds to wait before the first retry.
+	 * @param maxDelay The maximum time in milliseconds to wait between attempts.
+	 * @param multiplier The factor to multiply the delay by after each attempt.
+	 * @param jitter
+	 * 	The portion of the delay to randomize, between <code>0</code> and <code>1</code>.
+	 * 	<br><code>0</code> means no randomization.
+	 * 	<br><code>1</code> means the delay is anywhere between zero and the calculated delay.
+	 */
+	public ExponentialBackoff(long initialDelay, long maxDelay, double multiplier, double jitter) {
+		if (jitter < 0 || jitter > 1)
+			throw new IllegalArgumentException("Jitter must be between 0 and 1.");
+		this.initialDelay = initialDelay;
+		this.maxDelay = maxDelay;
+		this.multiplier = multiplier;
+		this.jitter = jitter;
+	}
+
+	@Override /* RetryPolicy */
+	protected long getDelay(int attempt, HttpResponse response) {
+		double d = Math.min(maxDelay, initialDelay * Math.pow(multiplier, attempt - 1));
+		if (jitter > 0)
+			d -= d * jitter * ThreadLocalRandom.current().nextDouble();
+		long retryAfter = getRetryAfter(response);
+		if (retryAfter > d)
+			d = Math.min(maxDelay, retryAfter);
+		return (long)d;
+	}
+
+	private static long getRetryAfter(HttpResponse response) {
+		Header h = response == null ? null : response.getFirstHeader("Retry-After");
+		if (h != null) {
+			try {
+				return Long.parseLong(h.getValue().trim()) * 1000;
+			} catch (NumberFormatException e) {
+				// HTTP-date values are not supported.
+			}
+		}
+		return 0;
+	}
+}
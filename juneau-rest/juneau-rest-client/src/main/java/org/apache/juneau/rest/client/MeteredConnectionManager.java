@@ -0,0 +1,63 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.util.concurrent.*;
+
+import org.apache.http.*;
+import org.apache.http.config.*;
+import org.apache.http.conn.*;
+import org.apache.http.conn.routing.*;
+import org.apache.http.conn.socket.*;
+import org.apache.http.impl.conn.*;
+
+/**
+ * Pooling connection manager that records lease statistics in a {@link ConnectionPoolMetrics} object.
+ */
+final class MeteredConnectionManager extends PoolingHttpClientConnectionManager {
+
+	private final ConnectionPoolMetrics metrics = new ConnectionPoolMetrics(this);
+
+	MeteredConnectionManager(Registry<ConnectionSocketFactory> registry, long timeToLive, TimeUnit timeUnit) {
+		super(registry, null, null, null, timeToLive, timeUnit);
+	}
+
+	ConnectionPoolMetrics getMetrics() {
+		return metrics;
+	}
+
+	@Override /* PoolingHttpClientConnectionManager */
+	public ConnectionRequest requestConnection(HttpRoute route, Object state) {
+		final ConnectionRequest r = super.requestConnection(route, state);
+		return new ConnectionRequest() {
+
+			@Override /* ConnectionRequest */
+			public HttpClientConnection get(long timeout, TimeUnit tunit) throws InterruptedException, ExecutionException, ConnectionPoolTimeoutException {
+				long start = System.nanoTime();
+				try {
+					HttpClientConnection c = r.get(timeout, tunit);
+					metrics.onLease(System.nanoTime() - start);
+					return c;
+				} catch (ConnectionPoolTimeoutException e) {
+					metrics.onLeaseTimeout();
+					throw e;
+				}
+			}
+
+			@Override /* Cancellable */
+			public boolean cancel() {
+				return r.cancel();
+			}
+		};
+	}
+}
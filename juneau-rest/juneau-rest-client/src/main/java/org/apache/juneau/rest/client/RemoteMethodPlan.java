@@ -0,0 +1,340 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.apache.juneau.httppart.HttpPartType.*;
+
+import java.lang.reflect.*;
+import java.net.*;
+import java.util.*;
+
+import org.apache.http.client.utils.*;
+import org.apache.juneau.httppart.*;
+import org.apache.juneau.httppart.bean.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.rest.client.remote.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * A precompiled invocation plan for a single method on a remote resource proxy.
+ *
+ * <p>
+ * Created once per method when a proxy is created so that per-call work is limited to serializing the arguments.
+ * <br>The absolute URI is resolved up front, part serializers and schemas are bound, request bean properties are
+ * flattened, and the path is split into literal and variable segments.
+ */
+final class RemoteMethodPlan {
+
+	private final RestClient client;
+	private final RemoteMethodMeta meta;
+	private final Serializer serializer;
+	private final Parser parser;
+	private final String httpMethod;
+	private final boolean hasContent;
+	private final URI uri;
+	private final RuntimeException uriError;
+	private final Part[] pathParts, queryParts, formDataParts, headerParts, otherParts;
+	private final Part bodyPart;
+	private final BeanArg[] beanArgs;
+
+	// Path template.  Variable segments are null and are filled in from the path part with the same position in pathVars.
+	private final String[] pathSegments;
+	private final int[] pathVars;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param client The client creating the proxy.
+	 * @param interfaceClass The proxy interface.
+	 * @param restUrl The root URL of the proxy, with leading and trailing slashes removed.
+	 * @param meta The remote method metadata.
+	 * @param serializer The serializer to use for request bodies.
+	 * @param parser The parser to use for response bodies.
+	 */
+	RemoteMethodPlan(RestClient client, Class<?> interfaceClass, String restUrl, RemoteMethodMeta meta, Serializer serializer, Parser parser) {
+		this.client = client;
+		this.meta = meta;
+		this.serializer = serializer;
+		this.parser = parser;
+		this.httpMethod = meta.getHttpMethod();
+		this.hasContent = client.hasContent(httpMethod);
+
+		HttpPartSerializer s = client.getPartSerializer();
+
+		URI uri = null;
+		RuntimeException uriError = null;
+		String url = meta.getFullPath();
+		if (url.indexOf("://") == -1)
+			url = restUrl + '/' + url;
+		if (url.indexOf("://") == -1) {
+			uriError = new RemoteMetadataException(interfaceClass, "Root URI has not been specified.  Cannot construct absolute path to remote resource.");
+		} else {
+			try {
+				uri = client.toURI(url);
+			} catch (URISyntaxException e) {
+				uriError = new RuntimeException(e);
+			}
+		}
+		this.uri = uri;
+		this.uriError = uriError;
+
+		this.pathParts = parts(meta.getPathArgs(), s);
+		this.queryParts = parts(meta.getQueryArgs(), s);
+		this.formDataParts = parts(meta.getFormDataArgs(), s);
+		this.headerParts = parts(meta.getHeaderArgs(), s);
+		this.otherParts = parts(meta.getOtherArgs(), s);
+		this.bodyPart = meta.getBodyArg() == null ? null : new Part(meta.getBodyArg(), s);
+
+		RemoteMethodBeanArg[] rba = meta.getRequestArgs();
+		this.beanArgs = new BeanArg[rba.length];
+		for (int i = 0; i < rba.length; i++)
+			beanArgs[i] = new BeanArg(rba[i], s);
+
+		String[] pathSegments = null;
+		int[] pathVars = null;
+		if (uri != null && pathParts.length > 0) {
+			List<String> segments = new ArrayList<>();
+			List<Integer> vars = new ArrayList<>();
+			if (compilePath(new URIBuilder(uri).getPath(), segments, vars)) {
+				pathSegments = segments.toArray(new String[segments.size()]);
+				pathVars = new int[vars.size()];
+				for (int i = 0; i < pathVars.length; i++)
+					pathVars[i] = vars.get(i);
+			}
+		}
+		this.pathSegments = pathSegments;
+		this.pathVars = pathVars;
+	}
+
+	/*
+	 * Splits the path into literal and variable segments.
+	 * Returns false if the path can't be precompiled (e.g. a path argument isn't a simple named variable, or the
+	 * variable isn't in the path), in which case path arguments are resolved through RestCall.path().
+	 */
+	private boolean compilePath(String path, List<String> segments, List<Integer> vars) {
+		if (path == null)
+			return false;
+		Set<Integer> found = new HashSet<>();
+		for (Part p : pathParts)
+			if (! p.isSimpleName() || p.name.equals("/*"))
+				return false;
+		int i = 0, len = path.length();
+		StringBuilder literal = new StringBuilder();
+		while (i < len) {
+			int start = path.indexOf('{', i);
+			int end = start == -1 ? -1 : path.indexOf('}', start);
+			if (end == -1) {
+				literal.append(path, i, len);
+				break;
+			}
+			String name = path.substring(start + 1, end);
+			int pi = -1;
+			for (int j = 0; j < pathParts.length && pi == -1; j++)
+				if (pathParts[j].name.equals(name))
+					pi = j;
+			literal.append(path, i, start);
+			if (pi == -1) {
+				literal.append('{').append(name).append('}');
+			} else {
+				segments.add(literal.toString());
+				literal.setLength(0);
+				segments.add(null);
+				vars.add(pi);
+				found.add(pi);
+			}
+			i = end + 1;
+		}
+		segments.add(literal.toString());
+		return found.size() == pathParts.length;
+	}
+
+	/**
+	 * Returns the remote method metadata this plan was compiled from.
+	 *
+	 * @return The remote method metadata.
+	 */
+	RemoteMethodMeta getMeta() {
+		return meta;
+	}
+
+	/**
+	 * Creates a new call with all the method arguments applied.
+	 *
+	 * @param args The method arguments.
+	 * @return A new call ready to be executed.
+	 * @throws Exception Error occurred while creating or populating the call.
+	 */
+	RestCall createCall(Object[] args) throws Exception {
+		if (uriError != null)
+			throw uriError;
+
+		RestCall rc = client.doCall(httpMethod, uri, hasContent);
+		try {
+			rc.serializer(serializer).parser(parser);
+
+			if (pathSegments != null && isSimple(pathParts, args))
+				rc.setPath(resolvePath(args));
+			else
+				for (Part p : pathParts)
+					rc.path(p.name, args[p.index], p.serializer, p.schema);
+
+			for (Part p : queryParts)
+				rc.query(p.name, args[p.index], p.skipIfEmpty, p.serializer, p.schema);
+
+			for (Part p : formDataParts)
+				rc.formData(p.name, args[p.index], p.skipIfEmpty, p.serializer, p.schema);
+
+			for (Part p : headerParts)
+				rc.header(p.name, args[p.index], p.skipIfEmpty, p.serializer, p.schema);
+
+			if (bodyPart != null)
+				rc.requestBodySchema(bodyPart.schema).body(args[bodyPart.index]);
+
+			for (BeanArg ba : beanArgs) {
+				Object bean = args[ba.index];
+				if (bean != null) {
+					for (BeanPart p : ba.parts) {
+						Object val = p.getter.invoke(bean);
+						HttpPartType pt = p.type;
+						if (pt == PATH)
+							rc.path(p.name, val, p.serializer, p.schema);
+						else if (val != null) {
+							if (pt == QUERY)
+								rc.query(p.name, val, p.skipIfEmpty, p.serializer, p.schema);
+							else if (pt == FORMDATA)
+								rc.formData(p.name, val, p.skipIfEmpty, p.serializer, p.schema);
+							else if (pt == HEADER)
+								rc.header(p.name, val, p.skipIfEmpty, p.serializer, p.schema);
+							else if (pt == HttpPartType.BODY)
+								rc.requestBodySchema(p.schema).body(val);
+						}
+					}
+				}
+			}
+
+			if (otherParts.length > 0) {
+				Object[] otherArgs = new Object[otherParts.length];
+				int i = 0;
+				for (Part p : otherParts)
+					otherArgs[i++] = args[p.index];
+				rc.body(otherArgs);
+			}
+
+			return rc;
+		} catch (Exception e) {
+			rc.close();
+			throw e;
+		}
+	}
+
+	/*
+	 * Returns true if all the path argument values can be substituted directly into the path template.
+	 * Maps, beans, and NameValuePairs are expanded by RestCall.path().
+	 */
+	private boolean isSimple(Part[] parts, Object[] args) {
+		for (Part p : parts) {
+			Object v = args[p.index];
+			if (v instanceof Map || v instanceof NameValuePairs || (v != null && client.isBean(v)))
+				return false;
+		}
+		return true;
+	}
+
+	private String resolvePath(Object[] args) throws RestCallException {
+		String[] values = new String[pathParts.length];
+		for (int i = 0; i < pathParts.length; i++) {
+			Part p = pathParts[i];
+			Object v = args[p.index];
+			try {
+				values[i] = p.serializer.serialize(PATH, p.schema == null ? HttpPartSchema.DEFAULT : p.schema, v);
+			} catch (SchemaValidationException e) {
+				throw new RestCallException(e, "Validation error on request path parameter ''{0}''=''{1}''", p.name, v);
+			} catch (SerializeException e) {
+				throw new RestCallException(e, "Serialization error on request path parameter ''{0}''", p.name);
+			}
+		}
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0, j = 0; i < pathSegments.length; i++) {
+			String seg = pathSegments[i];
+			sb.append(seg == null ? values[pathVars[j++]] : seg);
+		}
+		return sb.toString();
+	}
+
+	private static Part[] parts(RemoteMethodArg[] args, HttpPartSerializer s) {
+		Part[] p = new Part[args.length];
+		for (int i = 0; i < args.length; i++)
+			p[i] = new Part(args[i], s);
+		return p;
+	}
+
+	/*
+	 * A method argument with its serializer and schema resolved.
+	 */
+	private static final class Part {
+		final int index;
+		final String name;
+		final HttpPartSerializer serializer;
+		final HttpPartSchema schema;
+		final boolean skipIfEmpty;
+
+		Part(RemoteMethodArg a, HttpPartSerializer s) {
+			this.index = a.getIndex();
+			this.name = a.getName();
+			this.serializer = a.getSerializer(s);
+			this.schema = a.getSchema();
+			this.skipIfEmpty = a.isSkipIfEmpty();
+		}
+
+		boolean isSimpleName() {
+			return name != null && ! name.isEmpty() && ! "*".equals(name);
+		}
+	}
+
+	/*
+	 * A request bean argument with its properties resolved.
+	 */
+	private static final class BeanArg {
+		final int index;
+		final BeanPart[] parts;
+
+		BeanArg(RemoteMethodBeanArg a, HttpPartSerializer s) {
+			this.index = a.getIndex();
+			List<BeanPart> l = new ArrayList<>();
+			for (RequestBeanPropertyMeta p : a.getMeta().getProperties())
+				l.add(new BeanPart(p, s));
+			this.parts = l.toArray(new BeanPart[l.size()]);
+		}
+	}
+
+	/*
+	 * A request bean property with its getter, serializer, and schema resolved.
+	 */
+	private static final class BeanPart {
+		final Method getter;
+		final HttpPartType type;
+		final String name;
+		final HttpPartSerializer serializer;
+		final HttpPartSchema schema;
+		final boolean skipIfEmpty;
+
+		BeanPart(RequestBeanPropertyMeta p, HttpPartSerializer s) {
+			this.getter = p.getGetter();
+			this.type = p.getPartType();
+			this.name = p.getPartName();
+			this.serializer = p.getSerializer(s);
+			this.schema = p.getSchema();
+			this.skipIfEmpty = schema.isSkipIfEmpty();
+		}
+	}
+}
@@ -0,0 +1,542 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.io.*;
+import java.security.*;
+import java.util.*;
+import java.util.concurrent.atomic.*;
+
+import org.apache.http.*;
+import org.apache.http.client.utils.*;
+import org.apache.http.entity.*;
+import org.apache.http.message.*;
+
+/**
+ * Client-side cache of HTTP responses.
+ *
+ * <p>
+ * Stores the raw responses of <code>GET</code> calls keyed by URL and honors the <code>Cache-Control</code>,
+ * <code>Expires</code>, <code>ETag</code>, <code>Last-Modified</code> and <code>Vary</code> response headers.
+ * <ul class='spaced-list'>
+ * 	<li>
+ * 		Fresh responses are served from the cache without contacting the server.
+ * 	<li>
+ * 		Stale responses with an <code>ETag</code> or <code>Last-Modified</code> header are revalidated by sending
+ * 		<code>If-None-Match</code> or <code>If-Modified-Since</code> headers, and the cached body is reused when the server
+ * 		responds with <code>304 Not Modified</code>.
+ * 	<li>
+ * 		Responses with <code>Cache-Control: no-store</code> or <code>Vary: *</code> are never stored.
+ * 		<br>Responses with <code>Cache-Control: no-cache</code> are stored but always revalidated.
+ * 	<li>
+ * 		Requests with <code>Cache-Control: no-store</code> bypass the cache, and requests with
+ * 		<code>Cache-Control: no-cache</code> always revalidate.
+ * </ul>
+ *
+ * <p>
+ * Entries are kept in memory up to a maximum total body size, evicting least-recently-used entries first.
+ * <br>If a disk directory is specified, entries evicted from memory are moved to disk where they are kept up to a
+ * second size limit, and moved back into memory when they're used again.
+ *
+ * <p>
+ * Hit, miss, and revalidation counts are available through this class, and individual cache events are reported to
+ * {@link RestCallInterceptor} implementations through the
+ * {@link RestCallInterceptor#onCacheHit(RestCall, HttpRequest, HttpResponse) onCacheHit},
+ * {@link RestCallInterceptor#onCacheMiss(RestCall, HttpRequest) onCacheMiss}, and
+ * {@link RestCallInterceptor#onCacheRevalidated(RestCall, HttpRequest, HttpResponse) onCacheRevalidated} methods.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	<jc>// Cache up to 10MB of responses in memory and 100MB on disk.</jc>
+ * 	ResponseCache cache = <jk>new</jk> ResponseCache(10_000_000, <jk>new</jk> File(<js>"cache"</js>), 100_000_000);
+ * 	RestClient c = RestClient.<jsm>create</jsm>().json().responseCache(cache).build();
+ * </p>
+ *
+ * <p>
+ * A single variant is stored per URL.
+ * <br>When a response varies on request headers, a request with different header values replaces the stored variant.
+ */
+public class ResponseCache {
+
+	private final long maxMemorySize, maxDiskSize;
+	private final File diskDir;
+
+	// Both maps are in access order so that iteration starts with the least-recently-used entry.
+	private final LinkedHashMap<String,Entry> memory = new LinkedHashMap<>(16, 0.75f, true);
+	private final LinkedHashMap<String,Long> disk = new LinkedHashMap<>(16, 0.75f, true);
+	private long memorySize, diskSize;
+
+	private final AtomicLong hits = new AtomicLong(), misses = new AtomicLong(), revalidations = new AtomicLong();
+
+	/**
+	 * Constructor for a memory-only cache.
+	 *
+	 * @param maxMemorySize The maximum total size in bytes of response bodies kept in memory.
+	 */
+	public ResponseCache(long maxMemorySize) {
+		this(maxMemorySize, null, 0);
+	}
+
+	/**
+	 * Constructor for a cache with a disk tier.
+	 *
+	 * @param maxMemorySize The maximum total size in bytes of response bodies kept in memory.
+	 * @param diskDir
+	 * 	The directory to store entries evicted from memory.
+	 * 	<br>Created if it doesn't exist.
+	 * 	<br>Can be <jk>null</jk> to disable the disk tier.
+	 * @param maxDiskSize The maximum total size in bytes of entries kept on disk.
+	 */
+	public ResponseCache(long maxMemorySize, File diskDir, long maxDiskSize) {
+		this.maxMemorySize = maxMemorySize;
+		this.diskDir = diskDir;
+		this.maxDiskSize = diskDir == null ? 0 : maxDiskSize;
+		if (diskDir != null && ! diskDir.exists() && ! diskDir.mkdirs())
+			throw new RuntimeException("Could not create cache directory '" + diskDir.getAbsolutePath() + "'");
+	}
+
+	/**
+	 * Returns the number of requests served from the cache without contacting the server.
+	 *
+	 * @return The number of cache hits.
+	 */
+	public long getHitCount() {
+		return hits.get();
+	}
+
+	/**
+	 * Returns the number of cacheable requests that had to be sent to the server and were not answered with
+	 * <code>304 Not Modified</code>.
+	 *
+	 * @return The number of cache misses.
+	 */
+	public long getMissCount() {
+		return misses.get();
+	}
+
+	/**
+	 * Returns the number of requests where a stale entry was revalidated and reused.
+	 *
+	 * @return The number of successful revalidations.
+	 */
+	public long getRevalidationCount() {
+		return revalidations.get();
+	}
+
+	/**
+	 * Returns the number of entries currently in the cache, both in memory and on disk.
+	 *
+	 * @return The number of entries in the cache.
+	 */
+	public synchronized int size() {
+		return memory.size() + disk.size();
+	}
+
+	/**
+	 * Removes all entries from the cache.
+	 */
+	public synchronized void clear() {
+		memory.clear();
+		memorySize = 0;
+		for (String key : disk.keySet())
+			diskFile(key).delete();
+		disk.clear();
+		diskSize = 0;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Methods called by RestCall
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * Returns <jk>true</jk> if the specified request can be answered from or stored in this cache.
+	 */
+	boolean isCacheable(HttpRequest req) {
+		return "GET".equalsIgnoreCase(req.getRequestLine().getMethod()) && ! hasDirective(req, "no-store");
+	}
+
+	/**
+	 * Looks up the entry matching the specified request.
+	 *
+	 * @return The matching entry, or <jk>null</jk> if no matching entry was found.
+	 */
+	Entry get(HttpRequest req) {
+		String key = key(req);
+		Entry e;
+		synchronized(this) {
+			e = memory.get(key);
+			if (e == null && disk.containsKey(key)) {
+				e = readFromDisk(key);
+				if (e != null)
+					putInMemory(e);
+			}
+		}
+		return e != null && e.matches(req) ? e : null;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the specified entry can be used to answer the request without revalidation.
+	 */
+	boolean isFresh(Entry e, HttpRequest req) {
+		return ! e.noCache && e.expires > System.currentTimeMillis() && ! hasDirective(req, "no-cache");
+	}
+
+	/**
+	 * Creates a response from a fresh entry.
+	 */
+	HttpResponse hit(Entry e) {
+		hits.incrementAndGet();
+		return e.toResponse();
+	}
+
+	/**
+	 * Adds conditional headers to a request for revalidating a stale entry.
+	 * <p>
+	 * Headers already set on the request are left alone.
+	 */
+	void addValidators(Entry e, HttpRequest req) {
+		if (e.etag != null && ! req.containsHeader("If-None-Match"))
+			req.setHeader("If-None-Match", e.etag);
+		else if (e.lastModified != null && ! req.containsHeader("If-Modified-Since"))
+			req.setHeader("If-Modified-Since", e.lastModified);
+	}
+
+	/**
+	 * Handles a <code>304 Not Modified</code> response to a revalidation request.
+	 *
+	 * @return A response created from the refreshed entry.
+	 */
+	HttpResponse revalidated(Entry e, HttpRequest req, HttpResponse res) {
+		revalidations.incrementAndGet();
+		Entry e2 = e.refresh(req, res, System.currentTimeMillis());
+		synchronized(this) {
+			remove(e.key);
+			putInMemory(e2);
+		}
+		return e2.toResponse();
+	}
+
+	/**
+	 * Stores the specified response if it's cacheable.
+	 *
+	 * @return
+	 * 	The response to pass on to the caller.
+	 * 	<br>If the body was buffered, the returned response contains a copy of the body.
+	 * @throws IOException If the body could not be read.
+	 */
+	HttpResponse miss(HttpRequest req, HttpResponse res) throws IOException {
+		misses.incrementAndGet();
+
+		if (res.getStatusLine().getStatusCode() != 200 || hasDirective(res, "no-store"))
+			return res;
+
+		Header vary = res.getFirstHeader("Vary");
+		if (vary != null && vary.getValue().trim().equals("*"))
+			return res;
+
+		long now = System.currentTimeMillis();
+		long expires = expires(res, now);
+		boolean noCache = hasDirective(res, "no-cache");
+		if ((expires <= now || noCache) && res.getFirstHeader("ETag") == null && res.getFirstHeader("Last-Modified") == null)
+			return res;
+
+		long max = Math.max(maxMemorySize, maxDiskSize);
+		HttpEntity he = res.getEntity();
+		byte[] body = new byte[0];
+		if (he != null) {
+			if (he.getContentLength() > max)
+				return res;
+			InputStream is = he.getContent();
+			ByteArrayOutputStream baos = new ByteArrayOutputStream(he.getContentLength() > 0 ? (int)he.getContentLength() : 1024);
+			byte[] buff = new byte[8192];
+			int i;
+			while ((i = is.read(buff)) != -1) {
+				baos.write(buff, 0, i);
+				if (baos.size() > max) {
+					// Too big to cache.  Pass through what was read plus the rest of the stream.
+					BasicHttpEntity he2 = copyOf(he);
+					he2.setContent(new SequenceInputStream(new ByteArrayInputStream(baos.toByteArray()), is));
+					res.setEntity(he2);
+					return res;
+				}
+			}
+			is.close();
+			body = baos.toByteArray();
+		}
+
+		Entry e = new Entry(key(req), res.getStatusLine().getStatusCode(), res.getStatusLine().getReasonPhrase(), res.getAllHeaders(), body, varyValues(req, vary), expires, noCache);
+		synchronized(this) {
+			remove(e.key);
+			if (body.length <= maxMemorySize)
+				putInMemory(e);
+			else
+				writeToDisk(e);
+		}
+		return e.toResponse();
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Storage
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private void remove(String key) {
+		Entry e = memory.remove(key);
+		if (e != null)
+			memorySize -= e.body.length;
+		Long l = disk.remove(key);
+		if (l != null) {
+			diskSize -= l;
+			diskFile(key).delete();
+		}
+	}
+
+	private void putInMemory(Entry e) {
+		Entry old = memory.put(e.key, e);
+		if (old != null)
+			memorySize -= old.body.length;
+		memorySize += e.body.length;
+		for (Iterator<Entry> i = memory.values().iterator(); memorySize > maxMemorySize && i.hasNext();) {
+			Entry e2 = i.next();
+			i.remove();
+			memorySize -= e2.body.length;
+			writeToDisk(e2);
+		}
+	}
+
+	private void writeToDisk(Entry e) {
+		if (diskDir == null || e.body.length > maxDiskSize)
+			return;
+		File f = diskFile(e.key);
+		try (DataOutputStream dos = new DataOutputStream(new BufferedOutputStream(new FileOutputStream(f)))) {
+			e.writeTo(dos);
+		} catch (IOException x) {
+			f.delete();
+			return;
+		}
+		Long old = disk.put(e.key, f.length());
+		if (old != null)
+			diskSize -= old;
+		diskSize += f.length();
+		for (Iterator<Map.Entry<String,Long>> i = disk.entrySet().iterator(); diskSize > maxDiskSize && i.hasNext();) {
+			Map.Entry<String,Long> e2 = i.next();
+			i.remove();
+			diskSize -= e2.getValue();
+			diskFile(e2.getKey()).delete();
+		}
+	}
+
+	private Entry readFromDisk(String key) {
+		File f = diskFile(key);
+		Long l = disk.remove(key);
+		if (l != null)
+			diskSize -= l;
+		try (DataInputStream dis = new DataInputStream(new BufferedInputStream(new FileInputStream(f)))) {
+			Entry e = Entry.readFrom(dis);
+			return key.equals(e.key) ? e : null;
+		} catch (IOException x) {
+			return null;
+		} finally {
+			f.delete();
+		}
+	}
+
+	private File diskFile(String key) {
+		try {
+			MessageDigest md = MessageDigest.getInstance("SHA-1");
+			return new File(diskDir, toHex(md.digest(key.getBytes("UTF-8"))) + ".cache");
+		} catch (NoSuchAlgorithmException | UnsupportedEncodingException e) {
+			throw new RuntimeException(e);
+		}
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Header utilities
+	//-----------------------------------------------------------------------------------------------------------------
+
+	private static String key(HttpRequest req) {
+		return req.getRequestLine().getMethod() + ' ' + req.getRequestLine().getUri();
+	}
+
+	private static boolean hasDirective(HttpMessage m, String directive) {
+		for (Header h : m.getHeaders("Cache-Control"))
+			for (HeaderElement he : h.getElements())
+				if (directive.equalsIgnoreCase(he.getName()))
+					return true;
+		return false;
+	}
+
+	private static long expires(HttpResponse res, long now) {
+		for (Header h : res.getHeaders("Cache-Control")) {
+			for (HeaderElement he : h.getElements()) {
+				if ("max-age".equalsIgnoreCase(he.getName())) {
+					try {
+						return now + Long.parseLong(he.getValue().trim()) * 1000;
+					} catch (Exception e) {
+						return now;
+					}
+				}
+			}
+		}
+		Header expires = res.getFirstHeader("Expires");
+		if (expires != null) {
+			Date d = DateUtils.parseDate(expires.getValue());
+			if (d == null)
+				return now;
+			Header date = res.getFirstHeader("Date");
+			Date d2 = date == null ? null : DateUtils.parseDate(date.getValue());
+			// Use the server clock for the lifetime if possible.
+			return d2 == null ? d.getTime() : now + (d.getTime() - d2.getTime());
+		}
+		return now;
+	}
+
+	private static Map<String,String> varyValues(HttpRequest req, Header vary) {
+		if (vary == null)
+			return Collections.emptyMap();
+		Map<String,String> m = new LinkedHashMap<>();
+		for (HeaderElement he : vary.getElements())
+			m.put(he.getName(), headerValue(req, he.getName()));
+		return m;
+	}
+
+	private static String headerValue(HttpMessage m, String name) {
+		Header h = m.getFirstHeader(name);
+		return h == null ? null : h.getValue();
+	}
+
+	private static BasicHttpEntity copyOf(HttpEntity he) {
+		BasicHttpEntity he2 = new BasicHttpEntity();
+		he2.setContentType(he.getContentType());
+		he2.setContentEncoding(he.getContentEncoding());
+		he2.setContentLength(he.getContentLength());
+		he2.setChunked(he.isChunked());
+		return he2;
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Entry
+	//-----------------------------------------------------------------------------------------------------------------
+
+	/**
+	 * A stored response.
+	 */
+	static final class Entry {
+		final String key;
+		final int statusCode;
+		final String reasonPhrase;
+		final Header[] headers;
+		final byte[] body;
+		final Map<String,String> vary;
+		final long expires;
+		final boolean noCache;
+		final String etag, lastModified;
+
+		Entry(String key, int statusCode, String reasonPhrase, Header[] headers, byte[] body, Map<String,String> vary, long expires, boolean noCache) {
+			this.key = key;
+			this.statusCode = statusCode;
+			this.reasonPhrase = reasonPhrase;
+			this.headers = headers;
+			this.body = body;
+			this.vary = vary;
+			this.expires = expires;
+			this.noCache = noCache;
+			String etag = null, lastModified = null;
+			for (Header h : headers) {
+				if (h.getName().equalsIgnoreCase("ETag"))
+					etag = h.getValue();
+				else if (h.getName().equalsIgnoreCase("Last-Modified"))
+					lastModified = h.getValue();
+			}
+			this.etag = etag;
+			this.lastModified = lastModified;
+		}
+
+		boolean matches(HttpRequest req) {
+			for (Map.Entry<String,String> e : vary.entrySet())
+				if (! isEquals(e.getValue(), headerValue(req, e.getKey())))
+					return false;
+			return true;
+		}
+
+		/*
+		 * Creates a copy of this entry with the headers from a 304 response merged in.
+		 * Content headers are kept from the original response since they describe the stored body.
+		 */
+		Entry refresh(HttpRequest req, HttpResponse res, long now) {
+			Map<String,Header> m = new LinkedHashMap<>();
+			for (Header h : headers)
+				m.put(h.getName().toLowerCase(Locale.ENGLISH), h);
+			for (Header h : res.getAllHeaders()) {
+				String n = h.getName().toLowerCase(Locale.ENGLISH);
+				if (! (n.startsWith("content-") || n.equals("transfer-encoding")))
+					m.put(n, h);
+			}
+			BasicHttpResponse r = new BasicHttpResponse(res.getStatusLine());
+			r.setHeaders(m.values().toArray(new Header[m.size()]));
+			return new Entry(key, statusCode, reasonPhrase, r.getAllHeaders(), body, varyValues(req, r.getFirstHeader("Vary")), expires(r, now), hasDirective(r, "no-cache"));
+		}
+
+		HttpResponse toResponse() {
+			BasicHttpResponse r = new BasicHttpResponse(new BasicStatusLine(HttpVersion.HTTP_1_1, statusCode, reasonPhrase));
+			r.setHeaders(headers);
+			ByteArrayEntity e = new ByteArrayEntity(body);
+			e.setContentType(r.getFirstHeader("Content-Type"));
+			e.setContentEncoding(r.getFirstHeader("Content-Encoding"));
+			r.setEntity(e);
+			return r;
+		}
+
+		void writeTo(DataOutputStream out) throws IOException {
+			out.writeUTF(key);
+			out.writeInt(statusCode);
+			out.writeUTF(emptyIfNull(reasonPhrase));
+			out.writeInt(headers.length);
+			for (Header h : headers) {
+				out.writeUTF(h.getName());
+				out.writeUTF(h.getValue());
+			}
+			out.writeInt(vary.size());
+			for (Map.Entry<String,String> e : vary.entrySet()) {
+				out.writeUTF(e.getKey());
+				out.writeBoolean(e.getValue() != null);
+				if (e.getValue() != null)
+					out.writeUTF(e.getValue());
+			}
+			out.writeLong(expires);
+			out.writeBoolean(noCache);
+			out.writeInt(body.length);
+			out.write(body);
+		}
+
+		static Entry readFrom(DataInputStream in) throws IOException {
+			String key = in.readUTF();
+			int statusCode = in.readInt();
+			String reasonPhrase = in.readUTF();
+			Header[] headers = new Header[in.readInt()];
+			for (int i = 0; i < headers.length; i++)
+				headers[i] = new BasicHeader(in.readUTF(), in.readUTF());
+			Map<String,String> vary = new LinkedHashMap<>();
+			for (int i = in.readInt(); i > 0; i--) {
+				String n = in.readUTF();
+				vary.put(n, in.readBoolean() ? in.readUTF() : null);
+			}
+			long expires = in.readLong();
+			boolean noCache = in.readBoolean();
+			byte[] body = new byte[in.readInt()];
+			in.readFully(body);
+			return new Entry(key, statusCode, reasonPhrase, headers, body, vary, expires, noCache);
+		}
+	}
+}
@@ -72,11 +72,17 @@ import java.util.regex.*;
  * 		failure patterns are found.
  * 	<li>
  * 		{@link ResponsePattern} objects are reusable and thread-safe.
+ * 	<li>
+ * 		By default, the entire response text is held in memory so that it can be matched once the response has been
+ * 		consumed.
+ * 		<br>For large responses, use {@link #ResponsePattern(String, int)} to match the text as it's read using a
+ * 		bounded buffer.
  * </ol>
  */
 public abstract class ResponsePattern {
 
 	private Pattern pattern;
+	private final int windowSize;
 
 	/**
 	 * Constructor.
@@ -84,7 +90,27 @@ public abstract class ResponsePattern {
 	 * @param pattern Regular expression pattern.
 	 */
 	public ResponsePattern(String pattern) {
+		this(pattern, 0);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * <p>
+	 * When a window size is specified, the pattern is matched against the response text while it's being read and
+	 * at most roughly three times the window size is held in memory at once.
+	 * <br>Matches longer than the window size may be truncated or missed.
+	 * <br>{@link #onMatch(RestCall, Matcher)} is called as matches are found, but exceptions thrown from it are not
+	 * rethrown until the response has been consumed.
+	 *
+	 * @param pattern Regular expression pattern.
+	 * @param windowSize
+	 * 	The maximum length of a match in characters.
+	 * 	<br>If <code>0</code>, the entire response text is captured and matched once the response has been consumed.
+	 */
+	public ResponsePattern(String pattern, int windowSize) {
 		this.pattern = Pattern.compile(pattern);
+		this.windowSize = windowSize;
 	}
 
 	void match(RestCall rc) throws RestCallException {
@@ -111,6 +137,88 @@ public abstract class ResponsePattern {
 		return pattern.pattern();
 	}
 
+	/**
+	 * Returns the window size passed in through the constructor.
+	 *
+	 * @return The window size passed in through the constructor, or <code>0</code> if the full response is matched.
+	 */
+	protected int getWindowSize() {
+		return windowSize;
+	}
+
+	Window window(RestCall rc) {
+		return new Window(rc);
+	}
+
+	/*
+	 * Writer that matches the pattern against a sliding window of the response text.
+	 * The response text is piped to this writer as it's read.
+	 */
+	final class Window extends Writer {
+		private final RestCall rc;
+		private final StringBuilder sb = new StringBuilder();
+		private boolean found, finished;
+		private RestCallException error;
+
+		Window(RestCall rc) {
+			this.rc = rc;
+		}
+
+		@Override /* Writer */
+		public void write(char[] cbuf, int off, int len) throws IOException {
+			if (finished || error != null)
+				return;
+			sb.append(cbuf, off, len);
+			if (sb.length() >= windowSize * 3)
+				scan(false);
+		}
+
+		/*
+		 * Reports the matches that can no longer be affected by text that hasn't been read yet, then discards the
+		 * text before them.
+		 */
+		private void scan(boolean last) {
+			int len = sb.length(), limit = last ? len : len - windowSize, pos = 0, pending = -1;
+			Matcher m = pattern.matcher(sb);
+			try {
+				while (m.find()) {
+					if (m.end() > limit) {
+						pending = m.start();
+						break;
+					}
+					found = true;
+					onMatch(rc, m);
+					pos = m.end();
+				}
+			} catch (RestCallException e) {
+				error = e;
+			}
+			if (! last) {
+				int cut = pending == -1 ? limit : Math.min(pending, limit);
+				sb.delete(0, Math.max(cut, Math.max(pos, len - windowSize * 2)));
+			}
+		}
+
+		void finish() throws RestCallException {
+			if (finished)
+				return;
+			finished = true;
+			if (error == null)
+				scan(true);
+			sb.setLength(0);
+			if (error != null)
+				throw error;
+			if (! found)
+				onNoMatch(rc);
+		}
+
+		@Override /* Writer */
+		public void flush() throws IOException {}
+
+		@Override /* Writer */
+		public void close() throws IOException {}
+	}
+
 	/**
 	 * Instances can override this method to handle when a regular expression pattern matches on the output.
 	 *
@@ -92,6 +92,8 @@ public final class RestCall extends BeanSession implements Closeable {
 	private int redirectOnPostsTries = 5;
 	private long retryInterval = -1;
 	private RetryOn retryOn;
+	private RetryPolicy retryPolicy;
+	private RestRequestEntity spooledEntity;
 	private boolean ignoreErrors;
 	private boolean byLines = false;
 	private TeeWriter writers = new TeeWriter();
@@ -128,6 +130,7 @@ public final class RestCall extends BeanSession implements Closeable {
 		this.retryOn = client.retryOn;
 		this.retries = client.retries;
 		this.retryInterval = client.retryInterval;
+		this.retryPolicy = client.retryPolicy;
 		this.serializer = client.serializer;
 		this.parser = client.parser;
 		this.partSerializer = client.getPartSerializer();
@@ -464,6 +467,14 @@ public final class RestCall extends BeanSession implements Closeable {
 		return formData(null, params, true, null, null);
 	}
 
+	/*
+	 * Replaces the entire URL path.
+	 * Used by remote proxies that have already resolved the path variables.
+	 */
+	void setPath(String path) {
+		uriBuilder.setPath(path);
+	}
+
 	/**
 	 * Replaces a variable of the form <js>"{name}"</js> in the URL path with the specified value.
 	 *
@@ -1227,6 +1238,20 @@ public final class RestCall extends BeanSession implements Closeable {
 
 	}
 
+	/**
+	 * Sets the policy used to determine how long to wait between retries on this call.
+	 *
+	 * <p>
+	 * When set, replaces the fixed interval passed in through {@link #retryable(int, long, RetryOn)}.
+	 *
+	 * @param value The new retry policy, or <jk>null</jk> to use the fixed interval.
+	 * @return This object (for method chaining).
+	 */
+	public RestCall retryPolicy(RetryPolicy value) {
+		this.retryPolicy = value;
+		return this;
+	}
+
 	/**
 	 * For this call, allow automatic redirects when a 302 or 307 occurs when performing a POST.
 	 *
@@ -1494,10 +1519,27 @@ public final class RestCall extends BeanSession implements Closeable {
 	 * {@link ResponsePattern ResponsePatterns} use the {@link #getCapturedResponse()} to read the response text and so
 	 * does not affect the other output methods such as {@link #getResponseAsString()}.
 	 *
+	 * <p>
+	 * Patterns created with a window size (see {@link ResponsePattern#ResponsePattern(String, int)}) are matched while
+	 * the response is being read and do not capture the response text.
+	 *
 	 * @param responsePattern The response pattern finder.
 	 * @return This object (for method chaining).
 	 */
 	public RestCall responsePattern(final ResponsePattern responsePattern) {
+		if (responsePattern.getWindowSize() > 0) {
+			final ResponsePattern.Window w = responsePattern.window(this);
+			writers.add(w, false);
+			interceptor(
+				new RestCallInterceptor() {
+					@Override
+					public void onClose(RestCall restCall) throws RestCallException {
+						w.finish();
+					}
+				}
+			);
+			return this;
+		}
 		captureResponse();
 		interceptor(
 			new RestCallInterceptor() {
@@ -1552,8 +1594,11 @@ public final class RestCall extends BeanSession implements Closeable {
 			int sc = status.getStatusCode();
 			if (sc >= 400 && ! ignoreErrors)
 				throw new RestCallException(sc, status.getReasonPhrase(), request.getMethod(), request.getURI(), getResponseAsString()).setHttpResponse(response);
-			if (outputStreams.size() > 0 || writers.size() > 0)
-				getReader();
+			if (outputStreams.size() > 0 || writers.size() > 0) {
+				Reader r = getReader();
+				if (r != null)
+					r.close();  // Reads the remainder of the response through to the pipes.
+			}
 			return sc;
 		} catch (RestCallException e) {
 			isFailed = true;
@@ -1575,7 +1620,29 @@ public final class RestCall extends BeanSession implements Closeable {
 	 * {@link Future Futures}.
 	 */
 	public Future<Integer> runFuture() throws RestCallException {
-		return client.getExecutorService(true).submit(
+		return runAsync();
+	}
+
+	/**
+	 * Same as {@link #run()} but runs the call asynchronously and returns a {@link CompletableFuture}.
+	 *
+	 * <p>
+	 * Allows multiple calls to be composed without blocking the calling thread:
+	 * <p class='bcode w800'>
+	 * 	CompletableFuture&lt;Integer&gt; f1 = client.doGet(<js>"/foo"</js>).runAsync();
+	 * 	CompletableFuture&lt;Integer&gt; f2 = client.doGet(<js>"/bar"</js>).runAsync();
+	 * 	CompletableFuture.<jsm>allOf</jsm>(f1, f2).get();
+	 * </p>
+	 *
+	 * <p>
+	 * If the call fails, the future is completed exceptionally with the {@link RestCallException}.
+	 *
+	 * @return The HTTP status code.
+	 * @see RestClientBuilder#executorService(ExecutorService, boolean) for defining the executor service for creating
+	 * {@link Future Futures}.
+	 */
+	public CompletableFuture<Integer> runAsync() {
+		return client.submit(
 			new Callable<Integer>() {
 				@Override /* Callable */
 				public Integer call() throws Exception {
@@ -1633,43 +1700,118 @@ public final class RestCall extends BeanSession implements Closeable {
 				else if (input instanceof InputStream)
 					entity = new InputStreamEntity((InputStream)input, getRequestContentType(ContentType.APPLICATION_OCTET_STREAM));
 				else if (serializer != null)
-					entity = new RestRequestEntity(input, serializer, requestBodySchema);
+					entity = new RestRequestEntity(input, serializer, requestBodySchema, client.requestBodyStreaming);
 				else if (partSerializer != null)
 					entity = new StringEntity(partSerializer.serialize((HttpPartSchema)null, input), getRequestContentType(TEXT_PLAIN));
 				else
 					entity = new StringEntity(getBeanContext().getClassMetaForObject(input).toString(input), getRequestContentType(TEXT_PLAIN));
 
+				// Streamed bodies are either spooled so they can be resent, or sent once.
+				if (retries > 1 && entity instanceof RestRequestEntity && ! entity.isRepeatable()) {
+					if (client.requestBodySpoolThreshold >= 0)
+						spooledEntity = ((RestRequestEntity)entity).spool(client.requestBodySpoolThreshold);
+					else
+						retries = 1;
+				}
+
 				if (retries > 1 && ! entity.isRepeatable())
 					throw new RestCallException("Rest call set to retryable, but entity is not repeatable.");
 
 				((HttpEntityEnclosingRequestBase)request).setEntity(entity);
 			}
 
-			int sc = 0;
-			while (retries > 0) {
-				retries--;
-				Exception ex = null;
-				try {
-					response = client.execute(request);
-					sc = (response == null || response.getStatusLine() == null) ? -1 : response.getStatusLine().getStatusCode();
-				} catch (Exception e) {
-					ex = e;
-					sc = -1;
-					if (response != null)
-						EntityUtils.consumeQuietly(response.getEntity());
+			// Fresh cached responses are returned without contacting the server.
+			ResponseCache cache = client.responseCache;
+			ResponseCache.Entry cached = null;
+			boolean cacheable = cache != null && ! hasInput && formData == null && cache.isCacheable(request), isCacheHit = false;
+			if (cacheable) {
+				cached = cache.get(request);
+				if (cached != null) {
+					if (cache.isFresh(cached, request))
+						isCacheHit = true;
+					else
+						cache.addValidators(cached, request);
 				}
-				if (! retryOn.onResponse(response))
-					retries = 0;
-				if (retries > 0) {
-					for (RestCallInterceptor rci : interceptors)
-						rci.onRetry(this, sc, request, response, ex);
-					request.reset();
+			}
+
+			int sc = 0;
+			if (isCacheHit) {
+				response = cache.hit(cached);
+				sc = response.getStatusLine().getStatusCode();
+				for (RestCallInterceptor rci : interceptors)
+					rci.onCacheHit(this, request, response);
+			}
+			CircuitBreaker breaker = client.circuitBreaker;
+			String host = breaker == null ? null : CircuitBreaker.getHost(request.getURI());
+			RetryBudget budget = client.retryBudget;
+			if (budget != null && ! isCacheHit)
+				budget.onRequest();
+			int attempt = 0;
+			try {
+				while (retries > 0 && ! isCacheHit) {
+					retries--;
+					attempt++;
+					if (breaker != null) {
+						CircuitBreaker.State state = breaker.tryAcquire(host);
+						if (state == null)
+							throw new RestCallException(0, "Circuit breaker is open for host '" + host + "'.", request.getMethod(), request.getURI(), null);
+						if (state == CircuitBreaker.State.HALF_OPEN)
+							for (RestCallInterceptor rci : interceptors)
+								rci.onCircuitBreakerStateChange(this, host, state);
+					}
+					Exception ex = null;
+					try {
+						response = client.execute(request);
+						sc = (response == null || response.getStatusLine() == null) ? -1 : response.getStatusLine().getStatusCode();
+					} catch (Exception e) {
+						ex = e;
+						sc = -1;
+						if (response != null)
+							EntityUtils.consumeQuietly(response.getEntity());
+					}
+					if (breaker != null) {
+						CircuitBreaker.State state = breaker.onResult(host, sc);
+						if (state != null)
+							for (RestCallInterceptor rci : interceptors)
+								rci.onCircuitBreakerStateChange(this, host, state);
+					}
+					if (! retryOn.onResponse(response) || (breaker != null && breaker.getState(host) == CircuitBreaker.State.OPEN))
+						retries = 0;
 					long w = retryInterval;
-					synchronized(this) {
-						wait(w);
+					if (retries > 0 && retryPolicy != null && (w = retryPolicy.getDelay(attempt, response)) < 0)
+						retries = 0;
+					if (retries > 0 && budget != null && ! budget.tryRetry())
+						retries = 0;
+					if (retries > 0) {
+						for (RestCallInterceptor rci : interceptors)
+							rci.onRetry(this, sc, request, response, ex);
+						if (response != null)
+							EntityUtils.consumeQuietly(response.getEntity());
+						request.reset();
+						if (w > 0) {
+							synchronized(this) {
+								wait(w);
+							}
+						}
+					} else if (ex != null) {
+						throw ex;
 					}
-				} else if (ex != null) {
-					throw ex;
+				}
+			} finally {
+				// Spooled bodies are no longer needed once the request has been sent.
+				releaseSpool();
+			}
+			if (cacheable && ! isCacheHit && response != null) {
+				if (sc == 304 && cached != null) {
+					EntityUtils.consumeQuietly(response.getEntity());
+					response = cache.revalidated(cached, request, response);
+					sc = response.getStatusLine().getStatusCode();
+					for (RestCallInterceptor rci : interceptors)
+						rci.onCacheRevalidated(this, request, response);
+				} else if (sc != 304) {
+					response = cache.miss(request, response);
+					for (RestCallInterceptor rci : interceptors)
+						rci.onCacheMiss(this, request);
 				}
 			}
 			for (RestCallInterceptor rci : interceptors)
@@ -1694,7 +1836,7 @@ public final class RestCall extends BeanSession implements Closeable {
 					throw new RestCallException(sc, "Maximum number of redirects occurred.  Location header: " + response.getFirstHeader("Location"), method, request.getURI(), getResponseAsString());
 				Header h = response.getFirstHeader("Location");
 				if (h != null) {
-					reset();
+					resetForRetry();
 					request.setURI(URI.create(h.getValue()));
 					retries++;  // Redirects should affect retries.
 					connect();
@@ -1724,7 +1866,7 @@ public final class RestCall extends BeanSession implements Closeable {
 		return def;
 	}
 
-	private void reset() {
+	private void resetForRetry() {
 		if (response != null)
 			EntityUtils.consumeQuietly(response.getEntity());
 		request.reset();
@@ -1755,7 +1897,10 @@ public final class RestCall extends BeanSession implements Closeable {
 	 * @throws IOException If an exception occurred while streaming was already occurring.
 	 */
 	public Reader getReader() throws IOException {
-		InputStream is = getInputStream();
+
+		// When piping to writers, the end of the stream is detected on the reader so that the writers have received
+		// all the text before the call is closed.
+		InputStream is = writers.size() > 0 ? getContent() : getInputStream();
 		if (is == null)
 			return null;
 
@@ -1772,12 +1917,12 @@ public final class RestCall extends BeanSession implements Closeable {
 			cs = "UTF-8";
 
 		if (writers.size() > 0) {
-			try (Reader isr = new InputStreamReader(is, cs)) {
-				StringWriter sw = new StringWriter();
-				writers.add(sw, true);
-				IOPipe.create(isr, writers).byLines(byLines).run();
-				return new StringReader(sw.toString());
-			}
+			return new TeeReader(new InputStreamReader(is, cs), writers, byLines) {
+				@Override /* TeeReader */
+				protected void onEof() throws IOException {
+					RestCall.this.forceClose();
+				}
+			};
 		}
 
 		return new InputStreamReader(is, cs);
@@ -1839,19 +1984,12 @@ public final class RestCall extends BeanSession implements Closeable {
 	 * @throws IOException If an exception occurred while streaming was already occurring.
 	 * @throws IllegalStateException If an attempt is made to read the response more than once.
 	 */
-	@SuppressWarnings("resource")
 	public InputStream getInputStream() throws IOException {
-		if (isClosed)
-			throw new IllegalStateException("Method cannot be called.  Response has already been consumed.");
-		connect();
-		if (response == null)
-			throw new RestCallException("Response was null");
-		if (response.getEntity() == null)  // HTTP 204 results in no content.
+		InputStream is = getContent();
+		if (is == null)
 			return null;
 
-		softClose();
-
-		InputStream is = new EofSensorInputStream(response.getEntity().getContent(), new EofSensorWatcher() {
+		return new EofSensorInputStream(is, new EofSensorWatcher() {
 			@Override
 			public boolean eofDetected(InputStream wrapped) throws IOException {
 				RestCall.this.forceClose();
@@ -1859,6 +1997,8 @@ public final class RestCall extends BeanSession implements Closeable {
 			}
 			@Override
 			public boolean streamClosed(InputStream wrapped) throws IOException {
+				if (wrapped instanceof TeeInputStream)
+					wrapped.close();  // Reads the remainder of the response through to the pipes.
 				RestCall.this.forceClose();
 				return true;
 			}
@@ -1868,14 +2008,25 @@ public final class RestCall extends BeanSession implements Closeable {
 				return true;
 			}
 		});
+	}
 
-		if (outputStreams.size() > 0) {
-			ByteArrayInOutStream baios = new ByteArrayInOutStream();
-			outputStreams.add(baios, true);
-			IOPipe.create(is, baios).run();
-			is.close();
-			return baios.getInputStream();
-		}
+	/*
+	 * Returns the response body, copied to the output streams as it's read if any have been specified.
+	 */
+	private InputStream getContent() throws IOException {
+		if (isClosed)
+			throw new IllegalStateException("Method cannot be called.  Response has already been consumed.");
+		connect();
+		if (response == null)
+			throw new RestCallException("Response was null");
+		if (response.getEntity() == null)  // HTTP 204 results in no content.
+			return null;
+
+		softClose();
+
+		InputStream is = response.getEntity().getContent();
+		if (outputStreams.size() > 0)
+			is = new TeeInputStream(is, outputStreams);
 		return is;
 	}
 
@@ -2001,7 +2152,19 @@ public final class RestCall extends BeanSession implements Closeable {
 	 * 	{@link Future Futures}.
 	 */
 	public Future<String> getResponseAsStringFuture() throws RestCallException {
-		return client.getExecutorService(true).submit(
+		return getResponseAsStringAsync();
+	}
+
+	/**
+	 * Same as {@link #getResponseAsString()} but runs the call asynchronously and returns a {@link CompletableFuture}.
+	 *
+	 * @return The response as a string.
+	 * @see
+	 * 	RestClientBuilder#executorService(ExecutorService, boolean) for defining the executor service for creating
+	 * 	{@link Future Futures}.
+	 */
+	public CompletableFuture<String> getResponseAsStringAsync() {
+		return client.submit(
 			new Callable<String>() {
 				@Override /* Callable */
 				public String call() throws Exception {
@@ -2076,7 +2239,26 @@ public final class RestCall extends BeanSession implements Closeable {
 	 * 	{@link Future Futures}.
 	 */
 	public <T> Future<T> getResponseFuture(final Class<T> type) throws RestCallException {
-		return client.getExecutorService(true).submit(
+		return getResponseAsync(type);
+	}
+
+	/**
+	 * Same as {@link #getResponse(Class)} but runs the call asynchronously and returns a {@link CompletableFuture}.
+	 *
+	 * <p>
+	 * The response body is parsed on the executor thread once the response is received.
+	 *
+	 * @param <T>
+	 * 	The class type of the object being created.
+	 * 	See {@link #getResponse(Type, Type...)} for details.
+	 * @param type The object type to create.
+	 * @return The parsed object.
+	 * @see
+	 * 	RestClientBuilder#executorService(ExecutorService, boolean) for defining the executor service for creating
+	 * 	{@link Future Futures}.
+	 */
+	public <T> CompletableFuture<T> getResponseAsync(final Class<T> type) {
+		return client.submit(
 			new Callable<T>() {
 				@Override /* Callable */
 				public T call() throws Exception {
@@ -2197,7 +2379,33 @@ public final class RestCall extends BeanSession implements Closeable {
 	 * 	{@link Future Futures}.
 	 */
 	public <T> Future<T> getResponseFuture(final Type type, final Type...args) throws RestCallException {
-		return client.getExecutorService(true).submit(
+		return getResponseAsync(type, args);
+	}
+
+	/**
+	 * Same as {@link #getResponse(Type, Type...)} but runs the call asynchronously and returns a
+	 * {@link CompletableFuture}.
+	 *
+	 * <p>
+	 * The response body is parsed on the executor thread once the response is received.
+	 *
+	 * @param <T>
+	 * 	The class type of the object being created.
+	 * 	See {@link #getResponse(Type, Type...)} for details.
+	 * @param type
+	 * 	The object type to create.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 * @param args
+	 * 	The type arguments of the class if it's a collection or map.
+	 * 	<br>Can be any of the following: {@link ClassMeta}, {@link Class}, {@link ParameterizedType}, {@link GenericArrayType}
+	 * 	<br>Ignored if the main type is not a map or collection.
+	 * @return The parsed object.
+	 * @see
+	 * 	RestClientBuilder#executorService(ExecutorService, boolean) for defining the executor service for creating
+	 * 	{@link Future Futures}.
+	 */
+	public <T> CompletableFuture<T> getResponseAsync(final Type type, final Type...args) {
+		return client.submit(
 			new Callable<T>() {
 				@Override /* Callable */
 				public T call() throws Exception {
@@ -2238,6 +2446,87 @@ public final class RestCall extends BeanSession implements Closeable {
 		return getResponsePojoRest(ObjectMap.class);
 	}
 
+	/**
+	 * Parses an array response body and returns an iterator over its entries.
+	 *
+	 * <p>
+	 * With parsers that support it (e.g. {@link org.apache.juneau.json.JsonParser}), each entry is parsed from the
+	 * response stream as the iterator is advanced, so large arrays can be processed without holding them in memory.
+	 * <br>Other parsers parse the entire array before this method returns.
+	 *
+	 * <p>
+	 * The response is closed once the last entry has been read.
+	 * <br>If you stop iterating early, call {@link #close()} to release the connection.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	Iterator&lt;MyBean&gt; i = restClient.doGet(<jsf>URL</jsf>).getResponseIterator(MyBean.<jk>class</jk>);
+	 * 	<jk>while</jk> (i.hasNext())
+	 * 		process(i.next());
+	 * </p>
+	 *
+	 * @param <T> The element class type.
+	 * @param elementType The class type of the array entries.
+	 * @return
+	 * 	An iterator over the parsed entries.
+	 * 	<br>Parsing errors encountered while iterating are thrown as {@link RuntimeException RuntimeExceptions}
+	 * 	wrapping a {@link ParseException}.
+	 * @throws IOException If a connection error occurred.
+	 * @throws ParseException
+	 * 	If the response is not an array or the <code>Content-Type</code> is not supported by the parser.
+	 */
+	public <T> Iterator<T> getResponseIterator(Class<T> elementType) throws IOException, ParseException {
+		try {
+			connect();
+			Header h = response.getFirstHeader("Content-Type");
+			MediaType mt = MediaType.forString(firstNonEmpty(h == null ? null : h.getValue(), "text/plain"));
+			if (parser == null)
+				throw new ParseException(
+					"Unsupported media-type in request header ''Content-Type'': ''{0}''\n\tSupported media-types: {1}",
+					getResponseHeader("Content-Type"), parser == null ? null : parser.getMediaTypes()
+				);
+
+			final Closeable in = parser.isReaderParser() ? getReader() : getInputStream();
+			if (in == null)
+				return Collections.emptyIterator();
+
+			ParserSessionArgs pArgs = new ParserSessionArgs(this.getProperties(), null, response.getLocale(), null, mt, responseBodySchema, false, null);
+			final Iterator<T> i = parser.createSession(pArgs).parseIterator(in, parser.getClassMeta(elementType));
+
+			return new Iterator<T>() {
+				@Override /* Iterator */
+				public boolean hasNext() {
+					try {
+						if (i.hasNext())
+							return true;
+					} catch (RuntimeException e) {
+						isFailed = true;
+						closeQuietly(in);
+						throw e;
+					}
+					closeQuietly(in);
+					return false;
+				}
+
+				@Override /* Iterator */
+				public T next() {
+					try {
+						return i.next();
+					} catch (RuntimeException e) {
+						isFailed = true;
+						closeQuietly(in);
+						throw e;
+					}
+				}
+			};
+
+		} catch (ParseException | IOException e) {
+			isFailed = true;
+			close();
+			throw e;
+		}
+	}
+
 	<T> T getResponseInner(ClassMeta<T> type) throws IOException, ParseException {
 		try {
 			if (response == null)
@@ -2410,6 +2699,7 @@ public final class RestCall extends BeanSession implements Closeable {
 	 */
 	@Override /* Closeable */
 	public void close() throws RestCallException {
+		releaseSpool();
 		if (response != null && ! softClose)
 			EntityUtils.consumeQuietly(response.getEntity());
 		if (! softClose)
@@ -2419,6 +2709,13 @@ public final class RestCall extends BeanSession implements Closeable {
 				r.onClose(this);
 	}
 
+	private void releaseSpool() {
+		if (spooledEntity != null) {
+			spooledEntity.release();
+			spooledEntity = null;
+		}
+	}
+
 	void forceClose() throws RestCallException {
 		softClose = false;
 		close();
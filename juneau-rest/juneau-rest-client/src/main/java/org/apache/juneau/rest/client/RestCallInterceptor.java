@@ -51,6 +51,43 @@ public abstract class RestCallInterceptor {
 	 */
 	public void onRetry(RestCall restCall, int statusCode, HttpRequest req, HttpResponse res, Exception ex) {}
 
+	/**
+	 * Called when a response is served from the {@link ResponseCache} without contacting the server.
+	 *
+	 * @param restCall The restCall object invoking this method.
+	 * @param req The HTTP request object.
+	 * @param res The cached HTTP response object.
+	 */
+	public void onCacheHit(RestCall restCall, HttpRequest req, HttpResponse res) {}
+
+	/**
+	 * Called when a cacheable request could not be answered from the {@link ResponseCache} and the server returned a
+	 * full response.
+	 *
+	 * @param restCall The restCall object invoking this method.
+	 * @param req The HTTP request object.
+	 */
+	public void onCacheMiss(RestCall restCall, HttpRequest req) {}
+
+	/**
+	 * Called when a stale {@link ResponseCache} entry was revalidated by the server with a <code>304 Not Modified</code>
+	 * response and reused.
+	 *
+	 * @param restCall The restCall object invoking this method.
+	 * @param req The HTTP request object.
+	 * @param res The cached HTTP response object.
+	 */
+	public void onCacheRevalidated(RestCall restCall, HttpRequest req, HttpResponse res) {}
+
+	/**
+	 * Called when the {@link CircuitBreaker} circuit for a host changes state as a result of this call.
+	 *
+	 * @param restCall The restCall object invoking this method.
+	 * @param host The host key as returned by {@link CircuitBreaker#getHost(java.net.URI)}.
+	 * @param state The new state of the circuit.
+	 */
+	public void onCircuitBreakerStateChange(RestCall restCall, String host, CircuitBreaker.State state) {}
+
 	/**
 	 * Called when {@link RestCall#close()} is called.
 	 *
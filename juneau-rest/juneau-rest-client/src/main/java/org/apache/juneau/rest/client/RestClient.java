@@ -14,7 +14,6 @@ package org.apache.juneau.rest.client;
 
 import static org.apache.juneau.internal.StringUtils.*;
 import static org.apache.juneau.internal.ClassUtils.*;
-import static org.apache.juneau.httppart.HttpPartType.*;
 
 import java.io.*;
 import java.lang.reflect.*;
@@ -31,7 +30,6 @@ import org.apache.http.entity.*;
 import org.apache.http.impl.client.*;
 import org.apache.juneau.*;
 import org.apache.juneau.httppart.*;
-import org.apache.juneau.httppart.bean.*;
 import org.apache.juneau.internal.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.oapi.*;
@@ -74,6 +72,26 @@ public class RestClient extends BeanContext implements Closeable {
 
 	private static final String PREFIX = "RestClient.";
 
+	/**
+	 * Configuration property:  Circuit breaker.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestClient.circuitBreaker.o"</js>
+	 * 	<li><b>Data type:</b>  {@link CircuitBreaker}
+	 * 	<li><b>Default:</b>  <jk>null</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestClientBuilder#circuitBreaker(CircuitBreaker)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * Stops sending requests to hosts that are failing, and periodically probes them to detect when they recover.
+	 */
+	public static final String RESTCLIENT_circuitBreaker = PREFIX + "circuitBreaker.o";
+
 	/**
 	 * Configuration property:  Debug.
 	 *
@@ -116,14 +134,25 @@ public class RestClient extends BeanContext implements Closeable {
 	 * This executor service is used to create {@link Future} objects on the following methods:
 	 * <ul>
 	 * 	<li>{@link RestCall#runFuture()}
+	 * 	<li>{@link RestCall#runAsync()}
 	 * 	<li>{@link RestCall#getResponseFuture(Class)}
 	 * 	<li>{@link RestCall#getResponseFuture(Type,Type...)}
-	 * 	<li>{@link RestCall#getResponseAsString()}
+	 * 	<li>{@link RestCall#getResponseAsync(Class)}
+	 * 	<li>{@link RestCall#getResponseAsync(Type,Type...)}
+	 * 	<li>{@link RestCall#getResponseAsStringFuture()}
+	 * 	<li>{@link RestCall#getResponseAsStringAsync()}
 	 * </ul>
 	 *
 	 * <p>
-	 * The default executor service is a single-threaded {@link ThreadPoolExecutor} with a 30 second timeout
-	 * and a queue size of 10.
+	 * It's also used to execute calls on remote resource proxy methods that return {@link Future} or
+	 * {@link CompletableFuture}.
+	 *
+	 * <p>
+	 * The default executor service is a fixed-size {@link ThreadPoolExecutor} whose threads are discarded after 30
+	 * seconds of inactivity.
+	 * <br>The pool is sized to the maximum total connections of the connection manager (see
+	 * {@link RestClientBuilder#maxConnTotal(int)}), or {@value #DEFAULT_EXECUTOR_THREADS} threads if not specified.
+	 * <br>Calls made while all threads are busy are queued until a thread becomes available.
 	 */
 	public static final String RESTCLIENT_executorService = PREFIX + "executorService.o";
 
@@ -296,6 +325,85 @@ public class RestClient extends BeanContext implements Closeable {
 	 */
 	public static final String RESTCLIENT_query = PREFIX + "query.sms";
 
+	/**
+	 * Configuration property:  Request body spool threshold.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestClient.requestBodySpoolThreshold.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>-1</code>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestClientBuilder#requestBodySpoolThreshold(int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * Only applies to retryable calls when {@link #RESTCLIENT_requestBodyStreaming} is enabled.
+	 *
+	 * <p>
+	 * Streamed request bodies can't be resent, so by default retries are disabled for calls with streamed bodies.
+	 * <br>When this value is <code>0</code> or greater, the body of a retryable call is instead serialized once into a
+	 * spool that's kept in memory up to the specified number of bytes and written to a temporary file beyond that.
+	 * <br>The spool is replayed on each attempt and deleted when the call completes.
+	 *
+	 * <p>
+	 * <code>-1</code> means never spool.
+	 */
+	public static final String RESTCLIENT_requestBodySpoolThreshold = PREFIX + "requestBodySpoolThreshold.i";
+
+	/**
+	 * Configuration property:  Stream request bodies.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestClient.requestBodyStreaming.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestClientBuilder#requestBodyStreaming(boolean)}
+	 * 			<li class='jm'>{@link RestClientBuilder#requestBodyStreaming()}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When enabled, POJO request bodies are serialized directly to the connection using chunked transfer encoding
+	 * instead of being buffered in memory.
+	 *
+	 * <p>
+	 * Streamed bodies are not repeatable, so retries are disabled on calls that send them unless
+	 * {@link #RESTCLIENT_requestBodySpoolThreshold} is set.
+	 * <br>Request content is also not included in output from {@link RestCallLogger}.
+	 */
+	public static final String RESTCLIENT_requestBodyStreaming = PREFIX + "requestBodyStreaming.b";
+
+	/**
+	 * Configuration property:  Response cache.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestClient.responseCache.o"</js>
+	 * 	<li><b>Data type:</b>  {@link ResponseCache}
+	 * 	<li><b>Default:</b>  <jk>null</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestClientBuilder#responseCache(ResponseCache)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * Cache used to store and revalidate the responses of <code>GET</code> calls.
+	 *
+	 * <p>
+	 * Cache instances can be shared between clients.
+	 */
+	public static final String RESTCLIENT_responseCache = PREFIX + "responseCache.o";
+
 	/**
 	 * Configuration property:  Number of retries to attempt.
 	 *
@@ -316,6 +424,26 @@ public class RestClient extends BeanContext implements Closeable {
 	 */
 	public static final String RESTCLIENT_retries = PREFIX + "retries.i";
 
+	/**
+	 * Configuration property:  Retry budget.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestClient.retryBudget.o"</js>
+	 * 	<li><b>Data type:</b>  {@link RetryBudget}
+	 * 	<li><b>Default:</b>  <jk>null</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestClientBuilder#retryBudget(RetryBudget)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * Limits the number of retries relative to the number of requests made by this client.
+	 */
+	public static final String RESTCLIENT_retryBudget = PREFIX + "retryBudget.o";
+
 	/**
 	 * Configuration property:  The time in milliseconds between retry attempts.
 	 *
@@ -357,6 +485,27 @@ public class RestClient extends BeanContext implements Closeable {
 	 */
 	public static final String RESTCLIENT_retryOn = PREFIX + "retryOn.o";
 
+	/**
+	 * Configuration property:  Retry policy.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestClient.retryPolicy.o"</js>
+	 * 	<li><b>Data type:</b>  <code>Class&lt;? extends {@link RetryPolicy}</code> or {@link RetryPolicy}
+	 * 	<li><b>Default:</b>  <jk>null</jk>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestClientBuilder#retryPolicy(RetryPolicy)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * Object used for determining how long to wait between retries.
+	 * <br>When set, replaces the fixed interval defined by {@link #RESTCLIENT_retryInterval}.
+	 */
+	public static final String RESTCLIENT_retryPolicy = PREFIX + "retryPolicy.o";
+
 	/**
 	 * Configuration property:  Root URI.
 	 *
@@ -380,6 +529,53 @@ public class RestClient extends BeanContext implements Closeable {
 	 */
 	public static final String RESTCLIENT_rootUri = PREFIX + "rootUri.s";
 
+	/**
+	 * Configuration property:  RRPC batch maximum size.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestClient.rrpcBatchMaxSize.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>100</code>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestClientBuilder#rrpcBatching(int, int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * The maximum number of calls combined into a single request when {@link #RESTCLIENT_rrpcBatchWindow} is set.
+	 * <br>When this many calls are waiting, they're sent immediately without waiting for the rest of the time window.
+	 */
+	public static final String RESTCLIENT_rrpcBatchMaxSize = PREFIX + "rrpcBatchMaxSize.i";
+
+	/**
+	 * Configuration property:  RRPC batch time window.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestClient.rrpcBatchWindow.i"</js>
+	 * 	<li><b>Data type:</b>  <code>Integer</code>
+	 * 	<li><b>Default:</b>  <code>0</code>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestClientBuilder#rrpcBatching(int, int)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When greater than <code>0</code>, calls made on proxies created through {@link #getRrpcInterface(Class)} by
+	 * different threads within this many milliseconds of each other are combined into a single HTTP request.
+	 *
+	 * <p>
+	 * Each call still blocks until its own result is available, so this is only useful when the proxy is shared by
+	 * many threads.
+	 * <br>To batch calls made by a single thread, use {@link #createRrpcBatch(Class)} instead.
+	 */
+	public static final String RESTCLIENT_rrpcBatchWindow = PREFIX + "rrpcBatchWindow.i";
+
 	/**
 	 * Configuration property:  Serializer.
 	 *
@@ -401,6 +597,11 @@ public class RestClient extends BeanContext implements Closeable {
 	 */
 	public static final String RESTCLIENT_serializer = PREFIX + "serializer.o";
 
+	/**
+	 * The number of threads in the default executor service when the maximum total connections isn't specified.
+	 */
+	public static final int DEFAULT_EXECUTOR_THREADS = 20;
+
 	private static final Set<String> NO_BODY_METHODS = Collections.unmodifiableSet(ASet.<String>create("GET","HEAD","DELETE","CONNECT","OPTIONS","TRACE"));
 
 	private static final ConcurrentHashMap<Class,HttpPartSerializer> partSerializerCache = new ConcurrentHashMap<>();
@@ -413,6 +614,7 @@ public class RestClient extends BeanContext implements Closeable {
 	private final HttpPartSerializer partSerializer;
 	private final HttpPartParser partParser;
 	private final String rootUrl;
+	private final int rrpcBatchWindow, rrpcBatchMaxSize;
 	private volatile boolean isClosed = false;
 	private final StackTraceElement[] creationStack;
 	private StackTraceElement[] closedStack;
@@ -421,10 +623,22 @@ public class RestClient extends BeanContext implements Closeable {
 	final Serializer serializer;
 	final Parser parser;
 	final RetryOn retryOn;
+	final RetryPolicy retryPolicy;
+	final RetryBudget retryBudget;
+	final CircuitBreaker circuitBreaker;
 	final int retries;
 	final long retryInterval;
+	final boolean requestBodyStreaming;
+	final int requestBodySpoolThreshold;
+	final ResponseCache responseCache;
 	final RestCallInterceptor[] interceptors;
 
+	// Set by RestClientBuilder when the connection manager is pooled.
+	ConnectionPoolMetrics connectionPoolMetrics;
+
+	// Set by RestClientBuilder from the maximum total connections.
+	int executorThreads = DEFAULT_EXECUTOR_THREADS;
+
 	// This is lazy-created.
 	private volatile ExecutorService executorService;
 	private final boolean executorServiceShutdownOnClose;
@@ -500,9 +714,17 @@ public class RestClient extends BeanContext implements Closeable {
 		this.retries = getIntegerProperty(RESTCLIENT_retries, 1);
 		this.retryInterval = getIntegerProperty(RESTCLIENT_retryInterval, -1);
 		this.retryOn = getInstanceProperty(RESTCLIENT_retryOn, RetryOn.class, RetryOn.DEFAULT);
+		this.retryPolicy = getInstanceProperty(RESTCLIENT_retryPolicy, RetryPolicy.class, null);
+		this.retryBudget = getInstanceProperty(RESTCLIENT_retryBudget, RetryBudget.class, null);
+		this.circuitBreaker = getInstanceProperty(RESTCLIENT_circuitBreaker, CircuitBreaker.class, null);
+		this.requestBodyStreaming = getBooleanProperty(RESTCLIENT_requestBodyStreaming, false);
+		this.requestBodySpoolThreshold = getIntegerProperty(RESTCLIENT_requestBodySpoolThreshold, -1);
+		this.responseCache = getInstanceProperty(RESTCLIENT_responseCache, ResponseCache.class, null);
 		this.debug = getBooleanProperty(RESTCLIENT_debug, false);
 		this.executorServiceShutdownOnClose = getBooleanProperty(RESTCLIENT_executorServiceShutdownOnClose, false);
 		this.rootUrl = StringUtils.nullIfEmpty(getStringProperty(RESTCLIENT_rootUri, "").replaceAll("\\/$", ""));
+		this.rrpcBatchWindow = getIntegerProperty(RESTCLIENT_rrpcBatchWindow, 0);
+		this.rrpcBatchMaxSize = getIntegerProperty(RESTCLIENT_rrpcBatchMaxSize, 100);
 
 		Object o = getProperty(RESTCLIENT_serializer, Object.class, null);
 		if (o instanceof Serializer) {
@@ -569,6 +791,19 @@ public class RestClient extends BeanContext implements Closeable {
 			closedStack = Thread.currentThread().getStackTrace();
 	}
 
+	/**
+	 * Returns the statistics for the connection pool used by this client.
+	 *
+	 * <p>
+	 * Metrics are only gathered when the client was created using {@link RestClientBuilder#pooled()} and the default
+	 * connection manager.
+	 *
+	 * @return The connection pool metrics, or <jk>null</jk> if this client does not use a pooled connection manager.
+	 */
+	public ConnectionPoolMetrics getConnectionPoolMetrics() {
+		return connectionPoolMetrics;
+	}
+
 	/**
 	 * Same as {@link #close()}, but ignores any exceptions.
 	 */
@@ -1093,85 +1328,50 @@ public class RestClient extends BeanContext implements Closeable {
 		final String restUrl2 = trimSlashes(emptyIfNull(restUrl));
 
 		try {
+			final Map<Method,RemoteMethodPlan> plans = new HashMap<>();
+			for (RemoteMethodMeta rmm : new RemoteResourceMeta(interfaceClass).getMethodMetas())
+				plans.put(rmm.getJavaMethod(), new RemoteMethodPlan(this, interfaceClass, restUrl2, rmm, serializer, parser));
+
 			return (T)Proxy.newProxyInstance(
 				interfaceClass.getClassLoader(),
 				new Class[] { interfaceClass },
 				new InvocationHandler() {
 
-					final RemoteResourceMeta rm = new RemoteResourceMeta(interfaceClass);
-
 					@Override /* InvocationHandler */
-					public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
-						RemoteMethodMeta rmm = rm.getMethodMeta(method);
+					public Object invoke(Object proxy, Method method, final Object[] args) throws Throwable {
+						final RemoteMethodPlan plan = plans.get(method);
 
-						if (rmm == null)
+						if (plan == null)
 							throw new RuntimeException("Method is not exposed as a remote method.");
 
-						String url = rmm.getFullPath();
-						if (url.indexOf("://") == -1)
-							url = restUrl2 + '/' + url;
-						if (url.indexOf("://") == -1)
-							throw new RemoteMetadataException(interfaceClass, "Root URI has not been specified.  Cannot construct absolute path to remote resource.");
-
-						String httpMethod = rmm.getHttpMethod();
-						HttpPartSerializer s = getPartSerializer();
-
-						try (RestCall rc = doCall(httpMethod, url, hasContent(httpMethod))) {
-
-							rc.serializer(serializer).parser(parser);
-
-							for (RemoteMethodArg a : rmm.getPathArgs())
-								rc.path(a.getName(), args[a.getIndex()], a.getSerializer(s), a.getSchema());
-
-							for (RemoteMethodArg a : rmm.getQueryArgs())
-								rc.query(a.getName(), args[a.getIndex()], a.isSkipIfEmpty(), a.getSerializer(s), a.getSchema());
-
-							for (RemoteMethodArg a : rmm.getFormDataArgs())
-								rc.formData(a.getName(), args[a.getIndex()], a.isSkipIfEmpty(), a.getSerializer(s), a.getSchema());
-
-							for (RemoteMethodArg a : rmm.getHeaderArgs())
-								rc.header(a.getName(), args[a.getIndex()], a.isSkipIfEmpty(), a.getSerializer(s), a.getSchema());
-
-							RemoteMethodArg ba = rmm.getBodyArg();
-							if (ba != null)
-								rc.requestBodySchema(ba.getSchema()).body(args[ba.getIndex()]);
-
-							if (rmm.getRequestArgs().length > 0) {
-								for (RemoteMethodBeanArg rmba : rmm.getRequestArgs()) {
-									RequestBeanMeta rbm = rmba.getMeta();
-									Object bean = args[rmba.getIndex()];
-									if (bean != null) {
-										for (RequestBeanPropertyMeta p : rbm.getProperties()) {
-											Object val = p.getGetter().invoke(bean);
-											HttpPartType pt = p.getPartType();
-											HttpPartSerializer ps = p.getSerializer(s);
-											String pn = p.getPartName();
-											HttpPartSchema schema = p.getSchema();
-											boolean sie = schema.isSkipIfEmpty();
-											if (pt == PATH)
-												rc.path(pn, val, p.getSerializer(s), schema);
-											else if (val != null) {
-												if (pt == QUERY)
-													rc.query(pn, val, sie, ps, schema);
-												else if (pt == FORMDATA)
-													rc.formData(pn, val, sie, ps, schema);
-												else if (pt == HEADER)
-													rc.header(pn, val, sie, ps, schema);
-												else if (pt == HttpPartType.BODY)
-													rc.requestBodySchema(schema).body(val);
-											}
+						if (plan.getMeta().getReturns().isFuture()) {
+							return submit(
+								new Callable<Object>() {
+									@Override /* Callable */
+									public Object call() throws Exception {
+										try {
+											return invokeRemote(plan, args, true);
+										} catch (Exception | Error e) {
+											throw e;
+										} catch (Throwable t) {
+											throw new ExecutionException(t);
 										}
 									}
 								}
-							}
+							);
+						}
 
-							if (rmm.getOtherArgs().length > 0) {
-								Object[] otherArgs = new Object[rmm.getOtherArgs().length];
-								int i = 0;
-								for (RemoteMethodArg a : rmm.getOtherArgs())
-									otherArgs[i++] = args[a.getIndex()];
-								rc.body(otherArgs);
-							}
+						return invokeRemote(plan, args, false);
+					}
+
+					/*
+					 * Performs the remote call.
+					 * Exceptions are passed through as-is when async, since they're delivered through the future.
+					 */
+					private Object invokeRemote(RemoteMethodPlan plan, Object[] args, boolean async) throws Throwable {
+						RemoteMethodMeta rmm = plan.getMeta();
+
+						try (RestCall rc = plan.createCall(args)) {
 
 							RemoteMethodReturn rmr = rmm.getReturns();
 							if (rmr.getReturnValue() == RemoteReturn.NONE) {
@@ -1180,7 +1380,7 @@ public class RestClient extends BeanContext implements Closeable {
 							} else if (rmr.getReturnValue() == RemoteReturn.STATUS) {
 								rc.ignoreErrors();
 								int returnCode = rc.run();
-								Class<?> rt = method.getReturnType();
+								Class<?> rt = rmr.getReturnClass();
 								if (rt == Integer.class || rt == int.class)
 									return returnCode;
 								if (rt == Boolean.class || rt == boolean.class)
@@ -1190,16 +1390,20 @@ public class RestClient extends BeanContext implements Closeable {
 								return rc.getResponse(rmr.getResponseBeanMeta());
 							} else {
 								Object v = rc.getResponseBody(rmr.getReturnType());
-								if (v == null && method.getReturnType().isPrimitive())
-									v = getClassInfo(method.getReturnType()).getPrimitiveDefault();
+								if (v == null && rmr.getReturnClass().isPrimitive())
+									v = getClassInfo(rmr.getReturnClass()).getPrimitiveDefault();
 								return v;
 							}
 
 						} catch (RestCallException e) {
 							// Try to throw original exception if possible.
 							e.throwServerException(interfaceClass.getClassLoader(), rmm.getExceptions());
+							if (async)
+								throw e;
 							throw new RuntimeException(e);
 						} catch (Exception e) {
+							if (async)
+								throw e;
 							throw new RuntimeException(e);
 						}
 					}
@@ -1275,18 +1479,8 @@ public class RestClient extends BeanContext implements Closeable {
 	@SuppressWarnings({ "unchecked" })
 	public <T> T getRrpcInterface(final Class<T> interfaceClass, Object restUrl, final Serializer serializer, final Parser parser) {
 
-		if (restUrl == null) {
-			RemoteInterfaceMeta rm = new RemoteInterfaceMeta(interfaceClass, stringify(restUrl));
-			String path = rm.getPath();
-			if (path.indexOf("://") == -1) {
-				if (rootUrl == null)
-					throw new RemoteMetadataException(interfaceClass, "Root URI has not been specified.  Cannot construct absolute path to remote interface.");
-				path = trimSlashes(rootUrl) + '/' + path;
-			}
-			restUrl = path;
-		}
-
-		final String restUrl2 = stringify(restUrl);
+		final String restUrl2 = getRrpcUrl(interfaceClass, restUrl);
+		final RrpcBatcher batcher = rrpcBatchWindow > 0 ? new RrpcBatcher(this, restUrl2, serializer, parser, rrpcBatchWindow, rrpcBatchMaxSize) : null;
 
 		try {
 			return (T)Proxy.newProxyInstance(
@@ -1303,6 +1497,9 @@ public class RestClient extends BeanContext implements Closeable {
 						if (rim == null)
 							throw new RuntimeException("Method is not exposed as a remote method.");
 
+						if (batcher != null)
+							return batcher.invoke(new RrpcBatch.Call(rim, args));
+
 						String url = rim.getUrl();
 
 						try (RestCall rc = doCall("POST", url, true)) {
@@ -1328,6 +1525,54 @@ public class RestClient extends BeanContext implements Closeable {
 		}
 	}
 
+	/**
+	 * Creates a batch for sending several calls on a remote interface in a single HTTP request.
+	 *
+	 * <p>
+	 * The URL of the remote interface is determined the same way as {@link #getRrpcInterface(Class)}.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	RrpcBatch&lt;MyInterface&gt; batch = client.createRrpcBatch(MyInterface.<jk>class</jk>);
+	 * 	MyInterface p = batch.getProxy();
+	 * 	CompletableFuture&lt;String&gt; f1 = batch.future(p.getName(1));
+	 * 	CompletableFuture&lt;String&gt; f2 = batch.future(p.getName(2));
+	 * 	batch.send();
+	 * </p>
+	 *
+	 * @param interfaceClass The remote interface.
+	 * @return A new batch.
+	 * @throws RemoteMetadataException If the REST URI cannot be determined based on the information given.
+	 */
+	public <T> RrpcBatch<T> createRrpcBatch(Class<T> interfaceClass) {
+		return createRrpcBatch(interfaceClass, null);
+	}
+
+	/**
+	 * Same as {@link #createRrpcBatch(Class)} except explicitly specifies the URL of the REST interface.
+	 *
+	 * @param interfaceClass The remote interface.
+	 * @param restUrl The URL of the REST interface.
+	 * @return A new batch.
+	 */
+	public <T> RrpcBatch<T> createRrpcBatch(Class<T> interfaceClass, Object restUrl) {
+		return new RrpcBatch<>(this, interfaceClass, getRrpcUrl(interfaceClass, restUrl), serializer, parser);
+	}
+
+	private String getRrpcUrl(Class<?> interfaceClass, Object restUrl) {
+		if (restUrl == null) {
+			RemoteInterfaceMeta rm = new RemoteInterfaceMeta(interfaceClass, null);
+			String path = rm.getPath();
+			if (path.indexOf("://") == -1) {
+				if (rootUrl == null)
+					throw new RemoteMetadataException(interfaceClass, "Root URI has not been specified.  Cannot construct absolute path to remote interface.");
+				path = trimSlashes(rootUrl) + '/' + path;
+			}
+			return path;
+		}
+		return stringify(restUrl);
+	}
+
 	static final String getName(String name1, String name2, BeanPropertyMeta pMeta) {
 		String n = name1.isEmpty() ? name2 : name1;
 		ClassMeta<?> cm = pMeta.getClassMeta();
@@ -1389,12 +1634,39 @@ public class RestClient extends BeanContext implements Closeable {
 		if (executorService != null || ! create)
 			return executorService;
 		synchronized(this) {
-			if (executorService == null)
-				executorService = new ThreadPoolExecutor(1, 1, 30, TimeUnit.SECONDS, new ArrayBlockingQueue<Runnable>(10));
+			if (executorService == null) {
+				ThreadPoolExecutor e = new ThreadPoolExecutor(executorThreads, executorThreads, 30, TimeUnit.SECONDS, new LinkedBlockingQueue<Runnable>());
+				e.allowCoreThreadTimeOut(true);
+				executorService = e;
+			}
 			return executorService;
 		}
 	}
 
+	/*
+	 * Runs the specified task on the executor service and returns a future that's completed with its result.
+	 */
+	<T> CompletableFuture<T> submit(final Callable<T> task) {
+		final CompletableFuture<T> f = new CompletableFuture<>();
+		try {
+			getExecutorService(true).execute(
+				new Runnable() {
+					@Override /* Runnable */
+					public void run() {
+						try {
+							f.complete(task.call());
+						} catch (Throwable t) {
+							f.completeExceptionally(t);
+						}
+					}
+				}
+			);
+		} catch (RejectedExecutionException e) {
+			f.completeExceptionally(e);
+		}
+		return f;
+	}
+
 	@Override
 	protected void finalize() throws Throwable {
 		if (! isClosed && ! keepHttpClientOpen) {
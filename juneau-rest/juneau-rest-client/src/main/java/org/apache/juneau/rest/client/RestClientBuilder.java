@@ -91,6 +91,14 @@ public class RestClientBuilder extends BeanContextBuilder {
 	private SecureRandom secureRandom;
 	private String[] sslProtocols, cipherSuites;
 	private boolean pooled;
+	private int maxConnTotal = -1, maxConnPerRoute = -1;
+	private Integer validateAfterInactivity;
+	private final Map<HttpHost,Integer> maxConnPerHost = new LinkedHashMap<>();
+	private long connTimeToLive = -1;
+	private TimeUnit connTimeToLiveTimeUnit = TimeUnit.MILLISECONDS;
+	private SocketConfig defaultSocketConfig;
+	private ConnectionConfig defaultConnectionConfig;
+	private ConnectionPoolMetrics connectionPoolMetrics;
 
 	/**
 	 * Constructor.
@@ -110,10 +118,15 @@ public class RestClientBuilder extends BeanContextBuilder {
 	@Override /* ContextBuilder */
 	public RestClient build() {
 		try {
+			connectionPoolMetrics = null;
 			CloseableHttpClient c = httpClient != null ? httpClient : createHttpClient();
 			PropertyStore ps = psb.build();
 
-			return new RestClient(ps, httpClientBuilder, c);
+			RestClient rc = new RestClient(ps, httpClientBuilder, c);
+			rc.connectionPoolMetrics = connectionPoolMetrics;
+			if (maxConnTotal > 0)
+				rc.executorThreads = maxConnTotal;
+			return rc;
 		} catch (Exception e) {
 			throw new RuntimeException(e);
 		}
@@ -282,7 +295,8 @@ public class RestClientBuilder extends BeanContextBuilder {
 	 * Subclasses can override this method to provide their own connection manager.
 	 *
 	 * <p>
-	 * The default implementation returns an instance of a {@link PoolingHttpClientConnectionManager}.
+	 * The default implementation returns a {@link PoolingHttpClientConnectionManager} configured with the pool settings
+	 * on this builder if {@link #pooled()} was called, or a {@link BasicHttpClientConnectionManager} otherwise.
 	 *
 	 * @return The HTTP client builder to use to create the HTTP client.
 	 * @throws NoSuchAlgorithmException
@@ -308,11 +322,44 @@ public class RestClientBuilder extends BeanContextBuilder {
 			SSLConnectionSocketFactory sslcsf = new SSLConnectionSocketFactory(sslContext, sslp, cs, hv);
 			rb.register("https", sslcsf).build();
 
-			return (pooled ? new PoolingHttpClientConnectionManager(rb.build()) : new BasicHttpClientConnectionManager(rb.build()));
+			return (pooled ? createPoolingConnectionManager(rb.build()) : new BasicHttpClientConnectionManager(rb.build()));
 		}
 
 		// Using pooling connection so that this client is threadsafe.
-		return (pooled ? new PoolingHttpClientConnectionManager() : new BasicHttpClientConnectionManager());
+		if (pooled) {
+			Registry<ConnectionSocketFactory> r = RegistryBuilder.<ConnectionSocketFactory>create()
+				.register("http", PlainConnectionSocketFactory.getSocketFactory())
+				.register("https", SSLConnectionSocketFactory.getSocketFactory())
+				.build();
+			return createPoolingConnectionManager(r);
+		}
+		return new BasicHttpClientConnectionManager();
+	}
+
+	/*
+	 * The HttpClientBuilder pool settings are ignored when a connection manager is supplied, so apply them here.
+	 */
+	private PoolingHttpClientConnectionManager createPoolingConnectionManager(Registry<ConnectionSocketFactory> r) {
+		MeteredConnectionManager cm = new MeteredConnectionManager(r, connTimeToLive, connTimeToLiveTimeUnit);
+		if (maxConnTotal > 0)
+			cm.setMaxTotal(maxConnTotal);
+		if (maxConnPerRoute > 0)
+			cm.setDefaultMaxPerRoute(maxConnPerRoute);
+		for (Map.Entry<HttpHost,Integer> e : maxConnPerHost.entrySet()) {
+			HttpHost h = e.getKey();
+			boolean secure = "https".equalsIgnoreCase(h.getSchemeName());
+			if (h.getPort() < 0)
+				h = new HttpHost(h.getHostName(), secure ? 443 : 80, h.getSchemeName());
+			cm.setMaxPerRoute(new HttpRoute(h, null, secure), e.getValue());
+		}
+		if (validateAfterInactivity != null)
+			cm.setValidateAfterInactivity(validateAfterInactivity);
+		if (defaultSocketConfig != null)
+			cm.setDefaultSocketConfig(defaultSocketConfig);
+		if (defaultConnectionConfig != null)
+			cm.setDefaultConnectionConfig(defaultConnectionConfig);
+		connectionPoolMetrics = cm.getMetrics();
+		return cm;
 	}
 
 	/**
@@ -522,6 +569,23 @@ public class RestClientBuilder extends BeanContextBuilder {
 	 * When called, the {@link #createConnectionManager()} method will return a {@link PoolingHttpClientConnectionManager}
 	 * instead of a {@link BasicHttpClientConnectionManager}.
 	 *
+	 * <p>
+	 * The pool is configured with the following settings on this builder:
+	 * <ul>
+	 * 	<li class='jm'>{@link #maxConnTotal(int)}
+	 * 	<li class='jm'>{@link #maxConnPerRoute(int)}
+	 * 	<li class='jm'>{@link #maxConnPerRoute(HttpHost, int)}
+	 * 	<li class='jm'>{@link #validateAfterInactivity(int)}
+	 * 	<li class='jm'>{@link #connectionTimeToLive(long, TimeUnit)}
+	 * 	<li class='jm'>{@link #defaultSocketConfig(SocketConfig)}
+	 * 	<li class='jm'>{@link #defaultConnectionConfig(ConnectionConfig)}
+	 * </ul>
+	 *
+	 * <p>
+	 * Use {@link #evictIdleConnections(long, TimeUnit)} and {@link #evictExpiredConnections()} to start a background
+	 * thread that closes idle and expired connections.
+	 * <br>Pool statistics are available through {@link RestClient#getConnectionPoolMetrics()}.
+	 *
 	 * @return This object (for method chaining).
 	 */
 	public RestClientBuilder pooled() {
@@ -529,6 +593,44 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	/**
+	 * Sets the maximum number of pooled connections to a specific host.
+	 *
+	 * <p>
+	 * Overrides {@link #maxConnPerRoute(int)} for the specified host.
+	 * <br>Only applies to clients created with {@link #pooled()}.
+	 *
+	 * @param host
+	 * 	The target host.
+	 * 	<br>If the port is not specified, the default port for the scheme is used.
+	 * @param max The maximum number of connections.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder maxConnPerRoute(HttpHost host, int max) {
+		maxConnPerHost.put(host, max);
+		return this;
+	}
+
+	/**
+	 * Sets the period of inactivity after which pooled connections are validated before being leased.
+	 *
+	 * <p>
+	 * Validation detects connections that were closed by the server while idle in the pool, at the cost of a small
+	 * check when they're reused.
+	 * <br>Only applies to clients created with {@link #pooled()}.
+	 *
+	 * @param ms
+	 * 	The period in milliseconds.
+	 * 	<br>The default is <code>2000</code>.
+	 * 	<br>A value of <code>0</code> or less disables validation.
+	 * @return This object (for method chaining).
+	 * @see PoolingHttpClientConnectionManager#setValidateAfterInactivity(int)
+	 */
+	public RestClientBuilder validateAfterInactivity(int ms) {
+		this.validateAfterInactivity = ms;
+		return this;
+	}
+
 	/**
 	 * Set up this client to use BASIC auth.
 	 *
@@ -1026,14 +1128,23 @@ public class RestClientBuilder extends BeanContextBuilder {
 	 * This executor service is used to create {@link Future} objects on the following methods:
 	 * <ul>
 	 * 	<li>{@link RestCall#runFuture()}
+	 * 	<li>{@link RestCall#runAsync()}
 	 * 	<li>{@link RestCall#getResponseFuture(Class)}
 	 * 	<li>{@link RestCall#getResponseFuture(Type,Type...)}
-	 * 	<li>{@link RestCall#getResponseAsString()}
+	 * 	<li>{@link RestCall#getResponseAsync(Class)}
+	 * 	<li>{@link RestCall#getResponseAsync(Type,Type...)}
+	 * 	<li>{@link RestCall#getResponseAsStringFuture()}
+	 * 	<li>{@link RestCall#getResponseAsStringAsync()}
 	 * </ul>
 	 *
 	 * <p>
-	 * The default executor service is a single-threaded {@link ThreadPoolExecutor} with a 30 second timeout
-	 * and a queue size of 10.
+	 * It's also used to execute calls on remote resource proxy methods that return {@link Future} or
+	 * <code>CompletableFuture</code>.
+	 *
+	 * <p>
+	 * The default executor service is a fixed-size {@link ThreadPoolExecutor} sized to {@link #maxConnTotal(int)} (or
+	 * {@value RestClient#DEFAULT_EXECUTOR_THREADS} threads if not specified) whose threads are discarded after 30 seconds
+	 * of inactivity.
 	 *
 	 * <h5 class='section'>See Also:</h5>
 	 * <ul>
@@ -1243,6 +1354,100 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return set(RESTCLIENT_partSerializer, value);
 	}
 
+	/**
+	 * Configuration property:  Request body spool threshold.
+	 *
+	 * <p>
+	 * When request body streaming is enabled, retryable calls spool their bodies so that they can be resent.
+	 * <br>Bodies are kept in memory up to this many bytes, and written to a temporary file beyond that.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_requestBodySpoolThreshold}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <code>-1</code> which means retries are disabled on calls with streamed bodies.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder requestBodySpoolThreshold(int value) {
+		return set(RESTCLIENT_requestBodySpoolThreshold, value);
+	}
+
+	/**
+	 * Configuration property:  Stream request bodies.
+	 *
+	 * <p>
+	 * When enabled, POJO request bodies are serialized directly to the connection using chunked transfer encoding
+	 * instead of being buffered in memory.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Upload a large collection without buffering it.</jc>
+	 * 	RestClient c = RestClient.<jsm>create</jsm>().json().requestBodyStreaming().build();
+	 * 	c.doPost(<jsf>URL</jsf>, largeList).run();
+	 * </p>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_requestBodyStreaming}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>false</jk>.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder requestBodyStreaming(boolean value) {
+		return set(RESTCLIENT_requestBodyStreaming, value);
+	}
+
+	/**
+	 * Configuration property:  Stream request bodies.
+	 *
+	 * <p>
+	 * Shortcut for calling <code>requestBodyStreaming(<jk>true</jk>)</code>.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_requestBodyStreaming}
+	 * </ul>
+	 *
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder requestBodyStreaming() {
+		return set(RESTCLIENT_requestBodyStreaming, true);
+	}
+
+	/**
+	 * Configuration property:  Response cache.
+	 *
+	 * <p>
+	 * Caches the responses of <code>GET</code> calls according to their <code>Cache-Control</code>, <code>Expires</code>,
+	 * <code>ETag</code> and <code>Last-Modified</code> headers.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Cache up to 10MB of responses in memory.</jc>
+	 * 	ResponseCache cache = <jk>new</jk> ResponseCache(10_000_000);
+	 * 	RestClient c = RestClient.<jsm>create</jsm>().json().responseCache(cache).build();
+	 * </p>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_responseCache}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>null</jk> which means responses are not cached.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder responseCache(ResponseCache value) {
+		return set(RESTCLIENT_responseCache, value);
+	}
+
 	/**
 	 * Make HTTP calls retryable if an error response (>=400) is received.
 	 *
@@ -1267,6 +1472,87 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return this;
 	}
 
+	/**
+	 * Configuration property:  Retry policy.
+	 *
+	 * <p>
+	 * Determines how long to wait between retries.
+	 * <br>When set, replaces the fixed interval passed in through {@link #retryable(int, int, RetryOn)}.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Retry up to 5 times with exponential backoff and full jitter.</jc>
+	 * 	RestClient c = RestClient.<jsm>create</jsm>()
+	 * 		.json()
+	 * 		.retryable(5, 0, <jk>null</jk>)
+	 * 		.retryPolicy(<jk>new</jk> ExponentialBackoff(100, 5000, 2, 1))
+	 * 		.build();
+	 * </p>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_retryPolicy}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>null</jk> which means the fixed retry interval is used.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder retryPolicy(RetryPolicy value) {
+		return set(RESTCLIENT_retryPolicy, value);
+	}
+
+	/**
+	 * Configuration property:  Retry budget.
+	 *
+	 * <p>
+	 * Limits the number of retries relative to the number of requests so that retries don't multiply the load on a
+	 * failing server.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_retryBudget}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>null</jk> which means retries are not limited.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder retryBudget(RetryBudget value) {
+		return set(RESTCLIENT_retryBudget, value);
+	}
+
+	/**
+	 * Configuration property:  Circuit breaker.
+	 *
+	 * <p>
+	 * Stops sending requests to hosts that are failing.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Stop calling a host for 30 seconds after 5 consecutive failures.</jc>
+	 * 	RestClient c = RestClient.<jsm>create</jsm>()
+	 * 		.json()
+	 * 		.circuitBreaker(<jk>new</jk> CircuitBreaker(5, 30000))
+	 * 		.build();
+	 * </p>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_circuitBreaker}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this property.
+	 * 	<br>The default is <jk>null</jk> which means no circuit breaking.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder circuitBreaker(CircuitBreaker value) {
+		return set(RESTCLIENT_circuitBreaker, value);
+	}
+
 	/**
 	 * Configuration property:  Root URI.
 	 *
@@ -1290,6 +1576,40 @@ public class RestClientBuilder extends BeanContextBuilder {
 		return set(RESTCLIENT_rootUri, value);
 	}
 
+	/**
+	 * Configuration property:  RRPC batching.
+	 *
+	 * <p>
+	 * Combines calls made on remote interface proxies by different threads within a short time window into a single
+	 * HTTP request.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Combine calls made within 5ms of each other, up to 50 calls per request.</jc>
+	 * 	RestClient c = RestClient.<jsm>create</jsm>().json().rrpcBatching(5, 50).build();
+	 * 	MyInterface p = c.getRrpcInterface(MyInterface.<jk>class</jk>, <jsf>URL</jsf>);
+	 * </p>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_rrpcBatchWindow}
+	 * 	<li class='jf'>{@link RestClient#RESTCLIENT_rrpcBatchMaxSize}
+	 * </ul>
+	 *
+	 * @param window
+	 * 	The time window in milliseconds.
+	 * 	<br>The default is <code>0</code> which means calls are not batched.
+	 * @param maxSize
+	 * 	The maximum number of calls per request.
+	 * 	<br>The default is <code>100</code>.
+	 * @return This object (for method chaining).
+	 */
+	public RestClientBuilder rrpcBatching(int window, int maxSize) {
+		set(RESTCLIENT_rrpcBatchWindow, window);
+		set(RESTCLIENT_rrpcBatchMaxSize, maxSize);
+		return this;
+	}
+
 	/**
 	 * Configuration property:  Request query parameters.
 	 *
@@ -2703,6 +3023,7 @@ public class RestClientBuilder extends BeanContextBuilder {
 	 * @see HttpClientBuilder#setMaxConnTotal(int)
 	 */
 	public RestClientBuilder maxConnTotal(int maxConnTotal) {
+		this.maxConnTotal = maxConnTotal;
 		httpClientBuilder.setMaxConnTotal(maxConnTotal);
 		return this;
 	}
@@ -2713,6 +3034,7 @@ public class RestClientBuilder extends BeanContextBuilder {
 	 * @see HttpClientBuilder#setMaxConnPerRoute(int)
 	 */
 	public RestClientBuilder maxConnPerRoute(int maxConnPerRoute) {
+		this.maxConnPerRoute = maxConnPerRoute;
 		httpClientBuilder.setMaxConnPerRoute(maxConnPerRoute);
 		return this;
 	}
@@ -2723,6 +3045,7 @@ public class RestClientBuilder extends BeanContextBuilder {
 	 * @see HttpClientBuilder#setDefaultSocketConfig(SocketConfig)
 	 */
 	public RestClientBuilder defaultSocketConfig(SocketConfig config) {
+		this.defaultSocketConfig = config;
 		httpClientBuilder.setDefaultSocketConfig(config);
 		return this;
 	}
@@ -2733,6 +3056,7 @@ public class RestClientBuilder extends BeanContextBuilder {
 	 * @see HttpClientBuilder#setDefaultConnectionConfig(ConnectionConfig)
 	 */
 	public RestClientBuilder defaultConnectionConfig(ConnectionConfig config) {
+		this.defaultConnectionConfig = config;
 		httpClientBuilder.setDefaultConnectionConfig(config);
 		return this;
 	}
@@ -2744,6 +3068,8 @@ public class RestClientBuilder extends BeanContextBuilder {
 	 * @see HttpClientBuilder#setConnectionTimeToLive(long,TimeUnit)
 	 */
 	public RestClientBuilder connectionTimeToLive(long connTimeToLive, TimeUnit connTimeToLiveTimeUnit) {
+		this.connTimeToLive = connTimeToLive;
+		this.connTimeToLiveTimeUnit = connTimeToLiveTimeUnit;
 		httpClientBuilder.setConnectionTimeToLive(connTimeToLive, connTimeToLiveTimeUnit);
 		return this;
 	}
@@ -25,12 +25,19 @@ import org.apache.juneau.utils.*;
 
 /**
  * HttpEntity for serializing POJOs as the body of HTTP requests.
+ *
+ * <p>
+ * By default, the body is buffered in memory the first time it's needed so that the entity is repeatable.
+ * <br>In streaming mode, the body is serialized directly to the connection using chunked transfer encoding and the
+ * entity is not repeatable unless it's been spooled using {@link #spool(int)}.
  */
 public final class RestRequestEntity extends BasicHttpEntity {
 	final Object output;
 	final Serializer serializer;
 	final HttpPartSchema schema;
+	final boolean streaming;
 	byte[] outputBytes;
+	private Spool spool;
 
 	/**
 	 * Constructor.
@@ -40,15 +47,86 @@ public final class RestRequestEntity extends BasicHttpEntity {
 	 * @param schema The optional schema information about the serialized part.
 	 */
 	public RestRequestEntity(Object input, Serializer serializer, HttpPartSchema schema) {
+		this(input, serializer, schema, false);
+	}
+
+	/**
+	 * Constructor.
+	 *
+	 * @param input The POJO to serialize.  Can also be a {@link Reader} or {@link InputStream}.
+	 * @param serializer The serializer to use to serialize this response.
+	 * @param schema The optional schema information about the serialized part.
+	 * @param streaming
+	 * 	If <jk>true</jk>, the body is serialized directly to the output stream without being buffered.
+	 * 	<br>The entity is chunked and not repeatable.
+	 */
+	public RestRequestEntity(Object input, Serializer serializer, HttpPartSchema schema, boolean streaming) {
 		this.output = input;
 		this.serializer = serializer;
 		this.schema = schema;
+		this.streaming = streaming;
+		setChunked(streaming);
 		if (serializer != null && serializer.getResponseContentType() != null)
 			setContentType(new BasicHeader("Content-Type", serializer.getResponseContentType().toString()));
 	}
 
+	/**
+	 * Serializes the body once into a spool so that this entity can be repeated.
+	 *
+	 * <p>
+	 * The spool is kept in memory up to the specified number of bytes and is written to a temporary file beyond that.
+	 * <br>The temporary file is deleted when {@link #release()} is called, after which the content can no longer be read.
+	 *
+	 * <p>
+	 * No-op if this entity is not in streaming mode or has already been spooled.
+	 *
+	 * @param threshold The maximum number of bytes to keep in memory.
+	 * @return This object (for method chaining).
+	 * @throws IOException Thrown by underlying stream.
+	 */
+	public RestRequestEntity spool(int threshold) throws IOException {
+		if (streaming && spool == null) {
+			Spool s = new Spool(threshold);
+			try {
+				serializeTo(s);
+			} catch (IOException | RuntimeException e) {
+				s.release();
+				throw e;
+			} finally {
+				s.close();
+			}
+			spool = s;
+			setChunked(false);
+		}
+		return this;
+	}
+
+	/**
+	 * Discards the content spooled by {@link #spool(int)} and deletes the temporary file, if there is one.
+	 *
+	 * <p>
+	 * Once released, this entity is no longer repeatable and attempting to read the content throws an
+	 * {@link IllegalStateException}.
+	 */
+	public void release() {
+		if (spool != null)
+			spool.release();
+	}
+
 	@Override /* BasicHttpEntity */
 	public void writeTo(OutputStream os) throws IOException {
+		if (spool != null) {
+			try (InputStream is = spool.getInputStream()) {
+				IOPipe.create(is, new NoCloseOutputStream(os)).run();
+			}
+		} else if (outputBytes != null) {
+			os.write(outputBytes);
+		} else {
+			serializeTo(os);
+		}
+	}
+
+	private void serializeTo(OutputStream os) throws IOException {
 		os = new NoCloseOutputStream(os);
 		if (output instanceof InputStream) {
 			IOPipe.create(output, os).run();
@@ -76,19 +154,91 @@ public final class RestRequestEntity extends BasicHttpEntity {
 
 	@Override /* BasicHttpEntity */
 	public boolean isRepeatable() {
-		return true;
+		return ! streaming || (spool != null && ! spool.released);
+	}
+
+	@Override /* BasicHttpEntity */
+	public long getContentLength() {
+		return spool != null ? spool.size : -1;
 	}
 
 	@Override /* BasicHttpEntity */
 	public InputStream getContent() {
-		if (outputBytes == null) {
-			try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
-				writeTo(baos);
-				outputBytes = baos.toByteArray();
-			} catch (IOException e) {
-				throw new RuntimeException(e);
+		try {
+			if (spool != null)
+				return spool.getInputStream();
+			if (outputBytes == null) {
+				try (ByteArrayOutputStream baos = new ByteArrayOutputStream()) {
+					serializeTo(baos);
+					// Streamed bodies are never retained.
+					if (streaming)
+						return new ByteArrayInputStream(baos.toByteArray());
+					outputBytes = baos.toByteArray();
+				}
 			}
+		} catch (IOException e) {
+			throw new RuntimeException(e);
 		}
 		return new ByteArrayInputStream(outputBytes);
 	}
+
+	/*
+	 * Output stream that keeps content in memory up to a threshold and then overflows to a temporary file.
+	 */
+	private static final class Spool extends OutputStream {
+		private final int threshold;
+		private ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+		private File file;
+		private OutputStream fileOut;
+		private boolean released;
+		long size;
+
+		Spool(int threshold) {
+			this.threshold = threshold;
+		}
+
+		@Override /* OutputStream */
+		public void write(int b) throws IOException {
+			out(1).write(b);
+			size++;
+		}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) throws IOException {
+			out(len).write(b, off, len);
+			size += len;
+		}
+
+		private OutputStream out(int len) throws IOException {
+			if (fileOut == null && size + len > threshold) {
+				file = File.createTempFile("juneau-request", ".tmp");
+				fileOut = new BufferedOutputStream(new FileOutputStream(file));
+				buffer.writeTo(fileOut);
+				buffer = null;
+			}
+			return fileOut != null ? fileOut : buffer;
+		}
+
+		@Override /* OutputStream */
+		public void close() throws IOException {
+			if (fileOut != null)
+				fileOut.close();
+		}
+
+		InputStream getInputStream() throws IOException {
+			if (released)
+				throw new IllegalStateException("Spooled request body has already been released.");
+			return file != null ? new BufferedInputStream(new FileInputStream(file)) : new ByteArrayInputStream(buffer.toByteArray());
+		}
+
+		void release() {
+			released = true;
+			buffer = null;
+			if (file != null) {
+				closeQuietly(fileOut);
+				file.delete();
+				file = null;
+			}
+		}
+	}
 }
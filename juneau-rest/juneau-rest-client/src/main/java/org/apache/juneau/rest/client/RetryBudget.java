@@ -0,0 +1,111 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+/**
+ * Limits the number of retries a client makes relative to the number of requests it makes.
+ *
+ * <p>
+ * Each request deposits <code>ratio</code> tokens into the budget, and each retry withdraws one token.
+ * <br>In addition, the budget is refilled at a rate of <code>minRetriesPerSecond</code> tokens per second so that
+ * low-traffic clients can still retry.
+ * <br>When the budget is empty, failed requests are not retried.
+ *
+ * <p>
+ * This prevents retries from multiplying the load on a server that's already failing.
+ * <br>For example, a ratio of <code>0.1</code> means that retries add at most 10% extra load once the initial tokens
+ * are used up.
+ *
+ * <p>
+ * Budgets are thread-safe and can be shared between clients.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	RestClient c = RestClient.<jsm>create</jsm>()
+ * 		.json()
+ * 		.retryable(3, 100, RetryOn.<jsf>DEFAULT</jsf>)
+ * 		.retryBudget(<jk>new</jk> RetryBudget(0.1, 10))
+ * 		.build();
+ * </p>
+ */
+public class RetryBudget {
+
+	private final double ratio, minRetriesPerSecond, maxTokens;
+	private double tokens;
+	private long lastRefill = System.nanoTime();
+	private long rejected;
+
+	/**
+	 * Constructor.
+	 *
+	 * @param ratio The number of tokens deposited for each request.
+	 * @param minRetriesPerSecond
+	 * 	The number of tokens deposited each second regardless of the number of requests.
+	 * 	<br>The budget can hold up to ten seconds worth of these tokens (but no fewer than <code>10</code>), and starts
+	 * 	out full.
+	 */
+	public RetryBudget(double ratio, double minRetriesPerSecond) {
+		this.ratio = ratio;
+		this.minRetriesPerSecond = minRetriesPerSecond;
+		this.maxTokens = Math.max(10, minRetriesPerSecond * 10);
+		this.tokens = maxTokens;
+	}
+
+	/**
+	 * Returns the number of retries currently available.
+	 *
+	 * @return The number of retries currently available.
+	 */
+	public synchronized int getAvailable() {
+		refill();
+		return (int)tokens;
+	}
+
+	/**
+	 * Returns the number of retries that were not attempted because the budget was empty.
+	 *
+	 * @return The number of rejected retries.
+	 */
+	public synchronized long getRejectedCount() {
+		return rejected;
+	}
+
+	/**
+	 * Called when a request is made.
+	 */
+	synchronized void onRequest() {
+		refill();
+		tokens = Math.min(maxTokens, tokens + ratio);
+	}
+
+	/**
+	 * Called before a retry is attempted.
+	 *
+	 * @return <jk>true</jk> if the retry is within the budget.
+	 */
+	synchronized boolean tryRetry() {
+		refill();
+		if (tokens >= 1) {
+			tokens--;
+			return true;
+		}
+		rejected++;
+		return false;
+	}
+
+	private void refill() {
+		long now = System.nanoTime();
+		tokens = Math.min(maxTokens, tokens + minRetriesPerSecond * (now - lastRefill) / 1e9);
+		lastRefill = now;
+	}
+}
@@ -0,0 +1,42 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import org.apache.http.*;
+
+/**
+ * Used to determine how long to wait before retrying a failed request.
+ *
+ * <p>
+ * When a retry policy is set on a client or call, it replaces the fixed retry interval specified through
+ * {@link RestClientBuilder#retryable(int, int, RetryOn)}.
+ * <br>The number of retries and the conditions under which a retry is attempted are still controlled by
+ * {@link RestClientBuilder#retryable(int, int, RetryOn)}.
+ *
+ * <h5 class='section'>See Also:</h5>
+ * <ul>
+ * 	<li class='jc'>{@link ExponentialBackoff}
+ * 	<li class='jc'>{@link RetryBudget}
+ * </ul>
+ */
+public abstract class RetryPolicy {
+
+	/**
+	 * Returns the time to wait before the next attempt.
+	 *
+	 * @param attempt The number of attempts made so far.  Starts at <code>1</code>.
+	 * @param response The HTTP response of the last attempt.  May be <jk>null</jk> if a connection could not be made.
+	 * @return The time in milliseconds to wait before the next attempt, or <code>-1</code> to stop retrying.
+	 */
+	protected abstract long getDelay(int attempt, HttpResponse response);
+}
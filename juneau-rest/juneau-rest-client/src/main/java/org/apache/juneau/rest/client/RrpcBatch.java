@@ -0,0 +1,229 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import static org.apache.juneau.internal.ClassUtils.*;
+import static org.apache.juneau.internal.StringUtils.*;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.http.message.*;
+import org.apache.juneau.*;
+import org.apache.juneau.parser.*;
+import org.apache.juneau.remote.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Sends several calls on a remote interface to the server in a single HTTP request.
+ *
+ * <p>
+ * Calls made on the proxy returned by {@link #getProxy()} are not sent immediately.
+ * <br>Instead, they return default values (<jk>null</jk>, <code>0</code>, or <jk>false</jk>) and are queued until
+ * {@link #send()} is called.
+ * <br>The result of each call is available through the future returned by {@link #future(Object)}.
+ *
+ * <h5 class='section'>Example:</h5>
+ * <p class='bcode w800'>
+ * 	RrpcBatch&lt;MyInterface&gt; batch = client.createRrpcBatch(MyInterface.<jk>class</jk>);
+ * 	MyInterface p = batch.getProxy();
+ *
+ * 	<jc>// Queue two calls.</jc>
+ * 	CompletableFuture&lt;String&gt; f1 = batch.future(p.getName(1));
+ * 	CompletableFuture&lt;Integer&gt; f2 = batch.future(p.getCount());
+ *
+ * 	<jc>// Send both calls in one HTTP request.</jc>
+ * 	batch.send();
+ *
+ * 	String name = f1.get();
+ * 	<jk>int</jk> count = f2.get();
+ * </p>
+ *
+ * <p>
+ * The server must be a <code>RrpcServlet</code> or an <code>RRPC</code> REST method.
+ * <br>If an individual call throws an exception on the server, only its future completes exceptionally.
+ * <br>If the HTTP request itself fails, {@link #send()} throws the exception and all futures complete exceptionally.
+ *
+ * <p>
+ * Instances of this class are not thread-safe.
+ *
+ * <h5 class='section'>See Also:</h5>
+ * <ul>
+ * 	<li class='jm'>{@link RestClient#createRrpcBatch(Class)}
+ * 	<li class='jf'>{@link RestClient#RESTCLIENT_rrpcBatchWindow}
+ * </ul>
+ *
+ * @param <T> The remote interface class.
+ */
+public class RrpcBatch<T> {
+
+	private final RestClient client;
+	private final String url;
+	private final Serializer serializer;
+	private final Parser parser;
+	private final T proxy;
+	private List<Call> calls = new ArrayList<>();
+	private Call last;
+
+	@SuppressWarnings("unchecked")
+	RrpcBatch(RestClient client, final Class<T> interfaceClass, String restUrl, Serializer serializer, Parser parser) {
+		this.client = client;
+		this.url = batchUrl(restUrl);
+		this.serializer = serializer;
+		this.parser = parser;
+		this.proxy = (T)Proxy.newProxyInstance(
+			interfaceClass.getClassLoader(),
+			new Class[] { interfaceClass },
+			new InvocationHandler() {
+
+				final RemoteInterfaceMeta rm = new RemoteInterfaceMeta(interfaceClass, restUrl);
+
+				@Override /* InvocationHandler */
+				public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+					RemoteInterfaceMethod rim = rm.getMethodMeta(method);
+					if (rim == null)
+						throw new RuntimeException("Method is not exposed as a remote method.");
+					last = new Call(rim, args);
+					calls.add(last);
+					return method.getReturnType().isPrimitive() ? getClassInfo(method.getReturnType()).getPrimitiveDefault() : null;
+				}
+			}
+		);
+	}
+
+	/**
+	 * Returns the proxy used to queue calls in this batch.
+	 *
+	 * @return The proxy used to queue calls in this batch.
+	 */
+	public T getProxy() {
+		return proxy;
+	}
+
+	/**
+	 * Returns the future for the most recent call queued on the proxy.
+	 *
+	 * <p>
+	 * Meant to be called with the value returned by the proxy method so that the type of the future matches the
+	 * return type of the method.
+	 *
+	 * @param value The value returned by the proxy method.  Ignored.
+	 * @return The future for the most recent call.
+	 * @throws IllegalStateException If no calls have been queued since this batch was created or last sent.
+	 */
+	@SuppressWarnings("unchecked")
+	public <V> CompletableFuture<V> future(V value) {
+		if (last == null)
+			throw new IllegalStateException("No calls have been queued.");
+		return (CompletableFuture<V>)last.future;
+	}
+
+	/**
+	 * Returns the number of calls queued in this batch.
+	 *
+	 * @return The number of calls queued in this batch.
+	 */
+	public int size() {
+		return calls.size();
+	}
+
+	/**
+	 * Sends all queued calls to the server in a single HTTP request and completes their futures.
+	 *
+	 * <p>
+	 * The queue is cleared, so this batch can be reused afterwards.
+	 *
+	 * @throws RestCallException If the HTTP request failed.
+	 */
+	public void send() throws RestCallException {
+		List<Call> l = calls;
+		calls = new ArrayList<>();
+		last = null;
+		send(client, url, serializer, parser, l);
+	}
+
+	//-----------------------------------------------------------------------------------------------------------------
+	// Utility methods
+	//-----------------------------------------------------------------------------------------------------------------
+
+	static String batchUrl(String restUrl) {
+		return trimSlashes(restUrl) + '/' + RemoteInterfaceMeta.BATCH_PATH;
+	}
+
+	/**
+	 * Sends the specified calls and completes their futures.
+	 */
+	static void send(RestClient client, String url, Serializer serializer, Parser parser, List<Call> calls) throws RestCallException {
+		if (calls.isEmpty())
+			return;
+
+		ObjectList results;
+		try {
+			ObjectList body = new ObjectList();
+			for (Call c : calls)
+				body.add(new ObjectMap().append("method", c.rim.getPath()).append("args", c.args == null ? new Object[0] : c.args));
+			try (RestCall rc = client.doCall("POST", url, true)) {
+				results = rc.serializer(serializer).parser(parser).body(body).getResponse(ObjectList.class);
+			}
+			if (results.size() != calls.size())
+				throw new RestCallException("Expected {0} results in batch response but received {1}.", calls.size(), results.size());
+		} catch (Exception e) {
+			RestCallException e2 = e instanceof RestCallException ? (RestCallException)e : new RestCallException(e);
+			for (Call c : calls)
+				c.future.completeExceptionally(e2);
+			throw e2;
+		}
+
+		for (int i = 0; i < calls.size(); i++) {
+			Call c = calls.get(i);
+			Method m = c.rim.getJavaMethod();
+			ObjectMap r = results.getObjectMap(i);
+			try {
+				String exceptionName = r.getString("exceptionName");
+				if (exceptionName != null) {
+					RestCallException e = new RestCallException(500, "Batched call failed", "POST", java.net.URI.create(url), r.getString("exceptionMessage"))
+						.setServerException(new BasicHeader("Exception-Name", exceptionName), new BasicHeader("Exception-Message", r.getString("exceptionMessage")), null);
+					try {
+						e.throwServerException(m.getDeclaringClass().getClassLoader(), m.getExceptionTypes());
+					} catch (Throwable t) {
+						c.future.completeExceptionally(t);
+						continue;
+					}
+					c.future.completeExceptionally(e);
+				} else {
+					Object v = r.get("result", m.getGenericReturnType());
+					if (v == null && m.getReturnType().isPrimitive())
+						v = getClassInfo(m.getReturnType()).getPrimitiveDefault();
+					c.future.complete(v);
+				}
+			} catch (Exception e) {
+				c.future.completeExceptionally(e);
+			}
+		}
+	}
+
+	/**
+	 * A single queued call.
+	 */
+	static final class Call {
+		final RemoteInterfaceMethod rim;
+		final Object[] args;
+		final CompletableFuture<Object> future = new CompletableFuture<>();
+
+		Call(RemoteInterfaceMethod rim, Object[] args) {
+			this.rim = rim;
+			this.args = args;
+		}
+	}
+}
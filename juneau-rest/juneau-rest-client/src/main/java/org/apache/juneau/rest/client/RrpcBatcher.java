@@ -0,0 +1,119 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.client;
+
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.parser.*;
+import org.apache.juneau.serializer.*;
+
+/**
+ * Combines calls made on a remote interface proxy by different threads within a short time window into a single
+ * batch request.
+ *
+ * <p>
+ * The first thread to queue a call waits for the time window to pass and then sends all calls queued in the meantime.
+ * <br>If the maximum batch size is reached first, the thread that filled the batch sends it immediately.
+ * <br>All other threads wait for the results of their own calls.
+ * <br>If the leading thread is interrupted while waiting, it still sends the batch before returning.
+ * <br>As a safeguard, a waiting thread whose call is still queued with no thread waiting to send it sends the batch itself.
+ */
+final class RrpcBatcher {
+
+	private final RestClient client;
+	private final String url;
+	private final Serializer serializer;
+	private final Parser parser;
+	private final long window;
+	private final int maxSize;
+	private List<RrpcBatch.Call> pending = new ArrayList<>();
+	private boolean leaderWaiting;  // Guarded by this.
+
+	RrpcBatcher(RestClient client, String restUrl, Serializer serializer, Parser parser, long window, int maxSize) {
+		this.client = client;
+		this.url = RrpcBatch.batchUrl(restUrl);
+		this.serializer = serializer;
+		this.parser = parser;
+		this.window = window;
+		this.maxSize = maxSize;
+	}
+
+	/**
+	 * Queues the specified call and waits for its result.
+	 */
+	Object invoke(RrpcBatch.Call call) throws Throwable {
+		boolean leader = false, interrupted = false;
+		List<RrpcBatch.Call> batch = null;
+		synchronized(this) {
+			pending.add(call);
+			if (pending.size() == 1) {
+				leader = true;
+				leaderWaiting = true;
+			}
+			if (pending.size() >= maxSize)
+				batch = take();
+		}
+		if (leader && batch == null) {
+			try {
+				Thread.sleep(window);
+			} catch (InterruptedException e) {
+				interrupted = true;
+			} finally {
+				// Always send the batch so that the other queued calls aren't stranded.
+				synchronized(this) {
+					batch = take();
+				}
+			}
+		}
+		send(batch);
+		try {
+			while (true) {
+				try {
+					return call.future.get(window, TimeUnit.MILLISECONDS);
+				} catch (TimeoutException e) {
+					synchronized(this) {
+						batch = ! leaderWaiting && pending.contains(call) ? take() : null;
+					}
+					send(batch);
+				} catch (ExecutionException e) {
+					Throwable t = e.getCause();
+					if (t instanceof RestCallException)
+						throw new RuntimeException(t);
+					throw t;
+				}
+			}
+		} finally {
+			if (interrupted)
+				Thread.currentThread().interrupt();
+		}
+	}
+
+	private void send(List<RrpcBatch.Call> batch) {
+		if (batch != null) {
+			try {
+				RrpcBatch.send(client, url, serializer, parser, batch);
+			} catch (RestCallException e) {
+				// Futures have already been completed with this exception.
+			}
+		}
+	}
+
+	// Must be called while holding the lock on this object.
+	private List<RrpcBatch.Call> take() {
+		List<RrpcBatch.Call> l = pending;
+		pending = new ArrayList<>();
+		leaderWaiting = false;
+		return l;
+	}
+}
@@ -13,6 +13,7 @@
 package org.apache.juneau.rest.client.remote;
 
 import java.lang.reflect.*;
+import java.util.concurrent.*;
 
 import org.apache.juneau.*;
 import org.apache.juneau.http.annotation.*;
@@ -30,20 +31,34 @@ import org.apache.juneau.reflect.*;
 public final class RemoteMethodReturn {
 
 	private final Type returnType;
+	private final Class<?> returnClass;
 	private final RemoteReturn returnValue;
 	private final ResponseBeanMeta meta;
+	private final boolean isFuture;
 
 	RemoteMethodReturn(MethodInfo m) {
 		RemoteMethod rm = m.getAnnotation(RemoteMethod.class);
 		ClassInfo rt = m.getReturnType();
-		RemoteReturn rv = rt.is(void.class) ? RemoteReturn.NONE : rm == null ? RemoteReturn.BODY : rm.returns();
+
+		// Future<T> and CompletableFuture<T> return types are unwrapped to T.
+		this.isFuture = rt.is(Future.class) || rt.is(CompletableFuture.class);
+		if (isFuture) {
+			Type t = rt.innerType();
+			t = t instanceof ParameterizedType ? ((ParameterizedType)t).getActualTypeArguments()[0] : Object.class;
+			rt = ClassInfo.of(t);
+			if (rt.inner() == null)
+				rt = ClassInfo.of(Object.class);
+		}
+
+		RemoteReturn rv = rt.is(void.class) || rt.is(Void.class) ? RemoteReturn.NONE : rm == null ? RemoteReturn.BODY : rm.returns();
 		if (rt.hasAnnotation(Response.class) && rt.isInterface()) {
-			this.meta = ResponseBeanMeta.create(m, PropertyStore.DEFAULT);
+			this.meta = isFuture ? ResponseBeanMeta.create(rt.innerType(), PropertyStore.DEFAULT) : ResponseBeanMeta.create(m, PropertyStore.DEFAULT);
 			rv = RemoteReturn.BEAN;
 		} else {
 			this.meta = null;
 		}
-		this.returnType = m.getReturnType().innerType();
+		this.returnType = rt.innerType();
+		this.returnClass = rt.inner();
 		this.returnValue = rv;
 	}
 
@@ -65,6 +80,31 @@ public final class RemoteMethodReturn {
 		return returnType;
 	}
 
+	/**
+	 * Returns the raw class type of the method return.
+	 *
+	 * <p>
+	 * If the method returns a {@link Future} or {@link CompletableFuture}, this is the class of the future value.
+	 *
+	 * @return The raw class type of the method return.
+	 */
+	public Class<?> getReturnClass() {
+		return returnClass;
+	}
+
+	/**
+	 * Returns <jk>true</jk> if the method returns a {@link Future} or {@link CompletableFuture}.
+	 *
+	 * <p>
+	 * Calls to these methods are executed asynchronously, and {@link #getReturnType()} returns the type of the future
+	 * value.
+	 *
+	 * @return <jk>true</jk> if the method returns a {@link Future} or {@link CompletableFuture}.
+	 */
+	public boolean isFuture() {
+		return isFuture;
+	}
+
 	/**
 	 * Specifies whether the return value is the body of the request or the HTTP status.
 	 *
@@ -70,6 +70,15 @@ public class RemoteResourceMeta {
 		return methods.get(m);
 	}
 
+	/**
+	 * Returns the metadata about all the methods on this resource proxy.
+	 *
+	 * @return An unmodifiable collection of method metadata.  Never <jk>null</jk>.
+	 */
+	public Collection<RemoteMethodMeta> getMethodMetas() {
+		return methods.values();
+	}
+
 	/**
 	 * Returns the HTTP path of this interface.
 	 *
@@ -0,0 +1,73 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest;
+
+import org.apache.juneau.config.*;
+import org.apache.juneau.config.store.*;
+import org.apache.juneau.config.vars.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.mock2.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Tests that precompiled SVL variables that can change at runtime are not frozen at initialization.
+ */
+@SuppressWarnings({"javadoc"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class PrecompiledVarsTest {
+
+	static final Config CONFIG = Config.create().store(ConfigMemoryStore.create().build()).name("PrecompiledVarsTest.cfg").build();
+
+	@RestResource(serializers=SimpleJsonSerializer.class)
+	public static class A {
+		@RestHook(HookEvent.INIT)
+		public void init(RestContextBuilder b) {
+			b.config(CONFIG);
+			b.varContextObject(ConfigVar.SESSION_config, CONFIG);
+		}
+
+		@RestMethod(name="GET", path="/c", summary="$C{A/foo}")
+		public String getC(RestRequest req) {
+			return req.getMethodSummary();
+		}
+
+		@RestMethod(name="GET", path="/s", summary="$S{PrecompiledVarsTest.foo}")
+		public String getS(RestRequest req) {
+			return req.getMethodSummary();
+		}
+	}
+
+	@Test
+	public void a01_configChangedAfterInit() throws Exception {
+		CONFIG.set("A/foo", "bar");
+		MockRest a = MockRest.build(A.class);
+		a.get("/c").execute().assertBody("'bar'");
+		CONFIG.set("A/foo", "baz");
+		a.get("/c").execute().assertBody("'baz'");
+	}
+
+	@Test
+	public void a02_systemPropertyChangedAfterInit() throws Exception {
+		System.setProperty("PrecompiledVarsTest.foo", "bar");
+		try {
+			MockRest a = MockRest.build(A.class);
+			a.get("/s").execute().assertBody("'bar'");
+			System.setProperty("PrecompiledVarsTest.foo", "baz");
+			a.get("/s").execute().assertBody("'baz'");
+		} finally {
+			System.clearProperty("PrecompiledVarsTest.foo");
+		}
+	}
+}
@@ -0,0 +1,140 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.annotation;
+
+import static org.apache.juneau.http.HttpMethodName.*;
+
+import java.util.concurrent.*;
+
+import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.mock2.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Tests that validate the behavior of @RestResource(parallelInit).
+ */
+@SuppressWarnings({"javadoc"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class RestResourceParallelInitTest {
+
+	//=================================================================================================================
+	// Parallel initialization of methods and children.
+	//=================================================================================================================
+
+	@RestResource(path="/p0", parallelInit="true", children={A01.class,A02.class,A03.class,A04.class})
+	public static class A  {
+		@RestMethod(name=GET, path="/")
+		public String a(RestContext c) {
+			return c.getChildResources().keySet().toString();
+		}
+		@RestMethod(name=GET, path="/b")
+		public String b(RestContext c) {
+			return "b-" + c.isParallelInit();
+		}
+		@RestMethod(name=GET, path="/c/{x}")
+		public String c(@org.apache.juneau.http.annotation.Path("x") String x) {
+			return "c-" + x;
+		}
+		@RestMethod(name=GET, path="/times")
+		public String times(RestContext c) {
+			return c.getStartupTimes(TimeUnit.NANOSECONDS).keySet().toString();
+		}
+	}
+	@RestResource(path="/p1")
+	public static class A01 {
+		@RestMethod(name=GET, path="/")
+		public String a(RestContext c) {
+			return "A01-" + c.isParallelInit();
+		}
+	}
+	@RestResource(path="/p2", parallelInit="false")
+	public static class A02 {
+		@RestMethod(name=GET, path="/")
+		public String a(RestContext c) {
+			return "A02-" + c.isParallelInit();
+		}
+	}
+	@RestResource(path="/p3")
+	public static class A03 {
+		@RestMethod(name=GET, path="/")
+		public String a(RestContext c) {
+			return "A03-" + c.getPath();
+		}
+	}
+	@RestResource(path="/p4")
+	public static class A04 {
+		@RestMethod(name=GET, path="/")
+		public String a(RestContext c) {
+			return "A04-" + c.getPath();
+		}
+	}
+
+	static MockRest a = MockRest.build(A.class, null);
+
+	@Test
+	public void a01_methods() throws Exception {
+		a.get("/b").execute().assertBody("b-true");
+		a.get("/c/foo").execute().assertBody("c-foo");
+	}
+
+	@Test
+	public void a02_childrenInDeclarationOrder() throws Exception {
+		a.get("/").execute().assertBody("[p1, p2, p3, p4]");
+		a.get("/p3").execute().assertBody("A03-p0/p3");
+		a.get("/p4").execute().assertBody("A04-p0/p4");
+	}
+
+	@Test
+	public void a03_inherited() throws Exception {
+		a.get("/p1").execute().assertBody("A01-true");
+		a.get("/p2").execute().assertBody("A02-false");
+	}
+
+	@Test
+	public void a04_startupTimes() throws Exception {
+		a.get("/times").execute().assertBody("[settings, vars, serializers, resources, methods, hooks, children, handlers, total]");
+	}
+
+	//=================================================================================================================
+	// Errors in children are propagated.
+	//=================================================================================================================
+
+	@RestResource(parallelInit="true", children={B01.class,B02.class})
+	public static class B {}
+
+	@RestResource(path="/p1")
+	public static class B01 {}
+
+	@RestResource(path="/p2")
+	public static class B02 {
+		@RestMethod(name=GET, path="/")
+		public String a() {
+			return null;
+		}
+		@RestMethod(name=GET, path="/")
+		public String b() {
+			return null;
+		}
+	}
+
+	@Test
+	public void b01_childError() throws Exception {
+		try {
+			MockRest.build(B.class, null);
+			Assert.fail();
+		} catch (Exception e) {
+			Assert.assertTrue(e.getMessage(), e.getMessage().contains("B02"));
+		}
+	}
+}
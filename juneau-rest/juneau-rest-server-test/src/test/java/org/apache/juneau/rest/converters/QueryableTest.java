@@ -0,0 +1,131 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.converters;
+
+import java.util.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.annotation.*;
+import org.apache.juneau.json.*;
+import org.apache.juneau.pojotools.*;
+import org.apache.juneau.rest.annotation.*;
+import org.apache.juneau.rest.mock2.*;
+import org.apache.juneau.utils.*;
+import org.junit.*;
+import org.junit.runners.*;
+
+/**
+ * Tests the Queryable converter.
+ */
+@SuppressWarnings({"javadoc"})
+@FixMethodOrder(MethodSorters.NAME_ASCENDING)
+public class QueryableTest {
+
+	@Bean(properties="name,age")
+	public static class Person {
+		public String name;
+		public int age;
+
+		public Person init(String name, int age) {
+			this.name = name;
+			this.age = age;
+			return this;
+		}
+	}
+
+	static final List<Person> PEOPLE = AList.create(
+		new Person().init("Bill", 30),
+		new Person().init("Barbara", 40),
+		new Person().init("Bob", 20),
+		new Person().init("Alice", 50)
+	);
+
+	//=================================================================================================================
+	// In-memory collections.
+	//=================================================================================================================
+
+	@RestResource(serializers=SimpleJsonSerializer.class)
+	public static class A {
+		@RestMethod(name="GET", path="/people", converters=Queryable.class)
+		public List<Person> getPeople() {
+			return PEOPLE;
+		}
+	}
+	static MockRest a = MockRest.build(A.class);
+
+	@Test
+	public void a01_noArgs() throws Exception {
+		a.get("/people").json().execute().assertBody("[{name:'Bill',age:30},{name:'Barbara',age:40},{name:'Bob',age:20},{name:'Alice',age:50}]");
+	}
+
+	@Test
+	public void a02_searchSortPage() throws Exception {
+		a.get("/people?s=name=B*&o=age&l=2&v=name").json().execute().assertBody("[{name:'Bob'},{name:'Bill'}]");
+	}
+
+	//=================================================================================================================
+	// QueryableSource
+	//=================================================================================================================
+
+	public static class PersonSource implements QueryableSource {
+		static volatile QueryArgs lastArgs;
+
+		@Override /* QueryableSource */
+		public Object query(BeanSession session, QueryArgs args) throws Exception {
+			lastArgs = args;
+			args.validateColumns(Arrays.asList("name","age"));
+			return new PojoQueryableSource(PEOPLE).query(session, args);
+		}
+	}
+
+	@RestResource(serializers=SimpleJsonSerializer.class)
+	public static class B {
+		@RestMethod(name="GET", path="/people", converters=Queryable.class)
+		public QueryableSource getPeople() {
+			return new PersonSource();
+		}
+	}
+	static MockRest b = MockRest.build(B.class);
+
+	@Test
+	public void b01_noArgs() throws Exception {
+		b.get("/people").json().execute().assertBody("[{name:'Bill',age:30},{name:'Barbara',age:40},{name:'Bob',age:20},{name:'Alice',age:50}]");
+	}
+
+	@Test
+	public void b02_searchSortPage() throws Exception {
+		b.get("/people?s=name=B*&o=age-&p=1&l=2&v=name").json().execute().assertBody("[{name:'Bill'},{name:'Bob'}]");
+		QueryArgs qa = PersonSource.lastArgs;
+		Assert.assertEquals("{name:'B*'}", SimpleJsonSerializer.DEFAULT.toString(qa.getSearchArgs().getSearch()));
+		Assert.assertEquals(1, qa.getPageArgs().getPosition());
+		Assert.assertEquals(2, qa.getPageArgs().getLimit());
+	}
+
+	@Test
+	public void b03_invalidColumn() throws Exception {
+		b.get("/people?o=foo").json().execute().assertStatus(400).assertBodyContains("Invalid column name 'foo'");
+	}
+
+	@Test
+	public void b04_invalidLimit() throws Exception {
+		b.get("/people?l=-1").json().execute().assertStatus(400).assertBodyContains("Limit cannot be negative");
+		b.get("/people?l=abc").json().execute().assertStatus(400).assertBodyContains("Position and limit must be integers");
+		b.get("/people?p=abc").json().execute().assertStatus(400).assertBodyContains("Position and limit must be integers");
+	}
+
+	@Test
+	public void b05_ignoreCase() throws Exception {
+		b.get("/people?s=name=b*").json().execute().assertBody("[]");
+		b.get("/people?s=name=b*&i=true").json().execute().assertBody("[{name:'Bill',age:30},{name:'Barbara',age:40},{name:'Bob',age:20}]");
+	}
+}
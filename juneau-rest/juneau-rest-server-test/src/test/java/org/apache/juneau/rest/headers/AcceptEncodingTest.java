@@ -16,8 +16,11 @@ import static org.apache.juneau.rest.testutils.TestUtils.*;
 import static org.junit.Assert.*;
 
 import java.io.*;
+import java.util.zip.*;
 
 import org.apache.juneau.encoders.*;
+import org.apache.juneau.http.annotation.*;
+import org.apache.juneau.internal.*;
 import org.apache.juneau.rest.*;
 import org.apache.juneau.rest.annotation.*;
 import org.apache.juneau.rest.mock2.*;
@@ -260,4 +263,62 @@ public class AcceptEncodingTest {
 			.assertHeader("Content-Encoding", null) // Should not be set
 			.assertBody("foo");
 	}
+
+	//=================================================================================================================
+	// Test with minimum size and deflate encoders.
+	//=================================================================================================================
+
+	public static class MinSizeEncoder extends GzipEncoder {
+		public MinSizeEncoder() {
+			super(Deflater.BEST_SPEED, 100, 512, 4);
+		}
+	}
+
+	@RestResource(encoders={MinSizeEncoder.class,DeflateEncoder.class})
+	public static class D {
+		@RestMethod
+		public void d01(RestResponse res, @Query("n") int n) throws Exception {
+			Writer w = res.getNegotiatedWriter();
+			w.append(x(n));
+			w.close();
+		}
+		@RestMethod
+		public void d02(RestResponse res) throws Exception {
+			// Output that's never finished is written when the response is flushed.
+			Writer w = res.getNegotiatedWriter();
+			w.append("foo");
+			w.flush();
+		}
+	}
+	static MockRest d = MockRest.build(D.class);
+
+	static String x(int n) {
+		StringBuilder sb = new StringBuilder();
+		for (int i = 0; i < n; i++)
+			sb.append('x');
+		return sb.toString();
+	}
+
+	@Test
+	public void d01_belowMinimumSize() throws Exception {
+		d.get("/d01?n=10").acceptEncoding("gzip").execute()
+			.assertBody(x(10));
+	}
+	@Test
+	public void d02_aboveMinimumSize() throws Exception {
+		byte[] body = d.get("/d01?n=1000").acceptEncoding("gzip").execute()
+			.getBody();
+		assertEquals(x(1000), decompress(body));
+	}
+	@Test
+	public void d03_deflate() throws Exception {
+		byte[] body = d.get("/d01?n=10").acceptEncoding("deflate").execute()
+			.getBody();
+		assertEquals(x(10), IOUtils.read(new InflaterInputStream(new ByteArrayInputStream(body)), IOUtils.UTF8));
+	}
+	@Test
+	public void d04_unfinishedBelowMinimumSize() throws Exception {
+		d.get("/d02").acceptEncoding("gzip").execute()
+			.assertBody("foo");
+	}
 }
@@ -59,6 +59,8 @@ public class BasicRestInfoProvider implements RestInfoProvider {
 		this.siteName = b.siteName;
 		this.title = b.title;
 		this.description = b.description;
+
+		context.precompileVars(new String[]{siteName, title, description});
 	}
 
 	private static final class Builder {
@@ -26,8 +26,10 @@ import org.apache.juneau.internal.*;
 import org.apache.juneau.json.*;
 import org.apache.juneau.oapi.*;
 import org.apache.juneau.parser.*;
+import org.apache.juneau.pojotools.*;
 import org.apache.juneau.rest.exception.*;
 import org.apache.juneau.utils.*;
+import org.apache.juneau.utils.SearchArgs;
 
 /**
  * Represents the query parameters in an HTTP request.
@@ -574,6 +576,36 @@ public final class RequestQuery extends LinkedHashMap<String,String[]> {
 		return null;
 	}
 
+	/**
+	 * Same as {@link #getSearchArgs()} but returns the arguments as a validated {@link QueryArgs} object.
+	 *
+	 * <p>
+	 * Used for passing queries to {@link QueryableSource} objects returned by REST methods.
+	 *
+	 * @return
+	 * 	A new {@link QueryArgs} object initialized with the special search query arguments.
+	 * 	<br>Returns {@link QueryArgs#DEFAULT} if no search arguments were found.
+	 * @throws BadRequest If the search arguments could not be parsed or were invalid.
+	 */
+	public QueryArgs getQueryArgs() throws BadRequest {
+		if (! hasAny("s","v","o","p","l","i"))
+			return QueryArgs.DEFAULT;
+		try {
+			return QueryArgs.create()
+				.search(getString("s"))
+				.view(getString("v"))
+				.sort(getString("o"))
+				.position(getInt("p"))
+				.limit(getInt("l"))
+				.ignoreCase(getBoolean("i"))
+				.build();
+		} catch (PatternException e) {
+			throw new BadRequest(e, "Invalid query arguments.  {0}", e.getLocalizedMessage());
+		} catch (NumberFormatException e) {
+			throw new BadRequest(e, "Invalid query arguments.  Position and limit must be integers.");
+		}
+	}
+
 	/**
 	 * Returns <jk>true</jk> if the query parameters contains any of the specified names.
 	 *
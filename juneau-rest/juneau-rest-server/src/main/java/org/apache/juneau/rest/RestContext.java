@@ -60,6 +60,7 @@ import org.apache.juneau.remote.*;
 import org.apache.juneau.rest.annotation.*;
 import org.apache.juneau.rest.converters.*;
 import org.apache.juneau.rest.exception.*;
+import org.apache.juneau.rest.remote.*;
 import org.apache.juneau.rest.reshandlers.*;
 import org.apache.juneau.rest.util.UrlPathPattern;
 import org.apache.juneau.rest.vars.*;
@@ -1611,6 +1612,64 @@ public final class RestContext extends BeanContext {
 	 */
 	public static final String REST_paramResolvers = PREFIX + "paramResolvers.lo";
 
+	/**
+	 * Configuration property:  Parallel initialization.
+	 *
+	 * <h5 class='section'>Property:</h5>
+	 * <ul>
+	 * 	<li><b>Name:</b>  <js>"RestContext.parallelInit.b"</js>
+	 * 	<li><b>Data type:</b>  <code>Boolean</code>
+	 * 	<li><b>Default:</b>  <jk>false</jk> (or the setting of the parent resource)
+	 * 	<li><b>Session property:</b>  <jk>false</jk>
+	 * 	<li><b>Annotations:</b>
+	 * 		<ul>
+	 * 			<li class='ja'>{@link RestResource#parallelInit()}
+	 * 		</ul>
+	 * 	<li><b>Methods:</b>
+	 * 		<ul>
+	 * 			<li class='jm'>{@link RestContextBuilder#parallelInit(boolean)}
+	 * 		</ul>
+	 * </ul>
+	 *
+	 * <h5 class='section'>Description:</h5>
+	 * <p>
+	 * When enabled, the Java methods and the child resources of this resource are initialized concurrently on the
+	 * common fork-join pool instead of one after another.
+	 * <br>Results are collected in declaration order, so routing and the order of child resources are the same as
+	 * with sequential initialization.
+	 *
+	 * <p>
+	 * Child resources inherit this setting from their parent unless they specify it themselves.
+	 *
+	 * <h5 class='section'>Example:</h5>
+	 * <p class='bcode w800'>
+	 * 	<jc>// Option #1 - Defined via annotation.</jc>
+	 * 	<ja>@RestResource</ja>(parallelInit=<js>"true"</js>)
+	 * 	<jk>public class</jk> MyResource {
+	 *
+	 * 		<jc>// Option #2 - Defined via builder passed in through resource constructor.</jc>
+	 * 		<jk>public</jk> MyResource(RestContextBuilder builder) <jk>throws</jk> Exception {
+	 *
+	 * 			<jc>// Using method on builder.</jc>
+	 * 			builder.parallelInit(<jk>true</jk>);
+	 *
+	 * 			<jc>// Same, but using property.</jc>
+	 * 			builder.set(<jsf>REST_parallelInit</jsf>, <jk>true</jk>);
+	 * 		}
+	 * 	}
+	 * </p>
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Constructors and {@link HookEvent#INIT} hooks of child resources may be called from different threads
+	 * 		and must not depend on each other.
+	 * 	<li>
+	 * 		The time spent in each initialization phase can be retrieved through {@link RestContext#getStartupTimes(TimeUnit)}.
+	 * </ul>
+	 */
+	public static final String REST_parallelInit = PREFIX + "parallelInit.b";
+
 	/**
 	 * Configuration property:  Parsers.
 	 *
@@ -2977,7 +3036,8 @@ public final class RestContext extends BeanContext {
 		renderResponseStackTraces,
 		useStackTraceHashes,
 		useClasspathResourceCaching,
-		debug;
+		debug,
+		parallelInit;
 	private final String
 		defaultCharset,
 		clientVersionHeader,
@@ -3027,6 +3087,7 @@ public final class RestContext extends BeanContext {
 	private final RestResourceResolver resourceResolver;
 	private final UriResolution uriResolution;
 	private final UriRelativity uriRelativity;
+	private final Map<String,Long> startupTimes;
 
 	// Lifecycle methods
 	private final Method[]
@@ -3090,6 +3151,8 @@ public final class RestContext extends BeanContext {
 		super(builder.getPropertyStore());
 
 		RestException _initException = null;
+		long t0 = System.nanoTime(), t = t0;
+		Map<String,Long> _startupTimes = new LinkedHashMap<>();
 
 		try {
 			ServletContext servletContext = builder.servletContext;
@@ -3114,6 +3177,7 @@ public final class RestContext extends BeanContext {
 			renderResponseStackTraces = getBooleanProperty(REST_renderResponseStackTraces, false);
 			useStackTraceHashes = getBooleanProperty(REST_useStackTraceHashes, true);
 			debug = getBooleanProperty(REST_debug, super.isDebug());
+			parallelInit = getBooleanProperty(REST_parallelInit, parentContext != null && parentContext.parallelInit);
 			defaultCharset = getStringProperty(REST_defaultCharset, "utf-8");
 			maxInput = getLongProperty(REST_maxInput, 100_000_000l);
 			clientVersionHeader = getStringProperty(REST_clientVersionHeader, "X-Client-Version");
@@ -3137,6 +3201,7 @@ public final class RestContext extends BeanContext {
 			logger = getInstanceProperty(REST_logger, resource, RestLogger.class, NoOpRestLogger.class, resourceResolver, this);
 			if (debug)
 				logger.setLevel(Level.FINE);
+			t = time(_startupTimes, "settings", t);
 
 			varResolver = builder.varResolverBuilder
 				.vars(
@@ -3162,12 +3227,16 @@ public final class RestContext extends BeanContext {
 			config = builder.config.resolving(this.varResolver.createSession());
 
 			properties = builder.properties;
+			precompileVars(properties);
+			t = time(_startupTimes, "vars", t);
+
 			serializers = SerializerGroup.create().append(getInstanceArrayProperty(REST_serializers, Serializer.class, new Serializer[0], resourceResolver, resource, ps)).build();
 			parsers = ParserGroup.create().append(getInstanceArrayProperty(REST_parsers, Parser.class, new Parser[0], resourceResolver, resource, ps)).build();
 			partSerializer = getInstanceProperty(REST_partSerializer, HttpPartSerializer.class, OpenApiSerializer.class, resourceResolver, resource, ps);
 			partParser = getInstanceProperty(REST_partParser, HttpPartParser.class, OpenApiParser.class, resourceResolver, resource, ps);
 			encoders = new EncoderGroupBuilder().append(getInstanceArrayProperty(REST_encoders, Encoder.class, new Encoder[0], resourceResolver, resource, ps)).build();
 			beanContext = BeanContext.create().apply(ps).build();
+			t = time(_startupTimes, "serializers", t);
 
 			mimetypesFileTypeMap = new ExtendedMimetypesFileTypeMap();
 			for (String mimeType : getArrayProperty(REST_mimeTypes, String.class))
@@ -3203,6 +3272,7 @@ public final class RestContext extends BeanContext {
 			for (Widget w : getInstanceArrayProperty(REST_widgets, resource, Widget.class, new Widget[0], resourceResolver, ps))
 				_widgets.put(w.getName(), w);
 			this.widgets = unmodifiableMap(_widgets);
+			t = time(_startupTimes, "resources", t);
 
 			//----------------------------------------------------------------------------------------------------
 			// Initialize the child resources.
@@ -3229,85 +3299,49 @@ public final class RestContext extends BeanContext {
 				_postInitChildFirstMethodParams = new ArrayList<>(),
 				_destroyMethodParams = new ArrayList<>();
 
+			List<MethodInfo> restMethods = new ArrayList<>();
 			for (MethodInfo mi : rci.getPublicMethods()) {
 				RestMethod a = mi.getAnnotation(RestMethod.class);
 				if (a != null) {
 					methodsFound.add(mi.getSimpleName() + "," + emptyIfNull(firstNonEmpty(a.name(), a.method())) + "," + fixMethodPath(a.path()));
-					try {
-						if (mi.isNotPublic())
-							throw new RestServletException("@RestMethod method {0}.{1} must be defined as public.", resourceClass.getName(), mi.getSimpleName());
-
-						RestJavaMethod sm = new RestJavaMethod(resource, mi.inner(), this);
-						String httpMethod = sm.getHttpMethod();
-
-						// RRPC is a special case where a method returns an interface that we
-						// can perform REST calls against.
-						// We override the CallMethod.invoke() method to insert our logic.
-						if ("RRPC".equals(httpMethod)) {
-
-							final ClassMeta<?> interfaceClass = beanContext.getClassMeta(mi.inner().getGenericReturnType());
-							final RemoteInterfaceMeta rim = new RemoteInterfaceMeta(interfaceClass.getInnerClass(), null);
-							if (rim.getMethodsByPath().isEmpty())
-								throw new RestException(SC_INTERNAL_SERVER_ERROR, "Method {0} returns an interface {1} that doesn't define any remote methods.", mi.getSignature(), interfaceClass.getFullName());
-
-							sm = new RestJavaMethod(resource, mi.inner(), this) {
-
-								@Override
-								int invoke(String pathInfo, RestRequest req, RestResponse res) throws Throwable {
-
-									int rc = super.invoke(pathInfo, req, res);
-									if (rc != SC_OK)
-										return rc;
-
-									final Object o = res.getOutput();
-
-									if ("GET".equals(req.getMethod())) {
-										res.setOutput(rim.getMethodsByPath().keySet());
-										return SC_OK;
-
-									} else if ("POST".equals(req.getMethod())) {
-										if (pathInfo.indexOf('/') != -1)
-											pathInfo = pathInfo.substring(pathInfo.lastIndexOf('/')+1);
-										pathInfo = urlDecode(pathInfo);
-										RemoteInterfaceMethod rmm = rim.getMethodMetaByPath(pathInfo);
-										if (rmm != null) {
-											Method m = rmm.getJavaMethod();
-											try {
-												// Parse the args and invoke the method.
-												Parser p = req.getBody().getParser();
-												Object[] args = null;
-												if (m.getGenericParameterTypes().length == 0)
-													args = new Object[0];
-												else {
-													try (Closeable in = p.isReaderParser() ? req.getReader() : req.getInputStream()) {
-														args = p.parseArgs(in, m.getGenericParameterTypes());
-													}
-												}
-												Object output = m.invoke(o, args);
-												res.setOutput(output);
-												return SC_OK;
-											} catch (Exception e) {
-												throw new InternalServerError(e);
-											}
-										}
-									}
-									return SC_NOT_FOUND;
-								}
-							};
-
-							_javaRestMethods.put(mi.getSimpleName(), sm);
-							addToRouter(routers, "GET", sm);
-							addToRouter(routers, "POST", sm);
+					restMethods.add(mi);
+				}
+			}
 
-						} else {
-							_javaRestMethods.put(mi.getSimpleName(), sm);
-							addToRouter(routers, httpMethod, sm);
+			List<RestJavaMethod> sms = new ArrayList<>(restMethods.size());
+			if (parallelInit && restMethods.size() > 1) {
+				List<Callable<RestJavaMethod>> tasks = new ArrayList<>(restMethods.size());
+				for (final MethodInfo mi : restMethods) {
+					tasks.add(new Callable<RestJavaMethod>() {
+						@Override /* Callable */
+						public RestJavaMethod call() throws Exception {
+							return createJavaMethod(mi, methodsFound);
 						}
-					} catch (Throwable e) {
-						throw new RestServletException("Problem occurred trying to serialize methods on class {0}, methods={1}", resourceClass.getName(), SimpleJsonSerializer.DEFAULT.serialize(methodsFound)).initCause(e);
+					});
+				}
+				sms.addAll(invokeAll(tasks));
+			} else {
+				for (MethodInfo mi : restMethods)
+					sms.add(createJavaMethod(mi, methodsFound));
+			}
+
+			// Routers are populated in method order so that collisions are reported consistently.
+			for (int i = 0; i < sms.size(); i++) {
+				MethodInfo mi = restMethods.get(i);
+				RestJavaMethod sm = sms.get(i);
+				try {
+					_javaRestMethods.put(mi.getSimpleName(), sm);
+					if ("RRPC".equals(sm.getHttpMethod())) {
+						addToRouter(routers, "GET", sm);
+						addToRouter(routers, "POST", sm);
+					} else {
+						addToRouter(routers, sm.getHttpMethod(), sm);
 					}
+				} catch (Throwable e) {
+					throw new RestServletException("Problem occurred trying to serialize methods on class {0}, methods={1}", resourceClass.getName(), SimpleJsonSerializer.DEFAULT.serialize(methodsFound)).initCause(e);
 				}
 			}
+			t = time(_startupTimes, "methods", t);
 
 			for (MethodInfo m : rci.getAllMethodsParentFirst()) {
 				if (m.isPublic() && m.hasAnnotation(RestHook.class)) {
@@ -3400,49 +3434,44 @@ public final class RestContext extends BeanContext {
 			for (RestCallRouter.Builder crb : routers.values())
 				_callRouters.put(crb.getHttpMethodName(), crb.build());
 			this.callRouters = unmodifiableMap(_callRouters);
+			t = time(_startupTimes, "hooks", t);
 
 			// Initialize our child resources.
+			List<Object> children = new ArrayList<>();
 			for (Object o : getArrayProperty(REST_children, Object.class)) {
-				String path = null;
-				Object r = null;
-				if (o instanceof RestChild) {
-					RestChild rc = (RestChild)o;
-					path = rc.path;
-					r = rc.resource;
-				} else if (o instanceof Class<?>) {
-					Class<?> c = (Class<?>)o;
-					// Don't allow specifying yourself as a child.  Causes an infinite loop.
-					if (c == builder.resourceClass)
-						continue;
-					r = c;
-				} else {
-					r = o;
-				}
-
-				RestContextBuilder childBuilder = null;
+				// Don't allow specifying yourself as a child.  Causes an infinite loop.
+				if (o != builder.resourceClass)
+					children.add(o);
+			}
 
-				if (o instanceof Class) {
-					Class<?> oc = (Class<?>)o;
-					childBuilder = RestContext.create(builder.inner, oc, this);
-					r = resourceResolver.resolve(resource, oc, childBuilder);
-				} else {
-					r = o;
-					childBuilder = RestContext.create(builder.inner, o.getClass(), this);
+			List<RestContext> childContexts = new ArrayList<>(children.size());
+			if (parallelInit && children.size() > 1) {
+				List<Callable<RestContext>> tasks = new ArrayList<>(children.size());
+				for (final Object o : children) {
+					tasks.add(new Callable<RestContext>() {
+						@Override /* Callable */
+						public RestContext call() throws Exception {
+							return createChild(o, servletContext);
+						}
+					});
 				}
-
-				childBuilder.init(r);
-				if (r instanceof RestServlet)
-					((RestServlet)r).innerInit(childBuilder);
-				childBuilder.servletContext(servletContext);
-				RestContext rc2 = childBuilder.build();
-				if (r instanceof RestServlet)
-					((RestServlet)r).setContext(rc2);
-				path = childBuilder.path;
-				childResources.put(path, rc2);
+				childContexts.addAll(invokeAll(tasks));
+			} else {
+				for (Object o : children)
+					childContexts.add(createChild(o, servletContext));
 			}
+			for (RestContext rc2 : childContexts)
+				childResources.put(rc2.builder.path, rc2);
+			t = time(_startupTimes, "children", t);
 
 			callHandler = getInstanceProperty(REST_callHandler, resource, RestCallHandler.class, BasicRestCallHandler.class, resourceResolver, this);
 			infoProvider = getInstanceProperty(REST_infoProvider, resource, RestInfoProvider.class, BasicRestInfoProvider.class, resourceResolver, this);
+			t = time(_startupTimes, "handlers", t);
+
+			_startupTimes.put("total", t - t0);
+			startupTimes = unmodifiableMap(_startupTimes);
+			if (debug)
+				logger.log(Level.FINE, "Initialized resource ''{0}'' in {1}ms.  Phases(us): {2}", resourceClass.getName(), (t - t0) / 1000000, getStartupTimes(TimeUnit.MICROSECONDS));
 
 		} catch (RestException e) {
 			_initException = e;
@@ -3455,6 +3484,161 @@ public final class RestContext extends BeanContext {
 		}
 	}
 
+	/*
+	 * Creates the Java method for the specified @RestMethod-annotated method.
+	 * Only reads the state of this context, so it can be called concurrently when REST_parallelInit is enabled.
+	 */
+	private RestJavaMethod createJavaMethod(final MethodInfo mi, List<String> methodsFound) throws Exception {
+		try {
+			if (mi.isNotPublic())
+				throw new RestServletException("@RestMethod method {0}.{1} must be defined as public.", resource.getClass().getName(), mi.getSimpleName());
+
+			RestJavaMethod sm = new RestJavaMethod(resource, mi.inner(), this);
+			String httpMethod = sm.getHttpMethod();
+
+			// RRPC is a special case where a method returns an interface that we
+			// can perform REST calls against.
+			// We override the CallMethod.invoke() method to insert our logic.
+			if ("RRPC".equals(httpMethod)) {
+
+				final ClassMeta<?> interfaceClass = beanContext.getClassMeta(mi.inner().getGenericReturnType());
+				final RemoteInterfaceMeta rim = new RemoteInterfaceMeta(interfaceClass.getInnerClass(), null);
+				if (rim.getMethodsByPath().isEmpty())
+					throw new RestException(SC_INTERNAL_SERVER_ERROR, "Method {0} returns an interface {1} that doesn't define any remote methods.", mi.getSignature(), interfaceClass.getFullName());
+
+				sm = new RestJavaMethod(resource, mi.inner(), this) {
+
+					@Override
+					int invoke(String pathInfo, RestRequest req, RestResponse res) throws Throwable {
+
+						int rc = super.invoke(pathInfo, req, res);
+						if (rc != SC_OK)
+							return rc;
+
+						final Object o = res.getOutput();
+
+						if ("GET".equals(req.getMethod())) {
+							res.setOutput(rim.getMethodsByPath().keySet());
+							return SC_OK;
+
+						} else if ("POST".equals(req.getMethod())) {
+							if (pathInfo.indexOf('/') != -1)
+								pathInfo = pathInfo.substring(pathInfo.lastIndexOf('/')+1);
+							pathInfo = urlDecode(pathInfo);
+							if (RemoteInterfaceMeta.BATCH_PATH.equals(pathInfo)) {
+								Parser p = req.getBody().getParser();
+								try (Closeable in = p.isReaderParser() ? req.getReader() : req.getInputStream()) {
+									res.setOutput(RrpcBatchInvoker.invoke(rim, o, p.parse(in, ObjectList.class), null));
+								}
+								return SC_OK;
+							}
+							RemoteInterfaceMethod rmm = rim.getMethodMetaByPath(pathInfo);
+							if (rmm != null) {
+								Method m = rmm.getJavaMethod();
+								try {
+									// Parse the args and invoke the method.
+									Parser p = req.getBody().getParser();
+									Object[] args = null;
+									if (m.getGenericParameterTypes().length == 0)
+										args = new Object[0];
+									else {
+										try (Closeable in = p.isReaderParser() ? req.getReader() : req.getInputStream()) {
+											args = p.parseArgs(in, m.getGenericParameterTypes());
+										}
+									}
+									Object output = m.invoke(o, args);
+									res.setOutput(output);
+									return SC_OK;
+								} catch (Exception e) {
+									throw new InternalServerError(e);
+								}
+							}
+						}
+						return SC_NOT_FOUND;
+					}
+				};
+
+			}
+			return sm;
+		} catch (Throwable e) {
+			throw new RestServletException("Problem occurred trying to serialize methods on class {0}, methods={1}", resource.getClass().getName(), SimpleJsonSerializer.DEFAULT.serialize(methodsFound)).initCause(e);
+		}
+	}
+
+	/*
+	 * Creates and initializes the context of the specified child resource.
+	 * Only reads the state of this context, so it can be called concurrently when REST_parallelInit is enabled.
+	 */
+	private RestContext createChild(Object o, ServletContext servletContext) throws Exception {
+		Object r = null;
+		RestContextBuilder childBuilder = null;
+
+		if (o instanceof Class) {
+			Class<?> oc = (Class<?>)o;
+			childBuilder = RestContext.create(builder.inner, oc, this);
+			r = resourceResolver.resolve(resource, oc, childBuilder);
+		} else {
+			r = o;
+			childBuilder = RestContext.create(builder.inner, o.getClass(), this);
+		}
+
+		childBuilder.init(r);
+		if (r instanceof RestServlet)
+			((RestServlet)r).innerInit(childBuilder);
+		childBuilder.servletContext(servletContext);
+		RestContext rc2 = childBuilder.build();
+		if (r instanceof RestServlet)
+			((RestServlet)r).setContext(rc2);
+		return rc2;
+	}
+
+	/*
+	 * Records the time elapsed since the specified start time for the specified initialization phase.
+	 */
+	private static long time(Map<String,Long> startupTimes, String phase, long start) {
+		long now = System.nanoTime();
+		startupTimes.put(phase, now - start);
+		return now;
+	}
+
+	/*
+	 * Runs the specified tasks on the common fork-join pool and returns their results in the same order.
+	 * The context class loader of the calling thread is propagated to the tasks.
+	 */
+	private static <T> List<T> invokeAll(List<Callable<T>> tasks) throws Exception {
+		final ClassLoader cl = Thread.currentThread().getContextClassLoader();
+		List<Callable<T>> l = new ArrayList<>(tasks.size());
+		for (final Callable<T> task : tasks) {
+			l.add(new Callable<T>() {
+				@Override /* Callable */
+				public T call() throws Exception {
+					Thread ct = Thread.currentThread();
+					ClassLoader cl2 = ct.getContextClassLoader();
+					ct.setContextClassLoader(cl);
+					try {
+						return task.call();
+					} finally {
+						ct.setContextClassLoader(cl2);
+					}
+				}
+			});
+		}
+		List<T> results = new ArrayList<>(tasks.size());
+		for (Future<T> f : ForkJoinPool.commonPool().invokeAll(l)) {
+			try {
+				results.add(f.get());
+			} catch (ExecutionException e) {
+				Throwable cause = e.getCause();
+				if (cause instanceof Exception)
+					throw (Exception)cause;
+				if (cause instanceof Error)
+					throw (Error)cause;
+				throw e;
+			}
+		}
+		return results;
+	}
+
 	private static void addToRouter(Map<String, RestCallRouter.Builder> routers, String httpMethodName, RestJavaMethod cm) throws RestServletException {
 		if (! routers.containsKey(httpMethodName))
 			routers.put(httpMethodName, new RestCallRouter.Builder(httpMethodName));
@@ -3537,6 +3721,36 @@ public final class RestContext extends BeanContext {
 		return varResolver;
 	}
 
+	/**
+	 * Pre-resolves the static variables (e.g. <js>"$E{...}"</js>) in the specified values so that only the
+	 * request-dependent variables need to be resolved on each request.
+	 *
+	 * <p>
+	 * Resolves variables in strings, and in arrays, collections, and map values containing strings.
+	 *
+	 * @param o The value to pre-resolve variables in.
+	 */
+	void precompileVars(Object o) {
+		precompileVars(varResolver.createSession(), o);
+	}
+
+	private static void precompileVars(VarResolverSession vs, Object o) {
+		if (o instanceof CharSequence) {
+			String s = o.toString();
+			if (s.indexOf('$') != -1)
+				vs.precompile(s);
+		} else if (o instanceof Object[]) {
+			for (Object o2 : (Object[])o)
+				precompileVars(vs, o2);
+		} else if (o instanceof Collection) {
+			for (Object o2 : (Collection<?>)o)
+				precompileVars(vs, o2);
+		} else if (o instanceof Map) {
+			for (Object o2 : ((Map<?,?>)o).values())
+				precompileVars(vs, o2);
+		}
+	}
+
 	/**
 	 * Returns the config file associated with this servlet.
 	 *
@@ -4164,6 +4378,20 @@ public final class RestContext extends BeanContext {
 		return allowBodyParam;
 	}
 
+	/**
+	 * Returns whether classpath resources are cached in memory.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_useClasspathResourceCaching}
+	 * </ul>
+	 *
+	 * @return <jk>true</jk> if setting is enabled.
+	 */
+	public boolean isUseClasspathResourceCaching() {
+		return useClasspathResourceCaching;
+	}
+
 	/**
 	 * Returns <jk>true</jk> if debug mode is enabled on this resource.
 	 *
@@ -4195,6 +4423,43 @@ public final class RestContext extends BeanContext {
 		return defaultCharset;
 	}
 
+	/**
+	 * Returns <jk>true</jk> if the Java methods and child resources of this resource are initialized concurrently.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_parallelInit}
+	 * </ul>
+	 *
+	 * @return <jk>true</jk> if setting is enabled.
+	 */
+	public boolean isParallelInit() {
+		return parallelInit;
+	}
+
+	/**
+	 * Returns the time spent in each phase of the initialization of this resource.
+	 *
+	 * <p>
+	 * Phases are listed in the order they're executed:
+	 * <js>"settings"</js>, <js>"vars"</js>, <js>"serializers"</js>, <js>"resources"</js>, <js>"methods"</js>,
+	 * <js>"hooks"</js>, <js>"children"</js> and <js>"handlers"</js>, followed by the <js>"total"</js> time.
+	 * <br>The <js>"children"</js> phase includes the complete initialization of the child resources, whose own phases
+	 * can be retrieved from their contexts.
+	 *
+	 * <p>
+	 * When debug mode is enabled, these times are also logged at level {@link Level#FINE}.
+	 *
+	 * @param unit The time unit of the returned values.
+	 * @return An unmodifiable map of phase names to elapsed times.
+	 */
+	public Map<String,Long> getStartupTimes(TimeUnit unit) {
+		Map<String,Long> m = new LinkedHashMap<>();
+		for (Map.Entry<String,Long> e : startupTimes.entrySet())
+			m.put(e.getKey(), unit.convert(e.getValue(), TimeUnit.NANOSECONDS));
+		return unmodifiableMap(m);
+	}
+
 	/**
 	 * Returns the maximum request input size in bytes.
 	 *
@@ -240,6 +240,8 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 					maxInput(vr.resolve(r.maxInput()));
 				if (! r.debug().isEmpty())
 					debug(Boolean.valueOf(vr.resolve(r.debug())));
+				if (! r.parallelInit().isEmpty())
+					parallelInit(Boolean.valueOf(vr.resolve(r.parallelInit())));
 				mimeTypes(resolveVars(vr, r.mimeTypes()));
 
 				HtmlDoc hd = r.htmldoc();
@@ -1232,6 +1234,26 @@ public class RestContextBuilder extends BeanContextBuilder implements ServletCon
 		return addTo(REST_paramResolvers, values);
 	}
 
+	/**
+	 * Configuration property:  Parallel initialization.
+	 *
+	 * <p>
+	 * When enabled, the Java methods and child resources of this resource are initialized concurrently.
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_parallelInit}
+	 * </ul>
+	 *
+	 * @param value
+	 * 	The new value for this setting.
+	 * 	<br>The default is <jk>false</jk>, or the setting of the parent resource.
+	 * @return This object (for method chaining).
+	 */
+	public RestContextBuilder parallelInit(boolean value) {
+		return set(REST_parallelInit, value);
+	}
+
 	/**
 	 * Configuration property:  Parser listener.
 	 *
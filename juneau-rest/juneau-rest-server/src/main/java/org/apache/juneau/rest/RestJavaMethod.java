@@ -184,6 +184,10 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 					hdb.style("INHERIT", "$W{"+w.getName()+".style}");
 				}
 
+				context.precompileVars(properties);
+				context.precompileVars(m.summary());
+				context.precompileVars(joinnl(m.description()));
+
 				SerializerGroupBuilder sgb = null;
 				ParserGroupBuilder pgb = null;
 				ParserBuilder uepb = null;
@@ -304,6 +308,7 @@ public class RestJavaMethod implements Comparable<RestJavaMethod>  {
 						properties.put(p1.name(), p1.value());
 					for (String p1 : m.flags())
 						properties.put(p1, true);
+					context.precompileVars(properties);
 				}
 
 				if (m.encoders().length > 0) {
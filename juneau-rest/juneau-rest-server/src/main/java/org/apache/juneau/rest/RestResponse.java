@@ -66,6 +66,7 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	private RequestProperties properties;                // Response properties
 	private ServletOutputStream sos;
 	private FinishableServletOutputStream os;
+	private ThresholdOutputStream tos;
 	private FinishablePrintWriter w;
 	private HtmlDocBuilder htmlDocBuilder;
 
@@ -355,6 +356,10 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	 * Equivalent to {@link HttpServletResponse#getOutputStream()}, except wraps the output stream if an {@link Encoder}
 	 * was found that matched the <code>Accept-Encoding</code> header.
 	 *
+	 * <p>
+	 * If the encoder specifies a {@link Encoder#getMinimumSize() minimum size}, the output is buffered until that size
+	 * is reached, and smaller responses are sent without any encoding.
+	 *
 	 * @return A negotiated output stream.
 	 * @throws NotAcceptable If unsupported Accept-Encoding value specified.
 	 * @throws IOException
@@ -362,6 +367,7 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	public FinishableServletOutputStream getNegotiatedOutputStream() throws NotAcceptable, IOException {
 		if (os == null) {
 			Encoder encoder = null;
+			String encoding = null;
 			EncoderGroup encoders = restJavaMethod == null ? EncoderGroup.DEFAULT : restJavaMethod.encoders;
 
 			String ae = request.getHeader("Accept-Encoding");
@@ -377,20 +383,102 @@ public final class RestResponse extends HttpServletResponseWrapper {
 					}
 				} else {
 					encoder = match.getEncoder();
-					String encoding = match.getEncoding().toString();
-
-					// Some clients don't recognize identity as an encoding, so don't set it.
-					if (! encoding.equals("identity"))
-						setHeader("content-encoding", encoding);
+					encoding = match.getEncoding().toString();
 				}
 			}
 			@SuppressWarnings("resource")
 			ServletOutputStream sos = getOutputStream();
-			os = new FinishableServletOutputStream(encoder == null ? sos : encoder.getOutputStream(sos));
+			if (encoder == null) {
+				os = new FinishableServletOutputStream(sos);
+			} else if (encoder.getMinimumSize() > 0) {
+				tos = new ThresholdOutputStream(encoder, encoding, sos);
+				os = new FinishableServletOutputStream(tos);
+			} else {
+				setEncodingHeader(encoding);
+				os = new FinishableServletOutputStream(encoder.getOutputStream(sos));
+			}
 		}
 		return os;
 	}
 
+	private void setEncodingHeader(String encoding) {
+		// Some clients don't recognize identity as an encoding, so don't set it.
+		if (! encoding.equals("identity"))
+			setHeader("content-encoding", encoding);
+	}
+
+	/*
+	 * Buffers the output until the encoder's minimum size is reached before applying the encoder.
+	 * Responses that end before reaching the minimum size are written without encoding.
+	 */
+	private final class ThresholdOutputStream extends OutputStream implements Finishable {
+		private final Encoder encoder;
+		private final String encoding;
+		private final OutputStream sos;
+		private ByteArrayOutputStream buff = new ByteArrayOutputStream();
+		private OutputStream out;
+
+		ThresholdOutputStream(Encoder encoder, String encoding, OutputStream sos) {
+			this.encoder = encoder;
+			this.encoding = encoding;
+			this.sos = sos;
+		}
+
+		@Override /* OutputStream */
+		public void write(int b) throws IOException {
+			write(new byte[]{(byte)b}, 0, 1);
+		}
+
+		@Override /* OutputStream */
+		public void write(byte[] b, int off, int len) throws IOException {
+			if (out == null) {
+				if (buff.size() + len < encoder.getMinimumSize()) {
+					buff.write(b, off, len);
+					return;
+				}
+				setEncodingHeader(encoding);
+				out = encoder.getOutputStream(sos);
+				buff.writeTo(out);
+				buff = null;
+			}
+			out.write(b, off, len);
+		}
+
+		/*
+		 * Flushes are held until the minimum size is reached, since writing to the underlying stream commits the
+		 * headers.
+		 */
+		@Override /* OutputStream */
+		public void flush() throws IOException {
+			if (out != null)
+				out.flush();
+		}
+
+		/*
+		 * Writes any buffered output without encoding.
+		 */
+		void commit() throws IOException {
+			if (out == null) {
+				out = sos;
+				buff.writeTo(out);
+				buff = null;
+			}
+		}
+
+		@Override /* Finishable */
+		public void finish() throws IOException {
+			commit();
+			if (out instanceof Finishable)
+				((Finishable)out).finish();
+		}
+
+		@Override /* OutputStream */
+		public void close() throws IOException {
+			finish();
+			out.close();
+		}
+	}
+
 	@Override /* ServletResponse */
 	public ServletOutputStream getOutputStream() throws IOException {
 		if (sos == null)
@@ -565,6 +653,8 @@ public final class RestResponse extends HttpServletResponseWrapper {
 	public void flushBuffer() throws IOException {
 		if (w != null)
 			w.flush();
+		if (tos != null)
+			tos.commit();
 		if (os != null)
 			os.flush();
 		super.flushBuffer();
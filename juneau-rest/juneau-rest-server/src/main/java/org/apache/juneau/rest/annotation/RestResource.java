@@ -1073,4 +1073,21 @@ public @interface RestResource {
 	 * </ul>
 	 */
 	String debug() default "";
+
+	/**
+	 * Initialize the Java methods and child resources of this resource concurrently.
+	 *
+	 * <h5 class='section'>Notes:</h5>
+	 * <ul class='spaced-list'>
+	 * 	<li>
+	 * 		Supports {@doc DefaultRestSvlVariables}
+	 * 		(e.g. <js>"$L{my.localized.variable}"</js>).
+	 * </ul>
+	 *
+	 * <h5 class='section'>See Also:</h5>
+	 * <ul>
+	 * 	<li class='jf'>{@link RestContext#REST_parallelInit}
+	 * </ul>
+	 */
+	String parallelInit() default "";
 }
@@ -12,8 +12,11 @@
 // ***************************************************************************************************************************
 package org.apache.juneau.rest.converters;
 
+import org.apache.juneau.pojotools.*;
 import org.apache.juneau.rest.*;
+import org.apache.juneau.rest.exception.*;
 import org.apache.juneau.utils.*;
+import org.apache.juneau.utils.SearchArgs;
 
 /**
  * Converter for enabling of {@link PojoQuery} support on response objects returned by a <code>@RestMethod</code> method.
@@ -62,9 +65,29 @@ import org.apache.juneau.utils.*;
  * 		<br>Default is {@code 0} (meaning return all rows).
  * </ul>
  *
+ * <p>
+ * If the response object is a {@link QueryableSource}, the query is not performed in memory.
+ * <br>Instead, the parsed and validated query arguments are passed to {@link QueryableSource#query(org.apache.juneau.BeanSession, QueryArgs)}
+ * so that the source can translate them into a query against its own data store.
+ * <br>Invalid query arguments (including columns rejected by the source) result in a <code>400 Bad Request</code>.
+ *
+ * <p class='bcode w800'>
+ * 	<ja>@RestMethod</ja>(name=<jsf>GET</jsf>, path=<js>"/people"</js>, converters=Queryable.<jk>class</jk>)
+ * 	<jk>public</jk> QueryableSource getPeople() {
+ * 		<jk>return new</jk> QueryableSource() {
+ * 			<ja>@Override</ja>
+ * 			<jk>public</jk> Object query(BeanSession session, QueryArgs args) <jk>throws</jk> Exception {
+ * 				args.validateColumns(<jsf>PERSON_COLUMNS</jsf>);
+ * 				<jk>return</jk> <jf>personDao</jf>.find(args);
+ * 			}
+ * 		};
+ * 	}
+ * </p>
+ *
  * <h5 class='section'>See Also:</h5>
  * <ul>
  * 	<li class='jc'>{@link PojoQuery} - Additional information on filtering POJO models.
+ * 	<li class='jic'>{@link QueryableSource} - Pushing queries down to the data source.
  * 	<li class='jf'>{@link RestContext#REST_converters} - Registering converters with REST resources.
  * 	<li class='link'>{@doc juneau-rest-server.Converters}
  * </ul>
@@ -148,9 +171,21 @@ public final class Queryable implements RestConverter {
 	;
 
 	@Override /* RestConverter */
-	public Object convert(RestRequest req, Object o) {
+	public Object convert(RestRequest req, Object o) throws RestException {
 		if (o == null)
 			return null;
+		if (o instanceof QueryableSource) {
+			QueryArgs queryArgs = req.getQuery().getQueryArgs();
+			try {
+				return ((QueryableSource)o).query(req.getBeanSession(), queryArgs);
+			} catch (RestException e) {
+				throw e;
+			} catch (PatternException e) {
+				throw new BadRequest(e, "Invalid query arguments.  {0}", e.getLocalizedMessage());
+			} catch (Exception e) {
+				throw new InternalServerError(e);
+			}
+		}
 		SearchArgs searchArgs = req.getQuery().getSearchArgs();
 		if (searchArgs == null)
 			return o;
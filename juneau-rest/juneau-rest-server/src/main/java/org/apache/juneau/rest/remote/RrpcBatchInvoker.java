@@ -0,0 +1,102 @@
+// ***************************************************************************************************************************
+// * Licensed to the Apache Software Foundation (ASF) under one or more contributor license agreements.  See the NOTICE file *
+// * distributed with this work for additional information regarding copyright ownership.  The ASF licenses this file        *
+// * to you under the Apache License, Version 2.0 (the "License"); you may not use this file except in compliance            *
+// * with the License.  You may obtain a copy of the License at                                                              *
+// *                                                                                                                         *
+// *  http://www.apache.org/licenses/LICENSE-2.0                                                                             *
+// *                                                                                                                         *
+// * Unless required by applicable law or agreed to in writing, software distributed under the License is distributed on an  *
+// * "AS IS" BASIS, WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.  See the License for the        *
+// * specific language governing permissions and limitations under the License.                                              *
+// ***************************************************************************************************************************
+package org.apache.juneau.rest.remote;
+
+import java.lang.reflect.*;
+import java.util.*;
+import java.util.concurrent.*;
+
+import org.apache.juneau.*;
+import org.apache.juneau.remote.*;
+import org.apache.juneau.rest.exception.*;
+
+/**
+ * Executes batches of remote interface method invocations.
+ *
+ * <p>
+ * Used by {@link RrpcServlet} and <code>RRPC</code> REST methods to handle requests sent to
+ * {@link RemoteInterfaceMeta#BATCH_PATH}.
+ *
+ * <h5 class='section'>See Also:</h5>
+ * <ul>
+ * 	<li class='link'>{@doc juneau-rest-server.restRPC}
+ * </ul>
+ */
+public final class RrpcBatchInvoker {
+
+	private RrpcBatchInvoker() {}
+
+	/**
+	 * Invokes a batch of methods against a service object.
+	 *
+	 * <p>
+	 * Exceptions thrown by individual methods are returned as entries in the results instead of failing the whole
+	 * batch.
+	 *
+	 * @param rim The metadata of the remote interface.
+	 * @param service The object implementing the remote interface.
+	 * @param calls
+	 * 	The parsed request body.
+	 * 	<br>Each entry is a map with <js>"method"</js> and <js>"args"</js> entries.
+	 * @param executorService
+	 * 	Optional executor service for invoking the methods in parallel.
+	 * 	<br>If <jk>null</jk>, methods are invoked one after another on the calling thread.
+	 * @return The results in the same order as the calls.
+	 * @throws Exception If the executor service was interrupted.
+	 */
+	public static ObjectList invoke(final RemoteInterfaceMeta rim, final Object service, ObjectList calls, ExecutorService executorService) throws Exception {
+		ObjectList l = new ObjectList();
+		if (executorService == null || calls.size() < 2) {
+			for (int i = 0; i < calls.size(); i++)
+				l.add(invoke(rim, service, calls.getObjectMap(i)));
+			return l;
+		}
+		List<Future<ObjectMap>> futures = new ArrayList<>(calls.size());
+		for (int i = 0; i < calls.size(); i++) {
+			final ObjectMap call = calls.getObjectMap(i);
+			futures.add(executorService.submit(
+				new Callable<ObjectMap>() {
+					@Override /* Callable */
+					public ObjectMap call() throws Exception {
+						return invoke(rim, service, call);
+					}
+				}
+			));
+		}
+		for (Future<ObjectMap> f : futures)
+			l.add(f.get());
+		return l;
+	}
+
+	private static ObjectMap invoke(RemoteInterfaceMeta rim, Object service, ObjectMap call) {
+		ObjectMap m = new ObjectMap();
+		try {
+			RemoteInterfaceMethod rmm = rim.getMethodMetaByPath(call.getString("method"));
+			if (rmm == null)
+				throw new NotFound("Method not found");
+			Method jm = rmm.getJavaMethod();
+			Type[] types = jm.getGenericParameterTypes();
+			ObjectList args = call.getObjectList("args", new ObjectList());
+			Object[] params = new Object[types.length];
+			for (int i = 0; i < types.length; i++)
+				params[i] = i < args.size() ? args.get(i, types[i]) : null;
+			m.put("result", jm.invoke(service, params));
+		} catch (Throwable t) {
+			if (t instanceof InvocationTargetException && t.getCause() != null)
+				t = t.getCause();
+			m.put("exceptionName", t.getClass().getName());
+			m.put("exceptionMessage", t.getMessage());
+		}
+		return m;
+	}
+}
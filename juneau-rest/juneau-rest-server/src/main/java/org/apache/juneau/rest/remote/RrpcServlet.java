@@ -22,6 +22,7 @@ import java.util.*;
 import java.util.Map;
 import java.util.concurrent.*;
 
+import org.apache.juneau.*;
 import org.apache.juneau.dto.*;
 import org.apache.juneau.dto.html5.*;
 import org.apache.juneau.http.*;
@@ -69,6 +70,20 @@ public abstract class RrpcServlet extends BasicRestServlet {
 	 */
 	protected abstract Map<Class<?>,Object> getServiceMap() throws Exception;
 
+	/**
+	 * Returns the executor service used to invoke the methods in a batch request in parallel.
+	 *
+	 * <p>
+	 * Subclasses can override this method to run batched invocations in parallel.
+	 * <br>The default implementation returns <jk>null</jk> which means batched invocations are run one after another.
+	 *
+	 * @return The executor service, or <jk>null</jk> to run batched invocations sequentially.
+	 * @throws Exception
+	 */
+	protected ExecutorService getBatchExecutorService() throws Exception {
+		return null;
+	}
+
 	//-----------------------------------------------------------------------------------------------------------------
 	// REST methods
 	//-----------------------------------------------------------------------------------------------------------------
@@ -157,7 +172,7 @@ public abstract class RrpcServlet extends BasicRestServlet {
 		name=POST,
 		path="/{javaInterface}/{javaMethod}",
 		summary="Invoke an interface method",
-		description="Invoke a Java method by passing in the arguments as an array of serialized objects.\nThe returned object is then serialized to the response.",
+		description="Invoke a Java method by passing in the arguments as an array of serialized objects.\nThe returned object is then serialized to the response.\nIf the method name is '_batch', the body is instead an array of {method,args} objects and the response is an array of {result} or {exceptionName,exceptionMessage} objects in the same order.",
 		htmldoc=@HtmlDoc(
 			nav= {
 				"<h5>Interface:  $RP{javaInterface}</h5>",
@@ -200,6 +215,10 @@ public abstract class RrpcServlet extends BasicRestServlet {
 		if (service == null)
 			throw new NotFound("Service not found");
 
+		// Batched invocations.
+		if (RemoteInterfaceMeta.BATCH_PATH.equals(javaMethod))
+			return RrpcBatchInvoker.invoke(rim, service, p.parse(r, ObjectList.class), getBatchExecutorService());
+
 		// Find the method.
 		RemoteInterfaceMethod rmm = getMethods(javaInterface).get(javaMethod);
 		if (rmm == null)
@@ -60,6 +60,9 @@ import org.apache.juneau.utils.*;
  * Files of type HTML, XHTML, XML, JSON, Javascript, and CSS will be stripped of comments.
  * This allows you to place license headers in files without them being serialized to the output.
  *
+ * <p>
+ * Resolved files are cached per locale unless {@link RestContext#REST_useClasspathResourceCaching} is disabled.
+ *
  * <h5 class='section'>See Also:</h5>
  * <ul>
  * 	<li class='link'>{@doc juneau-svl.SvlVariables}
@@ -97,4 +100,19 @@ public class FileVar extends DefaultingVar {
 
 		return null;
 	}
+
+	@Override /* Var */
+	protected VarCachePolicy getCachePolicy() {
+		return VarCachePolicy.FOREVER;
+	}
+
+	@Override /* Var */
+	protected Object getCacheScope(VarResolverSession session) {
+		// Files are localized, so they're cached per locale.
+		// Don't cache them if resource caching is disabled so that modified files get picked up.
+		RestRequest req = session.getSessionObject(RestRequest.class, SESSION_req, false);
+		if (req != null && req.getContext().isUseClasspathResourceCaching())
+			return req.getLocale();
+		return null;
+	}
 }
\ No newline at end of file
@@ -61,4 +61,15 @@ public class LocalizationVar extends MultipartVar {
 		}
 		return "";
 	}
+
+	@Override /* Var */
+	protected VarCachePolicy getCachePolicy() {
+		return VarCachePolicy.FOREVER;
+	}
+
+	@Override /* Var */
+	protected Object getCacheScope(VarResolverSession session) {
+		RestRequest req = session.getSessionObject(RestRequest.class, RequestVar.SESSION_req, false);
+		return (req == null ? null : req.getLocale());
+	}
 }
@@ -52,4 +52,9 @@ public class UrlEncodeVar extends SimpleVar {
 	public String resolve(VarResolverSession session, String key) {
 		return urlEncode(key);
 	}
+
+	@Override /* Var */
+	protected boolean isStatic() {
+		return true;
+	}
 }
\ No newline at end of file